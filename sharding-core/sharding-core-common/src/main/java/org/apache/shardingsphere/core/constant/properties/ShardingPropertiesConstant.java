@@ -114,7 +114,97 @@ public enum ShardingPropertiesConstant {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max count of SQL statements kept by parsing result cache.
+     *
+     * <p>
+     * Less frequently used statements are evicted when the cache is full.
+     * Default: 65535.
+     * </p>
+     */
+    PARSING_RESULT_CACHE_MAXIMUM_SIZE("parsing.result.cache.maximum.size", String.valueOf(65535), int.class),
+    
+    /**
+     * Snapshot file of parsing result cache.
+     *
+     * <p>
+     * Cached SQLs are saved into this file on shutdown, hottest SQL first, and are parsed again into cache on startup.
+     * Sharding-Proxy saves one file for each logic schema, with schema name as suffix.
+     * Default: empty, means snapshot is disabled.
+     * </p>
+     */
+    PARSING_RESULT_CACHE_SNAPSHOT_FILE("parsing.result.cache.snapshot.file", "", String.class),
+    
+    /**
+     * SQL corpus to warm up parsing result cache on startup.
+     *
+     * <p>
+     * Comma separated paths of corpus files or directories.
+     * Text file contains one SQL per line, XML file uses the same format of SQL cases in sharding-sql-test.
+     * Default: empty, means no warm up.
+     * </p>
+     */
+    PARSING_WARM_UP_CORPUS("parsing.warm.up.corpus", "", String.class),
+    
+    /**
+     * Max count of route results kept by route result cache.
+     *
+     * <p>
+     * Route result cache keeps routing unit and rewritten SQL of prepared statements which are routed to single data node,
+     * keyed by SQL and parameters bound to sharding conditions.
+     * Default: 0, means route result cache is disabled.
+     * </p>
+     */
+    ROUTE_RESULT_CACHE_MAXIMUM_SIZE("route.result.cache.maximum.size", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or Disable to prune values of in predicate for each routing unit.
+     *
+     * <p>
+     * If SQL is routed to multiple data nodes, values of in predicate on sharding column (and their parameters) are rewritten for each data node,
+     * only values which can be stored in this data node are kept.
+     * Default: false
+     * </p>
+     */
+    REWRITE_IN_PREDICATE_VALUES_PRUNING_ENABLED("rewrite.in.predicate.values.pruning.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max count of routing units which cartesian routing can produce.
+     *
+     * <p>
+     * Count of routing units of a join between non binding tables is estimated before cartesian product is built,
+     * SQL is rejected if it is beyond this value.
+     * Default: 0, means no limit.
+     * </p>
+     */
+    MAX_CARTESIAN_ROUTING_UNITS("max.cartesian.routing.units", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or Disable to bind tables implicitly for cartesian routing.
+     *
+     * <p>
+     * Sharding tables in one SQL which have same sharding strategies and same layout of data nodes are routed as binding tables,
+     * which assumes they are joined by sharding columns.
+     * Default: false
+     * </p>
+     */
+    CARTESIAN_IMPLICIT_BINDING_ENABLED("cartesian.implicit.binding.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Offset threshold of deep pagination which is routed to more than one routing unit.
+     *
+     * <p>
+     * Pagination whose offset is beyond this value is executed in two phases instead of fetching offset plus row count rows from every routing unit.
+     * First phase only fetches sort keys from every routing unit and counts rows of every routing unit before offset by merging sort keys.
+     * Second phase makes every routing unit skip its own count of rows and return one page of rows only.
+     * Order by items should be indexed and unique together, otherwise rows of same sort keys may be returned in different order by two phases.
+     * Only Sharding-JDBC supports it for MySQL, PostgreSQL and H2.
+     * Default: 0, means deep pagination is disabled.
+     * </p>
+     */
+    DEEP_PAGINATION_OFFSET_THRESHOLD("deep.pagination.offset.threshold", String.valueOf(0), int.class);
     
     private final String key;
     
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rule;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Actual data nodes of table rule.
+ *
+ * <p>
+ * Read only list of data nodes, which supports membership test and index lookup without scanning all data nodes.
+ * </p>
+ */
+abstract class ActualDataNodes extends AbstractList<DataNode> implements RandomAccess {
+    
+    /**
+     * Get actual data source names.
+     *
+     * @return actual data source names in order of data nodes
+     */
+    abstract Collection<String> getDataSourceNames();
+    
+    /**
+     * Get actual table names.
+     *
+     * @return all actual table names
+     */
+    abstract Collection<String> getTableNames();
+    
+    /**
+     * Get actual table names via data source name.
+     *
+     * @param dataSourceName data source name
+     * @return actual table names belong to this data source
+     */
+    abstract Collection<String> getTableNames(String dataSourceName);
+    
+    /**
+     * Get data nodes via data source name.
+     *
+     * @param dataSourceName data source name
+     * @return data nodes belong to this data source
+     */
+    abstract List<DataNode> getDataNodes(String dataSourceName);
+    
+    @Override
+    public final boolean contains(final Object object) {
+        return -1 != indexOf(object);
+    }
+    
+    @Override
+    public final int lastIndexOf(final Object object) {
+        return indexOf(object);
+    }
+}
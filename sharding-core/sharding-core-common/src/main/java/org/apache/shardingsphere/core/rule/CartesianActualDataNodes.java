@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rule;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actual data nodes which are cartesian product of data source names and table names.
+ *
+ * <p>
+ * Only data source names and table names are kept, data nodes are created lazily when iterating.
+ * </p>
+ */
+final class CartesianActualDataNodes extends ActualDataNodes {
+    
+    private final List<String> dataSourceNames;
+    
+    private final List<String> tableNames;
+    
+    private final Map<String, Integer> dataSourceIndexMap;
+    
+    private final Map<String, Integer> tableIndexMap;
+    
+    private final Collection<String> tableNameSet;
+    
+    private CartesianActualDataNodes(final List<String> dataSourceNames, final List<String> tableNames, final Map<String, Integer> dataSourceIndexMap, final Map<String, Integer> tableIndexMap) {
+        this.dataSourceNames = dataSourceNames;
+        this.tableNames = tableNames;
+        this.dataSourceIndexMap = dataSourceIndexMap;
+        this.tableIndexMap = tableIndexMap;
+        tableNameSet = Collections.unmodifiableSet(new LinkedHashSet<>(tableNames));
+    }
+    
+    /**
+     * Create cartesian actual data nodes.
+     *
+     * @param dataSourceNames data source names
+     * @param tableNames table names
+     * @return cartesian actual data nodes, absent if names are empty or duplicated
+     */
+    static Optional<CartesianActualDataNodes> newInstance(final List<String> dataSourceNames, final List<String> tableNames) {
+        if (dataSourceNames.isEmpty() || tableNames.isEmpty() || (long) dataSourceNames.size() * tableNames.size() > Integer.MAX_VALUE) {
+            return Optional.absent();
+        }
+        Optional<Map<String, Integer>> dataSourceIndexMap = createIndexMap(dataSourceNames);
+        Optional<Map<String, Integer>> tableIndexMap = createIndexMap(tableNames);
+        if (!dataSourceIndexMap.isPresent() || !tableIndexMap.isPresent()) {
+            return Optional.absent();
+        }
+        return Optional.of(new CartesianActualDataNodes(new ArrayList<>(dataSourceNames), new ArrayList<>(tableNames), dataSourceIndexMap.get(), tableIndexMap.get()));
+    }
+    
+    private static Optional<Map<String, Integer>> createIndexMap(final List<String> names) {
+        Map<String, Integer> result = new HashMap<>(names.size(), 1);
+        int index = 0;
+        for (String each : names) {
+            if (null != result.put(each.toUpperCase(), index++)) {
+                return Optional.absent();
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    @Override
+    public DataNode get(final int index) {
+        Preconditions.checkElementIndex(index, size());
+        return new DataNode(dataSourceNames.get(index / tableNames.size()), tableNames.get(index % tableNames.size()));
+    }
+    
+    @Override
+    public int size() {
+        return dataSourceNames.size() * tableNames.size();
+    }
+    
+    @Override
+    public int indexOf(final Object object) {
+        if (!(object instanceof DataNode)) {
+            return -1;
+        }
+        DataNode dataNode = (DataNode) object;
+        Integer dataSourceIndex = dataSourceIndexMap.get(dataNode.getDataSourceName().toUpperCase());
+        Integer tableIndex = tableIndexMap.get(dataNode.getTableName().toUpperCase());
+        return null == dataSourceIndex || null == tableIndex ? -1 : dataSourceIndex * tableNames.size() + tableIndex;
+    }
+    
+    @Override
+    Collection<String> getDataSourceNames() {
+        return dataSourceNames;
+    }
+    
+    @Override
+    Collection<String> getTableNames() {
+        return tableNameSet;
+    }
+    
+    @Override
+    Collection<String> getTableNames(final String dataSourceName) {
+        return -1 == findDataSourceIndex(dataSourceName) ? Collections.<String>emptySet() : tableNameSet;
+    }
+    
+    @Override
+    List<DataNode> getDataNodes(final String dataSourceName) {
+        int dataSourceIndex = findDataSourceIndex(dataSourceName);
+        return -1 == dataSourceIndex ? Collections.<DataNode>emptyList() : subList(dataSourceIndex * tableNames.size(), (dataSourceIndex + 1) * tableNames.size());
+    }
+    
+    private int findDataSourceIndex(final String dataSourceName) {
+        Integer result = dataSourceIndexMap.get(dataSourceName.toUpperCase());
+        return null != result && dataSourceNames.get(result).equals(dataSourceName) ? result : -1;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Actual data nodes which are enumerated one by one.
+ */
+final class EnumeratedActualDataNodes extends ActualDataNodes {
+    
+    private final List<DataNode> dataNodes;
+    
+    private final Map<DataNode, Integer> dataNodeIndexMap;
+    
+    private final Map<String, List<DataNode>> dataNodeGroups;
+    
+    private final Set<String> tableNames;
+    
+    EnumeratedActualDataNodes(final List<DataNode> dataNodes) {
+        this.dataNodes = new ArrayList<>(dataNodes);
+        dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1);
+        dataNodeGroups = new LinkedHashMap<>();
+        tableNames = new HashSet<>(dataNodes.size(), 1);
+        int index = 0;
+        for (DataNode each : dataNodes) {
+            dataNodeIndexMap.put(each, index++);
+            if (!dataNodeGroups.containsKey(each.getDataSourceName())) {
+                dataNodeGroups.put(each.getDataSourceName(), new LinkedList<DataNode>());
+            }
+            dataNodeGroups.get(each.getDataSourceName()).add(each);
+            tableNames.add(each.getTableName());
+        }
+    }
+    
+    @Override
+    public DataNode get(final int index) {
+        return dataNodes.get(index);
+    }
+    
+    @Override
+    public int size() {
+        return dataNodes.size();
+    }
+    
+    @Override
+    public int indexOf(final Object object) {
+        Integer result = dataNodeIndexMap.get(object);
+        return null == result ? -1 : result;
+    }
+    
+    @Override
+    Collection<String> getDataSourceNames() {
+        return Collections.unmodifiableSet(dataNodeGroups.keySet());
+    }
+    
+    @Override
+    Collection<String> getTableNames() {
+        return Collections.unmodifiableSet(tableNames);
+    }
+    
+    @Override
+    Collection<String> getTableNames(final String dataSourceName) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (DataNode each : getDataNodes(dataSourceName)) {
+            result.add(each.getTableName());
+        }
+        return result;
+    }
+    
+    @Override
+    List<DataNode> getDataNodes(final String dataSourceName) {
+        List<DataNode> result = dataNodeGroups.get(dataSourceName);
+        return null == result ? Collections.<DataNode>emptyList() : Collections.unmodifiableList(result);
+    }
+}
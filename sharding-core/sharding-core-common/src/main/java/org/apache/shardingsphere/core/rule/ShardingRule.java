@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.encryptor.EncryptRuleConfiguration;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
@@ -36,17 +37,27 @@ import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategyFactory;
 import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.none.NoneShardingStrategy;
+import org.apache.shardingsphere.spi.keygen.ShardingBatchKeyGenerator;
 import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
  * Databases and tables sharding rule.
  *
+ * <p>
+ * Lookups by logic table, actual table, logic index and data source name use hash indexes which are built when rule is created,
+ * so the cost of lookups does not grow with count of tables.
+ * </p>
+ *
  * @author zhangliang
  * @author maxiaoguang
  * @author panjuan
@@ -74,17 +85,45 @@ public class ShardingRule implements BaseRule {
     
     private final ShardingEncryptorEngine shardingEncryptorEngine;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRuleMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<TableRule>> actualTableRuleMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> logicIndexTableMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Set<String> broadcastTableNames;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> bindingTableRuleMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> shardingColumnsMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, MasterSlaveRule> masterSlaveRuleMap;
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         Preconditions.checkArgument(!dataSourceNames.isEmpty(), "Data sources cannot be empty.");
         this.shardingRuleConfig = shardingRuleConfig;
         shardingDataSourceNames = new ShardingDataSourceNames(shardingRuleConfig, dataSourceNames);
         tableRules = createTableRules(shardingRuleConfig);
-        bindingTableRules = createBindingTableRules(shardingRuleConfig.getBindingTableGroups());
+        logicTableRuleMap = createLogicTableRuleMap(tableRules);
+        actualTableRuleMap = createActualTableRuleMap(tableRules);
+        logicIndexTableMap = createLogicIndexTableMap(tableRules);
         broadcastTables = shardingRuleConfig.getBroadcastTables();
+        broadcastTableNames = createBroadcastTableNames(broadcastTables);
+        bindingTableRules = createBindingTableRules(shardingRuleConfig.getBindingTableGroups());
+        bindingTableRuleMap = createBindingTableRuleMap(bindingTableRules);
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig());
         defaultTableShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultTableShardingStrategyConfig());
+        shardingColumnsMap = createShardingColumnsMap(tableRules);
         defaultShardingKeyGenerator = createDefaultKeyGenerator(shardingRuleConfig.getDefaultKeyGeneratorConfig());
         masterSlaveRules = createMasterSlaveRules(shardingRuleConfig.getMasterSlaveRuleConfigs());
+        masterSlaveRuleMap = createMasterSlaveRuleMap(masterSlaveRules);
         shardingEncryptorEngine = createShardingEncryptorEngine(shardingRuleConfig.getEncryptRuleConfig());
     }
     
@@ -97,6 +136,86 @@ public class ShardingRule implements BaseRule {
         return result;
     }
     
+    private Map<String, TableRule> createLogicTableRuleMap(final Collection<TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            if (!result.containsKey(each.getLogicTable())) {
+                result.put(each.getLogicTable(), each);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<TableRule>> createActualTableRuleMap(final Collection<TableRule> tableRules) {
+        Map<String, Collection<TableRule>> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            for (String actualTable : each.getActualTables()) {
+                if (!result.containsKey(actualTable)) {
+                    result.put(actualTable, new LinkedList<TableRule>());
+                }
+                result.get(actualTable).add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, String> createLogicIndexTableMap(final Collection<TableRule> tableRules) {
+        Map<String, String> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            if (null != each.getLogicIndex() && !result.containsKey(each.getLogicIndex())) {
+                result.put(each.getLogicIndex(), each.getLogicTable());
+            }
+        }
+        return result;
+    }
+    
+    private Set<String> createBroadcastTableNames(final Collection<String> broadcastTables) {
+        Set<String> result = new HashSet<>(broadcastTables.size(), 1);
+        for (String each : broadcastTables) {
+            result.add(each.toLowerCase());
+        }
+        return result;
+    }
+    
+    private Map<String, BindingTableRule> createBindingTableRuleMap(final Collection<BindingTableRule> bindingTableRules) {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            for (String logicTable : each.getAllLogicTables()) {
+                if (!result.containsKey(logicTable)) {
+                    result.put(logicTable, each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<String>> createShardingColumnsMap(final Collection<TableRule> tableRules) {
+        Map<String, Collection<String>> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            if (!result.containsKey(each.getLogicTable())) {
+                result.put(each.getLogicTable(), new TreeSet<>(String.CASE_INSENSITIVE_ORDER));
+            }
+            result.get(each.getLogicTable()).addAll(getDatabaseShardingStrategy(each).getShardingColumns());
+            result.get(each.getLogicTable()).addAll(getTableShardingStrategy(each).getShardingColumns());
+        }
+        return result;
+    }
+    
+    private Map<String, MasterSlaveRule> createMasterSlaveRuleMap(final Collection<MasterSlaveRule> masterSlaveRules) {
+        Map<String, MasterSlaveRule> result = new HashMap<>();
+        for (MasterSlaveRule each : masterSlaveRules) {
+            if (!result.containsKey(each.getMasterDataSourceName())) {
+                result.put(each.getMasterDataSourceName(), each);
+            }
+            for (String slaveDataSourceName : each.getSlaveDataSourceNames()) {
+                if (!result.containsKey(slaveDataSourceName)) {
+                    result.put(slaveDataSourceName, each);
+                }
+            }
+        }
+        return result;
+    }
+    
     private String getDefaultGenerateKeyColumn(final ShardingRuleConfiguration shardingRuleConfig) {
         return null == shardingRuleConfig.getDefaultKeyGeneratorConfig() ? null : shardingRuleConfig.getDefaultKeyGeneratorConfig().getColumn();
     }
@@ -150,12 +269,7 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(logicTableRuleMap.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -165,12 +279,8 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        Collection<TableRule> result = actualTableRuleMap.get(actualTableName);
+        return null == result ? Optional.<TableRule>absent() : Optional.of(result.iterator().next());
     }
     
     /**
@@ -257,12 +367,7 @@ public class ShardingRule implements BaseRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        for (BindingTableRule each : bindingTableRules) {
-            if (each.hasLogicTable(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(bindingTableRuleMap.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -290,12 +395,7 @@ public class ShardingRule implements BaseRule {
      * @return logic table is belong to broadcast tables or not
      */
     public boolean isBroadcastTable(final String logicTableName) {
-        for (String each : broadcastTables) {
-            if (each.equalsIgnoreCase(logicTableName)) {
-                return true;
-            }
-        }
-        return false;
+        return broadcastTableNames.contains(logicTableName.toLowerCase());
     }
     
     /**
@@ -321,16 +421,8 @@ public class ShardingRule implements BaseRule {
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final String columnName, final String tableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(tableName) && isShardingColumn(each, columnName)) {
-                return true;
-            }
-        }
-        return false;
-    }
-    
-    private boolean isShardingColumn(final TableRule tableRule, final String columnName) {
-        return getDatabaseShardingStrategy(tableRule).getShardingColumns().contains(columnName) || getTableShardingStrategy(tableRule).getShardingColumns().contains(columnName);
+        Collection<String> shardingColumns = shardingColumnsMap.get(tableName.toLowerCase());
+        return null != shardingColumns && shardingColumns.contains(columnName);
     }
     
     /**
@@ -340,12 +432,8 @@ public class ShardingRule implements BaseRule {
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName) && null != each.getGenerateKeyColumn()) {
-                return Optional.of(each.getGenerateKeyColumn());
-            }
-        }
-        return Optional.absent();
+        Optional<TableRule> tableRule = findTableRule(logicTableName);
+        return tableRule.isPresent() ? Optional.fromNullable(tableRule.get().getGenerateKeyColumn()) : Optional.<String>absent();
     }
     
     /**
@@ -355,12 +443,34 @@ public class ShardingRule implements BaseRule {
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getShardingKeyGenerator(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys
+     * @return generated keys
+     */
+    public List<Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        ShardingKeyGenerator shardingKeyGenerator = getShardingKeyGenerator(logicTableName);
+        if (shardingKeyGenerator instanceof ShardingBatchKeyGenerator) {
+            return ((ShardingBatchKeyGenerator) shardingKeyGenerator).generateKeys(count);
+        }
+        List<Comparable<?>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(shardingKeyGenerator.generateKey());
+        }
+        return result;
+    }
+    
+    private ShardingKeyGenerator getShardingKeyGenerator(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingConfigurationException("Cannot find strategy for generate keys.");
         }
-        ShardingKeyGenerator shardingKeyGenerator = null == tableRule.get().getShardingKeyGenerator() ? defaultShardingKeyGenerator : tableRule.get().getShardingKeyGenerator();
-        return shardingKeyGenerator.generateKey();
+        return null == tableRule.get().getShardingKeyGenerator() ? defaultShardingKeyGenerator : tableRule.get().getShardingKeyGenerator();
     }
     
     /**
@@ -370,10 +480,9 @@ public class ShardingRule implements BaseRule {
      * @return logic table name
      */
     public String getLogicTableName(final String logicIndexName) {
-        for (TableRule each : tableRules) {
-            if (logicIndexName.equals(each.getLogicIndex())) {
-                return each.getLogicTable();
-            }
+        String result = logicIndexTableMap.get(logicIndexName);
+        if (null != result) {
+            return result;
         }
         throw new ShardingConfigurationException("Cannot find logic table name with logic index name: '%s'", logicIndexName);
     }
@@ -386,8 +495,9 @@ public class ShardingRule implements BaseRule {
      */
     public Collection<String> getLogicTableNames(final String actualTableName) {
         Collection<String> result = new LinkedList<>();
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
+        Collection<TableRule> actualTableRules = actualTableRuleMap.get(actualTableName);
+        if (null != actualTableRules) {
+            for (TableRule each : actualTableRules) {
                 result.add(each.getLogicTable());
             }
         }
@@ -413,11 +523,9 @@ public class ShardingRule implements BaseRule {
      * @return data node
      */
     public DataNode getDataNode(final String dataSourceName, final String logicTableName) {
-        TableRule tableRule = getTableRule(logicTableName);
-        for (DataNode each : tableRule.getActualDataNodes()) {
-            if (shardingDataSourceNames.getDataSourceNames().contains(each.getDataSourceName()) && each.getDataSourceName().equals(dataSourceName)) {
-                return each;
-            }
+        List<DataNode> dataNodes = getTableRule(logicTableName).getDataNodeGroups().get(dataSourceName);
+        if (null != dataNodes && !dataNodes.isEmpty() && shardingDataSourceNames.getDataSourceNames().contains(dataSourceName)) {
+            return dataNodes.get(0);
         }
         throw new ShardingConfigurationException("Cannot find actual data node for data source name: '%s' and logic table name: '%s'", dataSourceName, logicTableName);
     }
@@ -454,12 +562,7 @@ public class ShardingRule implements BaseRule {
      * @return master slave rule
      */
     public Optional<MasterSlaveRule> findMasterSlaveRule(final String dataSourceName) {
-        for (MasterSlaveRule each : masterSlaveRules) {
-            if (each.containDataSourceName(dataSourceName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(masterSlaveRuleMap.get(dataSourceName));
     }
     
     /**
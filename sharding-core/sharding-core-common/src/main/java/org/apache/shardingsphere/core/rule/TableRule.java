@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.rule;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -30,35 +31,35 @@ import org.apache.shardingsphere.core.strategy.route.ShardingStrategyFactory;
 import org.apache.shardingsphere.core.util.InlineExpressionParser;
 import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * Table rule.
  *
+ * <p>
+ * If actual data nodes are cartesian product of data sources and tables, such as {@code ds_${0..63}.t_order_${0..1023}},
+ * only data source names and table names are kept, data nodes are not enumerated.
+ * </p>
+ *
  * @author zhangliang
  */
 @Getter
-@ToString(exclude = {"dataNodeIndexMap", "actualTables"})
+@ToString
 public final class TableRule {
     
-    private final String logicTable;
-    
-    private final List<DataNode> actualDataNodes;
+    private static final char DATA_NODE_DELIMITER = '.';
     
-    @Getter(AccessLevel.NONE)
-    private final Set<String> actualTables;
+    private final String logicTable;
     
     @Getter(AccessLevel.NONE)
-    private final Map<DataNode, Integer> dataNodeIndexMap;
+    private final ActualDataNodes actualDataNodes;
     
     private final ShardingStrategy databaseShardingStrategy;
     
@@ -72,9 +73,7 @@ public final class TableRule {
     
     public TableRule(final String defaultDataSourceName, final String logicTableName) {
         logicTable = logicTableName.toLowerCase();
-        actualDataNodes = Collections.singletonList(new DataNode(defaultDataSourceName, logicTableName));
-        actualTables = getActualTables();
-        dataNodeIndexMap = Collections.emptyMap();
+        actualDataNodes = createActualDataNodes(Collections.singletonList(defaultDataSourceName), logicTableName);
         databaseShardingStrategy = null;
         tableShardingStrategy = null;
         generateKeyColumn = null;
@@ -84,9 +83,7 @@ public final class TableRule {
     
     public TableRule(final Collection<String> dataSourceNames, final String logicTableName) {
         logicTable = logicTableName.toLowerCase();
-        dataNodeIndexMap = new HashMap<>(dataSourceNames.size(), 1);
-        actualDataNodes = generateDataNodes(logicTableName, dataSourceNames);
-        actualTables = getActualTables();
+        actualDataNodes = createActualDataNodes(dataSourceNames, logicTableName);
         databaseShardingStrategy = null;
         tableShardingStrategy = null;
         generateKeyColumn = null;
@@ -96,11 +93,7 @@ public final class TableRule {
     
     public TableRule(final TableRuleConfiguration tableRuleConfig, final ShardingDataSourceNames shardingDataSourceNames, final String defaultGenerateKeyColumn) {
         logicTable = tableRuleConfig.getLogicTable().toLowerCase();
-        List<String> dataNodes = new InlineExpressionParser(tableRuleConfig.getActualDataNodes()).splitAndEvaluate();
-        dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1);
-        actualDataNodes = isEmptyDataNodes(dataNodes)
-            ? generateDataNodes(tableRuleConfig.getLogicTable(), shardingDataSourceNames.getDataSourceNames()) : generateDataNodes(dataNodes, shardingDataSourceNames.getDataSourceNames());
-        actualTables = getActualTables();
+        actualDataNodes = createActualDataNodes(tableRuleConfig, shardingDataSourceNames.getDataSourceNames());
         databaseShardingStrategy = null == tableRuleConfig.getDatabaseShardingStrategyConfig() ? null : ShardingStrategyFactory.newInstance(tableRuleConfig.getDatabaseShardingStrategyConfig());
         tableShardingStrategy = null == tableRuleConfig.getTableShardingStrategyConfig() ? null : ShardingStrategyFactory.newInstance(tableRuleConfig.getTableShardingStrategyConfig());
         generateKeyColumn = getGenerateKeyColumn(tableRuleConfig.getKeyGeneratorConfig(), defaultGenerateKeyColumn);
@@ -109,14 +102,97 @@ public final class TableRule {
         logicIndex = null == tableRuleConfig.getLogicIndex() ? null : tableRuleConfig.getLogicIndex().toLowerCase();
     }
     
-    private Set<String> getActualTables() {
-        Set<String> result = new HashSet<>(actualDataNodes.size(), 1);
-        for (DataNode each : actualDataNodes) {
-            result.add(each.getTableName());
+    private ActualDataNodes createActualDataNodes(final Collection<String> dataSourceNames, final String logicTableName) {
+        Optional<CartesianActualDataNodes> result = CartesianActualDataNodes.newInstance(new ArrayList<>(dataSourceNames), Collections.singletonList(logicTableName));
+        if (result.isPresent()) {
+            return result.get();
+        }
+        List<DataNode> dataNodes = new LinkedList<>();
+        for (String each : dataSourceNames) {
+            dataNodes.add(new DataNode(each, logicTableName));
+        }
+        return new EnumeratedActualDataNodes(dataNodes);
+    }
+    
+    private ActualDataNodes createActualDataNodes(final TableRuleConfiguration tableRuleConfig, final Collection<String> dataSourceNames) {
+        if (Strings.isNullOrEmpty(tableRuleConfig.getActualDataNodes())) {
+            return createActualDataNodes(dataSourceNames, tableRuleConfig.getLogicTable());
+        }
+        Optional<CartesianActualDataNodes> cartesianActualDataNodes = createCartesianActualDataNodes(tableRuleConfig.getActualDataNodes(), dataSourceNames);
+        if (cartesianActualDataNodes.isPresent()) {
+            return cartesianActualDataNodes.get();
+        }
+        List<String> dataNodes = new InlineExpressionParser(tableRuleConfig.getActualDataNodes()).splitAndEvaluate();
+        if (dataNodes.isEmpty()) {
+            return createActualDataNodes(dataSourceNames, tableRuleConfig.getLogicTable());
+        }
+        List<DataNode> result = new LinkedList<>();
+        for (String each : dataNodes) {
+            DataNode dataNode = new DataNode(each);
+            checkDataSourceName(dataNode.getDataSourceName(), each, dataSourceNames);
+            result.add(dataNode);
+        }
+        return new EnumeratedActualDataNodes(result);
+    }
+    
+    private Optional<CartesianActualDataNodes> createCartesianActualDataNodes(final String actualDataNodes, final Collection<String> dataSourceNames) {
+        int delimiterIndex = findDataNodeDelimiterIndex(actualDataNodes);
+        if (-1 == delimiterIndex) {
+            return Optional.absent();
+        }
+        List<String> actualDataSourceNames = new InlineExpressionParser(actualDataNodes.substring(0, delimiterIndex)).splitAndEvaluate();
+        List<String> actualTableNames = new InlineExpressionParser(actualDataNodes.substring(delimiterIndex + 1)).splitAndEvaluate();
+        if (!isValidDataNodeSegments(actualDataSourceNames) || !isValidDataNodeSegments(actualTableNames)) {
+            return Optional.absent();
+        }
+        Optional<CartesianActualDataNodes> result = CartesianActualDataNodes.newInstance(actualDataSourceNames, actualTableNames);
+        if (result.isPresent()) {
+            for (String each : actualDataSourceNames) {
+                checkDataSourceName(each, each + DATA_NODE_DELIMITER + actualTableNames.get(0), dataSourceNames);
+            }
         }
         return result;
     }
     
+    private int findDataNodeDelimiterIndex(final String actualDataNodes) {
+        int result = -1;
+        int bracketsDepth = 0;
+        for (int i = 0; i < actualDataNodes.length(); i++) {
+            char each = actualDataNodes.charAt(i);
+            if ('{' == each) {
+                bracketsDepth++;
+            } else if ('}' == each) {
+                bracketsDepth--;
+            } else if (0 == bracketsDepth && ',' == each) {
+                return -1;
+            } else if (0 == bracketsDepth && DATA_NODE_DELIMITER == each) {
+                if (-1 != result) {
+                    return -1;
+                }
+                result = i;
+            }
+        }
+        return 0 == bracketsDepth ? result : -1;
+    }
+    
+    private boolean isValidDataNodeSegments(final List<String> segments) {
+        if (segments.isEmpty()) {
+            return false;
+        }
+        for (String each : segments) {
+            if (each.isEmpty() || -1 != each.indexOf(DATA_NODE_DELIMITER)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void checkDataSourceName(final String dataSourceName, final String dataNode, final Collection<String> dataSourceNames) {
+        if (!dataSourceNames.contains(dataSourceName)) {
+            throw new ShardingException("Cannot find data source in sharding rule, invalid actual data node is: '%s'", dataNode);
+        }
+    }
+    
     private boolean containsKeyGeneratorConfiguration(final TableRuleConfiguration tableRuleConfiguration) {
         return null != tableRuleConfiguration.getKeyGeneratorConfig() && !Strings.isNullOrEmpty(tableRuleConfiguration.getKeyGeneratorConfig().getType());
     }
@@ -128,35 +204,13 @@ public final class TableRule {
         return defaultGenerateKeyColumn;
     }
     
-    private boolean isEmptyDataNodes(final List<String> dataNodes) {
-        return null == dataNodes || dataNodes.isEmpty();
-    }
-    
-    private List<DataNode> generateDataNodes(final String logicTable, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
-        int index = 0;
-        for (String each : dataSourceNames) {
-            DataNode dataNode = new DataNode(each, logicTable);
-            result.add(dataNode);
-            dataNodeIndexMap.put(dataNode, index);
-            index++;
-        }
-        return result;
-    }
-    
-    private List<DataNode> generateDataNodes(final List<String> actualDataNodes, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
-        int index = 0;
-        for (String each : actualDataNodes) {
-            DataNode dataNode = new DataNode(each);
-            if (!dataSourceNames.contains(dataNode.getDataSourceName())) {
-                throw new ShardingException("Cannot find data source in sharding rule, invalid actual data node is: '%s'", each);
-            }
-            result.add(dataNode);
-            dataNodeIndexMap.put(dataNode, index);
-            index++;
-        }
-        return result;
+    /**
+     * Get actual data nodes.
+     *
+     * @return actual data nodes
+     */
+    public List<DataNode> getActualDataNodes() {
+        return actualDataNodes;
     }
     
     /**
@@ -165,13 +219,9 @@ public final class TableRule {
      * @return data node groups, key is data source name, value is tables belong to this data source
      */
     public Map<String, List<DataNode>> getDataNodeGroups() {
-        Map<String, List<DataNode>> result = new LinkedHashMap<>(actualDataNodes.size(), 1);
-        for (DataNode each : actualDataNodes) {
-            String dataSourceName = each.getDataSourceName();
-            if (!result.containsKey(dataSourceName)) {
-                result.put(dataSourceName, new LinkedList<DataNode>());
-            }
-            result.get(dataSourceName).add(each);
+        Map<String, List<DataNode>> result = new LinkedHashMap<>(actualDataNodes.getDataSourceNames().size(), 1);
+        for (String each : actualDataNodes.getDataSourceNames()) {
+            result.put(each, actualDataNodes.getDataNodes(each));
         }
         return result;
     }
@@ -182,11 +232,7 @@ public final class TableRule {
      * @return actual data source names
      */
     public Collection<String> getActualDatasourceNames() {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            result.add(each.getDataSourceName());
-        }
-        return result;
+        return new LinkedHashSet<>(actualDataNodes.getDataSourceNames());
     }
     
     /**
@@ -196,21 +242,38 @@ public final class TableRule {
      * @return names of actual tables
      */
     public Collection<String> getActualTableNames(final String targetDataSource) {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            if (targetDataSource.equals(each.getDataSourceName())) {
-                result.add(each.getTableName());
-            }
-        }
-        return result;
+        return actualDataNodes.getTableNames(targetDataSource);
+    }
+    
+    /**
+     * Judge contains data node or not.
+     *
+     * @param dataNode data node
+     * @return contains data node or not
+     */
+    public boolean containsDataNode(final DataNode dataNode) {
+        return actualDataNodes.contains(dataNode);
+    }
+    
+    /**
+     * Find index of data node.
+     *
+     * @param dataNode data node
+     * @return index of data node in actual data nodes, {@code -1} if data node does not belong to table rule
+     */
+    public int findDataNodeIndex(final DataNode dataNode) {
+        return actualDataNodes.indexOf(dataNode);
+    }
+    
+    Collection<String> getActualTables() {
+        return actualDataNodes.getTableNames();
     }
     
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
-        DataNode dataNode = new DataNode(dataSourceName, actualTableName);
-        return dataNodeIndexMap.containsKey(dataNode) ? dataNodeIndexMap.get(dataNode) : -1;
+        return actualDataNodes.indexOf(new DataNode(dataSourceName, actualTableName));
     }
     
     boolean isExisted(final String actualTableName) {
-        return actualTables.contains(actualTableName);
+        return actualDataNodes.getTableNames().contains(actualTableName);
     }
 }
@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.keygen;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.spi.keygen.ShardingBatchKeyGenerator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Segment distributed primary key generator.
+ * 
+ * <p>
+ * Segments of keys are leased from allocator table via JDBC, keys are handed out from memory by atomic counter.
+ * Next segment is leased asynchronously before current segment is exhausted, generated keys are strictly increasing without dependency of clock.
+ * </p>
+ * 
+ * <pre>
+ * CREATE TABLE sharding_key_segment (segment_name VARCHAR(128) PRIMARY KEY, max_id BIGINT NOT NULL)
+ * </pre>
+ * 
+ * <p>
+ * Properties:
+ * {@code jdbc.url}, {@code username} and {@code password} of allocator database, jdbc url is required.
+ * {@code table.name} of allocator table, default value is {@code sharding_key_segment}.
+ * {@code segment.name} of allocator row, default value is {@code default}.
+ * {@code segment.step} for count of keys in one segment, default value is 10000.
+ * {@code allocate.timeout.milliseconds} for max milliseconds to wait for preloading segment, default value is 3000.
+ * </p>
+ */
+public final class SegmentShardingKeyGenerator implements ShardingBatchKeyGenerator {
+    
+    private static final String TABLE_NAME = "sharding_key_segment";
+    
+    private static final String SEGMENT_NAME = "default";
+    
+    private static final int SEGMENT_STEP = 10000;
+    
+    private static final int PRELOAD_PERCENTAGE = 90;
+    
+    private static final long ALLOCATE_TIMEOUT_MILLISECONDS = 3000L;
+    
+    private static final ExecutorService PRELOAD_EXECUTOR = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SegmentKeyGenerator-%d").build());
+    
+    @Getter
+    private Properties properties = new Properties();
+    
+    private volatile SegmentAllocator segmentAllocator = new SegmentAllocator(properties);
+    
+    private volatile Segment currentSegment = new Segment(1L, 0L);
+    
+    private volatile Future<Segment> nextSegment;
+    
+    @Override
+    public String getType() {
+        return "SEGMENT";
+    }
+    
+    @Override
+    public synchronized void setProperties(final Properties properties) {
+        segmentAllocator = new SegmentAllocator(properties);
+        this.properties = properties;
+        currentSegment = new Segment(1L, 0L);
+        if (null != nextSegment) {
+            nextSegment.cancel(true);
+            nextSegment = null;
+        }
+    }
+    
+    @Override
+    public Comparable<?> generateKey() {
+        while (true) {
+            Segment segment = currentSegment;
+            long result = segment.getValue().getAndIncrement();
+            if (result <= segment.getMaxValue()) {
+                preloadIfNeed(segment, result);
+                return result;
+            }
+            switchSegment(segment);
+        }
+    }
+    
+    @Override
+    public List<Comparable<?>> generateKeys(final int count) {
+        Preconditions.checkArgument(count >= 0, "Count of keys must not be negative.");
+        List<Comparable<?>> result = new ArrayList<>(count);
+        while (result.size() < count) {
+            Segment segment = currentSegment;
+            long firstValue = segment.getValue().getAndAdd(count - result.size());
+            long lastValue = Math.min(firstValue + count - result.size() - 1, segment.getMaxValue());
+            if (firstValue > lastValue) {
+                switchSegment(segment);
+                continue;
+            }
+            for (long i = firstValue; i <= lastValue; i++) {
+                result.add(i);
+            }
+            preloadIfNeed(segment, lastValue);
+        }
+        return result;
+    }
+    
+    private void preloadIfNeed(final Segment segment, final long value) {
+        if (value >= segment.getPreloadValue() && null == nextSegment) {
+            preload(segment);
+        }
+    }
+    
+    private synchronized void preload(final Segment segment) {
+        if (segment != currentSegment || null != nextSegment) {
+            return;
+        }
+        final SegmentAllocator allocator = segmentAllocator;
+        nextSegment = PRELOAD_EXECUTOR.submit(new Callable<Segment>() {
+            
+            @Override
+            public Segment call() throws SQLException {
+                return allocator.allocate();
+            }
+        });
+    }
+    
+    private synchronized void switchSegment(final Segment exhaustedSegment) {
+        if (exhaustedSegment != currentSegment) {
+            return;
+        }
+        try {
+            currentSegment = null == nextSegment ? segmentAllocator.allocate() : nextSegment.get(segmentAllocator.getTimeoutMilliseconds(), TimeUnit.MILLISECONDS);
+            nextSegment = null;
+        } catch (final TimeoutException ex) {
+            throw new ShardingException(String.format("Can not allocate segment of keys in %d milliseconds.", segmentAllocator.getTimeoutMilliseconds()), ex);
+        } catch (final SQLException | ExecutionException ex) {
+            nextSegment = null;
+            throw new ShardingException("Can not allocate segment of keys.", ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingException("Can not allocate segment of keys.", ex);
+        }
+    }
+    
+    /**
+     * Await segment which is preloading.
+     * 
+     * @throws InterruptedException interrupted exception
+     */
+    void awaitPreload() throws InterruptedException {
+        Future<Segment> segment = nextSegment;
+        if (null == segment) {
+            return;
+        }
+        try {
+            segment.get();
+        } catch (final ExecutionException | CancellationException ignored) {
+            // failure of preloading is thrown when segment is switched
+        }
+    }
+    
+    @Getter
+    private static final class Segment {
+        
+        private final long maxValue;
+        
+        private final long preloadValue;
+        
+        private final AtomicLong value;
+        
+        Segment(final long minValue, final long maxValue) {
+            this.maxValue = maxValue;
+            preloadValue = minValue + (maxValue - minValue + 1) * PRELOAD_PERCENTAGE / 100;
+            value = new AtomicLong(minValue);
+        }
+    }
+    
+    @Getter
+    private static final class SegmentAllocator {
+        
+        private final String url;
+        
+        private final String username;
+        
+        private final String password;
+        
+        private final String tableName;
+        
+        private final String segmentName;
+        
+        private final int step;
+        
+        private final long timeoutMilliseconds;
+        
+        SegmentAllocator(final Properties properties) {
+            url = properties.getProperty("jdbc.url");
+            username = properties.getProperty("username");
+            password = properties.getProperty("password");
+            tableName = properties.getProperty("table.name", TABLE_NAME);
+            segmentName = properties.getProperty("segment.name", SEGMENT_NAME);
+            step = Integer.parseInt(properties.getProperty("segment.step", String.valueOf(SEGMENT_STEP)));
+            Preconditions.checkArgument(step > 0, "Step of segment must be positive.");
+            timeoutMilliseconds = Long.parseLong(properties.getProperty("allocate.timeout.milliseconds", String.valueOf(ALLOCATE_TIMEOUT_MILLISECONDS)));
+        }
+        
+        Segment allocate() throws SQLException {
+            Preconditions.checkState(null != url, "Property `jdbc.url` is required for segment key generator.");
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                connection.setAutoCommit(false);
+                try {
+                    long maxValue = allocate(connection);
+                    connection.commit();
+                    return new Segment(maxValue - step + 1, maxValue);
+                } catch (final SQLException ex) {
+                    connection.rollback();
+                    throw ex;
+                }
+            }
+        }
+        
+        private long allocate(final Connection connection) throws SQLException {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("UPDATE %s SET max_id = max_id + ? WHERE segment_name = ?", tableName))) {
+                preparedStatement.setLong(1, step);
+                preparedStatement.setString(2, segmentName);
+                if (0 == preparedStatement.executeUpdate()) {
+                    insert(connection);
+                    return step;
+                }
+            }
+            try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("SELECT max_id FROM %s WHERE segment_name = ?", tableName))) {
+                preparedStatement.setString(1, segmentName);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    Preconditions.checkState(resultSet.next(), "Can not find segment `%s`.", segmentName);
+                    return resultSet.getLong(1);
+                }
+            }
+        }
+        
+        private void insert(final Connection connection) throws SQLException {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (segment_name, max_id) VALUES (?, ?)", tableName))) {
+                preparedStatement.setString(1, segmentName);
+                preparedStatement.setLong(2, step);
+                preparedStatement.executeUpdate();
+            }
+        }
+    }
+}
@@ -21,10 +21,14 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
-import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
+import org.apache.shardingsphere.spi.keygen.ShardingBatchKeyGenerator;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Snowflake distributed primary key generator.
@@ -48,10 +52,15 @@ import java.util.Properties;
  * Call @{@code SnowflakeShardingKeyGenerator.setMaxTolerateTimeDifferenceMilliseconds} to set max tolerate time difference milliseconds, default value is 0.
  * </p>
  * 
+ * <p>
+ * Last milliseconds, sequence offset and sequence are kept in one atomic value and updated by compare and set without lock,
+ * so a block of sequences can be reserved in one operation.
+ * </p>
+ * 
  * @author gaohongtao
  * @author panjuan
  */
-public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator {
+public final class SnowflakeShardingKeyGenerator implements ShardingBatchKeyGenerator {
     
     public static final long EPOCH;
     
@@ -67,22 +76,25 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     
     private static final long WORKER_ID_MAX_VALUE = 1L << WORKER_ID_BITS;
     
+    private static final long STATE_MILLISECONDS_LEFT_SHIFT_BITS = SEQUENCE_BITS + 1;
+    
     private static final long WORKER_ID = 0;
     
     private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
     
+    private static final long WAIT_NEXT_TIME_PARK_NANOSECONDS = 100000L;
+    
     @Setter
     private static TimeService timeService = new TimeService();
     
     @Getter
-    @Setter
     private Properties properties = new Properties();
     
-    private byte sequenceOffset;
+    private volatile long workerId = WORKER_ID;
     
-    private long sequence;
+    private volatile int maxTolerateTimeDifferenceMilliseconds = MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS;
     
-    private long lastMilliseconds;
+    private final AtomicLong state = new AtomicLong();
     
     static {
         Calendar calendar = Calendar.getInstance();
@@ -100,54 +112,104 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
+    public void setProperties(final Properties properties) {
+        long workerId = Long.valueOf(properties.getProperty("worker.id", String.valueOf(WORKER_ID)));
+        Preconditions.checkArgument(workerId >= 0L && workerId < WORKER_ID_MAX_VALUE);
+        this.workerId = workerId;
+        maxTolerateTimeDifferenceMilliseconds = Integer.valueOf(
+                properties.getProperty("max.tolerate.time.difference.milliseconds", String.valueOf(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS)));
+        this.properties = properties;
+    }
+    
+    @Override
+    public Comparable<?> generateKey() {
+        long reserved = reserve(1);
+        return toKey(getMilliseconds(reserved), getSequence(reserved));
+    }
+    
+    @Override
+    public List<Comparable<?>> generateKeys(final int count) {
+        Preconditions.checkArgument(count >= 0, "Count of keys must not be negative.");
+        List<Comparable<?>> result = new ArrayList<>(count);
+        while (result.size() < count) {
+            long reserved = reserve(count - result.size());
+            long milliseconds = getMilliseconds(reserved);
+            long sequence = getSequence(reserved);
+            long reservedCount = getReservedCount(sequence, count - result.size());
+            for (long i = 0; i < reservedCount; i++) {
+                result.add(toKey(milliseconds, sequence + i));
+            }
         }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+        return result;
+    }
+    
+    private long reserve(final int count) {
+        while (true) {
+            long current = state.get();
+            long lastMilliseconds = getMilliseconds(current);
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
+                currentMilliseconds = timeService.getCurrentMillis();
+            }
+            long sequenceOffset = getSequenceOffset(current);
+            long sequence;
+            if (lastMilliseconds == currentMilliseconds) {
+                if (0L == (sequence = (getSequence(current) + 1) & SEQUENCE_MASK)) {
+                    currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                }
+            } else {
+                sequenceOffset = ~sequenceOffset & 1;
+                sequence = sequenceOffset;
+            }
+            long lastSequence = sequence + getReservedCount(sequence, count) - 1;
+            if (state.compareAndSet(current, toState(currentMilliseconds, sequenceOffset, lastSequence))) {
+                return toState(currentMilliseconds, sequenceOffset, sequence);
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
     @SneakyThrows
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
         long timeDifferenceMilliseconds = lastMilliseconds - currentMilliseconds;
-        Preconditions.checkState(timeDifferenceMilliseconds < getMaxTolerateTimeDifferenceMilliseconds(), 
+        Preconditions.checkState(timeDifferenceMilliseconds < maxTolerateTimeDifferenceMilliseconds, 
                 "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastMilliseconds, currentMilliseconds);
         Thread.sleep(timeDifferenceMilliseconds);
         return true;
     }
     
-    private long getWorkerId() {
-        long result = Long.valueOf(properties.getProperty("worker.id", String.valueOf(WORKER_ID)));
-        Preconditions.checkArgument(result >= 0L && result < WORKER_ID_MAX_VALUE);
-        return result;
-    }
-    
-    private int getMaxTolerateTimeDifferenceMilliseconds() {
-        return Integer.valueOf(properties.getProperty("max.tolerate.time.difference.milliseconds", String.valueOf(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS)));
-    }
-    
     private long waitUntilNextTime(final long lastTime) {
         long result = timeService.getCurrentMillis();
         while (result <= lastTime) {
+            LockSupport.parkNanos(WAIT_NEXT_TIME_PARK_NANOSECONDS);
             result = timeService.getCurrentMillis();
         }
         return result;
     }
     
-    private void vibrateSequenceOffset() {
-        sequenceOffset = (byte) (~sequenceOffset & 1);
+    private long getReservedCount(final long sequence, final int count) {
+        return Math.min(count, SEQUENCE_MASK - sequence + 1);
+    }
+    
+    private long toKey(final long milliseconds, final long sequence) {
+        return ((milliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    private long toState(final long milliseconds, final long sequenceOffset, final long sequence) {
+        return (milliseconds << STATE_MILLISECONDS_LEFT_SHIFT_BITS) | (sequenceOffset << SEQUENCE_BITS) | sequence;
+    }
+    
+    private long getMilliseconds(final long state) {
+        return state >>> STATE_MILLISECONDS_LEFT_SHIFT_BITS;
+    }
+    
+    private long getSequenceOffset(final long state) {
+        return (state >>> SEQUENCE_BITS) & 1;
+    }
+    
+    private long getSequence(final long state) {
+        return state & SEQUENCE_MASK;
     }
 }
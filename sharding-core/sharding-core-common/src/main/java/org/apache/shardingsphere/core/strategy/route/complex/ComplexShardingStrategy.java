@@ -40,6 +40,7 @@ public final class ComplexShardingStrategy implements ShardingStrategy {
     @Getter
     private final Collection<String> shardingColumns;
     
+    @Getter
     private final ComplexKeysShardingAlgorithm shardingAlgorithm;
     
     public ComplexShardingStrategy(final ComplexShardingStrategyConfiguration complexShardingStrategyConfig) {
@@ -0,0 +1,403 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>
+ * Evaluates inline expression of one sharding column without Groovy, such as {@code t_order_${user_id % 16}} or {@code ds_${Math.abs(id.hashCode()) % 4}}.
+ * Placeholders can contain sharding column, its {@code hashCode()}, integer literals, {@code +}, {@code -}, {@code *}, {@code %}, parentheses and {@code Math.abs()}.
+ * Arithmetic follows Groovy semantics: result is {@code Integer} unless one operand is {@code Long}, and overflows in the same way.
+ * </p>
+ */
+final class CompiledInlineExpression {
+    
+    private final String[] texts;
+    
+    private final Node[] placeholders;
+    
+    private CompiledInlineExpression(final List<String> texts, final List<Node> placeholders) {
+        this.texts = texts.toArray(new String[texts.size()]);
+        this.placeholders = placeholders.toArray(new Node[placeholders.size()]);
+    }
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param shardingColumn sharding column
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled inline expression, absent if expression contains syntax which can only be evaluated by Groovy
+     */
+    static Optional<CompiledInlineExpression> compile(final String shardingColumn, final String inlineExpression) {
+        List<String> texts = new ArrayList<>();
+        List<Node> placeholders = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int placeholderBegin = inlineExpression.indexOf("${", position);
+            String text = inlineExpression.substring(position, -1 == placeholderBegin ? inlineExpression.length() : placeholderBegin);
+            if (!isPlainText(text)) {
+                return Optional.absent();
+            }
+            texts.add(text);
+            if (-1 == placeholderBegin) {
+                return Optional.of(new CompiledInlineExpression(texts, placeholders));
+            }
+            int placeholderEnd = inlineExpression.indexOf('}', placeholderBegin);
+            if (-1 == placeholderEnd) {
+                return Optional.absent();
+            }
+            Optional<Node> placeholder = new Parser(shardingColumn, inlineExpression.substring(placeholderBegin + 2, placeholderEnd)).parse();
+            if (!placeholder.isPresent()) {
+                return Optional.absent();
+            }
+            placeholders.add(placeholder.get());
+            position = placeholderEnd + 1;
+        }
+    }
+    
+    private static boolean isPlainText(final String text) {
+        return -1 == text.indexOf('$') && -1 == text.indexOf('\\') && -1 == text.indexOf('"');
+    }
+    
+    /**
+     * Judge whether sharding value can be evaluated without Groovy.
+     *
+     * @param shardingValue sharding value
+     * @return can be evaluated or not
+     */
+    boolean isSupported(final Comparable<?> shardingValue) {
+        for (Node each : placeholders) {
+            if (!each.isSupported(shardingValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param shardingValue sharding value
+     * @return evaluated result
+     */
+    String evaluate(final Comparable<?> shardingValue) {
+        StringBuilder result = new StringBuilder(32);
+        for (int i = 0; i < placeholders.length; i++) {
+            result.append(texts[i]);
+            placeholders[i].appendTo(result, shardingValue);
+        }
+        return result.append(texts[placeholders.length]).toString();
+    }
+    
+    private static boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static boolean isArithmeticSupported(final Node operand, final Comparable<?> shardingValue) {
+        return operand instanceof ColumnNode ? isIntegral(shardingValue) : operand.isSupported(shardingValue);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Parser {
+        
+        private final String shardingColumn;
+        
+        private final String expression;
+        
+        private int position;
+        
+        Optional<Node> parse() {
+            Node result = parseAdditive();
+            skipWhitespace();
+            return null != result && position == expression.length() ? Optional.of(result) : Optional.<Node>absent();
+        }
+        
+        private Node parseAdditive() {
+            Node result = parseMultiplicative();
+            while (null != result) {
+                if (skipIfEqual("+")) {
+                    result = createBinaryNode('+', result, parseMultiplicative());
+                } else if (skipIfEqual("-")) {
+                    result = createBinaryNode('-', result, parseMultiplicative());
+                } else {
+                    return result;
+                }
+            }
+            return null;
+        }
+        
+        private Node parseMultiplicative() {
+            Node result = parseUnary();
+            while (null != result) {
+                if (skipIfEqual("*")) {
+                    result = createBinaryNode('*', result, parseUnary());
+                } else if (skipIfEqual("%")) {
+                    result = createBinaryNode('%', result, parseUnary());
+                } else {
+                    return result;
+                }
+            }
+            return null;
+        }
+        
+        private Node createBinaryNode(final char operator, final Node left, final Node right) {
+            return null == right ? null : new BinaryNode(operator, left, right);
+        }
+        
+        private Node parseUnary() {
+            if (skipIfEqual("-")) {
+                Node operand = parseUnary();
+                return null == operand ? null : new NegateNode(operand);
+            }
+            return parsePrimary();
+        }
+        
+        private Node parsePrimary() {
+            skipWhitespace();
+            if (position == expression.length()) {
+                return null;
+            }
+            if (Character.isDigit(expression.charAt(position))) {
+                return parseLiteral();
+            }
+            if (skipIfEqual("(")) {
+                Node result = parseAdditive();
+                return skipIfEqual(")") ? result : null;
+            }
+            if (skipIfEqual("Math.abs(")) {
+                Node operand = parseAdditive();
+                return null != operand && skipIfEqual(")") ? new AbsNode(operand) : null;
+            }
+            if (!skipIfEqual(shardingColumn) || position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position))) {
+                return null;
+            }
+            return skipIfEqual(".hashCode()") ? new HashCodeNode() : new ColumnNode();
+        }
+        
+        private Node parseLiteral() {
+            int begin = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position)) || position - begin > 18) {
+                return null;
+            }
+            long value = Long.parseLong(expression.substring(begin, position));
+            return new LiteralNode(value, value > Integer.MAX_VALUE);
+        }
+        
+        private boolean skipIfEqual(final String token) {
+            skipWhitespace();
+            if (expression.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+    
+    private abstract static class Node {
+        
+        abstract boolean isSupported(Comparable<?> shardingValue);
+        
+        abstract boolean isLong(Comparable<?> shardingValue);
+        
+        abstract long evaluate(Comparable<?> shardingValue);
+        
+        void appendTo(final StringBuilder builder, final Comparable<?> shardingValue) {
+            builder.append(evaluate(shardingValue));
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralNode extends Node {
+        
+        private final long value;
+        
+        private final boolean longValue;
+        
+        @Override
+        boolean isSupported(final Comparable<?> shardingValue) {
+            return true;
+        }
+        
+        @Override
+        boolean isLong(final Comparable<?> shardingValue) {
+            return longValue;
+        }
+        
+        @Override
+        long evaluate(final Comparable<?> shardingValue) {
+            return value;
+        }
+    }
+    
+    private static final class ColumnNode extends Node {
+        
+        @Override
+        boolean isSupported(final Comparable<?> shardingValue) {
+            return isIntegral(shardingValue) || shardingValue instanceof String;
+        }
+        
+        @Override
+        boolean isLong(final Comparable<?> shardingValue) {
+            return shardingValue instanceof Long;
+        }
+        
+        @Override
+        long evaluate(final Comparable<?> shardingValue) {
+            return ((Number) shardingValue).longValue();
+        }
+        
+        @Override
+        void appendTo(final StringBuilder builder, final Comparable<?> shardingValue) {
+            builder.append(shardingValue);
+        }
+    }
+    
+    private static final class HashCodeNode extends Node {
+        
+        @Override
+        boolean isSupported(final Comparable<?> shardingValue) {
+            return null != shardingValue;
+        }
+        
+        @Override
+        boolean isLong(final Comparable<?> shardingValue) {
+            return false;
+        }
+        
+        @Override
+        long evaluate(final Comparable<?> shardingValue) {
+            return shardingValue.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NegateNode extends Node {
+        
+        private final Node operand;
+        
+        @Override
+        boolean isSupported(final Comparable<?> shardingValue) {
+            return isArithmeticSupported(operand, shardingValue);
+        }
+        
+        @Override
+        boolean isLong(final Comparable<?> shardingValue) {
+            return operand.isLong(shardingValue);
+        }
+        
+        @Override
+        long evaluate(final Comparable<?> shardingValue) {
+            long value = operand.evaluate(shardingValue);
+            return isLong(shardingValue) ? -value : -(int) value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AbsNode extends Node {
+        
+        private final Node operand;
+        
+        @Override
+        boolean isSupported(final Comparable<?> shardingValue) {
+            return isArithmeticSupported(operand, shardingValue);
+        }
+        
+        @Override
+        boolean isLong(final Comparable<?> shardingValue) {
+            return operand.isLong(shardingValue);
+        }
+        
+        @Override
+        long evaluate(final Comparable<?> shardingValue) {
+            long value = operand.evaluate(shardingValue);
+            return isLong(shardingValue) ? Math.abs(value) : Math.abs((int) value);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode extends Node {
+        
+        private final char operator;
+        
+        private final Node left;
+        
+        private final Node right;
+        
+        @Override
+        boolean isSupported(final Comparable<?> shardingValue) {
+            return isArithmeticSupported(left, shardingValue) && isArithmeticSupported(right, shardingValue);
+        }
+        
+        @Override
+        boolean isLong(final Comparable<?> shardingValue) {
+            return left.isLong(shardingValue) || right.isLong(shardingValue);
+        }
+        
+        @Override
+        long evaluate(final Comparable<?> shardingValue) {
+            long leftValue = left.evaluate(shardingValue);
+            long rightValue = right.evaluate(shardingValue);
+            if (isLong(shardingValue)) {
+                return evaluate(leftValue, rightValue);
+            }
+            return evaluate((int) leftValue, (int) rightValue);
+        }
+        
+        private long evaluate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+        
+        private int evaluate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.strategy.route.inline;
 import com.google.common.base.Preconditions;
 import groovy.lang.Closure;
 import groovy.util.Expando;
+import lombok.Getter;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
@@ -42,14 +43,20 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     
     private final String shardingColumn;
     
+    @Getter
+    private final String algorithmExpression;
+    
     private final Closure<?> closure;
     
+    private final CompiledInlineExpression compiledExpression;
+    
     public InlineShardingStrategy(final InlineShardingStrategyConfiguration inlineShardingStrategyConfig) {
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getAlgorithmExpression(), "Sharding algorithm expression cannot be null.");
         shardingColumn = inlineShardingStrategyConfig.getShardingColumn();
-        String algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
+        algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
         closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        compiledExpression = CompiledInlineExpression.compile(shardingColumn, algorithmExpression).orNull();
     }
     
     @Override
@@ -80,6 +87,9 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     }
     
     private String execute(final PreciseShardingValue shardingValue) {
+        if (null != compiledExpression && shardingColumn.equals(shardingValue.getColumnName()) && compiledExpression.isSupported(shardingValue.getValue())) {
+            return compiledExpression.evaluate(shardingValue.getValue());
+        }
         Closure<?> result = closure.rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         result.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
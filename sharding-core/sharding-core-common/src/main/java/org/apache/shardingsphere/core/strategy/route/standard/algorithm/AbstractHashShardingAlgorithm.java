@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import java.math.BigInteger;
+
+/**
+ * Abstract hash sharding algorithm.
+ *
+ * <p>
+ * Hash of sharding value is stable across JVMs: integral numbers of same value have same hash whatever their types are,
+ * other values use their own hash code, which is specified for strings, and all hashes are mixed by finalizer of MurmurHash3 for better distribution.
+ * </p>
+ */
+public abstract class AbstractHashShardingAlgorithm extends AbstractPartitionShardingAlgorithm {
+    
+    /**
+     * Get hash of sharding value.
+     *
+     * @param shardingValue sharding value
+     * @return hash of sharding value
+     */
+    protected final int hash(final Comparable<?> shardingValue) {
+        if (shardingValue instanceof Integer || shardingValue instanceof Long || shardingValue instanceof Short || shardingValue instanceof Byte || shardingValue instanceof BigInteger) {
+            return mix(((Number) shardingValue).longValue());
+        }
+        return mix(shardingValue.hashCode());
+    }
+    
+    /**
+     * Mix bits of long value into int hash.
+     *
+     * @param value value to be mixed
+     * @return mixed hash
+     */
+    protected static int mix(final long value) {
+        long result = value;
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        result *= 0xc4ceb9fe1a85ec53L;
+        result ^= result >>> 33;
+        return (int) result;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Properties;
+
+/**
+ * Abstract numeric range sharding algorithm.
+ *
+ * <p>
+ * Boundaries split numbers into partitions: partition {@code 0} is less than first boundary,
+ * partition {@code n} is greater than or equal to boundary {@code n - 1} and less than boundary {@code n}, last partition is greater than or equal to last boundary.
+ * Suffix of target name is index of partition.
+ * </p>
+ */
+public abstract class AbstractNumericRangeShardingAlgorithm extends AbstractRangeShardingAlgorithm {
+    
+    @Override
+    protected final RangePartitions createPartitions(final Properties properties) {
+        long[] boundaries = createBoundaries(properties);
+        long[] lowerBounds = new long[boundaries.length + 1];
+        String[] suffixes = new String[boundaries.length + 1];
+        lowerBounds[0] = Long.MIN_VALUE;
+        suffixes[0] = "0";
+        for (int i = 0; i < boundaries.length; i++) {
+            lowerBounds[i + 1] = boundaries[i];
+            suffixes[i + 1] = String.valueOf(i + 1);
+        }
+        return new RangePartitions(lowerBounds, Long.MAX_VALUE, suffixes);
+    }
+    
+    @Override
+    protected final long getShardingKey(final Comparable<?> shardingValue) {
+        if (shardingValue instanceof Integer || shardingValue instanceof Long || shardingValue instanceof Short || shardingValue instanceof Byte || shardingValue instanceof BigInteger) {
+            return ((Number) shardingValue).longValue();
+        }
+        if (shardingValue instanceof BigDecimal) {
+            return ((BigDecimal) shardingValue).setScale(0, RoundingMode.FLOOR).longValue();
+        }
+        if (shardingValue instanceof Number) {
+            return (long) Math.floor(((Number) shardingValue).doubleValue());
+        }
+        if (shardingValue instanceof String) {
+            return new BigDecimal((String) shardingValue).setScale(0, RoundingMode.FLOOR).longValue();
+        }
+        throw new UnsupportedOperationException(String.format("Cannot support sharding value type '%s' for %s sharding algorithm.", shardingValue.getClass().getName(), getType()));
+    }
+    
+    /**
+     * Create boundaries.
+     *
+     * @param properties properties of algorithm
+     * @return boundaries in ascending order
+     */
+    protected abstract long[] createBoundaries(Properties properties);
+    
+    /**
+     * Get required long property.
+     *
+     * @param properties properties of algorithm
+     * @param key property key
+     * @return property value
+     */
+    protected final long getRequiredLong(final Properties properties, final String key) {
+        String value = properties.getProperty(key);
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(value), "Property `%s` of %s sharding algorithm is required.", key, getType());
+        return Long.parseLong(value.trim());
+    }
+}
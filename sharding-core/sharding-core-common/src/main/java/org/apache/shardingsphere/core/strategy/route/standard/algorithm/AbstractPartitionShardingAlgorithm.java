@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.spi.sharding.StandardShardingAlgorithm;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Abstract partition sharding algorithm.
+ *
+ * <p>
+ * Sharding values are mapped to partitions from {@code 0} to {@code sharding.count - 1},
+ * target name of partition is the available target name whose trailing number equals to partition.
+ * Target names of partitions are resolved once for available target names and reused for following sharding values, so sharding of value does not allocate.
+ * </p>
+ */
+public abstract class AbstractPartitionShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>> {
+    
+    private static final String SHARDING_COUNT = "sharding.count";
+    
+    private Properties properties = new Properties();
+    
+    private int shardingCount;
+    
+    private volatile PartitionTargets partitionTargets;
+    
+    @Override
+    public final Properties getProperties() {
+        return properties;
+    }
+    
+    @Override
+    public final void setProperties(final Properties properties) {
+        String shardingCount = properties.getProperty(SHARDING_COUNT);
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(shardingCount), "Property `%s` of %s sharding algorithm is required.", SHARDING_COUNT, getType());
+        int count = Integer.parseInt(shardingCount.trim());
+        Preconditions.checkArgument(count > 0, "Property `%s` must be positive.", SHARDING_COUNT);
+        init(count, properties);
+        this.shardingCount = count;
+        this.properties = properties;
+        partitionTargets = null;
+    }
+    
+    @Override
+    public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        int partition = getPartition(shardingValue.getValue(), getShardingCount());
+        return getPartitionTargets(availableTargetNames).targetNames[partition];
+    }
+    
+    @Override
+    public final Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        PartitionTargets partitionTargets = getPartitionTargets(availableTargetNames);
+        Collection<Integer> partitions = getPartitions(shardingValue, getShardingCount());
+        if (partitions.isEmpty()) {
+            return partitionTargets.allTargetNames;
+        }
+        Collection<String> result = new LinkedHashSet<>(partitions.size(), 1);
+        for (int each : partitions) {
+            if (null != partitionTargets.targetNames[each]) {
+                result.add(partitionTargets.targetNames[each]);
+            }
+        }
+        return result;
+    }
+    
+    private int getShardingCount() {
+        Preconditions.checkState(shardingCount > 0, "Property `%s` of %s sharding algorithm is not set.", SHARDING_COUNT, getType());
+        return shardingCount;
+    }
+    
+    private PartitionTargets getPartitionTargets(final Collection<String> availableTargetNames) {
+        PartitionTargets result = partitionTargets;
+        if (null == result || result.targetNames.length != shardingCount || !result.isSameAvailableTargetNames(availableTargetNames)) {
+            result = new PartitionTargets(availableTargetNames, shardingCount);
+            partitionTargets = result;
+        }
+        return result;
+    }
+    
+    /**
+     * Initialize algorithm with properties.
+     *
+     * @param shardingCount sharding count
+     * @param properties properties of algorithm
+     */
+    protected void init(final int shardingCount, final Properties properties) {
+    }
+    
+    /**
+     * Get partition of sharding value.
+     *
+     * @param shardingValue sharding value
+     * @param shardingCount sharding count
+     * @return partition from {@code 0} to {@code shardingCount - 1}
+     */
+    protected abstract int getPartition(Comparable<?> shardingValue, int shardingCount);
+    
+    /**
+     * Get partitions of range sharding value.
+     *
+     * @param shardingValue range sharding value
+     * @param shardingCount sharding count
+     * @return partitions, empty means all partitions
+     */
+    protected Collection<Integer> getPartitions(final RangeShardingValue<Comparable<?>> shardingValue, final int shardingCount) {
+        return Collections.emptyList();
+    }
+    
+    private static final class PartitionTargets {
+        
+        private final Collection<String> availableTargetNames;
+        
+        private final Set<String> availableTargetNameSet;
+        
+        private final String[] targetNames;
+        
+        private final Collection<String> allTargetNames;
+        
+        PartitionTargets(final Collection<String> availableTargetNames, final int shardingCount) {
+            this.availableTargetNames = availableTargetNames;
+            availableTargetNameSet = new HashSet<>(availableTargetNames);
+            targetNames = new String[shardingCount];
+            Collection<String> allTargetNames = new LinkedHashSet<>(shardingCount, 1);
+            for (String each : availableTargetNames) {
+                int partition = getTrailingNumber(each);
+                if (-1 != partition && partition < shardingCount && null == targetNames[partition]) {
+                    targetNames[partition] = each;
+                }
+            }
+            for (String each : targetNames) {
+                if (null != each) {
+                    allTargetNames.add(each);
+                }
+            }
+            this.allTargetNames = Collections.unmodifiableCollection(allTargetNames);
+        }
+        
+        private static int getTrailingNumber(final String targetName) {
+            int result = 0;
+            int multiplier = 1;
+            int index = targetName.length() - 1;
+            while (index >= 0 && targetName.charAt(index) >= '0' && targetName.charAt(index) <= '9' && multiplier <= 100000000) {
+                result += (targetName.charAt(index) - '0') * multiplier;
+                multiplier *= 10;
+                index--;
+            }
+            return 1 == multiplier ? -1 : result;
+        }
+        
+        boolean isSameAvailableTargetNames(final Collection<String> availableTargetNames) {
+            if (this.availableTargetNames == availableTargetNames) {
+                return true;
+            }
+            if (availableTargetNameSet.size() != availableTargetNames.size()) {
+                return false;
+            }
+            for (String each : availableTargetNames) {
+                if (!availableTargetNameSet.contains(each)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.spi.sharding.StandardShardingAlgorithm;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+
+/**
+ * Abstract range sharding algorithm.
+ *
+ * <p>
+ * Sharding values are converted to long keys and mapped to sorted partitions, which are precomputed when properties are set.
+ * Partition of key is found by binary search, so cost of sharding does not grow with count of partitions or available targets.
+ * Target name of partition is prefix of available target names with suffix of partition.
+ * </p>
+ */
+public abstract class AbstractRangeShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>> {
+    
+    private Properties properties = new Properties();
+    
+    private volatile RangePartitions partitions;
+    
+    @Override
+    public final Properties getProperties() {
+        return properties;
+    }
+    
+    @Override
+    public final void setProperties(final Properties properties) {
+        this.properties = properties;
+        partitions = createPartitions(properties);
+    }
+    
+    @Override
+    public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        RangePartitions partitions = getPartitions();
+        int partition = partitions.findPartition(getShardingKey(shardingValue.getValue()));
+        if (-1 == partition || availableTargetNames.isEmpty()) {
+            return null;
+        }
+        String result = partitions.getPrefix(availableTargetNames.iterator().next()) + partitions.getSuffix(partition);
+        return availableTargetNames.contains(result) ? result : null;
+    }
+    
+    @Override
+    public final Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        Collection<String> result = new LinkedHashSet<>();
+        Range<Comparable<?>> valueRange = shardingValue.getValueRange();
+        long lower = valueRange.hasLowerBound() ? getShardingKey(valueRange.lowerEndpoint()) : Long.MIN_VALUE;
+        long upper = valueRange.hasUpperBound() ? getShardingKey(valueRange.upperEndpoint()) : Long.MAX_VALUE;
+        RangePartitions partitions = getPartitions();
+        Optional<Range<Integer>> partitionRange = partitions.findPartitions(lower, upper);
+        if (!partitionRange.isPresent() || availableTargetNames.isEmpty()) {
+            return result;
+        }
+        String prefix = partitions.getPrefix(availableTargetNames.iterator().next());
+        for (int i = partitionRange.get().lowerEndpoint(); i <= partitionRange.get().upperEndpoint(); i++) {
+            String targetName = prefix + partitions.getSuffix(i);
+            if (availableTargetNames.contains(targetName)) {
+                result.add(targetName);
+            }
+        }
+        return result;
+    }
+    
+    private RangePartitions getPartitions() {
+        RangePartitions result = partitions;
+        if (null == result) {
+            result = createPartitions(properties);
+            partitions = result;
+        }
+        return result;
+    }
+    
+    /**
+     * Create partitions.
+     *
+     * @param properties properties of algorithm
+     * @return range partitions
+     */
+    protected abstract RangePartitions createPartitions(Properties properties);
+    
+    /**
+     * Get sharding key.
+     *
+     * @param shardingValue sharding value
+     * @return sharding key which is compared with bounds of partitions
+     */
+    protected abstract long getShardingKey(Comparable<?> shardingValue);
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Boundary range sharding algorithm.
+ *
+ * <p>
+ * Partitions are split by explicit boundaries of property {@code sharding.ranges}, such as {@code 1000,5000,20000}.
+ * </p>
+ */
+public final class BoundaryRangeShardingAlgorithm extends AbstractNumericRangeShardingAlgorithm {
+    
+    private static final String SHARDING_RANGES = "sharding.ranges";
+    
+    @Override
+    public String getType() {
+        return "BOUNDARY_RANGE";
+    }
+    
+    @Override
+    protected long[] createBoundaries(final Properties properties) {
+        String shardingRanges = properties.getProperty(SHARDING_RANGES);
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(shardingRanges), "Property `%s` of %s sharding algorithm is required.", SHARDING_RANGES, getType());
+        List<String> segments = Splitter.on(",").trimResults().omitEmptyStrings().splitToList(shardingRanges);
+        long[] result = new long[segments.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            result[i] = Long.parseLong(segments.get(i));
+        }
+        return result;
+    }
+}
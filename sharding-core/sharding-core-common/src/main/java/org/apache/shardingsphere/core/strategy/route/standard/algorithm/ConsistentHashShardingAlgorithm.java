@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Consistent hash sharding algorithm.
+ *
+ * <p>
+ * Each partition owns property {@code virtual.node.count} (default {@code 160}) virtual nodes on hash ring,
+ * partition of sharding value is owner of the first virtual node clockwise from hash of sharding value, which is found by binary search.
+ * Virtual nodes of partition do not depend on {@code sharding.count}, so only about {@code 1 / sharding.count} of sharding values move when a partition is added.
+ * </p>
+ */
+public final class ConsistentHashShardingAlgorithm extends AbstractHashShardingAlgorithm {
+    
+    private static final String VIRTUAL_NODE_COUNT = "virtual.node.count";
+    
+    private static final int DEFAULT_VIRTUAL_NODE_COUNT = 160;
+    
+    private volatile HashRing hashRing;
+    
+    @Override
+    public String getType() {
+        return "CONSISTENT_HASH";
+    }
+    
+    @Override
+    protected void init(final int shardingCount, final Properties properties) {
+        int virtualNodeCount = Integer.parseInt(properties.getProperty(VIRTUAL_NODE_COUNT, String.valueOf(DEFAULT_VIRTUAL_NODE_COUNT)).trim());
+        Preconditions.checkArgument(virtualNodeCount > 0, "Property `%s` must be positive.", VIRTUAL_NODE_COUNT);
+        Preconditions.checkArgument((long) virtualNodeCount * shardingCount <= Integer.MAX_VALUE, "Too many virtual nodes of %s sharding algorithm.", getType());
+        hashRing = new HashRing(shardingCount, virtualNodeCount);
+    }
+    
+    @Override
+    protected int getPartition(final Comparable<?> shardingValue, final int shardingCount) {
+        return hashRing.getPartition(hash(shardingValue));
+    }
+    
+    private static final class HashRing {
+        
+        private final int[] nodeHashes;
+        
+        private final int[] nodePartitions;
+        
+        HashRing(final int shardingCount, final int virtualNodeCount) {
+            long[] nodes = new long[shardingCount * virtualNodeCount];
+            for (int i = 0; i < shardingCount; i++) {
+                for (int j = 0; j < virtualNodeCount; j++) {
+                    nodes[i * virtualNodeCount + j] = (long) mix((long) i << 32 | j) << 32 | i;
+                }
+            }
+            Arrays.sort(nodes);
+            nodeHashes = new int[nodes.length];
+            nodePartitions = new int[nodes.length];
+            for (int i = 0; i < nodes.length; i++) {
+                nodeHashes[i] = (int) (nodes[i] >> 32);
+                nodePartitions[i] = (int) nodes[i];
+            }
+        }
+        
+        int getPartition(final int hash) {
+            int index = Arrays.binarySearch(nodeHashes, hash);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return nodePartitions[index == nodeHashes.length ? 0 : index];
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+/**
+ * Hash modulo sharding algorithm.
+ *
+ * <p>
+ * Partition of sharding value is hash of sharding value modulo property {@code sharding.count}, sharding value can be any type such as string.
+ * </p>
+ */
+public final class HashModShardingAlgorithm extends AbstractHashShardingAlgorithm {
+    
+    @Override
+    public String getType() {
+        return "HASH_MOD";
+    }
+    
+    @Override
+    protected int getPartition(final Comparable<?> shardingValue, final int shardingCount) {
+        return (hash(shardingValue) & Integer.MAX_VALUE) % shardingCount;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import org.apache.shardingsphere.core.exception.ShardingException;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Interval sharding algorithm for date time.
+ *
+ * <p>
+ * Date times between property {@code datetime.lower} and {@code datetime.upper} are split into partitions by interval,
+ * the interval is {@code datetime.interval.amount} (default {@code 1}) of {@code datetime.interval.unit} ({@code HOURS}, {@code DAYS}, {@code MONTHS} or {@code YEARS}).
+ * Suffix of target name is start time of partition which is formatted by {@code sharding.suffix.pattern}, such as {@code yyyyMM}.
+ * String sharding values and bounds are parsed by {@code datetime.pattern} (default {@code yyyy-MM-dd HH:mm:ss}).
+ * </p>
+ */
+public final class IntervalShardingAlgorithm extends AbstractRangeShardingAlgorithm {
+    
+    private static final String DATE_TIME_PATTERN = "datetime.pattern";
+    
+    private static final String DEFAULT_DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+    
+    private static final String DATE_TIME_LOWER = "datetime.lower";
+    
+    private static final String DATE_TIME_UPPER = "datetime.upper";
+    
+    private static final String SHARDING_SUFFIX_PATTERN = "sharding.suffix.pattern";
+    
+    private static final String INTERVAL_UNIT = "datetime.interval.unit";
+    
+    private static final String INTERVAL_AMOUNT = "datetime.interval.amount";
+    
+    private static final int MAX_PARTITION_COUNT = 1000000;
+    
+    private static final Map<String, Integer> INTERVAL_UNITS = ImmutableMap.of("HOURS", Calendar.HOUR_OF_DAY, "DAYS", Calendar.DAY_OF_MONTH, "MONTHS", Calendar.MONTH, "YEARS", Calendar.YEAR);
+    
+    private volatile String dateTimePattern = DEFAULT_DATE_TIME_PATTERN;
+    
+    @Override
+    public String getType() {
+        return "INTERVAL";
+    }
+    
+    @Override
+    protected RangePartitions createPartitions(final Properties properties) {
+        dateTimePattern = properties.getProperty(DATE_TIME_PATTERN, DEFAULT_DATE_TIME_PATTERN);
+        long lower = parseDateTime(getRequiredProperty(properties, DATE_TIME_LOWER));
+        long upper = parseDateTime(getRequiredProperty(properties, DATE_TIME_UPPER));
+        Preconditions.checkArgument(lower <= upper, "Property `%s` must not be after `%s`.", DATE_TIME_LOWER, DATE_TIME_UPPER);
+        String intervalUnit = properties.getProperty(INTERVAL_UNIT, "DAYS").trim().toUpperCase();
+        Preconditions.checkArgument(INTERVAL_UNITS.containsKey(intervalUnit), "Property `%s` must be one of %s.", INTERVAL_UNIT, INTERVAL_UNITS.keySet());
+        int intervalAmount = Integer.parseInt(properties.getProperty(INTERVAL_AMOUNT, "1").trim());
+        Preconditions.checkArgument(intervalAmount > 0, "Property `%s` must be positive.", INTERVAL_AMOUNT);
+        SimpleDateFormat suffixFormat = new SimpleDateFormat(getRequiredProperty(properties, SHARDING_SUFFIX_PATTERN));
+        List<Long> lowerBounds = new ArrayList<>();
+        Calendar calendar = Calendar.getInstance();
+        long partitionLower = lower;
+        while (partitionLower <= upper) {
+            Preconditions.checkArgument(lowerBounds.size() < MAX_PARTITION_COUNT, "Too many partitions of %s sharding algorithm.", getType());
+            lowerBounds.add(partitionLower);
+            calendar.setTimeInMillis(lower);
+            calendar.add(INTERVAL_UNITS.get(intervalUnit), lowerBounds.size() * intervalAmount);
+            partitionLower = calendar.getTimeInMillis();
+        }
+        long[] resultLowerBounds = new long[lowerBounds.size()];
+        String[] suffixes = new String[lowerBounds.size()];
+        for (int i = 0; i < lowerBounds.size(); i++) {
+            resultLowerBounds[i] = lowerBounds.get(i);
+            suffixes[i] = suffixFormat.format(new Date(lowerBounds.get(i)));
+        }
+        return new RangePartitions(resultLowerBounds, partitionLower - 1, suffixes);
+    }
+    
+    private String getRequiredProperty(final Properties properties, final String key) {
+        String result = properties.getProperty(key);
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(result), "Property `%s` of %s sharding algorithm is required.", key, getType());
+        return result.trim();
+    }
+    
+    @Override
+    protected long getShardingKey(final Comparable<?> shardingValue) {
+        if (shardingValue instanceof Date) {
+            return ((Date) shardingValue).getTime();
+        }
+        if (shardingValue instanceof Number) {
+            return ((Number) shardingValue).longValue();
+        }
+        if (shardingValue instanceof String) {
+            return parseDateTime((String) shardingValue);
+        }
+        throw new UnsupportedOperationException(String.format("Cannot support sharding value type '%s' for %s sharding algorithm.", shardingValue.getClass().getName(), getType()));
+    }
+    
+    private long parseDateTime(final String dateTime) {
+        try {
+            return new SimpleDateFormat(dateTimePattern).parse(dateTime).getTime();
+        } catch (final ParseException ex) {
+            throw new ShardingException("Cannot parse date time '%s' with pattern '%s'.", dateTime, dateTimePattern);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Modulo sharding algorithm.
+ *
+ * <p>
+ * Partition of integral sharding value is sharding value modulo property {@code sharding.count}.
+ * </p>
+ */
+public final class ModShardingAlgorithm extends AbstractPartitionShardingAlgorithm {
+    
+    @Override
+    public String getType() {
+        return "MOD";
+    }
+    
+    @Override
+    protected int getPartition(final Comparable<?> shardingValue, final int shardingCount) {
+        return mod(getShardingKey(shardingValue), shardingCount);
+    }
+    
+    @Override
+    protected Collection<Integer> getPartitions(final RangeShardingValue<Comparable<?>> shardingValue, final int shardingCount) {
+        Range<Comparable<?>> valueRange = shardingValue.getValueRange();
+        if (!valueRange.hasLowerBound() || !valueRange.hasUpperBound()) {
+            return Collections.emptyList();
+        }
+        long lower = getShardingKey(valueRange.lowerEndpoint()) + (BoundType.OPEN == valueRange.lowerBoundType() ? 1 : 0);
+        long upper = getShardingKey(valueRange.upperEndpoint()) - (BoundType.OPEN == valueRange.upperBoundType() ? 1 : 0);
+        if (lower > upper || upper - lower < 0 || upper - lower >= shardingCount - 1) {
+            return Collections.emptyList();
+        }
+        Collection<Integer> result = new ArrayList<>((int) (upper - lower + 1));
+        for (long i = lower; i <= upper; i++) {
+            result.add(mod(i, shardingCount));
+        }
+        return result;
+    }
+    
+    private long getShardingKey(final Comparable<?> shardingValue) {
+        if (shardingValue instanceof Integer || shardingValue instanceof Long || shardingValue instanceof Short || shardingValue instanceof Byte || shardingValue instanceof BigInteger) {
+            return ((Number) shardingValue).longValue();
+        }
+        if (shardingValue instanceof String) {
+            return Long.parseLong((String) shardingValue);
+        }
+        throw new UnsupportedOperationException(String.format("Cannot support sharding value type '%s' for %s sharding algorithm.", shardingValue.getClass().getName(), getType()));
+    }
+    
+    private int mod(final long shardingKey, final int shardingCount) {
+        int result = (int) (shardingKey % shardingCount);
+        return result < 0 ? result + shardingCount : result;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+
+import java.util.Arrays;
+
+/**
+ * Sorted and continuous partitions of range sharding algorithm.
+ */
+public final class RangePartitions {
+    
+    private final long[] lowerBounds;
+    
+    private final long upperBound;
+    
+    private final String[] suffixes;
+    
+    private final int suffixLength;
+    
+    /**
+     * Constructs range partitions.
+     *
+     * @param lowerBounds inclusive lower bounds of partitions in ascending order
+     * @param upperBound inclusive upper bound of last partition
+     * @param suffixes suffixes of target names for partitions
+     */
+    public RangePartitions(final long[] lowerBounds, final long upperBound, final String[] suffixes) {
+        Preconditions.checkArgument(lowerBounds.length > 0 && lowerBounds.length == suffixes.length, "Partitions of range sharding algorithm cannot be empty.");
+        for (int i = 1; i < lowerBounds.length; i++) {
+            Preconditions.checkArgument(lowerBounds[i - 1] < lowerBounds[i], "Partitions of range sharding algorithm must be in ascending order.");
+        }
+        Preconditions.checkArgument(lowerBounds[lowerBounds.length - 1] <= upperBound, "Upper bound of range sharding algorithm is less than lower bound of last partition.");
+        this.lowerBounds = lowerBounds;
+        this.upperBound = upperBound;
+        this.suffixes = suffixes;
+        suffixLength = getSuffixLength(suffixes);
+    }
+    
+    private static int getSuffixLength(final String[] suffixes) {
+        for (String each : suffixes) {
+            if (each.length() != suffixes[0].length()) {
+                return -1;
+            }
+        }
+        return suffixes[0].length();
+    }
+    
+    /**
+     * Find partition.
+     *
+     * @param key sharding key
+     * @return index of partition, {@code -1} if key is out of all partitions
+     */
+    public int findPartition(final long key) {
+        if (key < lowerBounds[0] || key > upperBound) {
+            return -1;
+        }
+        int result = Arrays.binarySearch(lowerBounds, key);
+        return result >= 0 ? result : -result - 2;
+    }
+    
+    /**
+     * Find partitions which intersect with range.
+     *
+     * @param lower inclusive lower sharding key
+     * @param upper inclusive upper sharding key
+     * @return closed range of partition indexes, absent if no partition intersects with range
+     */
+    public Optional<Range<Integer>> findPartitions(final long lower, final long upper) {
+        long actualLower = Math.max(lower, lowerBounds[0]);
+        long actualUpper = Math.min(upper, upperBound);
+        if (actualLower > actualUpper) {
+            return Optional.absent();
+        }
+        return Optional.of(Range.closed(findPartition(actualLower), findPartition(actualUpper)));
+    }
+    
+    /**
+     * Get suffix of target name.
+     *
+     * @param partition index of partition
+     * @return suffix of target name
+     */
+    public String getSuffix(final int partition) {
+        return suffixes[partition];
+    }
+    
+    /**
+     * Get prefix of target name.
+     *
+     * <p>
+     * Trailing digits are treated as suffix if suffixes are not in same length.
+     * </p>
+     *
+     * @param targetName target name
+     * @return prefix of target name
+     */
+    public String getPrefix(final String targetName) {
+        if (-1 != suffixLength) {
+            return targetName.substring(0, Math.max(targetName.length() - suffixLength, 0));
+        }
+        int result = targetName.length();
+        while (result > 0 && Character.isDigit(targetName.charAt(result - 1))) {
+            result--;
+        }
+        return targetName.substring(0, result);
+    }
+}
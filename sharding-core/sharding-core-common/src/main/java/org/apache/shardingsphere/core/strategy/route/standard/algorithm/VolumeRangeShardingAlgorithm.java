@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Properties;
+
+/**
+ * Volume range sharding algorithm.
+ *
+ * <p>
+ * Numbers between property {@code range.lower} and {@code range.upper} are split into partitions with fixed width of property {@code sharding.volume}.
+ * </p>
+ */
+public final class VolumeRangeShardingAlgorithm extends AbstractNumericRangeShardingAlgorithm {
+    
+    private static final String RANGE_LOWER = "range.lower";
+    
+    private static final String RANGE_UPPER = "range.upper";
+    
+    private static final String SHARDING_VOLUME = "sharding.volume";
+    
+    @Override
+    public String getType() {
+        return "VOLUME_RANGE";
+    }
+    
+    @Override
+    protected long[] createBoundaries(final Properties properties) {
+        long lower = getRequiredLong(properties, RANGE_LOWER);
+        long upper = getRequiredLong(properties, RANGE_UPPER);
+        long volume = getRequiredLong(properties, SHARDING_VOLUME);
+        Preconditions.checkArgument(lower < upper, "Property `%s` must be less than `%s`.", RANGE_LOWER, RANGE_UPPER);
+        Preconditions.checkArgument(volume > 0, "Property `%s` must be positive.", SHARDING_VOLUME);
+        long count = (upper - lower + volume - 1) / volume;
+        Preconditions.checkArgument(count < Integer.MAX_VALUE, "Too many partitions of %s sharding algorithm.", getType());
+        long[] result = new long[(int) count + 1];
+        for (int i = 0; i < count; i++) {
+            result[i] = lower + i * volume;
+        }
+        result[(int) count] = upper;
+        return result;
+    }
+}
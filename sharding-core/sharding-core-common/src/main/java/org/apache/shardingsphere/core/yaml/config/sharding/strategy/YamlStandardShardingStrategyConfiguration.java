@@ -20,6 +20,8 @@ package org.apache.shardingsphere.core.yaml.config.sharding.strategy;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Properties;
+
 /**
  * Standard strategy configuration for YAML.
  * 
@@ -34,4 +36,8 @@ public final class YamlStandardShardingStrategyConfiguration implements YamlBase
     private String preciseAlgorithmClassName;
     
     private String rangeAlgorithmClassName;
+    
+    private String type;
+    
+    private Properties props = new Properties();
 }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingAlgorit
 import org.apache.shardingsphere.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.RangeShardingAlgorithm;
+import org.apache.shardingsphere.core.spi.algorithm.sharding.StandardShardingAlgorithmServiceLoader;
 import org.apache.shardingsphere.core.strategy.route.ShardingAlgorithmFactory;
 import org.apache.shardingsphere.core.yaml.config.sharding.YamlShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlComplexShardingStrategyConfiguration;
@@ -35,6 +36,7 @@ import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShar
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.swapper.YamlSwapper;
+import org.apache.shardingsphere.spi.sharding.StandardShardingAlgorithm;
 
 /**
  * Sharding strategy configuration YAML swapper.
@@ -67,7 +69,10 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
         ShardingStrategyConfiguration result = null;
         if (null != yamlConfiguration.getStandard()) {
             shardingStrategyConfigCount++;
-            if (null == yamlConfiguration.getStandard().getRangeAlgorithmClassName()) {
+            if (null != yamlConfiguration.getStandard().getType()) {
+                StandardShardingAlgorithm shardingAlgorithm = new StandardShardingAlgorithmServiceLoader().newService(yamlConfiguration.getStandard().getType(), yamlConfiguration.getStandard().getProps());
+                result = new StandardShardingStrategyConfiguration(yamlConfiguration.getStandard().getShardingColumn(), shardingAlgorithm, shardingAlgorithm);
+            } else if (null == yamlConfiguration.getStandard().getRangeAlgorithmClassName()) {
                 result = new StandardShardingStrategyConfiguration(yamlConfiguration.getStandard().getShardingColumn(),
                         ShardingAlgorithmFactory.newInstance(yamlConfiguration.getStandard().getPreciseAlgorithmClassName(), PreciseShardingAlgorithm.class));
             } else {
@@ -100,6 +105,11 @@ public final class ShardingStrategyConfigurationYamlSwapper implements YamlSwapp
     private YamlStandardShardingStrategyConfiguration createYamlStandardShardingStrategyConfiguration(final StandardShardingStrategyConfiguration data) {
         YamlStandardShardingStrategyConfiguration result = new YamlStandardShardingStrategyConfiguration();
         result.setShardingColumn(data.getShardingColumn());
+        if (data.getPreciseShardingAlgorithm() instanceof StandardShardingAlgorithm && data.getPreciseShardingAlgorithm() == data.getRangeShardingAlgorithm()) {
+            result.setType(((StandardShardingAlgorithm) data.getPreciseShardingAlgorithm()).getType());
+            result.setProps(((StandardShardingAlgorithm) data.getPreciseShardingAlgorithm()).getProperties());
+            return result;
+        }
         result.setPreciseAlgorithmClassName(data.getPreciseShardingAlgorithm().getClass().getName());
         if (null != data.getRangeShardingAlgorithm()) {
             result.setRangeAlgorithmClassName(data.getRangeShardingAlgorithm().getClass().getName());
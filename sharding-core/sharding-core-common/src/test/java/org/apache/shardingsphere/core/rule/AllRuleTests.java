@@ -28,7 +28,8 @@ import org.junit.runners.Suite.SuiteClasses;
         TableRuleTest.class, 
         DataNodeTest.class, 
         BindingTableRuleTest.class,
-        MasterSlaveRuleTest.class
+        MasterSlaveRuleTest.class, 
+        CartesianActualDataNodesTest.class
     })
 public final class AllRuleTests {
 }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rule;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CartesianActualDataNodesTest {
+    
+    private final CartesianActualDataNodes actualDataNodes = CartesianActualDataNodes.newInstance(Arrays.asList("ds_0", "ds_1"), Arrays.asList("t_0", "t_1", "t_2")).get();
+    
+    @Test
+    public void assertNewInstanceWithDuplicatedNames() {
+        assertFalse(CartesianActualDataNodes.newInstance(Arrays.asList("ds_0", "DS_0"), Arrays.asList("t_0", "t_1")).isPresent());
+        assertFalse(CartesianActualDataNodes.newInstance(Arrays.asList("ds_0", "ds_1"), Arrays.asList("t_0", "t_0")).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithEmptyNames() {
+        assertFalse(CartesianActualDataNodes.newInstance(Collections.<String>emptyList(), Arrays.asList("t_0", "t_1")).isPresent());
+    }
+    
+    @Test
+    public void assertGet() {
+        assertThat(actualDataNodes.size(), is(6));
+        assertThat(actualDataNodes.get(0), is(new DataNode("ds_0", "t_0")));
+        assertThat(actualDataNodes.get(4), is(new DataNode("ds_1", "t_1")));
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void assertGetOutOfBounds() {
+        actualDataNodes.get(6);
+    }
+    
+    @Test
+    public void assertIndexOf() {
+        assertThat(actualDataNodes.indexOf(new DataNode("DS_1", "T_2")), is(5));
+        assertThat(actualDataNodes.indexOf(new DataNode("ds_2", "t_2")), is(-1));
+        assertThat(actualDataNodes.indexOf("ds_1.t_2"), is(-1));
+        assertTrue(actualDataNodes.contains(new DataNode("ds_0", "t_1")));
+        assertFalse(actualDataNodes.contains(new DataNode("ds_0", "t_3")));
+    }
+    
+    @Test
+    public void assertGetDataNodes() {
+        assertThat(actualDataNodes.getDataNodes("ds_1"), is(Arrays.asList(new DataNode("ds_1", "t_0"), new DataNode("ds_1", "t_1"), new DataNode("ds_1", "t_2"))));
+        assertTrue(actualDataNodes.getDataNodes("ds_2").isEmpty());
+    }
+    
+    @Test
+    public void assertGetTableNames() {
+        assertThat(actualDataNodes.getTableNames("ds_0").size(), is(3));
+        assertTrue(actualDataNodes.getTableNames("DS_0").isEmpty());
+        assertTrue(actualDataNodes.getTableNames().contains("t_2"));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rule;
+
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+
+import java.util.Arrays;
+
+/**
+ * Micro benchmark for lookups of sharding rule.
+ *
+ * <p>
+ * Run {@code main} manually, average cost of lookups should be flat while count of tables grows.
+ * </p>
+ */
+public final class ShardingRuleLookupBenchmark {
+    
+    private static final int WARM_UP_ITERATIONS = 200000;
+    
+    private static final int MEASURE_ITERATIONS = 1000000;
+    
+    /**
+     * Run benchmark.
+     *
+     * @param args arguments
+     */
+    public static void main(final String[] args) {
+        for (int each : new int[] {10, 100, 1000, 3000, 10000}) {
+            ShardingRule shardingRule = createShardingRule(each);
+            run(shardingRule, each, WARM_UP_ITERATIONS);
+            long startTime = System.nanoTime();
+            int found = run(shardingRule, each, MEASURE_ITERATIONS);
+            long elapsedTime = System.nanoTime() - startTime;
+            System.out.println(String.format("tables: %6d, lookups: %d, found: %d, average: %d ns", each, MEASURE_ITERATIONS, found, elapsedTime / MEASURE_ITERATIONS));
+        }
+    }
+    
+    private static int run(final ShardingRule shardingRule, final int tableCount, final int iterations) {
+        int result = 0;
+        for (int i = 0; i < iterations; i++) {
+            int index = i % tableCount;
+            switch (i % 5) {
+                case 0:
+                    result += shardingRule.findTableRule("T_ORDER_" + index).isPresent() ? 1 : 0;
+                    break;
+                case 1:
+                    result += shardingRule.findTableRuleByActualTable("t_order_" + index + "_1").isPresent() ? 1 : 0;
+                    break;
+                case 2:
+                    result += shardingRule.isShardingColumn("user_id", "t_order_" + index) ? 1 : 0;
+                    break;
+                case 3:
+                    result += shardingRule.findBindingTableRule("t_order_" + index).isPresent() ? 1 : 0;
+                    break;
+                default:
+                    result += shardingRule.isBroadcastTable("t_config_" + index) ? 1 : 0;
+                    break;
+            }
+        }
+        return result;
+    }
+    
+    private static ShardingRule createShardingRule(final int tableCount) {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        for (int i = 0; i < tableCount; i++) {
+            TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("t_order_" + i, "ds_${0..1}.t_order_" + i + "_${0..1}");
+            tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "t_order_" + i + "_${user_id % 2}"));
+            result.getTableRuleConfigs().add(tableRuleConfig);
+            result.getBroadcastTables().add("t_config_" + i);
+            if (1 == i % 2) {
+                result.getBindingTableGroups().add("t_order_" + (i - 1) + ",t_order_" + i);
+            }
+        }
+        return new ShardingRule(result, Arrays.asList("ds_0", "ds_1"));
+    }
+}
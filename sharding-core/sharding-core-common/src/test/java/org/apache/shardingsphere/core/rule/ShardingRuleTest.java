@@ -36,6 +36,7 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -293,6 +294,20 @@ public final class ShardingRuleTest {
         assertThat(createMaximumShardingRule().generateKey("logic_table"), instanceOf(Integer.class));
     }
     
+    @Test
+    public void assertGenerateKeysWithDefaultKeyGenerator() {
+        List<Comparable<?>> actual = createMinimumShardingRule().generateKeys("logic_table", 3);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), instanceOf(Long.class));
+    }
+    
+    @Test
+    public void assertGenerateKeysWithKeyGenerator() {
+        List<Comparable<?>> actual = createMaximumShardingRule().generateKeys("logic_table", 3);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), instanceOf(Integer.class));
+    }
+    
     @Test
     public void assertDataSourceNameFromDefaultDataSourceName() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
@@ -365,6 +380,46 @@ public final class ShardingRuleTest {
         assertThat(actual.getShardingLogicTableNames(Arrays.asList("LOGIC_TABLE", "BROADCAST_TABLE")), CoreMatchers.<Collection<String>>is(Collections.singletonList("LOGIC_TABLE")));
     }
     
+    @Test
+    public void assertGetLogicTableNamesWithSharedActualTable() {
+        ShardingRuleConfiguration shardingRuleConfiguration = new ShardingRuleConfiguration();
+        shardingRuleConfiguration.getTableRuleConfigs().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        shardingRuleConfiguration.getTableRuleConfigs().add(createTableRuleConfiguration("OTHER_LOGIC_TABLE", "ds_1.table_${2..3}"));
+        ShardingRule actual = new ShardingRule(shardingRuleConfiguration, createDataSourceNames());
+        assertThat(actual.getLogicTableNames("table_2"), CoreMatchers.<Collection<String>>is(Arrays.asList("logic_table", "other_logic_table")));
+        assertThat(actual.getLogicTableNames("table_3"), CoreMatchers.<Collection<String>>is(Collections.singletonList("other_logic_table")));
+        assertTrue(actual.getLogicTableNames("table_4").isEmpty());
+        assertThat(actual.findTableRuleByActualTable("table_2").get().getLogicTable(), is("logic_table"));
+    }
+    
+    @Test
+    public void assertFindMasterSlaveRule() {
+        ShardingRule actual = createMasterSlaveShardingRule();
+        assertThat(actual.findMasterSlaveRule("master_ds_1").get().getName(), is("ms_ds_1"));
+        assertThat(actual.findMasterSlaveRule("slave_ds_1").get().getName(), is("ms_ds_1"));
+        assertFalse(actual.findMasterSlaveRule("ms_ds_1").isPresent());
+    }
+    
+    @Test
+    public void assertLookupWithManyTableRules() {
+        ShardingRuleConfiguration shardingRuleConfiguration = new ShardingRuleConfiguration();
+        for (int i = 0; i < 3000; i++) {
+            TableRuleConfiguration tableRuleConfiguration = createTableRuleConfiguration("LOGIC_TABLE_" + i, "ds_${0..1}.table_" + i + "_${0..1}");
+            tableRuleConfiguration.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("column_" + i, "table_" + i + "_${column_" + i + " % 2}"));
+            shardingRuleConfiguration.getTableRuleConfigs().add(tableRuleConfiguration);
+            shardingRuleConfiguration.getBroadcastTables().add("BROADCAST_TABLE_" + i);
+        }
+        shardingRuleConfiguration.getBindingTableGroups().add("LOGIC_TABLE_1, LOGIC_TABLE_2999");
+        ShardingRule actual = new ShardingRule(shardingRuleConfiguration, createDataSourceNames());
+        assertThat(actual.findTableRule("Logic_Table_2999").get().getLogicTable(), is("logic_table_2999"));
+        assertThat(actual.findTableRuleByActualTable("table_2999_1").get().getLogicTable(), is("logic_table_2999"));
+        assertTrue(actual.isShardingColumn("COLUMN_2999", "logic_table_2999"));
+        assertFalse(actual.isShardingColumn("column_2998", "logic_table_2999"));
+        assertTrue(actual.isBroadcastTable("broadcast_table_2999"));
+        assertTrue(actual.isAllBindingTables(Arrays.asList("logic_table_2999", "LOGIC_TABLE_1")));
+        assertFalse(actual.findBindingTableRule("logic_table_2998").isPresent());
+    }
+    
     private ShardingRule createMaximumShardingRule() {
         ShardingRuleConfiguration shardingRuleConfiguration = new ShardingRuleConfiguration();
         shardingRuleConfiguration.setDefaultDataSourceName("ds_0");
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.api.config.sharding.KeyGeneratorConfiguration;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.strategy.keygen.fixture.IncrementShardingKeyGenerator;
 import org.junit.Test;
 
@@ -124,6 +125,41 @@ public final class TableRuleTest {
         assertThat(actual.toString(), is(actualString));
     }
     
+    @Test
+    public void assertCreateCartesianActualDataNodes() {
+        TableRule actual = new TableRule(new TableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), createShardingDataSourceNames(), null);
+        TableRule expected = new TableRule(new TableRuleConfiguration("LOGIC_TABLE", "ds0.table_${0..2}, ds1.table_${0..2}"), createShardingDataSourceNames(), null);
+        assertThat(actual.getActualDataNodes(), instanceOf(CartesianActualDataNodes.class));
+        assertThat(expected.getActualDataNodes(), instanceOf(EnumeratedActualDataNodes.class));
+        assertThat(actual.getActualDataNodes(), is(expected.getActualDataNodes()));
+        assertThat(actual.getDataNodeGroups(), is(expected.getDataNodeGroups()));
+        assertThat(actual.getActualTableNames("ds1"), is(expected.getActualTableNames("ds1")));
+        assertThat(actual.findActualTableIndex("ds1", "table_1"), is(expected.findActualTableIndex("ds1", "table_1")));
+    }
+    
+    @Test
+    public void assertContainsDataNode() {
+        TableRule actual = new TableRule(new TableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), createShardingDataSourceNames(), null);
+        assertTrue(actual.containsDataNode(new DataNode("DS1", "TABLE_2")));
+        assertFalse(actual.containsDataNode(new DataNode("ds2", "table_2")));
+        assertFalse(actual.containsDataNode(new DataNode("ds1", "table_3")));
+    }
+    
+    @Test
+    public void assertCreateTableRuleWithManyActualDataNodes() {
+        TableRule actual = new TableRule(new TableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..99999}"), createShardingDataSourceNames(), null);
+        assertThat(actual.getActualDataNodes().size(), is(200000));
+        assertThat(actual.getActualDataNodes().get(100005), is(new DataNode("ds1", "table_5")));
+        assertThat(actual.getDataNodeGroups().get("ds1").get(5), is(new DataNode("ds1", "table_5")));
+        assertThat(actual.findActualTableIndex("ds1", "table_5"), is(100005));
+        assertTrue(actual.isExisted("table_99999"));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertCreateCartesianActualDataNodesWithInvalidDataSource() {
+        new TableRule(new TableRuleConfiguration("LOGIC_TABLE", "ds${0..2}.table_${0..2}"), createShardingDataSourceNames(), null);
+    }
+    
     private ShardingDataSourceNames createShardingDataSourceNames() {
         return new ShardingDataSourceNames(new ShardingRuleConfiguration(), Arrays.asList("ds0", "ds1"));
     }
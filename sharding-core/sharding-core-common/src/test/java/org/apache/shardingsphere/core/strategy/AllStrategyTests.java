@@ -21,6 +21,8 @@ import org.apache.shardingsphere.core.strategy.encrypt.AllEncryptorTests;
 import org.apache.shardingsphere.core.strategy.keygen.AllKeygenTests;
 import org.apache.shardingsphere.core.strategy.masterslave.AllMasterSlaveTests;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategyTest;
+import org.apache.shardingsphere.core.strategy.route.inline.CompiledInlineExpressionTest;
+import org.apache.shardingsphere.core.strategy.route.standard.algorithm.AllStandardShardingAlgorithmTests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -28,6 +30,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         ShardingStrategyTest.class,
+        CompiledInlineExpressionTest.class,
+        AllStandardShardingAlgorithmTests.class,
         AllMasterSlaveTests.class,
         AllKeygenTests.class,
         AllEncryptorTests.class
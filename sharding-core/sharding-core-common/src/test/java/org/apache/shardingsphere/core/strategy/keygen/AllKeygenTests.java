@@ -25,6 +25,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
         ShardingKeyGeneratorServiceLoaderTest.class,
         SnowflakeShardingKeyGeneratorTest.class,
+        SegmentShardingKeyGeneratorTest.class,
         UUIDShardingKeyGeneratorTest.class
 })
 public final class AllKeygenTests {
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.keygen;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SegmentShardingKeyGeneratorTest {
+    
+    private static final String URL = "jdbc:h2:mem:segment_key;DB_CLOSE_DELAY=-1";
+    
+    private static final AtomicInteger SEGMENT_SEQUENCE = new AtomicInteger();
+    
+    private final Collection<SegmentShardingKeyGenerator> keyGenerators = new LinkedList<>();
+    
+    private String segmentName;
+    
+    @Before
+    public void setUp() throws SQLException {
+        segmentName = "segment_" + SEGMENT_SEQUENCE.incrementAndGet();
+        try (
+                Connection connection = DriverManager.getConnection(URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE sharding_key_segment (segment_name VARCHAR(128) PRIMARY KEY, max_id BIGINT NOT NULL)");
+        }
+    }
+    
+    @After
+    public void tearDown() throws SQLException, InterruptedException {
+        for (SegmentShardingKeyGenerator each : keyGenerators) {
+            each.awaitPreload();
+        }
+        try (
+                Connection connection = DriverManager.getConnection(URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE sharding_key_segment");
+        }
+    }
+    
+    @Test
+    public void assertGenerateKey() throws SQLException {
+        SegmentShardingKeyGenerator keyGenerator = createKeyGenerator();
+        for (long i = 1L; i <= 25L; i++) {
+            assertThat(keyGenerator.generateKey(), is((Object) i));
+        }
+        assertThat(getMaxId(), is(30L));
+    }
+    
+    @Test
+    public void assertGenerateKeys() {
+        SegmentShardingKeyGenerator keyGenerator = createKeyGenerator();
+        assertThat(keyGenerator.generateKey(), is((Object) 1L));
+        List<Comparable<?>> actual = keyGenerator.generateKeys(25);
+        assertThat(actual.size(), is(25));
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(actual.get(i), is((Object) (i + 2L)));
+        }
+        assertThat(keyGenerator.generateKey(), is((Object) 27L));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithMultipleGenerators() {
+        SegmentShardingKeyGenerator keyGenerator1 = createKeyGenerator();
+        SegmentShardingKeyGenerator keyGenerator2 = createKeyGenerator();
+        assertThat(keyGenerator1.generateKey(), is((Object) 1L));
+        assertThat(keyGenerator2.generateKey(), is((Object) 11L));
+        assertThat(keyGenerator1.generateKey(), is((Object) 2L));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithMultipleThreads() throws InterruptedException, ExecutionException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        final SegmentShardingKeyGenerator keyGenerator = createKeyGenerator();
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(new Callable<List<Comparable<?>>>() {
+                
+                @Override
+                public List<Comparable<?>> call() {
+                    List<Comparable<?>> result = new ArrayList<>(1000);
+                    for (int i = 0; i < 1000; i++) {
+                        result.add(keyGenerator.generateKey());
+                    }
+                    return result;
+                }
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<List<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 1000));
+    }
+    
+    @Test
+    public void assertGenerateKeyAfterSetProperties() {
+        SegmentShardingKeyGenerator keyGenerator = createKeyGenerator();
+        for (long i = 1L; i <= 9L; i++) {
+            assertThat(keyGenerator.generateKey(), is((Object) i));
+        }
+        Properties properties = new Properties();
+        properties.putAll(keyGenerator.getProperties());
+        properties.setProperty("segment.name", segmentName + "_other");
+        keyGenerator.setProperties(properties);
+        assertThat(keyGenerator.generateKey(), is((Object) 1L));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyWithoutJdbcUrl() {
+        SegmentShardingKeyGenerator keyGenerator = new SegmentShardingKeyGenerator();
+        keyGenerator.setProperties(new Properties());
+        keyGenerator.generateKey();
+    }
+    
+    private SegmentShardingKeyGenerator createKeyGenerator() {
+        SegmentShardingKeyGenerator result = new SegmentShardingKeyGenerator();
+        Properties properties = new Properties();
+        properties.setProperty("jdbc.url", URL);
+        properties.setProperty("username", "sa");
+        properties.setProperty("password", "");
+        properties.setProperty("segment.name", segmentName);
+        properties.setProperty("segment.step", "10");
+        result.setProperties(properties);
+        keyGenerators.add(result);
+        return result;
+    }
+    
+    private long getMaxId() throws SQLException {
+        try (
+                Connection connection = DriverManager.getConnection(URL, "sa", "");
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(String.format("SELECT max_id FROM sharding_key_segment WHERE segment_name = '%s'", segmentName))) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
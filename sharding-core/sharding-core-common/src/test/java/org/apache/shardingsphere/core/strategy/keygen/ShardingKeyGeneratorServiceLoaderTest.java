@@ -39,6 +39,11 @@ public final class ShardingKeyGeneratorServiceLoaderTest {
         assertThat(serviceLoader.newService("UUID", new Properties()), instanceOf(UUIDShardingKeyGenerator.class));
     }
     
+    @Test
+    public void assertNewSegmentKeyGenerator() {
+        assertThat(serviceLoader.newService("SEGMENT", new Properties()), instanceOf(SegmentShardingKeyGenerator.class));
+    }
+    
     @Test
     public void assertNewDefaultKeyGenerator() {
         assertThat(serviceLoader.newService(), instanceOf(SnowflakeShardingKeyGenerator.class));
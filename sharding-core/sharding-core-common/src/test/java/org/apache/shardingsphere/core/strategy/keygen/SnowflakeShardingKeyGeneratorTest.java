@@ -31,6 +31,8 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotEquals;
@@ -83,7 +85,7 @@ public final class SnowflakeShardingKeyGeneratorTest {
         TimeService timeService = new FixedTimeService(1);
         SnowflakeShardingKeyGenerator.setTimeService(timeService);
         keyGenerator.setProperties(new Properties());
-        setLastMilliseconds(keyGenerator, timeService.getCurrentMillis() + 2);
+        setState(keyGenerator, timeService.getCurrentMillis() + 2, 0L);
         List<Comparable<?>> expected = Arrays.<Comparable<?>>asList(4194305L, 8388608L, 8388609L, 12582913L, 12582914L, 16777216L, 16777217L, 20971521L, 20971522L, 25165824L);
         List<Comparable<?>> actual = new ArrayList<>();
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
@@ -102,7 +104,7 @@ public final class SnowflakeShardingKeyGeneratorTest {
         Properties properties = new Properties();
         properties.setProperty("max.tolerate.time.difference.milliseconds", String.valueOf(0));
         keyGenerator.setProperties(properties);
-        setLastMilliseconds(keyGenerator, timeService.getCurrentMillis() + 2);
+        setState(keyGenerator, timeService.getCurrentMillis() + 2, 0L);
         List<Comparable<?>> actual = new ArrayList<>();
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
             actual.add(keyGenerator.generateKey());
@@ -116,8 +118,7 @@ public final class SnowflakeShardingKeyGeneratorTest {
         TimeService timeService = new FixedTimeService(2);
         SnowflakeShardingKeyGenerator.setTimeService(timeService);
         keyGenerator.setProperties(new Properties());
-        setLastMilliseconds(keyGenerator, timeService.getCurrentMillis());
-        setSequence(keyGenerator, (1 << DEFAULT_SEQUENCE_BITS) - 1);
+        setState(keyGenerator, timeService.getCurrentMillis(), (1L << DEFAULT_SEQUENCE_BITS) - 1);
         List<Comparable<?>> expected = Arrays.<Comparable<?>>asList(4194304L, 4194305L, 4194306L, 8388609L, 8388610L, 8388611L, 12582912L, 12582913L, 12582914L, 16777217L);
         List<Comparable<?>> actual = new ArrayList<>();
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
@@ -126,18 +127,56 @@ public final class SnowflakeShardingKeyGeneratorTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    public void assertGenerateKeys() {
+        SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        keyGenerator.setProperties(new Properties());
+        SnowflakeShardingKeyGenerator.setTimeService(new FixedTimeService(1));
+        assertThat(keyGenerator.generateKeys(3), is(Arrays.<Comparable<?>>asList(1L, 2L, 3L)));
+        assertThat(keyGenerator.generateKey(), is((Object) 4194304L));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        TimeService timeService = new FixedTimeService(3);
+        SnowflakeShardingKeyGenerator.setTimeService(timeService);
+        keyGenerator.setProperties(new Properties());
+        setState(keyGenerator, timeService.getCurrentMillis(), (1L << DEFAULT_SEQUENCE_BITS) - 2);
+        assertThat(keyGenerator.generateKeys(3), is(Arrays.<Comparable<?>>asList(4095L, 4194304L, 4194305L)));
+    }
+    
+    @Test
     @SneakyThrows
-    private void setSequence(final SnowflakeShardingKeyGenerator keyGenerator, final Number value) {
-        Field sequence = SnowflakeShardingKeyGenerator.class.getDeclaredField("sequence");
-        sequence.setAccessible(true);
-        sequence.set(keyGenerator, value);
+    public void assertGenerateKeysWithMultipleThreads() {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        final SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        keyGenerator.setProperties(new Properties());
+        SnowflakeShardingKeyGenerator.setTimeService(new TimeService());
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(new Callable<List<Comparable<?>>>() {
+                
+                @Override
+                public List<Comparable<?>> call() {
+                    return keyGenerator.generateKeys(10000);
+                }
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<List<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 10000));
     }
     
     @SneakyThrows
-    private void setLastMilliseconds(final SnowflakeShardingKeyGenerator keyGenerator, final Number value) {
-        Field lastMilliseconds = SnowflakeShardingKeyGenerator.class.getDeclaredField("lastMilliseconds");
-        lastMilliseconds.setAccessible(true);
-        lastMilliseconds.set(keyGenerator, value);
+    private void setState(final SnowflakeShardingKeyGenerator keyGenerator, final long lastMilliseconds, final long sequence) {
+        Field state = SnowflakeShardingKeyGenerator.class.getDeclaredField("state");
+        state.setAccessible(true);
+        ((AtomicLong) state.get(keyGenerator)).set(lastMilliseconds << (DEFAULT_SEQUENCE_BITS + 1) | sequence);
     }
     
     @Test(expected = IllegalArgumentException.class)
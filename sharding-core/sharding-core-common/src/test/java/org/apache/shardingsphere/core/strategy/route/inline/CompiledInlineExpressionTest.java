@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.core.util.InlineExpressionParser;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    private static final List<Comparable<?>> INTEGRAL_VALUES = Arrays.<Comparable<?>>asList(
+            0, 7, -13, Integer.MAX_VALUE, Integer.MIN_VALUE, 123456789012L, -5L, Long.MIN_VALUE, (short) 9, (byte) -3);
+    
+    @Test
+    public void assertEvaluateSameAsGroovy() {
+        for (String each : Arrays.asList("t_order_${user_id % 16}", "ds_${user_id.hashCode() % 4}", "ds_${Math.abs(user_id.hashCode()) % 4}", "t_${user_id % 4}_${(user_id * 3 + 1) % 8}",
+                "t_${-user_id % 3}", "t_${ user_id * 2147483647 % 10 }", "t_${user_id % 4294967296}", "t_${user_id - 1 - 2}", "t_${user_id}", "t_order")) {
+            assertEvaluateSameAsGroovy(each);
+        }
+    }
+    
+    private void assertEvaluateSameAsGroovy(final String inlineExpression) {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("user_id", inlineExpression).get();
+        Closure<?> closure = new InlineExpressionParser(inlineExpression).evaluateClosure();
+        for (Comparable<?> each : INTEGRAL_VALUES) {
+            assertTrue(actual.isSupported(each));
+            assertThat(inlineExpression + " with " + each, actual.evaluate(each), is(evaluateByGroovy(closure, each)));
+        }
+    }
+    
+    @Test
+    public void assertEvaluateStringValue() {
+        CompiledInlineExpression hashCodeExpression = CompiledInlineExpression.compile("user_id", "ds_${user_id.hashCode() % 4}").get();
+        assertTrue(hashCodeExpression.isSupported("foo"));
+        assertThat(hashCodeExpression.evaluate("foo"), is(evaluateByGroovy(new InlineExpressionParser("ds_${user_id.hashCode() % 4}").evaluateClosure(), "foo")));
+        assertThat(CompiledInlineExpression.compile("user_id", "t_${user_id}").get().evaluate("foo"), is("t_foo"));
+        assertFalse(CompiledInlineExpression.compile("user_id", "t_${user_id % 2}").get().isSupported("foo"));
+    }
+    
+    @Test
+    public void assertNotSupportedValue() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("user_id", "t_${user_id % 2}").get();
+        assertFalse(actual.isSupported(1.5D));
+        assertFalse(actual.isSupported(BigDecimal.ONE));
+    }
+    
+    @Test
+    public void assertCompileExpressionForGroovyOnly() {
+        for (String each : Arrays.asList("t_${user_id / 2}", "t_${user_id.toString()}", "t_$user_id", "t_${order_id % 2}", "t_${user_idx % 2}", "t_${user_id % 2L}", 
+                "t_${user_id % 2", "t_${'a' + user_id}", "t_${user_id %}", "t_\\${user_id}")) {
+            assertFalse(each, CompiledInlineExpression.compile("user_id", each).isPresent());
+        }
+    }
+    
+    private String evaluateByGroovy(final Closure<?> closure, final Comparable<?> value) {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty("user_id", value);
+        return result.call().toString();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class BoundaryRangeShardingAlgorithmTest {
+    
+    private final Collection<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+    
+    private BoundaryRangeShardingAlgorithm shardingAlgorithm;
+    
+    @Before
+    public void setUp() {
+        shardingAlgorithm = new BoundaryRangeShardingAlgorithm();
+        Properties properties = new Properties();
+        properties.setProperty("sharding.ranges", "1000, 5000, 20000");
+        shardingAlgorithm.setProperties(properties);
+    }
+    
+    @Test
+    public void assertPreciseDoSharding() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", -1L)), is("t_order_0"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 999)), is("t_order_0"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 1000L)), is("t_order_1"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", "4999")), is("t_order_1"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 5000.5D)), is("t_order_2"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", Long.MAX_VALUE)), is("t_order_3"));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithoutAvailableTarget() {
+        assertNull(shardingAlgorithm.doSharding(Arrays.asList("t_order_0", "t_order_1"), new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 30000L)));
+    }
+    
+    @Test
+    public void assertRangeDoSharding() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>closed(1500L, 6000L))),
+                is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_2"))));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>atMost(1000L))),
+                is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_0", "t_order_1"))));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>greaterThan(20000L))),
+                is((Collection<String>) new LinkedHashSet<>(Collections.singletonList("t_order_3"))));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetPropertiesWithoutRanges() {
+        new BoundaryRangeShardingAlgorithm().setProperties(new Properties());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetPropertiesWithUnorderedRanges() {
+        Properties properties = new Properties();
+        properties.setProperty("sharding.ranges", "5000, 1000");
+        new BoundaryRangeShardingAlgorithm().setProperties(properties);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ConsistentHashShardingAlgorithmTest {
+    
+    @Test
+    public void assertPreciseDoShardingIsStable() {
+        ConsistentHashShardingAlgorithm shardingAlgorithm = createShardingAlgorithm(4);
+        Collection<String> availableTargetNames = createAvailableTargetNames(4);
+        for (int i = 0; i < 100; i++) {
+            PreciseShardingValue<Comparable<?>> shardingValue = new PreciseShardingValue<Comparable<?>>("t_order", "order_id", i);
+            assertThat(shardingAlgorithm.doSharding(availableTargetNames, shardingValue), is(createShardingAlgorithm(4).doSharding(availableTargetNames, shardingValue)));
+        }
+    }
+    
+    @Test
+    public void assertPreciseDoShardingIsBalanced() {
+        ConsistentHashShardingAlgorithm shardingAlgorithm = createShardingAlgorithm(4);
+        Collection<String> availableTargetNames = createAvailableTargetNames(4);
+        int[] counts = new int[4];
+        for (int i = 0; i < 40000; i++) {
+            String actual = shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", i));
+            counts[actual.charAt(actual.length() - 1) - '0']++;
+        }
+        for (int each : counts) {
+            assertTrue(each > 8000 && each < 12000);
+        }
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithAddedPartition() {
+        ConsistentHashShardingAlgorithm originalShardingAlgorithm = createShardingAlgorithm(4);
+        Collection<String> originalAvailableTargetNames = createAvailableTargetNames(4);
+        ConsistentHashShardingAlgorithm shardingAlgorithm = createShardingAlgorithm(5);
+        Collection<String> availableTargetNames = createAvailableTargetNames(5);
+        int movedCount = 0;
+        for (int i = 0; i < 10000; i++) {
+            PreciseShardingValue<Comparable<?>> shardingValue = new PreciseShardingValue<Comparable<?>>("t_order", "order_id", i);
+            String original = originalShardingAlgorithm.doSharding(originalAvailableTargetNames, shardingValue);
+            String actual = shardingAlgorithm.doSharding(availableTargetNames, shardingValue);
+            if (!original.equals(actual)) {
+                assertThat(actual, is("t_order_4"));
+                movedCount++;
+            }
+        }
+        assertTrue(movedCount > 1000 && movedCount < 3000);
+    }
+    
+    private ConsistentHashShardingAlgorithm createShardingAlgorithm(final int shardingCount) {
+        ConsistentHashShardingAlgorithm result = new ConsistentHashShardingAlgorithm();
+        Properties properties = new Properties();
+        properties.setProperty("sharding.count", String.valueOf(shardingCount));
+        result.setProperties(properties);
+        return result;
+    }
+    
+    private Collection<String> createAvailableTargetNames(final int shardingCount) {
+        Collection<String> result = new ArrayList<>(shardingCount);
+        for (int i = 0; i < shardingCount; i++) {
+            result.add("t_order_" + i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HashModShardingAlgorithmTest {
+    
+    private final Collection<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+    
+    private HashModShardingAlgorithm shardingAlgorithm;
+    
+    @Before
+    public void setUp() {
+        shardingAlgorithm = new HashModShardingAlgorithm();
+        Properties properties = new Properties();
+        properties.setProperty("sharding.count", "4");
+        shardingAlgorithm.setProperties(properties);
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithSameValueInDifferentTypes() {
+        String expected = shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 100L));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 100)), is(expected));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", (short) 100)), is(expected));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithStringIsStable() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "user_name", "foo")), 
+                is(availableTargetNames.toArray(new String[0])[(HashModShardingAlgorithm.mix("foo".hashCode()) & Integer.MAX_VALUE) % 4]));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingIsBalanced() {
+        int[] counts = new int[4];
+        for (int i = 0; i < 40000; i++) {
+            String actual = shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "user_name", "user_" + i));
+            counts[actual.charAt(actual.length() - 1) - '0']++;
+        }
+        for (int each : counts) {
+            assertTrue(each > 9000 && each < 11000);
+        }
+    }
+    
+    @Test
+    public void assertRangeDoSharding() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>closed(1L, 2L))).size(), is(4));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class IntervalShardingAlgorithmTest {
+    
+    private final Collection<String> availableTargetNames = new ArrayList<>();
+    
+    private IntervalShardingAlgorithm shardingAlgorithm;
+    
+    @Before
+    public void setUp() {
+        for (int i = 1; i <= 12; i++) {
+            availableTargetNames.add(String.format("t_order_2019%02d", i));
+        }
+        shardingAlgorithm = new IntervalShardingAlgorithm();
+        shardingAlgorithm.setProperties(createProperties("MONTHS", "yyyyMM"));
+    }
+    
+    private Properties createProperties(final String intervalUnit, final String suffixPattern) {
+        Properties result = new Properties();
+        result.setProperty("datetime.lower", "2019-01-01 00:00:00");
+        result.setProperty("datetime.upper", "2019-12-31 23:59:59");
+        result.setProperty("sharding.suffix.pattern", suffixPattern);
+        result.setProperty("datetime.interval.unit", intervalUnit);
+        return result;
+    }
+    
+    @Test
+    public void assertPreciseDoSharding() throws Exception {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "2019-01-01 00:00:00")), is("t_order_201901"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "2019-02-28 23:59:59")), is("t_order_201902"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "2019-12-31 23:59:59")), is("t_order_201912"));
+        Comparable<?> date = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse("2019-07-15 12:00:00");
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", date)), is("t_order_201907"));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithOutOfRange() {
+        assertNull(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "2018-12-31 23:59:59")));
+        assertNull(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "2020-01-01 00:00:00")));
+    }
+    
+    @Test
+    public void assertRangeDoSharding() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<Comparable<?>>("t_order", "create_time", Range.<Comparable<?>>closed("2019-03-15 00:00:00", "2019-05-01 00:00:00"))),
+                is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_201903", "t_order_201904", "t_order_201905"))));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<Comparable<?>>("t_order", "create_time", Range.<Comparable<?>>atLeast("2019-11-30 00:00:00"))),
+                is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_201911", "t_order_201912"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithDays() {
+        Collection<String> availableTargetNames = new ArrayList<>();
+        for (int i = 1; i <= 31; i++) {
+            availableTargetNames.add(String.format("t_order_201903%02d", i));
+        }
+        shardingAlgorithm.setProperties(createProperties("DAYS", "yyyyMMdd"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<Comparable<?>>("t_order", "create_time", Range.<Comparable<?>>closed("2019-02-27 00:00:00", "2019-03-02 12:00:00"))),
+                is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_20190301", "t_order_20190302"))));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertPreciseDoShardingWithIllegalDateTime() {
+        shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "2019/01/01"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetPropertiesWithIllegalIntervalUnit() {
+        new IntervalShardingAlgorithm().setProperties(createProperties("WEEKS", "yyyyMM"));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class ModShardingAlgorithmTest {
+    
+    private final Collection<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+    
+    private ModShardingAlgorithm shardingAlgorithm;
+    
+    @Before
+    public void setUp() {
+        shardingAlgorithm = new ModShardingAlgorithm();
+        Properties properties = new Properties();
+        properties.setProperty("sharding.count", "4");
+        shardingAlgorithm.setProperties(properties);
+    }
+    
+    @Test
+    public void assertPreciseDoSharding() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 0)), is("t_order_0"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 7L)), is("t_order_3"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", "9")), is("t_order_1"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", -2)), is("t_order_2"));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithUnorderedTargetNames() {
+        Collection<String> availableTargetNames = Arrays.asList("t_order_10", "t_order_2", "t_order_0", "t_order_1");
+        Properties properties = new Properties();
+        properties.setProperty("sharding.count", "11");
+        shardingAlgorithm.setProperties(properties);
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 21)), is("t_order_10"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 13)), is("t_order_2"));
+        assertNull(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 5)));
+    }
+    
+    @Test
+    public void assertPreciseDoShardingWithChangedTargetNames() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 1)), is("t_order_1"));
+        assertThat(shardingAlgorithm.doSharding(Arrays.asList("ds_0", "ds_1", "ds_2", "ds_3"), new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 1)), is("ds_1"));
+    }
+    
+    @Test
+    public void assertRangeDoSharding() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>closed(5L, 6L))),
+                is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_2"))));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>open(2L, 4L))),
+                is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_3"))));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>closed(3L, 6L))).size(), is(4));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>atLeast(3L))).size(), is(4));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetPropertiesWithoutShardingCount() {
+        new ModShardingAlgorithm().setProperties(new Properties());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertDoShardingWithoutProperties() {
+        new ModShardingAlgorithm().doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 1));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import org.apache.shardingsphere.core.spi.algorithm.sharding.StandardShardingAlgorithmServiceLoader;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class StandardShardingAlgorithmServiceLoaderTest {
+    
+    private StandardShardingAlgorithmServiceLoader serviceLoader = new StandardShardingAlgorithmServiceLoader();
+    
+    @Test
+    public void assertNewBoundaryRangeShardingAlgorithm() {
+        Properties properties = new Properties();
+        properties.setProperty("sharding.ranges", "1000");
+        assertThat(serviceLoader.newService("BOUNDARY_RANGE", properties), instanceOf(BoundaryRangeShardingAlgorithm.class));
+    }
+    
+    @Test
+    public void assertNewVolumeRangeShardingAlgorithm() {
+        Properties properties = new Properties();
+        properties.setProperty("range.lower", "0");
+        properties.setProperty("range.upper", "100");
+        properties.setProperty("sharding.volume", "10");
+        assertThat(serviceLoader.newService("VOLUME_RANGE", properties).getProperties(), is(properties));
+    }
+    
+    @Test
+    public void assertNewIntervalShardingAlgorithm() {
+        Properties properties = new Properties();
+        properties.setProperty("datetime.lower", "2019-01-01 00:00:00");
+        properties.setProperty("datetime.upper", "2019-12-31 23:59:59");
+        properties.setProperty("sharding.suffix.pattern", "yyyyMM");
+        assertThat(serviceLoader.newService("INTERVAL", properties), instanceOf(IntervalShardingAlgorithm.class));
+    }
+    
+    @Test
+    public void assertNewModShardingAlgorithm() {
+        assertThat(serviceLoader.newService("MOD", createShardingCountProperties()), instanceOf(ModShardingAlgorithm.class));
+    }
+    
+    @Test
+    public void assertNewHashModShardingAlgorithm() {
+        assertThat(serviceLoader.newService("HASH_MOD", createShardingCountProperties()), instanceOf(HashModShardingAlgorithm.class));
+    }
+    
+    @Test
+    public void assertNewConsistentHashShardingAlgorithm() {
+        assertThat(serviceLoader.newService("CONSISTENT_HASH", createShardingCountProperties()), instanceOf(ConsistentHashShardingAlgorithm.class));
+    }
+    
+    private Properties createShardingCountProperties() {
+        Properties result = new Properties();
+        result.setProperty("sharding.count", "4");
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard.algorithm;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class VolumeRangeShardingAlgorithmTest {
+    
+    private final Collection<String> availableTargetNames = new ArrayList<>();
+    
+    private VolumeRangeShardingAlgorithm shardingAlgorithm;
+    
+    @Before
+    public void setUp() {
+        for (int i = 0; i < 12; i++) {
+            availableTargetNames.add("t_order_" + i);
+        }
+        shardingAlgorithm = new VolumeRangeShardingAlgorithm();
+        Properties properties = new Properties();
+        properties.setProperty("range.lower", "10");
+        properties.setProperty("range.upper", "95");
+        properties.setProperty("sharding.volume", "10");
+        shardingAlgorithm.setProperties(properties);
+    }
+    
+    @Test
+    public void assertPreciseDoSharding() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 9L)), is("t_order_0"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 10L)), is("t_order_1"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 55L)), is("t_order_5"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 94L)), is("t_order_9"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 95L)), is("t_order_10"));
+    }
+    
+    @Test
+    public void assertRangeDoSharding() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>closed(35L, 61L))),
+                is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_3", "t_order_4", "t_order_5", "t_order_6"))));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>all())).size(), is(11));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithLargeVolume() {
+        Properties properties = new Properties();
+        properties.setProperty("range.lower", "0");
+        properties.setProperty("range.upper", "1000000");
+        properties.setProperty("sharding.volume", "100");
+        shardingAlgorithm.setProperties(properties);
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>closed(200L, 399L)));
+        assertThat(actual, is((Collection<String>) new LinkedHashSet<>(Arrays.asList("t_order_3", "t_order_4"))));
+        assertTrue(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<Comparable<?>>("t_order", "order_id", Range.<Comparable<?>>atLeast(5000L))).isEmpty());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetPropertiesWithZeroVolume() {
+        Properties properties = new Properties();
+        properties.setProperty("range.lower", "10");
+        properties.setProperty("range.upper", "95");
+        properties.setProperty("sharding.volume", "0");
+        new VolumeRangeShardingAlgorithm().setProperties(properties);
+    }
+}
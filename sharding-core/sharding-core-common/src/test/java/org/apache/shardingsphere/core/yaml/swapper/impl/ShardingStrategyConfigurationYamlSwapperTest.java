@@ -30,6 +30,7 @@ import org.apache.shardingsphere.core.fixture.ComplexKeysShardingAlgorithmFixtur
 import org.apache.shardingsphere.core.fixture.HintShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.fixture.PreciseShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.fixture.RangeShardingAlgorithmFixture;
+import org.apache.shardingsphere.core.strategy.route.standard.algorithm.BoundaryRangeShardingAlgorithm;
 import org.apache.shardingsphere.core.yaml.config.sharding.YamlShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShardingStrategyConfiguration;
@@ -38,9 +39,12 @@ import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlNoneShar
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
 import org.junit.Test;
 
+import java.util.Properties;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 
@@ -62,6 +66,18 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         assertNull(actual.getNone());
     }
     
+    @Test
+    public void assertSwapToYamlWithStandardShardingAlgorithm() {
+        BoundaryRangeShardingAlgorithm shardingAlgorithm = new BoundaryRangeShardingAlgorithm();
+        shardingAlgorithm.setProperties(createBoundaryRangeProperties());
+        YamlShardingStrategyConfiguration actual = shardingStrategyConfigurationYamlSwapper.swap(new StandardShardingStrategyConfiguration("id", shardingAlgorithm, shardingAlgorithm));
+        assertThat(actual.getStandard().getShardingColumn(), is("id"));
+        assertThat(actual.getStandard().getType(), is("BOUNDARY_RANGE"));
+        assertThat(actual.getStandard().getProps().getProperty("sharding.ranges"), is("1000,5000"));
+        assertNull(actual.getStandard().getPreciseAlgorithmClassName());
+        assertNull(actual.getStandard().getRangeAlgorithmClassName());
+    }
+    
     @Test
     public void assertSwapToYamlWithInline() {
         YamlShardingStrategyConfiguration actual = shardingStrategyConfigurationYamlSwapper.swap(new InlineShardingStrategyConfiguration("id", "xxx_$->{id % 10}"));
@@ -122,6 +138,26 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         assertNull(actual.getRangeShardingAlgorithm());
     }
     
+    @Test
+    public void assertSwapToObjectWithStandardShardingAlgorithmType() {
+        YamlStandardShardingStrategyConfiguration yamlStandardShardingStrategyConfiguration = new YamlStandardShardingStrategyConfiguration();
+        yamlStandardShardingStrategyConfiguration.setShardingColumn("id");
+        yamlStandardShardingStrategyConfiguration.setType("BOUNDARY_RANGE");
+        yamlStandardShardingStrategyConfiguration.setProps(createBoundaryRangeProperties());
+        YamlShardingStrategyConfiguration yamlConfiguration = new YamlShardingStrategyConfiguration();
+        yamlConfiguration.setStandard(yamlStandardShardingStrategyConfiguration);
+        StandardShardingStrategyConfiguration actual = (StandardShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(yamlConfiguration);
+        assertThat(actual.getShardingColumn(), is("id"));
+        assertThat(actual.getPreciseShardingAlgorithm(), instanceOf(BoundaryRangeShardingAlgorithm.class));
+        assertSame(actual.getPreciseShardingAlgorithm(), actual.getRangeShardingAlgorithm());
+    }
+    
+    private Properties createBoundaryRangeProperties() {
+        Properties result = new Properties();
+        result.setProperty("sharding.ranges", "1000,5000");
+        return result;
+    }
+    
     private YamlShardingStrategyConfiguration createStandardShardingStrategyConfiguration(final boolean withRangeAlgorithmClassName) {
         YamlStandardShardingStrategyConfiguration yamlStandardShardingStrategyConfiguration = new YamlStandardShardingStrategyConfiguration();
         yamlStandardShardingStrategyConfiguration.setShardingColumn("id");
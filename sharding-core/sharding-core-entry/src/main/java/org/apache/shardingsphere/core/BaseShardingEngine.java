@@ -36,6 +36,7 @@ import org.apache.shardingsphere.core.rule.ShardingRule;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Base sharding engine.
@@ -64,14 +65,42 @@ public abstract class BaseShardingEngine {
      * @return SQL route result
      */
     public SQLRouteResult shard(final String sql, final List<Object> parameters) {
-        List<Object> clonedParameters = cloneParameters(parameters);
+        SQLRouteResult result = doShard(sql, cloneParameters(parameters));
+        logSQL(sql, result);
+        return result;
+    }
+    
+    protected final SQLRouteResult doShard(final String sql, final List<Object> clonedParameters) {
         SQLRouteResult result = executeRoute(sql, clonedParameters);
-        result.getRouteUnits().addAll(HintManager.isDatabaseShardingOnly() ? convert(sql, clonedParameters, result) : rewriteAndConvert(sql, clonedParameters, result));
+        result.getRouteUnits().addAll(HintManager.isDatabaseShardingOnly() ? convert(sql, clonedParameters, result) : rewriteAndConvert(sql, clonedParameters, result,
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.REWRITE_IN_PREDICATE_VALUES_PRUNING_ENABLED)));
+        return result;
+    }
+    
+    /**
+     * Shard again for second phase of deep pagination.
+     *
+     * @param sql SQL
+     * @param parameters parameters of SQL
+     * @param sqlRouteResult SQL route result of first shard
+     * @param routingUnitOffsets offsets of routing units
+     */
+    public void reshard(final String sql, final List<Object> parameters, final SQLRouteResult sqlRouteResult, final Map<RoutingUnit, Integer> routingUnitOffsets) {
+        doReshard(sql, cloneParameters(parameters), sqlRouteResult, routingUnitOffsets);
+        logSQL(sql, sqlRouteResult);
+    }
+    
+    protected final void doReshard(final String sql, final List<Object> clonedParameters, final SQLRouteResult sqlRouteResult, final Map<RoutingUnit, Integer> routingUnitOffsets) {
+        sqlRouteResult.getRoutingUnitOffsets().putAll(routingUnitOffsets);
+        sqlRouteResult.getRouteUnits().clear();
+        sqlRouteResult.getRouteUnits().addAll(rewriteAndConvert(sql, clonedParameters, sqlRouteResult, false));
+    }
+    
+    protected final void logSQL(final String sql, final SQLRouteResult sqlRouteResult) {
         if (shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW)) {
             boolean showSimple = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SIMPLE);
-            SQLLogger.logSQL(sql, showSimple, result.getSqlStatement(), result.getRouteUnits());
+            SQLLogger.logSQL(sql, showSimple, sqlRouteResult.getSqlStatement(), sqlRouteResult.getRouteUnits());
         }
-        return result;
     }
     
     protected abstract List<Object> cloneParameters(List<Object> parameters);
@@ -100,8 +129,8 @@ public abstract class BaseShardingEngine {
         return result;
     }
     
-    private Collection<RouteUnit> rewriteAndConvert(final String sql, final List<Object> parameters, final SQLRouteResult sqlRouteResult) {
-        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, sql, databaseType, sqlRouteResult, parameters, metaData.getDataSource());
+    private Collection<RouteUnit> rewriteAndConvert(final String sql, final List<Object> parameters, final SQLRouteResult sqlRouteResult, final boolean inPredicateValuesPruningEnabled) {
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, sql, databaseType, sqlRouteResult, parameters, metaData.getDataSource(), inPredicateValuesPruningEnabled);
         SQLBuilder sqlBuilder = rewriteEngine.rewrite();
         Collection<RouteUnit> result = new LinkedHashSet<>();
         for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.pagination.PaginationOffsetMerger;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.parse.old.parser.context.limit.Limit;
+import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
+import org.apache.shardingsphere.core.parse.old.parser.context.selectitem.SelectItem;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.cache.RouteResultCache;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deep pagination engine.
+ *
+ * <p>
+ * Pagination routed to more than one routing unit fetches offset plus row count rows from every routing unit, and merging skips offset rows.
+ * If offset is beyond {@code deep.pagination.offset.threshold}, pagination is executed in two phases instead.
+ * First phase fetches sort keys only from every routing unit, and counts rows of every routing unit before offset by merging sort keys.
+ * Second phase makes every routing unit skip its own count of rows, so every routing unit returns one page of rows and merging skips nothing.
+ * SQL of sort keys is sharded by prepared query sharding engine, because sharding engine of prepared statement only parses its own SQL.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class DeepPaginationEngine {
+    
+    private final BaseShardingEngine shardingEngine;
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingProperties shardingProperties;
+    
+    private final ShardingMetaData metaData;
+    
+    private final DatabaseType databaseType;
+    
+    private final ParsingResultCache parsingResultCache;
+    
+    /**
+     * Shard SQL of sort keys for first phase of deep pagination.
+     *
+     * @param sql SQL
+     * @param parameters parameters of SQL
+     * @param sqlRouteResult SQL route result
+     * @return SQL route result of sort keys, absent if SQL route result is not deep pagination
+     */
+    public Optional<SQLRouteResult> shardSortKeys(final String sql, final List<Object> parameters, final SQLRouteResult sqlRouteResult) {
+        if (!isDeepPagination(sqlRouteResult)) {
+            return Optional.absent();
+        }
+        Optional<String> sortKeysSQL = createSortKeysSQL(sql, (SelectStatement) sqlRouteResult.getSqlStatement());
+        if (!sortKeysSQL.isPresent()) {
+            return Optional.absent();
+        }
+        SQLRouteResult result = new PreparedQueryShardingEngine(
+                sortKeysSQL.get(), shardingRule, shardingProperties, metaData, databaseType, parsingResultCache, new RouteResultCache(0)).shard(sortKeysSQL.get(), parameters);
+        Collection<RoutingUnit> routingUnits = result.getRoutingResult().getRoutingUnits();
+        return routingUnits.size() == result.getRouteUnits().size() && new ArrayList<>(routingUnits).equals(new ArrayList<>(sqlRouteResult.getRoutingResult().getRoutingUnits()))
+                ? Optional.of(result) : Optional.<SQLRouteResult>absent();
+    }
+    
+    private boolean isDeepPagination(final SQLRouteResult sqlRouteResult) {
+        int offsetThreshold = shardingProperties.getValue(ShardingPropertiesConstant.DEEP_PAGINATION_OFFSET_THRESHOLD);
+        if (0 >= offsetThreshold || !(sqlRouteResult.getSqlStatement() instanceof SelectStatement) || !isLimitDatabaseType() || HintManager.isDatabaseShardingOnly()) {
+            return false;
+        }
+        Limit limit = sqlRouteResult.getLimit();
+        if (null == limit || limit.getRowCountValue() < 0 || limit.getOffsetValue() <= offsetThreshold || !sqlRouteResult.getRoutingUnitOffsets().isEmpty()) {
+            return false;
+        }
+        int routingUnitsCount = sqlRouteResult.getRoutingResult().getRoutingUnits().size();
+        return routingUnitsCount > 1 && routingUnitsCount == sqlRouteResult.getRouteUnits().size() && isSortedByColumns((SelectStatement) sqlRouteResult.getSqlStatement());
+    }
+    
+    private boolean isLimitDatabaseType() {
+        return DatabaseType.MySQL == databaseType || DatabaseType.PostgreSQL == databaseType || DatabaseType.H2 == databaseType;
+    }
+    
+    private boolean isSortedByColumns(final SelectStatement selectStatement) {
+        if (selectStatement.getOrderByItems().isEmpty() || !selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()
+                || selectStatement.getDistinctSelectItem().isPresent() || selectStatement.containsSubquery() || !selectStatement.getSubqueryConditions().isEmpty()) {
+            return false;
+        }
+        for (OrderItem each : selectStatement.getOrderByItems()) {
+            if (each.isIndex() || !each.getQualifiedName().isPresent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Optional<String> createSortKeysSQL(final String sql, final SelectStatement selectStatement) {
+        int startIndex = selectStatement.getFirstSelectItemStartIndex();
+        int stopIndex = selectStatement.getSelectListStopIndex();
+        // parameter markers of select items would shift indexes of parameters after select items
+        if (startIndex <= 0 || stopIndex < startIndex || stopIndex >= sql.length() || sql.substring(startIndex, stopIndex + 1).contains("?")) {
+            return Optional.absent();
+        }
+        Collection<String> sortKeys = new LinkedList<>();
+        for (OrderItem each : selectStatement.getOrderByItems()) {
+            sortKeys.add(getSortKey(each, selectStatement));
+        }
+        return Optional.of(sql.substring(0, startIndex) + Joiner.on(", ").join(sortKeys) + sql.substring(stopIndex + 1));
+    }
+    
+    private String getSortKey(final OrderItem orderItem, final SelectStatement selectStatement) {
+        Optional<SelectItem> selectItem = KeysetPagination.findAliasSelectItem(orderItem, selectStatement);
+        return selectItem.isPresent() ? selectItem.get().getExpression() + " AS " + selectItem.get().getAlias().get() : orderItem.getQualifiedName().get();
+    }
+    
+    /**
+     * Shard SQL of page for second phase of deep pagination.
+     *
+     * @param sql SQL
+     * @param parameters parameters of SQL
+     * @param sqlRouteResult SQL route result, which is resharded with offsets of routing units
+     * @param sortKeysRouteResult SQL route result of sort keys
+     * @param sortKeysQueryResults query results of sort keys
+     * @throws SQLException SQL exception
+     */
+    public void shardPage(final String sql, final List<Object> parameters, final SQLRouteResult sqlRouteResult,
+                          final SQLRouteResult sortKeysRouteResult, final Map<RouteUnit, QueryResult> sortKeysQueryResults) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(sortKeysRouteResult.getRouteUnits().size());
+        for (RouteUnit each : sortKeysRouteResult.getRouteUnits()) {
+            Preconditions.checkState(sortKeysQueryResults.containsKey(each), "Can not find query result of sort keys for route unit: %s", each);
+            queryResults.add(sortKeysQueryResults.get(each));
+        }
+        int[] offsets = new PaginationOffsetMerger(queryResults, ((SelectStatement) sqlRouteResult.getSqlStatement()).getOrderByItems()).merge(sqlRouteResult.getLimit().getOffsetValue());
+        Map<RoutingUnit, Integer> routingUnitOffsets = new HashMap<>();
+        int index = 0;
+        for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
+            routingUnitOffsets.put(each, offsets[index++]);
+        }
+        shardingEngine.reshard(sql, parameters, sqlRouteResult, routingUnitOffsets);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
+import org.apache.shardingsphere.core.parse.old.parser.context.selectitem.SelectItem;
+import org.apache.shardingsphere.core.parse.util.SQLUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyset pagination.
+ *
+ * <p>
+ * Next page is sought by sort keys of last row in previous page instead of offset,
+ * so every routing unit only returns rows of one page and merging skips nothing whatever the page number is.
+ * Seek condition is built from order by items of select statement, so it always matches order of pages.
+ * Order by items must be columns which are unique together and NOT NULL, because null can not be compared by seek condition.
+ * </p>
+ */
+public final class KeysetPagination {
+    
+    private final List<String> sortKeys;
+    
+    private final List<OrderDirection> orderDirections;
+    
+    public KeysetPagination(final SelectStatement selectStatement) {
+        Preconditions.checkArgument(!selectStatement.getOrderByItems().isEmpty(), "Order by items of keyset pagination can not be empty.");
+        sortKeys = new ArrayList<>(selectStatement.getOrderByItems().size());
+        orderDirections = new ArrayList<>(selectStatement.getOrderByItems().size());
+        for (OrderItem each : selectStatement.getOrderByItems()) {
+            Preconditions.checkArgument(!each.isIndex() && each.getQualifiedName().isPresent(), "Order by item of keyset pagination must be column: %s", each);
+            Optional<SelectItem> selectItem = findAliasSelectItem(each, selectStatement);
+            sortKeys.add(selectItem.isPresent() ? selectItem.get().getExpression() : each.getQualifiedName().get());
+            orderDirections.add(each.getOrderDirection());
+        }
+    }
+    
+    static Optional<SelectItem> findAliasSelectItem(final OrderItem orderItem, final SelectStatement selectStatement) {
+        if (orderItem.getOwner().isPresent()) {
+            return Optional.absent();
+        }
+        String name = SQLUtil.getExactlyValue(orderItem.getName().get());
+        for (SelectItem each : selectStatement.getItems()) {
+            if (name.equalsIgnoreCase(SQLUtil.getExactlyValue(each.getAlias().orNull()))) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.absent();
+    }
+    
+    /**
+     * Get seek condition with parameter markers.
+     *
+     * <p>Rows after last row of previous page are matched, for example {@code ((a > ?) OR (a = ? AND b < ?))} for {@code ORDER BY a ASC, b DESC}.</p>
+     *
+     * @return seek condition
+     */
+    public String getSeekCondition() {
+        StringBuilder result = new StringBuilder("(");
+        for (int i = 0; i < sortKeys.size(); i++) {
+            if (i > 0) {
+                result.append(" OR ");
+            }
+            result.append("(");
+            for (int j = 0; j < i; j++) {
+                result.append(sortKeys.get(j)).append(" = ? AND ");
+            }
+            result.append(sortKeys.get(i)).append(OrderDirection.ASC == orderDirections.get(i) ? " > ?" : " < ?").append(")");
+        }
+        return result.append(")").toString();
+    }
+    
+    /**
+     * Get parameters of seek condition.
+     *
+     * @param lastSortKeys sort keys of last row in previous page, in order of order by items, can not contain null
+     * @return parameters in order of parameter markers of seek condition
+     */
+    public List<Object> getSeekParameters(final List<?> lastSortKeys) {
+        Preconditions.checkArgument(lastSortKeys.size() == sortKeys.size(), "Count of last sort keys must be %s.", sortKeys.size());
+        for (int i = 0; i < lastSortKeys.size(); i++) {
+            Preconditions.checkArgument(null != lastSortKeys.get(i), "Last sort key of `%s` can not be null.", sortKeys.get(i));
+        }
+        List<Object> result = new ArrayList<>(sortKeys.size() * (sortKeys.size() + 1) / 2);
+        for (int i = 0; i < sortKeys.size(); i++) {
+            result.addAll(lastSortKeys.subList(0, i + 1));
+        }
+        return result;
+    }
+}
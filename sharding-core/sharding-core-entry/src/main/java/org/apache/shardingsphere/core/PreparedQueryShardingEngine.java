@@ -17,12 +17,21 @@
 
 package org.apache.shardingsphere.core;
 
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.core.route.cache.CachedRouteResult;
+import org.apache.shardingsphere.core.route.cache.RouteResultCache;
+import org.apache.shardingsphere.core.route.cache.RouteResultCacheKey;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.util.ArrayList;
@@ -42,12 +51,48 @@ import java.util.List;
  */
 public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     
+    private final ShardingRule shardingRule;
+    
     private final PreparedStatementRoutingEngine routingEngine;
     
+    private final RouteResultCache routeResultCache;
+    
     public PreparedQueryShardingEngine(final String sql, final ShardingRule shardingRule, final ShardingProperties shardingProperties,
-                                       final ShardingMetaData metaData, final DatabaseType databaseType, final ParsingResultCache cache) {
+                                       final ShardingMetaData metaData, final DatabaseType databaseType, final ParsingResultCache cache, final RouteResultCache routeResultCache) {
         super(shardingRule, shardingProperties, metaData, databaseType);
-        routingEngine = new PreparedStatementRoutingEngine(sql, shardingRule, metaData, databaseType, cache);
+        this.shardingRule = shardingRule;
+        routingEngine = new PreparedStatementRoutingEngine(sql, shardingRule, metaData, databaseType, cache, shardingProperties);
+        this.routeResultCache = routeResultCache;
+    }
+    
+    @Override
+    public SQLRouteResult shard(final String sql, final List<Object> parameters) {
+        if (!routeResultCache.isEnabled() || HintManager.isDatabaseShardingOnly()) {
+            return super.shard(sql, parameters);
+        }
+        List<Object> clonedParameters = cloneParameters(parameters);
+        SQLStatement sqlStatement = routingEngine.parse();
+        Optional<RouteResultCacheKey> cacheKey = routeResultCache.createKey(shardingRule, sql, sqlStatement, clonedParameters);
+        Optional<CachedRouteResult> cachedRouteResult = cacheKey.isPresent() ? routeResultCache.get(cacheKey.get()) : Optional.<CachedRouteResult>absent();
+        SQLRouteResult result;
+        if (cachedRouteResult.isPresent()) {
+            result = createRouteResult(sqlStatement, cachedRouteResult.get(), clonedParameters);
+        } else {
+            result = doShard(sql, clonedParameters);
+            if (cacheKey.isPresent()) {
+                routeResultCache.put(cacheKey.get(), result, clonedParameters);
+            }
+        }
+        logSQL(sql, result);
+        return result;
+    }
+    
+    private SQLRouteResult createRouteResult(final SQLStatement sqlStatement, final CachedRouteResult cachedRouteResult, final List<Object> parameters) {
+        SQLRouteResult result = routingEngine.routeMasterSlave(cachedRouteResult.createSQLRouteResult(sqlStatement));
+        for (RoutingUnit each : result.getRoutingResult().getRoutingUnits()) {
+            result.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), new SQLUnit(cachedRouteResult.getSql(), new ArrayList<>(parameters))));
+        }
+        return result;
     }
     
     @Override
@@ -17,16 +17,27 @@
 
 package org.apache.shardingsphere.core;
 
+import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.cache.SQLFingerprint;
+import org.apache.shardingsphere.core.parse.cache.SQLFingerprintEngine;
+import org.apache.shardingsphere.core.parse.cache.SQLLiteralBinder;
+import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.StatementRoutingEngine;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Sharding engine for simple query.
@@ -47,7 +58,50 @@ public final class SimpleQueryShardingEngine extends BaseShardingEngine {
     public SimpleQueryShardingEngine(final ShardingRule shardingRule, 
                                      final ShardingProperties shardingProperties, final ShardingMetaData metaData, final DatabaseType databaseType, final ParsingResultCache cache) {
         super(shardingRule, shardingProperties, metaData, databaseType);
-        routingEngine = new StatementRoutingEngine(shardingRule, metaData, databaseType, cache);
+        routingEngine = new StatementRoutingEngine(shardingRule, metaData, databaseType, cache, shardingProperties);
+    }
+    
+    /**
+     * Shard.
+     * 
+     * <p>Literals of DML are replaced by placeholders first, so SQL with same fingerprint share the cached parsing result.
+     * Literals are bound back into the rewritten SQL after routing.</p>
+     *
+     * @param sql SQL
+     * @param parameters parameters of SQL
+     * @return SQL route result
+     */
+    @Override
+    public SQLRouteResult shard(final String sql, final List<Object> parameters) {
+        Optional<SQLFingerprint> fingerprint = new SQLFingerprintEngine(sql).fingerprint();
+        if (!fingerprint.isPresent()) {
+            return super.shard(sql, parameters);
+        }
+        SQLRouteResult result = doShard(fingerprint.get().getSql(), new ArrayList<>(fingerprint.get().getParameters()));
+        bindLiterals(result);
+        logSQL(sql, result);
+        return result;
+    }
+    
+    @Override
+    public void reshard(final String sql, final List<Object> parameters, final SQLRouteResult sqlRouteResult, final Map<RoutingUnit, Integer> routingUnitOffsets) {
+        Optional<SQLFingerprint> fingerprint = new SQLFingerprintEngine(sql).fingerprint();
+        if (!fingerprint.isPresent()) {
+            super.reshard(sql, parameters, sqlRouteResult, routingUnitOffsets);
+            return;
+        }
+        doReshard(fingerprint.get().getSql(), new ArrayList<>(fingerprint.get().getParameters()), sqlRouteResult, routingUnitOffsets);
+        bindLiterals(sqlRouteResult);
+        logSQL(sql, sqlRouteResult);
+    }
+    
+    private void bindLiterals(final SQLRouteResult sqlRouteResult) {
+        Collection<RouteUnit> boundRouteUnits = new LinkedList<>();
+        for (RouteUnit each : sqlRouteResult.getRouteUnits()) {
+            boundRouteUnits.add(new RouteUnit(each.getDataSourceName(), new SQLUnit(SQLLiteralBinder.bind(each.getSqlUnit().getSql(), each.getSqlUnit().getParameters()), Collections.emptyList())));
+        }
+        sqlRouteResult.getRouteUnits().clear();
+        sqlRouteResult.getRouteUnits().addAll(boundRouteUnits);
     }
     
     @Override
@@ -57,6 +111,6 @@ public final class SimpleQueryShardingEngine extends BaseShardingEngine {
     
     @Override
     protected SQLRouteResult route(final String sql, final List<Object> parameters) {
-        return routingEngine.route(sql);
+        return parameters.isEmpty() ? routingEngine.route(sql) : routingEngine.route(sql, parameters);
     }
 }
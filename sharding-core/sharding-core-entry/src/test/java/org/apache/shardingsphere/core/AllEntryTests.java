@@ -24,7 +24,9 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         SimpleQueryShardingEngineTest.class,
-        PreparedQueryShardingEngineTest.class
+        PreparedQueryShardingEngineTest.class,
+        DeepPaginationEngineTest.class,
+        KeysetPaginationTest.class
 })
 public final class AllEntryTests {
 }
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.cache.RouteResultCache;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DeepPaginationEngineTest {
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingProperties shardingProperties;
+    
+    private ShardingMetaData metaData;
+    
+    private ParsingResultCache parsingResultCache;
+    
+    @Before
+    public void setUp() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.DEEP_PAGINATION_OFFSET_THRESHOLD.getKey(), "2");
+        shardingProperties = new ShardingProperties(props);
+        Map<String, String> dataSourceURLs = new LinkedHashMap<>(2, 1);
+        dataSourceURLs.put("ds_0", "jdbc:mysql://127.0.0.1:3306/actual_db");
+        dataSourceURLs.put("ds_1", "jdbc:mysql://127.0.0.1:3306/actual_db");
+        Map<String, TableMetaData> tables = Collections.singletonMap("t_order", new TableMetaData(Arrays.asList(
+                new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false))));
+        metaData = new ShardingMetaData(new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, DatabaseType.MySQL), new ShardingTableMetaData(tables));
+        parsingResultCache = new ParsingResultCache();
+    }
+    
+    @Test
+    public void assertShardSortKeysWithinOffsetThreshold() {
+        String sql = "SELECT * FROM t_order o WHERE o.status = 'a' ORDER BY o.order_id LIMIT 2, 2";
+        BaseShardingEngine shardingEngine = createSimpleQueryShardingEngine();
+        assertFalse(createDeepPaginationEngine(shardingEngine).shardSortKeys(sql, Collections.emptyList(), shardingEngine.shard(sql, Collections.emptyList())).isPresent());
+    }
+    
+    @Test
+    public void assertShardSortKeysWithoutOrderBy() {
+        String sql = "SELECT * FROM t_order o WHERE o.status = 'a' LIMIT 5, 2";
+        BaseShardingEngine shardingEngine = createSimpleQueryShardingEngine();
+        assertFalse(createDeepPaginationEngine(shardingEngine).shardSortKeys(sql, Collections.emptyList(), shardingEngine.shard(sql, Collections.emptyList())).isPresent());
+    }
+    
+    @Test
+    public void assertShardSortKeysWithAlias() {
+        String sql = "SELECT o.order_id, o.status AS s FROM t_order o ORDER BY s, o.order_id LIMIT 5, 2";
+        BaseShardingEngine shardingEngine = createSimpleQueryShardingEngine();
+        Optional<SQLRouteResult> actual = createDeepPaginationEngine(shardingEngine).shardSortKeys(sql, Collections.emptyList(), shardingEngine.shard(sql, Collections.emptyList()));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRouteUnits().size(), is(4));
+        for (RouteUnit each : actual.get().getRouteUnits()) {
+            assertThat(each.getSqlUnit().getSql(), endsWith(" s, o.order_id FROM " + getActualTable(each) + " o ORDER BY s, o.order_id LIMIT 0, 7"));
+        }
+    }
+    
+    @Test
+    public void assertShardPage() throws SQLException {
+        String sql = "SELECT * FROM t_order o WHERE o.status = 'a' ORDER BY o.order_id LIMIT 5, 2";
+        BaseShardingEngine shardingEngine = createSimpleQueryShardingEngine();
+        DeepPaginationEngine deepPaginationEngine = createDeepPaginationEngine(shardingEngine);
+        SQLRouteResult actual = shardingEngine.shard(sql, Collections.emptyList());
+        Optional<SQLRouteResult> sortKeysRouteResult = deepPaginationEngine.shardSortKeys(sql, Collections.emptyList(), actual);
+        assertTrue(sortKeysRouteResult.isPresent());
+        for (RouteUnit each : sortKeysRouteResult.get().getRouteUnits()) {
+            assertThat(each.getSqlUnit().getSql(), is("SELECT o.order_id FROM " + getActualTable(each) + " o WHERE o.status = 'a' ORDER BY o.order_id LIMIT 0, 7"));
+        }
+        deepPaginationEngine.shardPage(sql, Collections.emptyList(), actual, sortKeysRouteResult.get(), createSortKeysQueryResults(sortKeysRouteResult.get()));
+        assertThat(actual.getRoutingUnitOffsets().size(), is(4));
+        Iterator<Integer> expectedOffsets = Arrays.asList(2, 1, 1, 1).iterator();
+        for (RouteUnit each : actual.getRouteUnits()) {
+            assertThat(each.getSqlUnit().getSql(), is("SELECT * FROM " + getActualTable(each) + " o WHERE o.status = 'a' ORDER BY o.order_id LIMIT " + expectedOffsets.next() + ", 2"));
+        }
+    }
+    
+    @Test
+    public void assertShardPageWithParameters() throws SQLException {
+        String sql = "SELECT * FROM t_order o WHERE o.status = ? ORDER BY o.order_id LIMIT ?, ?";
+        List<Object> parameters = Arrays.<Object>asList("a", 5, 2);
+        BaseShardingEngine shardingEngine = new PreparedQueryShardingEngine(sql, shardingRule, shardingProperties, metaData, DatabaseType.MySQL, parsingResultCache, new RouteResultCache(0));
+        DeepPaginationEngine deepPaginationEngine = createDeepPaginationEngine(shardingEngine);
+        SQLRouteResult actual = shardingEngine.shard(sql, parameters);
+        Optional<SQLRouteResult> sortKeysRouteResult = deepPaginationEngine.shardSortKeys(sql, parameters, actual);
+        assertTrue(sortKeysRouteResult.isPresent());
+        for (RouteUnit each : sortKeysRouteResult.get().getRouteUnits()) {
+            assertThat(each.getSqlUnit().getSql(), is("SELECT o.order_id FROM " + getActualTable(each) + " o WHERE o.status = ? ORDER BY o.order_id LIMIT ?, ?"));
+            assertThat(each.getSqlUnit().getParameters(), is(Arrays.<Object>asList("a", 0, 7)));
+        }
+        deepPaginationEngine.shardPage(sql, parameters, actual, sortKeysRouteResult.get(), createSortKeysQueryResults(sortKeysRouteResult.get()));
+        Iterator<Integer> expectedOffsets = Arrays.asList(2, 1, 1, 1).iterator();
+        for (RouteUnit each : actual.getRouteUnits()) {
+            assertThat(each.getSqlUnit().getSql(), is("SELECT * FROM " + getActualTable(each) + " o WHERE o.status = ? ORDER BY o.order_id LIMIT ?, ?"));
+            assertThat(each.getSqlUnit().getParameters(), is(Arrays.<Object>asList("a", expectedOffsets.next(), 2)));
+        }
+        assertThat(parameters, is(Arrays.<Object>asList("a", 5, 2)));
+    }
+    
+    private SimpleQueryShardingEngine createSimpleQueryShardingEngine() {
+        return new SimpleQueryShardingEngine(shardingRule, shardingProperties, metaData, DatabaseType.MySQL, parsingResultCache);
+    }
+    
+    private DeepPaginationEngine createDeepPaginationEngine(final BaseShardingEngine shardingEngine) {
+        return new DeepPaginationEngine(shardingEngine, shardingRule, shardingProperties, metaData, DatabaseType.MySQL, parsingResultCache);
+    }
+    
+    private String getActualTable(final RouteUnit routeUnit) {
+        return routeUnit.getSqlUnit().getSql().contains("t_order_0") ? "t_order_0" : "t_order_1";
+    }
+    
+    private Map<RouteUnit, QueryResult> createSortKeysQueryResults(final SQLRouteResult sortKeysRouteResult) throws SQLException {
+        Map<RouteUnit, QueryResult> result = new HashMap<>();
+        Iterator<List<Integer>> sortKeys = Arrays.asList(Arrays.asList(1, 5, 9), Arrays.asList(2, 6, 10), Arrays.asList(3, 7), Arrays.asList(4, 8)).iterator();
+        for (RouteUnit each : sortKeysRouteResult.getRouteUnits()) {
+            result.put(each, mockQueryResult(sortKeys.next()));
+        }
+        return result;
+    }
+    
+    private QueryResult mockQueryResult(final List<Integer> sortKeys) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        Boolean[] nexts = new Boolean[sortKeys.size() + 1];
+        for (int i = 0; i < nexts.length; i++) {
+            nexts[i] = i < sortKeys.size();
+        }
+        when(result.next()).thenReturn(nexts[0], Arrays.copyOfRange(nexts, 1, nexts.length));
+        when(result.getValue(1, Object.class)).thenReturn(sortKeys.get(0), sortKeys.subList(1, sortKeys.size()).toArray());
+        return result;
+    }
+}
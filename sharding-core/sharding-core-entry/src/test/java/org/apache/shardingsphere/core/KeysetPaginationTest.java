@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
+import org.apache.shardingsphere.core.parse.old.parser.context.selectitem.CommonSelectItem;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class KeysetPaginationTest {
+    
+    @Test
+    public void assertSingleOrderByItem() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.getOrderByItems().add(new OrderItem("order_id", OrderDirection.ASC, OrderDirection.ASC));
+        KeysetPagination actual = new KeysetPagination(selectStatement);
+        assertThat(actual.getSeekCondition(), is("((order_id > ?))"));
+        assertThat(actual.getSeekParameters(Collections.singletonList(10L)), is(Arrays.<Object>asList(10L)));
+    }
+    
+    @Test
+    public void assertMultipleOrderByItems() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.getItems().add(new CommonSelectItem("o.create_time", Optional.of("t")));
+        selectStatement.getOrderByItems().add(new OrderItem("t", OrderDirection.DESC, OrderDirection.ASC));
+        selectStatement.getOrderByItems().add(new OrderItem("o", "user_id", OrderDirection.ASC, OrderDirection.ASC));
+        selectStatement.getOrderByItems().add(new OrderItem("o", "order_id", OrderDirection.ASC, OrderDirection.ASC));
+        KeysetPagination actual = new KeysetPagination(selectStatement);
+        assertThat(actual.getSeekCondition(), is("((o.create_time < ?) OR (o.create_time = ? AND o.user_id > ?) OR (o.create_time = ? AND o.user_id = ? AND o.order_id > ?))"));
+        assertThat(actual.getSeekParameters(Arrays.asList("2019-01-01", 1, 10L)), is(Arrays.<Object>asList("2019-01-01", "2019-01-01", 1, "2019-01-01", 1, 10L)));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewWithoutOrderByItems() {
+        new KeysetPagination(new SelectStatement());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewWithIndexOrderByItem() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.getOrderByItems().add(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC));
+        new KeysetPagination(selectStatement);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGetSeekParametersWithWrongCount() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.getOrderByItems().add(new OrderItem("order_id", OrderDirection.ASC, OrderDirection.ASC));
+        new KeysetPagination(selectStatement).getSeekParameters(Arrays.asList(1, 2));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGetSeekParametersWithNullSortKey() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.getOrderByItems().add(new OrderItem("create_time", OrderDirection.DESC, OrderDirection.ASC));
+        selectStatement.getOrderByItems().add(new OrderItem("order_id", OrderDirection.ASC, OrderDirection.ASC));
+        new KeysetPagination(selectStatement).getSeekParameters(Arrays.asList(null, 10L));
+    }
+}
@@ -18,10 +18,18 @@
 package org.apache.shardingsphere.core;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.Column;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.Condition;
+import org.apache.shardingsphere.core.parse.old.parser.context.table.Table;
+import org.apache.shardingsphere.core.parse.old.parser.expression.SQLParameterMarkerExpression;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.cache.RouteResultCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.junit.Before;
 import org.junit.Test;
@@ -33,7 +41,10 @@ import java.lang.reflect.Field;
 import java.sql.SQLException;
 import java.util.Collections;
 
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -50,12 +61,12 @@ public final class PreparedQueryShardingEngineTest extends BaseShardingEngineTes
     
     @Before
     public void setUp() {
-        shardingEngine = new PreparedQueryShardingEngine(getSql(), mock(ShardingRule.class), getShardingProperties(), mock(ShardingMetaData.class), DatabaseType.MySQL, new ParsingResultCache());
-        setRoutingEngine();
+        shardingEngine = new PreparedQueryShardingEngine(getSql(), mock(ShardingRule.class), getShardingProperties(), mock(ShardingMetaData.class), DatabaseType.MySQL, new ParsingResultCache(), new RouteResultCache(0));
+        setRoutingEngine(shardingEngine);
     }
     
     @SneakyThrows
-    private void setRoutingEngine() {
+    private void setRoutingEngine(final PreparedQueryShardingEngine shardingEngine) {
         Field field = PreparedQueryShardingEngine.class.getDeclaredField("routingEngine");
         field.setAccessible(true);
         field.set(shardingEngine, routingEngine);
@@ -66,6 +77,24 @@ public final class PreparedQueryShardingEngineTest extends BaseShardingEngineTes
         assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
     }
     
+    @Test
+    public void assertShardWithRouteResultCache() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(new TableRuleConfiguration("t_order", "ds.t_order"));
+        PreparedQueryShardingEngine shardingEngine = new PreparedQueryShardingEngine(getSql(), new ShardingRule(shardingRuleConfig, Collections.singletonList("ds")), 
+                getShardingProperties(), mock(ShardingMetaData.class), DatabaseType.MySQL, new ParsingResultCache(), new RouteResultCache(16));
+        setRoutingEngine(shardingEngine);
+        SQLRouteResult sqlRouteResult = createSQLRouteResult();
+        sqlRouteResult.getSqlStatement().getTables().add(new Table("t_order", null));
+        sqlRouteResult.getSqlStatement().getRouteCondition().add(new Condition(new Column("user_id", "t_order"), new SQLParameterMarkerExpression(0)));
+        when(routingEngine.parse()).thenReturn(sqlRouteResult.getSqlStatement());
+        when(routingEngine.route(getParameters())).thenReturn(sqlRouteResult);
+        when(routingEngine.routeMasterSlave(any(SQLRouteResult.class))).then(returnsFirstArg());
+        assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
+        assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
+        verify(routingEngine).route(getParameters());
+    }
+    
     @Test(expected = SQLException.class)
     public void assertWithRouteException() {
         when(routingEngine.route(getParameters())).thenThrow(SQLException.class);
@@ -18,19 +18,37 @@
 package org.apache.shardingsphere.core;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.StatementRoutingEngine;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.junit.Before;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -63,4 +81,71 @@ public final class SimpleQueryShardingEngineTest extends BaseShardingEngineTest
         when(routingEngine.route(getSql())).thenReturn(createSQLRouteResult());
         assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
     }
+    
+    @Test
+    public void assertShardSelectWithSameFingerprint() {
+        ParsingResultCache cache = new ParsingResultCache();
+        SimpleQueryShardingEngine shardingEngine = createShardingEngine(DatabaseType.Oracle, cache);
+        SQLRouteResult actual1 = shardingEngine.shard("SELECT * FROM t_order WHERE user_id IN (1, 3) AND order_id = 10 AND status = 'it''s' AND price > -1.5", Collections.emptyList());
+        SQLRouteResult actual2 = shardingEngine.shard("SELECT * FROM t_order WHERE user_id IN (2, 4) AND order_id = -11 AND status = '' AND price > -2", Collections.emptyList());
+        assertThat(cache.size(), is(1));
+        assertNotNull(cache.getSQLStatement("SELECT * FROM t_order WHERE user_id IN (?, ?) AND order_id = ? AND status = ? AND price > ?"));
+        assertRouteUnit(actual1, "ds_1", "SELECT * FROM t_order_0 WHERE user_id IN (1, 3) AND order_id = 10 AND status = 'it''s' AND price > -1.5");
+        assertRouteUnit(actual2, "ds_0", "SELECT * FROM t_order_1 WHERE user_id IN (2, 4) AND order_id = -11 AND status = '' AND price > -2");
+    }
+    
+    @Test
+    public void assertShardSelectWithLimitAndSameFingerprint() {
+        ParsingResultCache cache = new ParsingResultCache();
+        SimpleQueryShardingEngine shardingEngine = createShardingEngine(DatabaseType.MySQL, cache);
+        SQLRouteResult actual1 = shardingEngine.shard("SELECT * FROM t_order WHERE status = 'a''b' LIMIT 2, 5", Collections.emptyList());
+        SQLRouteResult actual2 = shardingEngine.shard("SELECT * FROM t_order WHERE status = 'c' LIMIT 4, 10", Collections.emptyList());
+        assertThat(cache.size(), is(1));
+        assertNotNull(cache.getSQLStatement("SELECT * FROM t_order WHERE status = ? LIMIT ?, ?"));
+        assertFalse(actual1.getRouteUnits().isEmpty());
+        assertFalse(actual2.getRouteUnits().isEmpty());
+        for (RouteUnit each : actual1.getRouteUnits()) {
+            assertThat(each.getSqlUnit().getSql(), endsWith(" WHERE status = 'a''b' LIMIT 0, 7"));
+        }
+        for (RouteUnit each : actual2.getRouteUnits()) {
+            assertThat(each.getSqlUnit().getSql(), endsWith(" WHERE status = 'c' LIMIT 0, 14"));
+        }
+    }
+    
+    @Test
+    public void assertShardInsertWithSameFingerprint() {
+        ParsingResultCache cache = new ParsingResultCache();
+        SimpleQueryShardingEngine shardingEngine = createShardingEngine(DatabaseType.MySQL, cache);
+        SQLRouteResult actual1 = shardingEngine.shard("INSERT INTO t_order (order_id, user_id, status) VALUES (10, 1, 'x''y')", Collections.emptyList());
+        SQLRouteResult actual2 = shardingEngine.shard("INSERT INTO t_order (order_id, user_id, status) VALUES (-11, 2, '')", Collections.emptyList());
+        assertThat(cache.size(), is(1));
+        assertNotNull(cache.getSQLStatement("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)"));
+        assertRouteUnit(actual1, "ds_1", "INSERT INTO t_order_0  (order_id, user_id, status) VALUES (10, 1, 'x''y')");
+        assertRouteUnit(actual2, "ds_0", "INSERT INTO t_order_1  (order_id, user_id, status) VALUES (-11, 2, '')");
+    }
+    
+    private void assertRouteUnit(final SQLRouteResult actual, final String dataSourceName, final String sql) {
+        assertThat(actual.getRouteUnits().size(), is(1));
+        RouteUnit actualRouteUnit = actual.getRouteUnits().iterator().next();
+        assertThat(actualRouteUnit.getDataSourceName(), is(dataSourceName));
+        assertThat(actualRouteUnit.getSqlUnit().getSql(), is(sql));
+        assertThat(actualRouteUnit.getSqlUnit().getParameters(), is(Collections.emptyList()));
+    }
+    
+    private SimpleQueryShardingEngine createShardingEngine(final DatabaseType databaseType, final ParsingResultCache cache) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${Math.abs(order_id) % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        Map<String, String> dataSourceURLs = new LinkedHashMap<>(2, 1);
+        String url = DatabaseType.Oracle == databaseType ? "jdbc:oracle:thin:@//127.0.0.1:1521/actual_db" : "jdbc:mysql://127.0.0.1:3306/actual_db";
+        dataSourceURLs.put("ds_0", url);
+        dataSourceURLs.put("ds_1", url);
+        Map<String, TableMetaData> tables = Collections.singletonMap("t_order", new TableMetaData(Arrays.asList(
+                new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false))));
+        ShardingMetaData metaData = new ShardingMetaData(new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, databaseType), new ShardingTableMetaData(tables));
+        return new SimpleQueryShardingEngine(shardingRule, getShardingProperties(), metaData, databaseType, cache);
+    }
 }
@@ -18,11 +18,16 @@
 package org.apache.shardingsphere.core.execute;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 import org.apache.shardingsphere.core.exception.ShardingException;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -31,6 +36,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Sharding execute engine.
@@ -39,6 +49,8 @@ import java.util.concurrent.ExecutionException;
  */
 public final class ShardingExecuteEngine implements AutoCloseable {
     
+    private static final ScheduledExecutorService TIMEOUT_EXECUTOR = Executors.newSingleThreadScheduledExecutor(ShardingThreadFactoryBuilder.build("Executor-Engine-Timeout"));
+    
     private final ShardingExecutorService shardingExecutorService;
     
     private ListeningExecutorService executorService;
@@ -83,6 +95,100 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         return serial ? serialExecute(inputGroups, firstCallback, callback) : parallelExecute(inputGroups, firstCallback, callback);
     }
     
+    /**
+     * Execute for group asynchronously.
+     *
+     * @param inputGroups input groups
+     * @param callback sharding execute callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result
+     */
+    public <I, O> ListenableFuture<List<O>> asyncGroupExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
+        return asyncGroupExecute(inputGroups, null, callback, false, 0L);
+    }
+    
+    /**
+     * Execute for group asynchronously.
+     * 
+     * <p>
+     * All groups are executed by executor service and caller thread is not blocked.
+     * Results are appended in order of group completion, not in order of input groups.
+     * Returned future fails fast with the first failure or timeout of groups, and remaining groups are cancelled by interruption, so are they if returned future is cancelled.
+     * Groups are executed in caller thread if execute in serial, and returned future is completed already.
+     * Timeout of each group counts from submission of the group, so time waiting in the queue of executor service is counted too.
+     * </p>
+     *
+     * @param inputGroups input groups
+     * @param firstCallback first sharding execute callback
+     * @param callback sharding execute callback
+     * @param serial whether using multi thread execute or not
+     * @param groupTimeoutMilliseconds timeout milliseconds of each group since submission, no timeout if not positive
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result
+     */
+    public <I, O> ListenableFuture<List<O>> asyncGroupExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> firstCallback, 
+                                                              final ShardingGroupExecuteCallback<I, O> callback, final boolean serial, final long groupTimeoutMilliseconds) {
+        if (inputGroups.isEmpty()) {
+            return Futures.immediateFuture(Collections.<O>emptyList());
+        }
+        if (serial) {
+            try {
+                return Futures.immediateFuture(serialExecute(inputGroups, firstCallback, callback));
+            } catch (final SQLException ex) {
+                return Futures.immediateFailedFuture(ex);
+            }
+        }
+        List<ListenableFuture<Collection<O>>> groupFutures = new ArrayList<>(inputGroups.size());
+        Iterator<ShardingExecuteGroup<I>> inputGroupsIterator = inputGroups.iterator();
+        groupFutures.add(asyncGroupExecute(inputGroupsIterator.next(), null == firstCallback ? callback : firstCallback));
+        while (inputGroupsIterator.hasNext()) {
+            groupFutures.add(asyncGroupExecute(inputGroupsIterator.next(), callback));
+        }
+        return collectGroupResults(groupFutures, groupTimeoutMilliseconds);
+    }
+    
+    private <O> ListenableFuture<List<O>> collectGroupResults(final List<ListenableFuture<Collection<O>>> groupFutures, final long groupTimeoutMilliseconds) {
+        final SettableFuture<List<O>> result = SettableFuture.create();
+        final GroupResultsCollector<O> collector = new GroupResultsCollector<>(result, groupFutures);
+        result.addListener(new Runnable() {
+            
+            @Override
+            public void run() {
+                if (result.isCancelled()) {
+                    collector.cancelGroups();
+                }
+            }
+        }, MoreExecutors.directExecutor());
+        for (ListenableFuture<Collection<O>> each : groupFutures) {
+            if (groupTimeoutMilliseconds > 0L) {
+                scheduleTimeout(each, collector, groupTimeoutMilliseconds);
+            }
+            Futures.addCallback(each, collector, MoreExecutors.directExecutor());
+        }
+        return result;
+    }
+    
+    private <O> void scheduleTimeout(final ListenableFuture<Collection<O>> groupFuture, final GroupResultsCollector<O> collector, final long groupTimeoutMilliseconds) {
+        final ScheduledFuture<?> timeoutFuture = TIMEOUT_EXECUTOR.schedule(new Runnable() {
+            
+            @Override
+            public void run() {
+                if (!groupFuture.isDone()) {
+                    collector.onFailure(new TimeoutException(String.format("Execute group timeout after %d milliseconds.", groupTimeoutMilliseconds)));
+                }
+            }
+        }, groupTimeoutMilliseconds, TimeUnit.MILLISECONDS);
+        groupFuture.addListener(new Runnable() {
+            
+            @Override
+            public void run() {
+                timeoutFuture.cancel(false);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+    
     private <I, O> List<O> serialExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> firstCallback,
                                          final ShardingGroupExecuteCallback<I, O> callback) throws SQLException {
         List<O> result = new LinkedList<>();
@@ -99,11 +205,11 @@ public final class ShardingExecuteEngine implements AutoCloseable {
                                            final ShardingGroupExecuteCallback<I, O> callback) throws SQLException {
         Iterator<ShardingExecuteGroup<I>> inputGroupsIterator = inputGroups.iterator();
         ShardingExecuteGroup<I> firstInputs = inputGroupsIterator.next();
-        Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncGroupExecute(Lists.newArrayList(inputGroupsIterator), callback);
+        Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncRestGroupExecute(Lists.newArrayList(inputGroupsIterator), callback);
         return getGroupResults(syncGroupExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
-    private <I, O> Collection<ListenableFuture<Collection<O>>> asyncGroupExecute(final List<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
+    private <I, O> Collection<ListenableFuture<Collection<O>>> asyncRestGroupExecute(final List<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
         Collection<ListenableFuture<Collection<O>>> result = new LinkedList<>();
         for (ShardingExecuteGroup<I> each : inputGroups) {
             result.add(asyncGroupExecute(each, callback));
@@ -150,4 +256,42 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     public void close() {
         shardingExecutorService.close();
     }
+    
+    private static final class GroupResultsCollector<O> implements FutureCallback<Collection<O>> {
+        
+        private final SettableFuture<List<O>> result;
+        
+        private final Collection<ListenableFuture<Collection<O>>> groupFutures;
+        
+        private final List<O> groupResults = new ArrayList<>();
+        
+        private int remainingGroupCount;
+        
+        GroupResultsCollector(final SettableFuture<List<O>> result, final Collection<ListenableFuture<Collection<O>>> groupFutures) {
+            this.result = result;
+            this.groupFutures = groupFutures;
+            remainingGroupCount = groupFutures.size();
+        }
+        
+        @Override
+        public synchronized void onSuccess(final Collection<O> groupResult) {
+            groupResults.addAll(groupResult);
+            if (0 == --remainingGroupCount) {
+                result.set(groupResults);
+            }
+        }
+        
+        @Override
+        public void onFailure(final Throwable cause) {
+            if (result.setException(cause)) {
+                cancelGroups();
+            }
+        }
+        
+        void cancelGroups() {
+            for (ListenableFuture<Collection<O>> each : groupFutures) {
+                each.cancel(true);
+            }
+        }
+    }
 }
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.rule.DataNode;
 import org.apache.shardingsphere.core.rule.ShardingDataSourceNames;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -100,12 +101,12 @@ public final class TableMetaDataLoader {
     }
     
     private Map<String, List<DataNode>> getDataNodeGroups(final String logicTableName, final ShardingRule shardingRule) {
-        Map<String, List<DataNode>> result = shardingRule.getTableRule(logicTableName).getDataNodeGroups();
+        TableRule tableRule = shardingRule.getTableRule(logicTableName);
         if (isCheckingMetaData) {
-            return result;
+            return tableRule.getDataNodeGroups();
         }
-        String firstKey = result.keySet().iterator().next();
-        return Collections.singletonMap(firstKey, Collections.singletonList(result.get(firstKey).get(0)));
+        DataNode firstDataNode = tableRule.getActualDataNodes().get(0);
+        return Collections.singletonMap(firstDataNode.getDataSourceName(), Collections.singletonList(firstDataNode));
     }
     
     private Collection<ShardingExecuteGroup<DataNode>> getDataNodeGroups(final Map<String, List<DataNode>> dataNodeGroups) {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.execute.sql.execute;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
@@ -76,4 +77,32 @@ public final class SQLExecuteTemplate {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute group asynchronously.
+     *
+     * @param sqlExecuteGroups SQL execute groups
+     * @param callback SQL execute callback
+     * @param <T> class type of return value
+     * @return future of execute result
+     */
+    public <T> ListenableFuture<List<T>> asyncExecuteGroup(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups, final SQLExecuteCallback<T> callback) {
+        return asyncExecuteGroup(sqlExecuteGroups, null, callback, 0L);
+    }
+    
+    /**
+     * Execute group asynchronously.
+     *
+     * @param sqlExecuteGroups SQL execute groups
+     * @param firstCallback first SQL execute callback
+     * @param callback SQL execute callback
+     * @param groupTimeoutMilliseconds timeout milliseconds of each group since submission, no timeout if not positive
+     * @param <T> class type of return value
+     * @return future of execute result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ListenableFuture<List<T>> asyncExecuteGroup(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups,
+                                                           final SQLExecuteCallback<T> firstCallback, final SQLExecuteCallback<T> callback, final long groupTimeoutMilliseconds) {
+        return executeEngine.asyncGroupExecute((Collection) sqlExecuteGroups, firstCallback, callback, serial, groupTimeoutMilliseconds);
+    }
 }
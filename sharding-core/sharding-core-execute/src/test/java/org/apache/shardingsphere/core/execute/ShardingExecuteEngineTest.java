@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.execute;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import lombok.RequiredArgsConstructor;
 import org.junit.After;
 import org.junit.Before;
@@ -26,13 +27,20 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -102,9 +110,79 @@ public class ShardingExecuteEngineTest {
         assertThat(actual.size(), is(0));
     }
     
+    @Test
+    public void assertAsyncGroupExecute() throws InterruptedException, ExecutionException {
+        ListenableFuture<List<String>> actual = shardingExecuteEngine.asyncGroupExecute(inputGroups, callback);
+        assertThat(actual.get().size(), is(4));
+        latch.await();
+    }
+    
+    @Test
+    public void assertAsyncSerialExecute() throws InterruptedException, ExecutionException {
+        ListenableFuture<List<String>> actual = shardingExecuteEngine.asyncGroupExecute(inputGroups, firstCallback, callback, true, 0L);
+        assertTrue(actual.isDone());
+        assertThat(actual.get().size(), is(4));
+    }
+    
+    @Test
+    public void assertAsyncInputGroupIsEmpty() throws InterruptedException, ExecutionException {
+        ListenableFuture<List<String>> actual = shardingExecuteEngine.asyncGroupExecute(new LinkedList<ShardingExecuteGroup<StatementExecuteUnit>>(), callback);
+        assertTrue(actual.get().isEmpty());
+    }
+    
+    @Test
+    public void assertAsyncGroupExecuteFailFast() throws InterruptedException {
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        ListenableFuture<List<String>> actual = shardingExecuteEngine.asyncGroupExecute(inputGroups, new FailureGroupExecuteCallback(), new BlockingGroupExecuteCallback(blockingLatch), false, 0L);
+        try {
+            actual.get();
+            fail("Expected ExecutionException.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(SQLException.class));
+        }
+        assertTrue(blockingLatch.await(5L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertAsyncGroupExecuteWithTimeout() throws InterruptedException {
+        CountDownLatch blockingLatch = new CountDownLatch(2);
+        ListenableFuture<List<String>> actual = shardingExecuteEngine.asyncGroupExecute(inputGroups, null, new BlockingGroupExecuteCallback(blockingLatch), false, 50L);
+        try {
+            actual.get();
+            fail("Expected ExecutionException.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(TimeoutException.class));
+        }
+        assertTrue(blockingLatch.await(5L, TimeUnit.SECONDS));
+    }
+    
+    private final class FailureGroupExecuteCallback implements ShardingGroupExecuteCallback<StatementExecuteUnit, String> {
+        
+        @Override
+        public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+            throw new SQLException("failure");
+        }
+    }
+    
     @RequiredArgsConstructor
-    private final class MockGroupExecuteCallback implements ShardingExecuteCallback<StatementExecuteUnit, String>, ShardingGroupExecuteCallback<StatementExecuteUnit, String> {
+    private final class BlockingGroupExecuteCallback implements ShardingGroupExecuteCallback<StatementExecuteUnit, String> {
+        
+        private final CountDownLatch interruptedLatch;
+        
+        @Override
+        public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+            try {
+                Thread.sleep(60000L);
+            } catch (final InterruptedException ex) {
+                interruptedLatch.countDown();
+            }
+            return Collections.emptyList();
+        }
+    }
     
+    @RequiredArgsConstructor
+    private final class MockGroupExecuteCallback implements ShardingExecuteCallback<StatementExecuteUnit, String>, ShardingGroupExecuteCallback<StatementExecuteUnit, String> {
+        
         private final CountDownLatch latch;
         
         @Override
@@ -112,7 +190,7 @@ public class ShardingExecuteEngineTest {
             latch.countDown();
             return "succeed";
         }
-    
+        
         @Override
         public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
             List<String> result = new LinkedList<>();
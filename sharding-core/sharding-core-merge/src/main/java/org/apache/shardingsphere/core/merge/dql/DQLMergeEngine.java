@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.merge.dql;
 
 import com.google.common.base.Function;
+import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.DatabaseType;
@@ -26,6 +27,8 @@ import org.apache.shardingsphere.core.execute.sql.execute.result.DistinctQueryRe
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
 import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.common.SelectItemIndexBinding;
+import org.apache.shardingsphere.core.merge.dql.groupby.AggregationDistinctPartialMerger;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResult;
@@ -71,13 +74,15 @@ public final class DQLMergeEngine implements MergeEngine {
         columnLabelIndexMap = getColumnLabelIndexMap(this.queryResults.get(0));
     }
     
-    private List<QueryResult> getRealQueryResults(final List<QueryResult> queryResults) {
+    private List<QueryResult> getRealQueryResults(final List<QueryResult> queryResults) throws SQLException {
         List<QueryResult> result = queryResults;
         if (1 == result.size()) {
             return result;
         }
         if (!selectStatement.getAggregationDistinctSelectItems().isEmpty()) {
-            result = getDividedQueryResults(new AggregationDistinctQueryResult(queryResults, selectStatement.getAggregationDistinctSelectItems()));
+            Optional<List<QueryResult>> partialMergedQueryResults = new AggregationDistinctPartialMerger(selectStatement, queryResults).merge();
+            result = partialMergedQueryResults.isPresent()
+                    ? partialMergedQueryResults.get() : getDividedQueryResults(new AggregationDistinctQueryResult(queryResults, selectStatement.getAggregationDistinctSelectItems()));
         }
         if (isNeedProcessDistinctSelectItem()) {
             result = getDividedQueryResults(new DistinctQueryResult(queryResults, new ArrayList<>(selectStatement.getDistinctSelectItem().get().getDistinctColumnLabels())));
@@ -112,25 +117,24 @@ public final class DQLMergeEngine implements MergeEngine {
         if (1 == queryResults.size()) {
             return new IteratorStreamMergedResult(queryResults);
         }
-        selectStatement.setIndexForItems(columnLabelIndexMap);
-        return decorate(build());
+        return decorate(build(new SelectItemIndexBinding(columnLabelIndexMap, selectStatement)));
     }
     
-    private MergedResult build() throws SQLException {
+    private MergedResult build(final SelectItemIndexBinding indexBinding) throws SQLException {
         if (!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) {
-            return getGroupByMergedResult();
+            return getGroupByMergedResult(indexBinding);
         }
         if (!selectStatement.getOrderByItems().isEmpty()) {
-            return new OrderByStreamMergedResult(queryResults, selectStatement.getOrderByItems());
+            return new OrderByStreamMergedResult(queryResults, selectStatement.getOrderByItems(), indexBinding);
         }
         return new IteratorStreamMergedResult(queryResults);
     }
     
-    private MergedResult getGroupByMergedResult() throws SQLException {
+    private MergedResult getGroupByMergedResult(final SelectItemIndexBinding indexBinding) throws SQLException {
         if (selectStatement.isSameGroupByAndOrderByItems()) {
-            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+            return new GroupByStreamMergedResult(indexBinding, queryResults, selectStatement);
         } else {
-            return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+            return new GroupByMemoryMergedResult(indexBinding, queryResults, selectStatement);
         }
     }
     
@@ -140,7 +144,8 @@ public final class DQLMergeEngine implements MergeEngine {
             return mergedResult;
         }
         if (DatabaseType.MySQL == databaseType || DatabaseType.PostgreSQL == databaseType || DatabaseType.H2 == databaseType) {
-            return new LimitDecoratorMergedResult(mergedResult, routeResult.getLimit());
+            return routeResult.getRoutingUnitOffsets().isEmpty()
+                    ? new LimitDecoratorMergedResult(mergedResult, routeResult.getLimit()) : new LimitDecoratorMergedResult(mergedResult, 0, limit.getRowCountValue());
         }
         if (DatabaseType.Oracle == databaseType) {
             return new RowNumberDecoratorMergedResult(mergedResult, routeResult.getLimit());
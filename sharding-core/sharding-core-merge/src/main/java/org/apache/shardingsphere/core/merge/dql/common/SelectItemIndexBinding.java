@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
+import org.apache.shardingsphere.core.parse.old.parser.context.selectitem.AggregationSelectItem;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Select item index binding.
+ *
+ * <p>
+ * Binds order by, group by and aggregation items of select statement to column indexes of query results for one execution.
+ * Select statement is not modified, so it can be shared by concurrent executions through parsing result cache.
+ * </p>
+ */
+public final class SelectItemIndexBinding {
+    
+    @Getter
+    private final Map<String, Integer> columnLabelIndexMap;
+    
+    private final Map<Object, Integer> itemIndexes = new IdentityHashMap<>();
+    
+    public SelectItemIndexBinding(final Map<String, Integer> columnLabelIndexMap, final SelectStatement selectStatement) {
+        this.columnLabelIndexMap = columnLabelIndexMap;
+        bindAggregationItems(selectStatement.getAggregationSelectItems());
+        bindOrderItems(selectStatement.getOrderByItems());
+        bindOrderItems(selectStatement.getGroupByItems());
+    }
+    
+    private void bindAggregationItems(final List<AggregationSelectItem> aggregationSelectItems) {
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            Preconditions.checkState(columnLabelIndexMap.containsKey(each.getColumnLabel()), "Can't find index: %s, please add alias for aggregate selections", each);
+            itemIndexes.put(each, columnLabelIndexMap.get(each.getColumnLabel()));
+        }
+    }
+    
+    private void bindOrderItems(final List<OrderItem> orderItems) {
+        for (OrderItem each : orderItems) {
+            if (each.isIndex()) {
+                continue;
+            }
+            Preconditions.checkState(columnLabelIndexMap.containsKey(each.getColumnLabel()), "Can't find index: %s", each);
+            itemIndexes.put(each, columnLabelIndexMap.get(each.getColumnLabel()));
+        }
+    }
+    
+    /**
+     * Get column index of order item.
+     *
+     * @param orderItem order item
+     * @return column index
+     */
+    public int getIndex(final OrderItem orderItem) {
+        Integer result = itemIndexes.get(orderItem);
+        return null == result ? orderItem.getIndex() : result;
+    }
+    
+    /**
+     * Get column index of aggregation select item.
+     *
+     * @param aggregationSelectItem aggregation select item
+     * @return column index
+     */
+    public int getIndex(final AggregationSelectItem aggregationSelectItem) {
+        Integer result = itemIndexes.get(aggregationSelectItem);
+        return null == result ? aggregationSelectItem.getIndex() : result;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Multimap;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.AggregationType;
+import org.apache.shardingsphere.core.execute.sql.execute.result.DistinctQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
+import org.apache.shardingsphere.core.parse.old.parser.context.selectitem.AggregationDistinctSelectItem;
+import org.apache.shardingsphere.core.parse.util.SQLUtil;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Partial merger for aggregation distinct select items.
+ *
+ * <p>
+ * Distinct values returned by shards are combined into partial aggregation state of each group, instead of keeping every distinct row in memory.
+ * One query result with aggregated values is created for each group, so group by merge only handles one row per group.
+ * It is applicable only if every column returned by shards is group by column or aggregation distinct column.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class AggregationDistinctPartialMerger {
+    
+    private final SelectStatement selectStatement;
+    
+    private final List<QueryResult> queryResults;
+    
+    /**
+     * Merge query results to partial aggregated query results.
+     *
+     * @return partial aggregated query results of each group, absent if not applicable
+     * @throws SQLException SQL exception
+     */
+    public Optional<List<QueryResult>> merge() throws SQLException {
+        QueryResult firstQueryResult = queryResults.get(0);
+        Map<String, Integer> columnLabelIndexMap = getColumnLabelIndexMap(firstQueryResult);
+        List<Integer> groupByColumnIndexes = new ArrayList<>(selectStatement.getGroupByItems().size());
+        for (OrderItem each : selectStatement.getGroupByItems()) {
+            Integer index = each.isIndex() ? Integer.valueOf(each.getIndex()) : getColumnIndex(columnLabelIndexMap, each.getColumnLabel());
+            if (null == index) {
+                return Optional.absent();
+            }
+            groupByColumnIndexes.add(index);
+        }
+        List<AggregationDistinctSelectItem> distinctSelectItems = new ArrayList<>(selectStatement.getAggregationDistinctSelectItems());
+        List<Integer> distinctColumnIndexes = new ArrayList<>(distinctSelectItems.size());
+        for (AggregationDistinctSelectItem each : distinctSelectItems) {
+            Integer index = getColumnIndex(columnLabelIndexMap, each.getColumnLabel());
+            if (null == index) {
+                return Optional.absent();
+            }
+            distinctColumnIndexes.add(index);
+        }
+        if (!isAllColumnsCovered(firstQueryResult.getColumnCount(), groupByColumnIndexes, distinctColumnIndexes)) {
+            return Optional.absent();
+        }
+        Map<List<Object>, List<Set<Object>>> groups = aggregate(groupByColumnIndexes, distinctColumnIndexes);
+        Multimap<String, Integer> columnLabelAndIndexMap = getColumnLabelAndIndexMap(firstQueryResult, distinctSelectItems);
+        List<QueryResult> result = new ArrayList<>(groups.size());
+        for (Entry<List<Object>, List<Set<Object>>> entry : groups.entrySet()) {
+            QueryRow row = createRow(columnLabelAndIndexMap.size(), groupByColumnIndexes, entry.getKey(), distinctSelectItems, distinctColumnIndexes, entry.getValue());
+            result.add(new DistinctQueryResult(columnLabelAndIndexMap, Collections.singletonList(row).iterator()));
+        }
+        return Optional.of(result);
+    }
+    
+    private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = queryResult.getColumnCount(); i > 0; i--) {
+            result.put(SQLUtil.getExactlyValue(queryResult.getColumnLabel(i)), i);
+        }
+        return result;
+    }
+    
+    private Integer getColumnIndex(final Map<String, Integer> columnLabelIndexMap, final String columnLabel) {
+        return null == columnLabel ? null : columnLabelIndexMap.get(columnLabel);
+    }
+    
+    private boolean isAllColumnsCovered(final int columnCount, final List<Integer> groupByColumnIndexes, final List<Integer> distinctColumnIndexes) {
+        Set<Integer> coveredColumnIndexes = new HashSet<>(groupByColumnIndexes);
+        coveredColumnIndexes.addAll(distinctColumnIndexes);
+        for (int i = 1; i <= columnCount; i++) {
+            if (!coveredColumnIndexes.contains(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Map<List<Object>, List<Set<Object>>> aggregate(final List<Integer> groupByColumnIndexes, final List<Integer> distinctColumnIndexes) throws SQLException {
+        Map<List<Object>, List<Set<Object>>> result = new LinkedHashMap<>();
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                List<Object> groupByValues = new ArrayList<>(groupByColumnIndexes.size());
+                for (int columnIndex : groupByColumnIndexes) {
+                    groupByValues.add(each.getValue(columnIndex, Object.class));
+                }
+                List<Set<Object>> distinctValues = result.get(groupByValues);
+                if (null == distinctValues) {
+                    distinctValues = new ArrayList<>(distinctColumnIndexes.size());
+                    for (int i = 0; i < distinctColumnIndexes.size(); i++) {
+                        distinctValues.add(new HashSet<>());
+                    }
+                    result.put(groupByValues, distinctValues);
+                }
+                for (int i = 0; i < distinctColumnIndexes.size(); i++) {
+                    Object value = each.getValue(distinctColumnIndexes.get(i), Object.class);
+                    if (null != value) {
+                        distinctValues.get(i).add(value);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Multimap<String, Integer> getColumnLabelAndIndexMap(final QueryResult queryResult, final List<AggregationDistinctSelectItem> distinctSelectItems) throws SQLException {
+        Multimap<String, Integer> result = LinkedHashMultimap.create();
+        for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
+            result.put(queryResult.getColumnLabel(columnIndex), columnIndex);
+        }
+        for (AggregationDistinctSelectItem each : distinctSelectItems) {
+            if (!each.getDerivedAggregationSelectItems().isEmpty()) {
+                int countDerivedIndex = result.size() + 1;
+                result.put(each.getDerivedAggregationSelectItems().get(0).getColumnLabel(), countDerivedIndex);
+                result.put(each.getDerivedAggregationSelectItems().get(1).getColumnLabel(), countDerivedIndex + 1);
+            }
+        }
+        return result;
+    }
+    
+    private QueryRow createRow(final int columnCount, final List<Integer> groupByColumnIndexes, final List<Object> groupByValues, 
+                               final List<AggregationDistinctSelectItem> distinctSelectItems, final List<Integer> distinctColumnIndexes, final List<Set<Object>> distinctValues) throws SQLException {
+        List<Object> rowData = new ArrayList<>(Collections.nCopies(columnCount, null));
+        for (int i = 0; i < groupByColumnIndexes.size(); i++) {
+            rowData.set(groupByColumnIndexes.get(i) - 1, groupByValues.get(i));
+        }
+        int derivedColumnIndex = queryResults.get(0).getColumnCount();
+        for (int i = 0; i < distinctSelectItems.size(); i++) {
+            AggregationDistinctSelectItem selectItem = distinctSelectItems.get(i);
+            Set<Object> values = distinctValues.get(i);
+            rowData.set(distinctColumnIndexes.get(i) - 1, getAggregatedValue(selectItem.getType(), values));
+            if (!selectItem.getDerivedAggregationSelectItems().isEmpty()) {
+                rowData.set(derivedColumnIndex++, (long) values.size());
+                rowData.set(derivedColumnIndex++, getSum(values));
+            }
+        }
+        return new QueryRow(rowData);
+    }
+    
+    private Object getAggregatedValue(final AggregationType type, final Set<Object> values) {
+        switch (type) {
+            case COUNT:
+                return (long) values.size();
+            case SUM:
+                return getSum(values);
+            case MAX:
+            case MIN:
+                return getComparedValue(AggregationType.MAX == type, values);
+            default:
+                return null;
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Object getComparedValue(final boolean max, final Set<Object> values) {
+        Comparable<Object> result = null;
+        for (Object each : values) {
+            Comparable<Object> value = (Comparable<Object>) each;
+            if (null == result || (max ? value.compareTo(result) > 0 : value.compareTo(result) < 0)) {
+                result = value;
+            }
+        }
+        return result;
+    }
+    
+    private BigDecimal getSum(final Set<Object> values) {
+        if (values.isEmpty()) {
+            return null;
+        }
+        BigDecimal result = BigDecimal.ZERO;
+        for (Object each : values) {
+            result = result.add(new BigDecimal(each.toString()));
+        }
+        return result;
+    }
+}
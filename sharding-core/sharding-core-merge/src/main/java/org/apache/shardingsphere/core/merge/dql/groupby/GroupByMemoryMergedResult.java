@@ -23,6 +23,7 @@ import com.google.common.collect.Maps;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.common.SelectItemIndexBinding;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
@@ -46,12 +47,15 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     
     private final SelectStatement selectStatement;
     
+    private final SelectItemIndexBinding indexBinding;
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     public GroupByMemoryMergedResult(
-            final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
-        super(labelAndIndexMap);
+            final SelectItemIndexBinding indexBinding, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        super(indexBinding.getColumnLabelIndexMap());
         this.selectStatement = selectStatement;
+        this.indexBinding = indexBinding;
         memoryResultSetRows = init(queryResults);
     }
     
@@ -60,7 +64,7 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
         for (QueryResult each : queryResults) {
             while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
+                GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems(), indexBinding);
                 initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
                 aggregate(each, groupByValue, aggregationMap);
             }
@@ -105,7 +109,7 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     }
     
     private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationSelectItem aggregationSelectItem) throws SQLException {
-        Object result = queryResult.getValue(aggregationSelectItem.getIndex(), Object.class);
+        Object result = queryResult.getValue(indexBinding.getIndex(aggregationSelectItem), Object.class);
         Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
         return (Comparable<?>) result;
     }
@@ -113,14 +117,14 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
         for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
             for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+                entry.getValue().setCell(indexBinding.getIndex(each), aggregationMap.get(entry.getKey()).get(each).getResult());
             }
         }
     }
     
     private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap) {
         List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        Collections.sort(result, new GroupByRowComparator(selectStatement));
+        Collections.sort(result, new GroupByRowComparator(selectStatement, indexBinding));
         return result;
     }
     
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.merge.dql.groupby;
 import com.google.common.base.Preconditions;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.common.SelectItemIndexBinding;
 import org.apache.shardingsphere.core.merge.dql.orderby.CompareUtil;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
@@ -37,6 +38,8 @@ public final class GroupByRowComparator implements Comparator<MemoryQueryResultR
     
     private final SelectStatement selectStatement;
     
+    private final SelectItemIndexBinding indexBinding;
+    
     @Override
     public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
         if (!selectStatement.getOrderByItems().isEmpty()) {
@@ -47,9 +50,9 @@ public final class GroupByRowComparator implements Comparator<MemoryQueryResultR
     
     private int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2, final List<OrderItem> orderItems) {
         for (OrderItem each : orderItems) {
-            Object orderValue1 = o1.getCell(each.getIndex());
+            Object orderValue1 = o1.getCell(indexBinding.getIndex(each));
             Preconditions.checkState(null == orderValue1 || orderValue1 instanceof Comparable, "Order by value must implements Comparable");
-            Object orderValue2 = o2.getCell(each.getIndex());
+            Object orderValue2 = o2.getCell(indexBinding.getIndex(each));
             Preconditions.checkState(null == orderValue2 || orderValue2 instanceof Comparable, "Order by value must implements Comparable");
             int result = CompareUtil.compareTo((Comparable) orderValue1, (Comparable) orderValue2, each.getOrderDirection(), each.getNullOrderDirection());
             if (0 != result) {
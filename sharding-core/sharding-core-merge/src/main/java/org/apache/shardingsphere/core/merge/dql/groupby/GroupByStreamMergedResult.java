@@ -21,6 +21,7 @@ import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.common.SelectItemIndexBinding;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResult;
@@ -46,17 +47,20 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final SelectStatement selectStatement;
     
+    private final SelectItemIndexBinding indexBinding;
+    
     private final List<Object> currentRow;
     
     private List<?> currentGroupByValues;
     
     public GroupByStreamMergedResult(
-            final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
-        super(queryResults, selectStatement.getOrderByItems());
-        this.labelAndIndexMap = labelAndIndexMap;
+            final SelectItemIndexBinding indexBinding, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        super(queryResults, selectStatement.getOrderByItems(), indexBinding);
+        labelAndIndexMap = indexBinding.getColumnLabelIndexMap();
         this.selectStatement = selectStatement;
+        this.indexBinding = indexBinding;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty() ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues();
+        currentGroupByValues = getOrderByValuesQueue().isEmpty() ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems(), indexBinding).getGroupValues();
     }
     
     @Override
@@ -69,7 +73,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
             super.next();
         }
         if (aggregateCurrentGroupByRowAndNext()) {
-            currentGroupByValues = new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues();
+            currentGroupByValues = new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems(), indexBinding).getGroupValues();
         }
         return true;
     }
@@ -83,7 +87,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
                 return AggregationUnitFactory.create(input.getType());
             }
         });
-        while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues())) {
+        while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems(), indexBinding).getGroupValues())) {
             aggregate(aggregationUnitMap);
             cacheCurrentRow();
             result = super.next();
@@ -116,14 +120,14 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     }
     
     private Comparable<?> getAggregationValue(final AggregationSelectItem aggregationSelectItem) throws SQLException {
-        Object result = getCurrentQueryResult().getValue(aggregationSelectItem.getIndex(), Object.class);
+        Object result = getCurrentQueryResult().getValue(indexBinding.getIndex(aggregationSelectItem), Object.class);
         Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
         return (Comparable<?>) result;
     }
     
     private void setAggregationValueToCurrentRow(final Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap) {
         for (Entry<AggregationSelectItem, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            currentRow.set(entry.getKey().getIndex() - 1, entry.getValue().getResult());
+            currentRow.set(indexBinding.getIndex(entry.getKey()) - 1, entry.getValue().getResult());
         }
     }
     
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.merge.dql.groupby;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.common.SelectItemIndexBinding;
 import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
 
 import java.sql.SQLException;
@@ -37,14 +38,14 @@ public final class GroupByValue {
     
     private final List<?> groupValues;
     
-    public GroupByValue(final QueryResult queryResult, final List<OrderItem> groupByItems) throws SQLException {
-        groupValues = getGroupByValues(queryResult, groupByItems);
+    public GroupByValue(final QueryResult queryResult, final List<OrderItem> groupByItems, final SelectItemIndexBinding indexBinding) throws SQLException {
+        groupValues = getGroupByValues(queryResult, groupByItems, indexBinding);
     }
     
-    private List<?> getGroupByValues(final QueryResult queryResult, final List<OrderItem> groupByItems) throws SQLException {
+    private List<?> getGroupByValues(final QueryResult queryResult, final List<OrderItem> groupByItems, final SelectItemIndexBinding indexBinding) throws SQLException {
         List<Object> result = new ArrayList<>(groupByItems.size());
         for (OrderItem each : groupByItems) {
-            result.add(queryResult.getValue(each.getIndex(), Object.class));
+            result.add(queryResult.getValue(indexBinding.getIndex(each), Object.class));
         }
         return result;
     }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.merge.dql.orderby;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.common.SelectItemIndexBinding;
 import org.apache.shardingsphere.core.merge.dql.common.StreamMergedResult;
 import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
 
@@ -37,14 +38,17 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
     
     private final List<OrderItem> orderByItems;
     
+    private final SelectItemIndexBinding indexBinding;
+    
     @Getter(AccessLevel.PROTECTED)
     private final Queue<OrderByValue> orderByValuesQueue;
     
     @Getter(AccessLevel.PROTECTED)
     private boolean isFirstNext;
     
-    public OrderByStreamMergedResult(final List<QueryResult> queryResults, final List<OrderItem> orderByItems) throws SQLException {
+    public OrderByStreamMergedResult(final List<QueryResult> queryResults, final List<OrderItem> orderByItems, final SelectItemIndexBinding indexBinding) throws SQLException {
         this.orderByItems = orderByItems;
+        this.indexBinding = indexBinding;
         this.orderByValuesQueue = new PriorityQueue<>(queryResults.size());
         orderResultSetsToQueue(queryResults);
         isFirstNext = true;
@@ -52,7 +56,7 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
     
     private void orderResultSetsToQueue(final List<QueryResult> queryResults) throws SQLException {
         for (QueryResult each : queryResults) {
-            OrderByValue orderByValue = new OrderByValue(each, orderByItems);
+            OrderByValue orderByValue = new OrderByValue(each, orderByItems, indexBinding);
             if (orderByValue.next()) {
                 orderByValuesQueue.offer(orderByValue);
             }
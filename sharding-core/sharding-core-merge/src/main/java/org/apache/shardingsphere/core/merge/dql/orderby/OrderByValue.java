@@ -19,8 +19,8 @@ package org.apache.shardingsphere.core.merge.dql.orderby;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.common.SelectItemIndexBinding;
 import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
 
 import java.sql.SQLException;
@@ -33,7 +33,6 @@ import java.util.List;
  * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class OrderByValue implements Comparable<OrderByValue> {
     
     @Getter
@@ -41,8 +40,20 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final List<OrderItem> orderByItems;
     
+    private final int[] orderByIndexes;
+    
     private List<Comparable<?>> orderValues;
     
+    public OrderByValue(final QueryResult queryResult, final List<OrderItem> orderByItems, final SelectItemIndexBinding indexBinding) {
+        this.queryResult = queryResult;
+        this.orderByItems = orderByItems;
+        orderByIndexes = new int[orderByItems.size()];
+        int i = 0;
+        for (OrderItem each : orderByItems) {
+            orderByIndexes[i++] = indexBinding.getIndex(each);
+        }
+    }
+    
     /**
      * iterate next data.
      *
@@ -57,8 +68,8 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private List<Comparable<?>> getOrderValues() throws SQLException {
         List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+        for (int each : orderByIndexes) {
+            Object value = queryResult.getValue(each, Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
             result.add((Comparable<?>) value);
         }
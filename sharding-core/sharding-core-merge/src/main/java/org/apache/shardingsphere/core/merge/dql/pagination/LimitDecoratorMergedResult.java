@@ -30,20 +30,27 @@ import java.sql.SQLException;
  */
 public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
     
-    private final Limit limit;
+    private final int offset;
+    
+    private final int rowCount;
     
     private final boolean skipAll;
     
     private int rowNumber;
     
     public LimitDecoratorMergedResult(final MergedResult mergedResult, final Limit limit) throws SQLException {
+        this(mergedResult, limit.getOffsetValue(), limit.getRowCountValue());
+    }
+    
+    public LimitDecoratorMergedResult(final MergedResult mergedResult, final int offset, final int rowCount) throws SQLException {
         super(mergedResult);
-        this.limit = limit;
+        this.offset = offset;
+        this.rowCount = rowCount;
         skipAll = skipOffset();
     }
     
     private boolean skipOffset() throws SQLException {
-        for (int i = 0; i < limit.getOffsetValue(); i++) {
+        for (int i = 0; i < offset; i++) {
             if (!getMergedResult().next()) {
                 return true;
             }
@@ -57,9 +64,9 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
         if (skipAll) {
             return false;
         }
-        if (limit.getRowCountValue() < 0) {
+        if (rowCount < 0) {
             return getMergedResult().next();
         }
-        return ++rowNumber <= limit.getRowCountValue() && getMergedResult().next();
+        return ++rowNumber <= rowCount && getMergedResult().next();
     }
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.pagination;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.orderby.CompareUtil;
+import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Pagination offset merger for first phase of deep pagination.
+ *
+ * <p>
+ * Query results only contain sort keys in order of order by items, and are sorted by order by items already.
+ * Merges sort keys of query results and counts rows of every query result before pagination offset,
+ * so every query result can skip its own count of rows in second phase.
+ * </p>
+ */
+public final class PaginationOffsetMerger {
+    
+    private final List<QueryResult> queryResults;
+    
+    private final List<OrderItem> orderByItems;
+    
+    public PaginationOffsetMerger(final List<QueryResult> queryResults, final List<OrderItem> orderByItems) {
+        this.queryResults = queryResults;
+        this.orderByItems = orderByItems;
+    }
+    
+    /**
+     * Merge offsets of query results.
+     *
+     * @param offset pagination offset
+     * @return offsets of query results, in order of query results
+     * @throws SQLException SQL exception
+     */
+    public int[] merge(final int offset) throws SQLException {
+        int[] result = new int[queryResults.size()];
+        PriorityQueue<SortKeysValue> sortKeysValues = new PriorityQueue<>(Math.max(1, queryResults.size()));
+        for (int i = 0; i < queryResults.size(); i++) {
+            SortKeysValue sortKeysValue = new SortKeysValue(i);
+            if (sortKeysValue.next()) {
+                sortKeysValues.offer(sortKeysValue);
+            }
+        }
+        for (int i = 0; i < offset && !sortKeysValues.isEmpty(); i++) {
+            SortKeysValue first = sortKeysValues.poll();
+            result[first.queryResultIndex]++;
+            if (first.next()) {
+                sortKeysValues.offer(first);
+            }
+        }
+        return result;
+    }
+    
+    private final class SortKeysValue implements Comparable<SortKeysValue> {
+        
+        private final int queryResultIndex;
+        
+        private final List<Comparable<?>> sortKeys = new ArrayList<>(orderByItems.size());
+        
+        SortKeysValue(final int queryResultIndex) {
+            this.queryResultIndex = queryResultIndex;
+        }
+        
+        boolean next() throws SQLException {
+            QueryResult queryResult = queryResults.get(queryResultIndex);
+            if (!queryResult.next()) {
+                return false;
+            }
+            sortKeys.clear();
+            for (int i = 0; i < orderByItems.size(); i++) {
+                Object value = queryResult.getValue(i + 1, Object.class);
+                Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
+                sortKeys.add((Comparable<?>) value);
+            }
+            return true;
+        }
+        
+        @Override
+        public int compareTo(final SortKeysValue o) {
+            for (int i = 0; i < orderByItems.size(); i++) {
+                OrderItem orderItem = orderByItems.get(i);
+                int result = CompareUtil.compareTo(sortKeys.get(i), o.sortKeys.get(i), orderItem.getOrderDirection(), orderItem.getNullOrderDirection());
+                if (0 != result) {
+                    return result;
+                }
+            }
+            return Integer.compare(queryResultIndex, o.queryResultIndex);
+        }
+    }
+}
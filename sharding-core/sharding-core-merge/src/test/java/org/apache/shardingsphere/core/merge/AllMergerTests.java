@@ -26,7 +26,9 @@ import org.apache.shardingsphere.core.merge.dql.DQLMergeEngineTest;
 import org.apache.shardingsphere.core.merge.dql.common.DecoratorMergedResultTest;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResultTest;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRowTest;
+import org.apache.shardingsphere.core.merge.dql.common.SelectItemIndexBindingTest;
 import org.apache.shardingsphere.core.merge.dql.common.StreamMergedResultTest;
+import org.apache.shardingsphere.core.merge.dql.groupby.AggregationDistinctPartialMergerTest;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResultTest;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByRowComparatorTest;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResultTest;
@@ -37,6 +39,7 @@ import org.apache.shardingsphere.core.merge.dql.orderby.CompareUtilTest;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResultTest;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByValueTest;
 import org.apache.shardingsphere.core.merge.dql.pagination.LimitDecoratorMergedResultTest;
+import org.apache.shardingsphere.core.merge.dql.pagination.PaginationOffsetMergerTest;
 import org.apache.shardingsphere.core.merge.dql.pagination.RowNumberDecoratorMergedResultTest;
 import org.apache.shardingsphere.core.merge.dql.pagination.TopAndRowNumberDecoratorMergedResultTest;
 import org.junit.runner.RunWith;
@@ -50,6 +53,7 @@ import org.junit.runners.Suite.SuiteClasses;
         MemoryMergedResultTest.class, 
         DecoratorMergedResultTest.class, 
         MemoryQueryResultRowTest.class, 
+        SelectItemIndexBindingTest.class, 
         IteratorStreamMergedResultTest.class, 
         OrderByValueTest.class, 
         OrderByStreamMergedResultTest.class, 
@@ -58,8 +62,10 @@ import org.junit.runners.Suite.SuiteClasses;
         GroupByRowComparatorTest.class, 
         GroupByStreamMergedResultTest.class, 
         GroupByMemoryMergedResultTest.class, 
+        AggregationDistinctPartialMergerTest.class, 
         AllAggregationTests.class, 
         LimitDecoratorMergedResultTest.class,
+        PaginationOffsetMergerTest.class,
         RowNumberDecoratorMergedResultTest.class,
         TopAndRowNumberDecoratorMergedResultTest.class,
         DALMergeEngineTest.class,
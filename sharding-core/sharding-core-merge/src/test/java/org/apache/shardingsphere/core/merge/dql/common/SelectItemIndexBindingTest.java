@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.AggregationType;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
+import org.apache.shardingsphere.core.parse.old.parser.context.selectitem.AggregationSelectItem;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SelectItemIndexBindingTest {
+    
+    private final Map<String, Integer> columnLabelIndexMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    
+    private SelectStatement selectStatement;
+    
+    private AggregationSelectItem aggregationSelectItem;
+    
+    private OrderItem orderByItem;
+    
+    private OrderItem groupByItem;
+    
+    @Before
+    public void setUp() {
+        columnLabelIndexMap.put("id", 1);
+        columnLabelIndexMap.put("COUNT(*)", 2);
+        columnLabelIndexMap.put("name", 3);
+        selectStatement = new SelectStatement();
+        aggregationSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(*)", Optional.<String>absent());
+        selectStatement.getItems().add(aggregationSelectItem);
+        orderByItem = new OrderItem("name", OrderDirection.ASC, OrderDirection.ASC);
+        selectStatement.getOrderByItems().add(orderByItem);
+        groupByItem = new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC);
+        selectStatement.getGroupByItems().add(groupByItem);
+    }
+    
+    @Test
+    public void assertGetIndex() {
+        SelectItemIndexBinding actual = new SelectItemIndexBinding(columnLabelIndexMap, selectStatement);
+        assertThat(actual.getIndex(aggregationSelectItem), is(2));
+        assertThat(actual.getIndex(orderByItem), is(3));
+        assertThat(actual.getIndex(groupByItem), is(1));
+    }
+    
+    @Test
+    public void assertSelectStatementNotModified() {
+        new SelectItemIndexBinding(columnLabelIndexMap, selectStatement);
+        assertThat(aggregationSelectItem.getIndex(), is(-1));
+        assertThat(orderByItem.getIndex(), is(-1));
+    }
+    
+    @Test
+    public void assertBindDifferentColumnIndexesForSameSelectStatement() {
+        Map<String, Integer> anotherColumnLabelIndexMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        anotherColumnLabelIndexMap.put("name", 1);
+        anotherColumnLabelIndexMap.put("COUNT(*)", 2);
+        SelectItemIndexBinding binding = new SelectItemIndexBinding(columnLabelIndexMap, selectStatement);
+        SelectItemIndexBinding anotherBinding = new SelectItemIndexBinding(anotherColumnLabelIndexMap, selectStatement);
+        assertThat(binding.getIndex(orderByItem), is(3));
+        assertThat(anotherBinding.getIndex(orderByItem), is(1));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertBindWithoutAggregationColumnLabel() {
+        columnLabelIndexMap.remove("COUNT(*)");
+        new SelectItemIndexBinding(columnLabelIndexMap, selectStatement);
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertBindWithoutOrderByColumnLabel() {
+        columnLabelIndexMap.remove("name");
+        new SelectItemIndexBinding(columnLabelIndexMap, selectStatement);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.AggregationType;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
+import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
+import org.apache.shardingsphere.core.parse.old.parser.context.selectitem.AggregationDistinctSelectItem;
+import org.apache.shardingsphere.core.parse.old.parser.context.selectitem.AggregationSelectItem;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class AggregationDistinctPartialMergerTest {
+    
+    private SelectStatement selectStatement;
+    
+    @Before
+    public void setUp() {
+        selectStatement = new SelectStatement();
+        selectStatement.getItems().add(new AggregationDistinctSelectItem(AggregationType.COUNT, "(DISTINCT order_id)", Optional.of("c"), "order_id"));
+        AggregationDistinctSelectItem avgSelectItem = new AggregationDistinctSelectItem(AggregationType.AVG, "(DISTINCT order_id)", Optional.of("a"), "order_id");
+        avgSelectItem.getDerivedAggregationSelectItems().add(new AggregationSelectItem(AggregationType.COUNT, "(DISTINCT order_id)", Optional.of("AVG_DERIVED_COUNT_0")));
+        avgSelectItem.getDerivedAggregationSelectItems().add(new AggregationSelectItem(AggregationType.SUM, "(DISTINCT order_id)", Optional.of("AVG_DERIVED_SUM_0")));
+        selectStatement.getItems().add(avgSelectItem);
+        selectStatement.getGroupByItems().add(new OrderItem("user_id", OrderDirection.ASC, OrderDirection.ASC));
+    }
+    
+    @Test
+    public void assertMerge() throws SQLException {
+        Optional<List<QueryResult>> actual = new AggregationDistinctPartialMerger(selectStatement, createQueryResults()).merge();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(2));
+        QueryResult firstGroup = actual.get().get(0);
+        assertThat(firstGroup.getColumnCount(), is(5));
+        assertTrue(firstGroup.next());
+        assertThat(firstGroup.getValue(1, Object.class), is((Object) 1));
+        assertThat(firstGroup.getValue(2, Object.class), is((Object) 3L));
+        assertThat(firstGroup.getValue("AVG_DERIVED_COUNT_0", Object.class), is((Object) 3L));
+        assertThat(firstGroup.getValue("AVG_DERIVED_SUM_0", Object.class), is((Object) new BigDecimal(33)));
+        assertFalse(firstGroup.next());
+        QueryResult secondGroup = actual.get().get(1);
+        assertTrue(secondGroup.next());
+        assertThat(secondGroup.getValue(1, Object.class), is((Object) 2));
+        assertThat(secondGroup.getValue(2, Object.class), is((Object) 1L));
+        assertThat(secondGroup.getValue(5, Object.class), is((Object) new BigDecimal(10)));
+        assertFalse(secondGroup.next());
+    }
+    
+    @Test
+    public void assertMergeWithUncoveredColumn() throws SQLException {
+        selectStatement.getGroupByItems().clear();
+        assertFalse(new AggregationDistinctPartialMerger(selectStatement, createQueryResults()).merge().isPresent());
+    }
+    
+    @Test
+    public void assertMergeWithDQLMergeEngine() throws SQLException {
+        SQLRouteResult routeResult = new SQLRouteResult(selectStatement);
+        MergedResult actual = new DQLMergeEngine(DatabaseType.MySQL, routeResult, createQueryResults()).merge();
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertThat(actual.getValue(2, Object.class), is((Object) new BigDecimal(3)));
+        assertThat(((BigDecimal) actual.getValue(3, Object.class)).intValue(), is(11));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 2));
+        assertThat(actual.getValue(2, Object.class), is((Object) new BigDecimal(1)));
+        assertThat(((BigDecimal) actual.getValue(3, Object.class)).intValue(), is(10));
+        assertFalse(actual.next());
+    }
+    
+    private List<QueryResult> createQueryResults() throws SQLException {
+        ResultSet resultSet1 = mockResultSet();
+        when(resultSet1.next()).thenReturn(true, true, true, false);
+        when(resultSet1.getObject(1)).thenReturn(1, 1, 2);
+        when(resultSet1.getObject(2)).thenReturn(10, 11, 10);
+        when(resultSet1.getObject(3)).thenReturn(10, 11, 10);
+        ResultSet resultSet2 = mockResultSet();
+        when(resultSet2.next()).thenReturn(true, true, false);
+        when(resultSet2.getObject(1)).thenReturn(1, 1);
+        when(resultSet2.getObject(2)).thenReturn(10, 12);
+        when(resultSet2.getObject(3)).thenReturn(10, 12);
+        return Arrays.<QueryResult>asList(new TestQueryResult(resultSet1), new TestQueryResult(resultSet2));
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(3);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("user_id");
+        when(resultSetMetaData.getColumnLabel(2)).thenReturn("c");
+        when(resultSetMetaData.getColumnLabel(3)).thenReturn("a");
+        return result;
+    }
+}
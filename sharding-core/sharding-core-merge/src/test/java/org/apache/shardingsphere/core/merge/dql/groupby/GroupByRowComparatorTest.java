@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.merge.dql.groupby;
 import org.apache.shardingsphere.core.constant.OrderDirection;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.common.SelectItemIndexBinding;
 import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
@@ -29,6 +30,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -45,7 +47,7 @@ public final class GroupByRowComparatorTest {
         SelectStatement selectStatement = new SelectStatement();
         selectStatement.getOrderByItems().addAll(Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(2, OrderDirection.ASC, OrderDirection.ASC)));
         selectStatement.getGroupByItems().addAll(Arrays.asList(new OrderItem(1, OrderDirection.DESC, OrderDirection.ASC), new OrderItem(2, OrderDirection.DESC, OrderDirection.ASC)));
-        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement);
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, new SelectItemIndexBinding(Collections.<String, Integer>emptyMap(), selectStatement));
         assertTrue(groupByRowComparator.compare(o1, o2) < 0);
     }
     
@@ -56,7 +58,7 @@ public final class GroupByRowComparatorTest {
         SelectStatement selectStatement = new SelectStatement();
         selectStatement.getOrderByItems().addAll(Arrays.asList(new OrderItem(1, OrderDirection.DESC, OrderDirection.ASC), new OrderItem(2, OrderDirection.DESC, OrderDirection.ASC)));
         selectStatement.getGroupByItems().addAll(Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(2, OrderDirection.ASC, OrderDirection.ASC)));
-        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement);
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, new SelectItemIndexBinding(Collections.<String, Integer>emptyMap(), selectStatement));
         assertTrue(groupByRowComparator.compare(o1, o2) > 0);
     }
     
@@ -67,7 +69,7 @@ public final class GroupByRowComparatorTest {
         SelectStatement selectStatement = new SelectStatement();
         selectStatement.getOrderByItems().addAll(Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(2, OrderDirection.DESC, OrderDirection.ASC)));
         selectStatement.getGroupByItems().addAll(Arrays.asList(new OrderItem(1, OrderDirection.DESC, OrderDirection.ASC), new OrderItem(2, OrderDirection.ASC, OrderDirection.ASC)));
-        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement);
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, new SelectItemIndexBinding(Collections.<String, Integer>emptyMap(), selectStatement));
         assertThat(groupByRowComparator.compare(o1, o2), is(0));
     }
     
@@ -77,7 +79,7 @@ public final class GroupByRowComparatorTest {
         MemoryQueryResultRow o2 = new MemoryQueryResultRow(mockQueryResult("3", "4"));
         SelectStatement selectStatement = new SelectStatement();
         selectStatement.getGroupByItems().addAll(Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(2, OrderDirection.ASC, OrderDirection.ASC)));
-        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement);
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, new SelectItemIndexBinding(Collections.<String, Integer>emptyMap(), selectStatement));
         assertTrue(groupByRowComparator.compare(o1, o2) < 0);
     }
     
@@ -87,7 +89,7 @@ public final class GroupByRowComparatorTest {
         MemoryQueryResultRow o2 = new MemoryQueryResultRow(mockQueryResult("3", "4"));
         SelectStatement selectStatement = new SelectStatement();
         selectStatement.getGroupByItems().addAll(Arrays.asList(new OrderItem(1, OrderDirection.DESC, OrderDirection.ASC), new OrderItem(2, OrderDirection.DESC, OrderDirection.ASC)));
-        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement);
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, new SelectItemIndexBinding(Collections.<String, Integer>emptyMap(), selectStatement));
         assertTrue(groupByRowComparator.compare(o1, o2) > 0);
     }
     
@@ -97,7 +99,7 @@ public final class GroupByRowComparatorTest {
         MemoryQueryResultRow o2 = new MemoryQueryResultRow(mockQueryResult("1", "2"));
         SelectStatement selectStatement = new SelectStatement();
         selectStatement.getGroupByItems().addAll(Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(2, OrderDirection.DESC, OrderDirection.ASC)));
-        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement);
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatement, new SelectItemIndexBinding(Collections.<String, Integer>emptyMap(), selectStatement));
         assertThat(groupByRowComparator.compare(o1, o2), is(0));
     }
     
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.core.merge.dql.groupby;
 
 import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.merge.dql.common.SelectItemIndexBinding;
 import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
 import org.junit.Before;
 import org.junit.Test;
@@ -29,6 +31,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertFalse;
@@ -38,6 +41,8 @@ import static org.mockito.Mockito.when;
 @RunWith(MockitoJUnitRunner.class)
 public final class GroupByValueTest {
     
+    private final SelectItemIndexBinding indexBinding = new SelectItemIndexBinding(Collections.<String, Integer>emptyMap(), new SelectStatement());
+    
     @Mock
     private ResultSet resultSet;
     
@@ -50,7 +55,7 @@ public final class GroupByValueTest {
     @Test
     public void assertGetGroupByValues() throws SQLException {
         List<?> actual = new GroupByValue(
-                new TestQueryResult(resultSet), Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(3, OrderDirection.DESC, OrderDirection.ASC))).getGroupValues();
+                new TestQueryResult(resultSet), Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(3, OrderDirection.DESC, OrderDirection.ASC)), indexBinding).getGroupValues();
         List<?> expected = Arrays.asList("1", "3");
         assertTrue(actual.equals(expected));
     }
@@ -58,9 +63,9 @@ public final class GroupByValueTest {
     @Test
     public void assertGroupByValueEquals() throws SQLException {
         GroupByValue groupByValue1 = new GroupByValue(new TestQueryResult(resultSet),
-            Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(3, OrderDirection.DESC, OrderDirection.ASC)));
+            Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(3, OrderDirection.DESC, OrderDirection.ASC)), indexBinding);
         GroupByValue groupByValue2 = new GroupByValue(new TestQueryResult(resultSet),
-            Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(3, OrderDirection.DESC, OrderDirection.ASC)));
+            Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(3, OrderDirection.DESC, OrderDirection.ASC)), indexBinding);
         assertTrue(groupByValue1.equals(groupByValue2));
         assertTrue(groupByValue2.equals(groupByValue1));
         assertTrue(groupByValue1.hashCode() == groupByValue2.hashCode());
@@ -69,9 +74,9 @@ public final class GroupByValueTest {
     @Test
     public void assertGroupByValueNotEquals() throws SQLException {
         GroupByValue groupByValue1 = new GroupByValue(new TestQueryResult(resultSet),
-            Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(3, OrderDirection.DESC, OrderDirection.ASC)));
+            Arrays.asList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(3, OrderDirection.DESC, OrderDirection.ASC)), indexBinding);
         GroupByValue groupByValue2 = new GroupByValue(new TestQueryResult(resultSet),
-            Arrays.asList(new OrderItem(3, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(1, OrderDirection.DESC, OrderDirection.ASC)));
+            Arrays.asList(new OrderItem(3, OrderDirection.ASC, OrderDirection.ASC), new OrderItem(1, OrderDirection.DESC, OrderDirection.ASC)), indexBinding);
         assertFalse(groupByValue1.equals(groupByValue2));
         assertFalse(groupByValue1.hashCode() == groupByValue2.hashCode());
     }
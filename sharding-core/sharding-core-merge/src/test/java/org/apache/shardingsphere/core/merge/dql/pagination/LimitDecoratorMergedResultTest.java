@@ -27,6 +27,7 @@ import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatem
 import org.apache.shardingsphere.core.parse.old.parser.context.limit.Limit;
 import org.apache.shardingsphere.core.parse.old.parser.context.limit.LimitValue;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -104,4 +105,19 @@ public final class LimitDecoratorMergedResultTest {
         assertTrue(actual.next());
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithRoutingUnitOffsets() throws SQLException {
+        Limit limit = new Limit();
+        limit.setOffset(new LimitValue(6, -1, true));
+        limit.setRowCount(new LimitValue(3, -1, false));
+        routeResult.setLimit(limit);
+        routeResult.getRoutingUnitOffsets().put(new RoutingUnit("ds_0"), 2);
+        mergeEngine = new DQLMergeEngine(DatabaseType.MySQL, routeResult, queryResults);
+        MergedResult actual = mergeEngine.merge();
+        for (int i = 0; i < 3; i++) {
+            assertTrue(actual.next());
+        }
+        assertFalse(actual.next());
+    }
 }
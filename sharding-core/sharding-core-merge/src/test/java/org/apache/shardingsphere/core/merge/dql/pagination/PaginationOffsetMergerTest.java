@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.pagination;
+
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PaginationOffsetMergerTest {
+    
+    @Test
+    public void assertMergeWithAscOrder() throws SQLException {
+        PaginationOffsetMerger actual = new PaginationOffsetMerger(
+                Arrays.asList(mockQueryResult(1, 4, 7), mockQueryResult(2, 3, 8), mockQueryResult()), Collections.singletonList(new OrderItem("id", OrderDirection.ASC, OrderDirection.ASC)));
+        assertThat(actual.merge(4), is(new int[] {2, 2, 0}));
+    }
+    
+    @Test
+    public void assertMergeWithDescOrder() throws SQLException {
+        PaginationOffsetMerger actual = new PaginationOffsetMerger(
+                Arrays.asList(mockQueryResult(7, 4, 1), mockQueryResult(8, 3, 2)), Collections.singletonList(new OrderItem("id", OrderDirection.DESC, OrderDirection.ASC)));
+        assertThat(actual.merge(3), is(new int[] {2, 1}));
+    }
+    
+    @Test
+    public void assertMergeWithOffsetBeyondRows() throws SQLException {
+        PaginationOffsetMerger actual = new PaginationOffsetMerger(
+                Arrays.asList(mockQueryResult(1, 4, 7), mockQueryResult(2, 3)), Collections.singletonList(new OrderItem("id", OrderDirection.ASC, OrderDirection.ASC)));
+        assertThat(actual.merge(100), is(new int[] {3, 2}));
+    }
+    
+    private QueryResult mockQueryResult(final Integer... sortKeys) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        Boolean[] nexts = new Boolean[sortKeys.length + 1];
+        for (int i = 0; i < nexts.length; i++) {
+            nexts[i] = i < sortKeys.length;
+        }
+        when(result.next()).thenReturn(nexts[0], Arrays.copyOfRange(nexts, 1, nexts.length));
+        if (0 != sortKeys.length) {
+            when(result.getValue(1, Object.class)).thenReturn(sortKeys[0], (Object[]) Arrays.copyOfRange(sortKeys, 1, sortKeys.length));
+        }
+        return result;
+    }
+}
@@ -120,11 +120,8 @@ public final class GeneratedKey {
     }
     
     private static GeneratedKey createGeneratedKey(final ShardingRule shardingRule, final InsertStatement insertStatement, final String generateKeyColumnName) {
-        String tableName = insertStatement.getTables().getSingleTableName();
         GeneratedKey result = new GeneratedKey(generateKeyColumnName);
-        for (int i = 0; i < insertStatement.getValues().size(); i++) {
-            result.getGeneratedKeys().add(shardingRule.generateKey(tableName));
-        }
+        result.getGeneratedKeys().addAll(shardingRule.generateKeys(insertStatement.getTables().getSingleTableName(), insertStatement.getValues().size()));
         return result;
     }
 }
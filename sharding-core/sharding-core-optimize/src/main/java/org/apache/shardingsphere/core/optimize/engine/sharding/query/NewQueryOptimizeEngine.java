@@ -17,17 +17,20 @@
 
 package org.apache.shardingsphere.core.optimize.engine.sharding.query;
 
+import com.google.common.base.Optional;
 import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.ShardingOperator;
 import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.optimize.engine.NewOptimizeEngine;
+import org.apache.shardingsphere.core.parse.old.parser.clause.condition.NullCondition;
 import org.apache.shardingsphere.core.parse.old.parser.context.condition.*;
 import org.apache.shardingsphere.core.parse.old.parser.expression.SQLFunctionExector;
 import org.apache.shardingsphere.core.parse.old.parser.expression.SQLFunctionExpression;
 import org.apache.shardingsphere.core.strategy.route.value.*;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -35,114 +38,117 @@ import java.util.Map.Entry;
 /**
  * Query optimize engine.
  *
+ * <p>
+ * Sharding conditions are normalized into disjunctive normal form with respect to precedence of logical operators.
+ * Conditions of same column are merged, contradictory conjunctions are removed,
+ * and condition which expands to too many conjunctions is ignored to route to all data nodes.
+ * </p>
+ *
  * @author zhangliang
  */
 @RequiredArgsConstructor
 public final class NewQueryOptimizeEngine implements NewOptimizeEngine {
     
+    private static final int MAX_CONJUNCTION_COUNT = 1024;
+    
     private final Group shardingCondition;
     
     private final List<Object> parameters;
-
+    
     private final SQLFunctionExector sqlFunctionExector;
     
     @Override
     public GroupRouteValue optimize() {
-        GroupRouteValue groupRouteValue = shardingAndOptimize(shardingCondition.getExpressions());
-        groupRouteValue.optimize();
-        boolean isAlwaysFalse = false;
-        if (!groupRouteValue.isEmpty()) {
-           isAlwaysFalse = checkIfAlwaysFalse(groupRouteValue);
-        }
-        groupRouteValue.setAlwaysFalse(isAlwaysFalse);
-        return groupRouteValue;
+        GroupRouteValue result = new GroupRouteValue();
+        Optional<RouteValueDisjunction> disjunction = normalize(shardingCondition.getExpressions());
+        if (!disjunction.isPresent()) {
+            return result;
+        }
+        if (disjunction.get().isAlwaysFalse()) {
+            result.setAlwaysFalse(true);
+            return result;
+        }
+        for (Map<String, RouteValue> each : disjunction.get().getConjunctions()) {
+            if (!result.isEmpty()) {
+                result.add(OrValue.instance);
+            }
+            result.add(createRouteValueCondition(each.values()));
+        }
+        return result;
     }
-
-
-    private boolean checkIfAlwaysFalse(GroupRouteValue groupRouteValue) {
-        List<RouteValueCondition> conditions = groupRouteValue.getConditionList();
-        int len = conditions.size();
-        for (int index = 0; index < len; index++) {
-            RouteValueCondition condition = conditions.get(index);
-            if (condition instanceof  AndValue || condition instanceof OrValue) {
-                continue;
-            } else if (condition instanceof GroupRouteValue) {
-                GroupRouteValue subGroup = (GroupRouteValue)condition;
-                if (!subGroup.isEmpty()) {
-                    boolean isAlwaysFalse = checkIfAlwaysFalse(subGroup);
-                    if (!isAlwaysFalse) {
-                        return false;
-                    }
-                }
-            } else if (! (condition instanceof  AlwaysFalseShardingValue)) {
-                return false;
+    
+    private RouteValueCondition createRouteValueCondition(final Collection<RouteValue> conjunction) {
+        if (1 == conjunction.size()) {
+            return conjunction.iterator().next();
+        }
+        GroupRouteValue result = new GroupRouteValue();
+        for (RouteValue each : conjunction) {
+            if (!result.isEmpty()) {
+                result.add(AndValue.instance);
             }
+            result.add(each);
         }
-        return true;
-
+        return result;
     }
-
-    private GroupRouteValue shardingAndOptimize(List<SQLCondition> conditions) {
-        int len = conditions.size();
-        GroupRouteValue group = new GroupRouteValue();
-        boolean isLogicExpression = false;
-        //0 : Condition, 1 : and   2 : or
-//        short andOr = 0;
-        for (int index = 0; index < len; index++) {
-            SQLCondition condition = conditions.get(index);
-            if (isLogicExpression) {
-                if (condition instanceof And) {
-                    group.add(AndValue.instance);
-                } else if (condition instanceof Or) {
-                    group.add(OrValue.instance);
-                } else {
-                    throw new IllegalArgumentException("Wrong SQL expression: " + condition);
-                }
-                isLogicExpression = false;
-            } else {
-                if (condition instanceof  Condition) {
-                    RouteValue routeValue = shardingOptimize((Condition) condition);
-                    if (routeValue instanceof AlwaysFalseShardingValue) {
-                        group.removeLastLogicOp();
-                        if (group.isEmpty()) {
-                            //ignore next logic operator.
-                            if (index + 1 < len) {
-                                conditions.remove(index + 1);
-                                len--;
-                                isLogicExpression =false;
-                                continue;
-                            }
-                        }
-                    } else {
-                        group.add(routeValue);
-                    }
-                } else if (condition instanceof Group) {
-                    GroupRouteValue subGroup = shardingAndOptimize(((Group) condition).getExpressions());
-                    if (subGroup.getConditionList().size() == 1) {
-                        group.add(subGroup.getConditionList().get(0));
-                    } else if (subGroup.isEmpty()) {
-                        group.removeLastLogicOp();
-                        if (group.isEmpty()) {
-                            //ignore next logic operator.
-                            if (index + 1 < len) {
-                                conditions.remove(index + 1);
-                                len--;
-                                isLogicExpression =false;
-                                continue;
-                            }
-                        }
-                    } else {
-                        group.add(subGroup);
-                    }
-                } else {
-                    throw new IllegalArgumentException("Wrong SQL expression: " + condition);
-                }
-                isLogicExpression = true;
+    
+    private Optional<RouteValueDisjunction> normalize(final List<SQLCondition> expressions) {
+        Optional<RouteValueDisjunction> result = Optional.of(RouteValueDisjunction.alwaysFalse());
+        Optional<RouteValueDisjunction> conjunction = null;
+        boolean hasOperand = false;
+        boolean isOperand = true;
+        for (SQLCondition each : expressions) {
+            if (each instanceof Or && null != conjunction) {
+                result = or(result, conjunction);
+                conjunction = null;
+            }
+            if (each instanceof And || each instanceof Or) {
+                isOperand = true;
+                continue;
             }
+            if (!isOperand) {
+                throw new IllegalArgumentException("Wrong SQL expression: " + each);
+            }
+            Optional<RouteValueDisjunction> operand = normalizeOperand(each);
+            conjunction = null == conjunction ? operand : and(conjunction, operand);
+            hasOperand = true;
+            isOperand = false;
+        }
+        if (null != conjunction) {
+            result = or(result, conjunction);
         }
-        return group;
+        return hasOperand ? result : Optional.<RouteValueDisjunction>absent();
     }
-
+    
+    private Optional<RouteValueDisjunction> normalizeOperand(final SQLCondition sqlCondition) {
+        if (sqlCondition instanceof NullCondition) {
+            return Optional.absent();
+        }
+        if (sqlCondition instanceof Condition) {
+            return Optional.of(RouteValueDisjunction.of(shardingOptimize((Condition) sqlCondition)));
+        }
+        if (sqlCondition instanceof Group) {
+            return normalize(((Group) sqlCondition).getExpressions());
+        }
+        throw new IllegalArgumentException("Wrong SQL expression: " + sqlCondition);
+    }
+    
+    private Optional<RouteValueDisjunction> and(final Optional<RouteValueDisjunction> disjunction1, final Optional<RouteValueDisjunction> disjunction2) {
+        if (!disjunction1.isPresent()) {
+            return disjunction2;
+        }
+        if (!disjunction2.isPresent()) {
+            return disjunction1;
+        }
+        return disjunction1.get().and(disjunction2.get(), MAX_CONJUNCTION_COUNT);
+    }
+    
+    private Optional<RouteValueDisjunction> or(final Optional<RouteValueDisjunction> disjunction1, final Optional<RouteValueDisjunction> disjunction2) {
+        if (!disjunction1.isPresent() || !disjunction2.isPresent()) {
+            return Optional.absent();
+        }
+        return disjunction1.get().or(disjunction2.get(), MAX_CONJUNCTION_COUNT);
+    }
+    
     private RouteValue shardingOptimize(Condition condition) {
         Column column = condition.getColumn();
         List<Comparable<?>> listValue = null;
@@ -195,8 +201,8 @@ public final class NewQueryOptimizeEngine implements NewOptimizeEngine {
         }
         return new AlwaysFalseShardingValue();
     }
-
-
+    
+    
     private List<Comparable<?>> computeConditionValues(List<Comparable<?>> result, Map<Integer, SQLFunctionExpression> positionExpressionMap, final List<Object> parameters) {
         for (Entry<Integer, SQLFunctionExpression> entry : positionExpressionMap.entrySet()) {
             Object parameter = sqlFunctionExector.compute(entry.getValue(), parameters);
@@ -211,8 +217,8 @@ public final class NewQueryOptimizeEngine implements NewOptimizeEngine {
         }
         return result;
     }
-
-
+    
+    
     private List<Comparable<?>> optimize(final List<Comparable<?>> value1, final List<Comparable<?>> value2) {
         if (null == value2) {
             return value1;
@@ -220,5 +226,5 @@ public final class NewQueryOptimizeEngine implements NewOptimizeEngine {
         value1.retainAll(value2);
         return value1;
     }
-    
+
 }
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.optimize.engine.sharding.query;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Range;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.strategy.route.value.BetweenRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Route values in disjunctive normal form.
+ *
+ * <p>
+ * Each conjunction keeps one merged route value for each column, conjunctions which are contradictory are removed.
+ * Disjunction without conjunction is always false.
+ * Combining result is absent if count of conjunctions exceeds the limit, which means the condition can not be used for routing.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+final class RouteValueDisjunction {
+    
+    private final List<Map<String, RouteValue>> conjunctions;
+    
+    /**
+     * Create always false disjunction.
+     *
+     * @return always false disjunction
+     */
+    static RouteValueDisjunction alwaysFalse() {
+        return new RouteValueDisjunction(new LinkedList<Map<String, RouteValue>>());
+    }
+    
+    /**
+     * Create disjunction with single route value.
+     *
+     * @param routeValue route value
+     * @return disjunction
+     */
+    static RouteValueDisjunction of(final RouteValue routeValue) {
+        RouteValueDisjunction result = alwaysFalse();
+        if (!(routeValue instanceof AlwaysFalseShardingValue)) {
+            Map<String, RouteValue> conjunction = new LinkedHashMap<>();
+            conjunction.put(getKey(routeValue), routeValue);
+            result.conjunctions.add(conjunction);
+        }
+        return result;
+    }
+    
+    /**
+     * Judge is always false or not.
+     *
+     * @return is always false or not
+     */
+    boolean isAlwaysFalse() {
+        return conjunctions.isEmpty();
+    }
+    
+    /**
+     * Combine with other disjunction by and operator.
+     *
+     * @param disjunction other disjunction
+     * @param maxSize max count of conjunctions
+     * @return combined disjunction, absent if count of conjunctions exceeds max size
+     */
+    Optional<RouteValueDisjunction> and(final RouteValueDisjunction disjunction, final int maxSize) {
+        if ((long) conjunctions.size() * disjunction.conjunctions.size() > maxSize) {
+            return Optional.absent();
+        }
+        RouteValueDisjunction result = alwaysFalse();
+        for (Map<String, RouteValue> each : conjunctions) {
+            for (Map<String, RouteValue> other : disjunction.conjunctions) {
+                Optional<Map<String, RouteValue>> conjunction = intersect(each, other);
+                if (conjunction.isPresent()) {
+                    result.conjunctions.add(conjunction.get());
+                }
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Combine with other disjunction by or operator.
+     *
+     * @param disjunction other disjunction
+     * @param maxSize max count of conjunctions
+     * @return combined disjunction, absent if count of conjunctions exceeds max size
+     */
+    Optional<RouteValueDisjunction> or(final RouteValueDisjunction disjunction, final int maxSize) {
+        RouteValueDisjunction result = new RouteValueDisjunction(new LinkedList<>(conjunctions));
+        for (Map<String, RouteValue> each : disjunction.conjunctions) {
+            if (!result.union(each)) {
+                result.conjunctions.add(each);
+            }
+        }
+        return result.conjunctions.size() > maxSize ? Optional.<RouteValueDisjunction>absent() : Optional.of(result);
+    }
+    
+    private boolean union(final Map<String, RouteValue> conjunction) {
+        if (1 != conjunction.size()) {
+            return false;
+        }
+        Entry<String, RouteValue> entry = conjunction.entrySet().iterator().next();
+        for (int i = 0; i < conjunctions.size(); i++) {
+            RouteValue routeValue = conjunctions.get(i).get(entry.getKey());
+            if (1 == conjunctions.get(i).size() && null != routeValue) {
+                Optional<RouteValue> merged = union(routeValue, entry.getValue());
+                if (merged.isPresent()) {
+                    Map<String, RouteValue> mergedConjunction = new LinkedHashMap<>();
+                    mergedConjunction.put(entry.getKey(), merged.get());
+                    conjunctions.set(i, mergedConjunction);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Optional<RouteValue> union(final RouteValue routeValue1, final RouteValue routeValue2) {
+        try {
+            if (routeValue1 instanceof ListRouteValue && routeValue2 instanceof ListRouteValue) {
+                Collection<Comparable<?>> values = new LinkedHashSet<>(((ListRouteValue<Comparable<?>>) routeValue1).getValues());
+                values.addAll(((ListRouteValue<Comparable<?>>) routeValue2).getValues());
+                return Optional.<RouteValue>of(new ListRouteValue<>(routeValue1.getColumnName(), routeValue1.getTableName(), new ArrayList<>(values)));
+            }
+            if (routeValue1 instanceof BetweenRouteValue && routeValue2 instanceof BetweenRouteValue) {
+                Range<Comparable<?>> range1 = ((BetweenRouteValue<Comparable<?>>) routeValue1).getValueRange();
+                Range<Comparable<?>> range2 = ((BetweenRouteValue<Comparable<?>>) routeValue2).getValueRange();
+                return range1.isConnected(range2)
+                        ? Optional.<RouteValue>of(new BetweenRouteValue<>(routeValue1.getColumnName(), routeValue1.getTableName(), range1.span(range2))) : Optional.<RouteValue>absent();
+            }
+        } catch (final ClassCastException ex) {
+            throw new ShardingException("Found different types for sharding value `%s`.", getKey(routeValue1));
+        }
+        return Optional.absent();
+    }
+    
+    private Optional<Map<String, RouteValue>> intersect(final Map<String, RouteValue> conjunction1, final Map<String, RouteValue> conjunction2) {
+        Map<String, RouteValue> result = new LinkedHashMap<>(conjunction1);
+        for (Entry<String, RouteValue> entry : conjunction2.entrySet()) {
+            RouteValue routeValue = result.get(entry.getKey());
+            if (null == routeValue) {
+                result.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+            Optional<RouteValue> intersected = intersect(routeValue, entry.getValue());
+            if (!intersected.isPresent()) {
+                return Optional.absent();
+            }
+            result.put(entry.getKey(), intersected.get());
+        }
+        return Optional.of(result);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Optional<RouteValue> intersect(final RouteValue routeValue1, final RouteValue routeValue2) {
+        try {
+            if (routeValue1 instanceof BetweenRouteValue && routeValue2 instanceof BetweenRouteValue) {
+                Range<Comparable<?>> range1 = ((BetweenRouteValue<Comparable<?>>) routeValue1).getValueRange();
+                Range<Comparable<?>> range2 = ((BetweenRouteValue<Comparable<?>>) routeValue2).getValueRange();
+                if (!range1.isConnected(range2) || range1.intersection(range2).isEmpty()) {
+                    return Optional.absent();
+                }
+                return Optional.<RouteValue>of(new BetweenRouteValue<>(routeValue1.getColumnName(), routeValue1.getTableName(), range1.intersection(range2)));
+            }
+            List<Comparable<?>> values = new ArrayList<>(routeValue1 instanceof ListRouteValue
+                    ? ((ListRouteValue<Comparable<?>>) routeValue1).getValues() : ((ListRouteValue<Comparable<?>>) routeValue2).getValues());
+            retainAll(values, routeValue1);
+            retainAll(values, routeValue2);
+            return values.isEmpty() ? Optional.<RouteValue>absent() : Optional.<RouteValue>of(new ListRouteValue<>(routeValue1.getColumnName(), routeValue1.getTableName(), values));
+        } catch (final ClassCastException ex) {
+            throw new ShardingException("Found different types for sharding value `%s`.", getKey(routeValue1));
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void retainAll(final List<Comparable<?>> values, final RouteValue routeValue) {
+        if (routeValue instanceof ListRouteValue) {
+            values.retainAll(new HashSet<>(((ListRouteValue<Comparable<?>>) routeValue).getValues()));
+            return;
+        }
+        Range<Comparable<?>> range = ((BetweenRouteValue<Comparable<?>>) routeValue).getValueRange();
+        Iterator<Comparable<?>> iterator = values.iterator();
+        while (iterator.hasNext()) {
+            if (!range.contains(iterator.next())) {
+                iterator.remove();
+            }
+        }
+    }
+    
+    private static String getKey(final RouteValue routeValue) {
+        return routeValue.getTableName() + "." + routeValue.getColumnName();
+    }
+}
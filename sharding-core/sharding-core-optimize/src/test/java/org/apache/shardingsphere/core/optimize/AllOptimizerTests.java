@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.optimize;
 
 import org.apache.shardingsphere.core.optimize.engine.encrypt.EncryptInsertOptimizeEngineTest;
 import org.apache.shardingsphere.core.optimize.engine.sharding.InsertOptimizeEngineTest;
+import org.apache.shardingsphere.core.optimize.engine.sharding.NewQueryOptimizeEngineTest;
 import org.apache.shardingsphere.core.optimize.engine.sharding.QueryOptimizeEngineTest;
 import org.apache.shardingsphere.core.optimize.result.InsertOptimizeResultTest;
 import org.junit.runner.RunWith;
@@ -29,6 +30,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
         InsertOptimizeEngineTest.class, 
         QueryOptimizeEngineTest.class,
+        NewQueryOptimizeEngineTest.class,
         EncryptInsertOptimizeEngineTest.class,
         InsertOptimizeResultTest.class,
         GeneratedKeyTest.class
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.optimize.engine.sharding;
+
+import org.apache.shardingsphere.core.optimize.engine.sharding.query.NewQueryOptimizeEngine;
+import org.apache.shardingsphere.core.parse.old.parser.clause.condition.NullCondition;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.And;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.Column;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.Condition;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.Group;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.Or;
+import org.apache.shardingsphere.core.parse.old.parser.expression.SQLExpression;
+import org.apache.shardingsphere.core.parse.old.parser.expression.SQLNumberExpression;
+import org.apache.shardingsphere.core.strategy.route.value.AndValue;
+import org.apache.shardingsphere.core.strategy.route.value.BetweenRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.GroupRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.OrValue;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class NewQueryOptimizeEngineTest {
+    
+    @Test
+    public void assertOptimizeWithPrecedenceOfAnd() {
+        Group group = new Group().add(createCondition("column", 1), Or.instance, createCondition("column", 2), And.instance, createCondition("column", 3));
+        GroupRouteValue actual = optimize(group);
+        assertFalse(actual.isAlwaysFalse());
+        assertThat(actual.getConditionList().size(), is(1));
+        assertThat(new ArrayList<>(((ListRouteValue<?>) actual.getConditionList().get(0)).getValues()), is((Object) Collections.singletonList(1)));
+    }
+    
+    @Test
+    public void assertOptimizeWithMergedListValues() {
+        Condition condition1 = new Condition(new Column("column", "tbl"), Arrays.<SQLExpression>asList(new SQLNumberExpression(1), new SQLNumberExpression(2)));
+        Condition condition2 = new Condition(new Column("column", "tbl"), Arrays.<SQLExpression>asList(new SQLNumberExpression(2), new SQLNumberExpression(3)));
+        GroupRouteValue actual = optimize(new Group().add(condition1, And.instance, condition2));
+        assertThat(actual.getConditionList().size(), is(1));
+        assertThat(new ArrayList<>(((ListRouteValue<?>) actual.getConditionList().get(0)).getValues()), is((Object) Collections.singletonList(2)));
+    }
+    
+    @Test
+    public void assertOptimizeWithMergedListAndRangeValues() {
+        Condition condition1 = new Condition(new Column("column", "tbl"), Arrays.<SQLExpression>asList(new SQLNumberExpression(1), new SQLNumberExpression(5)));
+        Condition condition2 = new Condition(new Column("column", "tbl"), new SQLNumberExpression(2), new SQLNumberExpression(8));
+        GroupRouteValue actual = optimize(new Group().add(condition1, And.instance, condition2));
+        assertThat(actual.getConditionList().size(), is(1));
+        assertThat(new ArrayList<>(((ListRouteValue<?>) actual.getConditionList().get(0)).getValues()), is((Object) Collections.singletonList(5)));
+    }
+    
+    @Test
+    public void assertOptimizeWithMergedRangeValuesOfDisjunction() {
+        Condition condition1 = new Condition(new Column("column", "tbl"), new SQLNumberExpression(1), new SQLNumberExpression(5));
+        Condition condition2 = new Condition(new Column("column", "tbl"), new SQLNumberExpression(3), new SQLNumberExpression(8));
+        GroupRouteValue actual = optimize(new Group().add(condition1, Or.instance, condition2));
+        assertThat(actual.getConditionList().size(), is(1));
+        BetweenRouteValue<?> routeValue = (BetweenRouteValue<?>) actual.getConditionList().get(0);
+        assertThat(routeValue.getValueRange().lowerEndpoint(), is((Object) 1));
+        assertThat(routeValue.getValueRange().upperEndpoint(), is((Object) 8));
+    }
+    
+    @Test
+    public void assertOptimizeWithConjunctionOfDifferentColumns() {
+        Group group = new Group().add(new Group().add(createCondition("column1", 1), Or.instance, createCondition("column2", 2)), And.instance, createCondition("column3", 3));
+        GroupRouteValue actual = optimize(group);
+        assertThat(actual.getConditionList().size(), is(3));
+        assertThat(actual.getConditionList().get(0), instanceOf(GroupRouteValue.class));
+        assertThat(((GroupRouteValue) actual.getConditionList().get(0)).getConditionList().get(1), instanceOf(AndValue.class));
+        assertThat(actual.getConditionList().get(1), instanceOf(OrValue.class));
+        assertThat(actual.getConditionList().get(2), instanceOf(GroupRouteValue.class));
+    }
+    
+    @Test
+    public void assertOptimizeWithMergedListValuesOfDisjunction() {
+        Group group = new Group().add(createCondition("column", 1), Or.instance, createCondition("column", 2), Or.instance, createCondition("column", 1));
+        GroupRouteValue actual = optimize(group);
+        assertThat(actual.getConditionList().size(), is(1));
+        assertThat(new ArrayList<>(((ListRouteValue<?>) actual.getConditionList().get(0)).getValues()), is((Object) Arrays.asList(1, 2)));
+    }
+    
+    @Test
+    public void assertOptimizeAlwaysFalse() {
+        GroupRouteValue actual = optimize(new Group().add(createCondition("column", 1), And.instance, createCondition("column", 2)));
+        assertTrue(actual.isAlwaysFalse());
+    }
+    
+    @Test
+    public void assertOptimizeWithNullConditionOfDisjunction() {
+        GroupRouteValue actual = optimize(new Group().add(createCondition("column", 1), Or.instance, NullCondition.instance));
+        assertFalse(actual.isAlwaysFalse());
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    public void assertOptimizeWithNullConditionOfConjunction() {
+        GroupRouteValue actual = optimize(new Group().add(createCondition("column", 1), And.instance, NullCondition.instance));
+        assertThat(actual.getConditionList().size(), is(1));
+        assertThat(actual.getConditionList().get(0), instanceOf(ListRouteValue.class));
+    }
+    
+    @Test
+    public void assertOptimizeWithTooManyConjunctions() {
+        Group group = new Group();
+        for (int i = 0; i < 11; i++) {
+            if (!group.getExpressions().isEmpty()) {
+                group.add(And.instance);
+            }
+            group.add(new Group().add(createCondition("column" + i, 1), Or.instance, createCondition("other_column" + i, 2)));
+        }
+        GroupRouteValue actual = optimize(group);
+        assertFalse(actual.isAlwaysFalse());
+        assertTrue(actual.isEmpty());
+    }
+    
+    private Condition createCondition(final String columnName, final int value) {
+        return new Condition(new Column(columnName, "tbl"), new SQLNumberExpression(value));
+    }
+    
+    private GroupRouteValue optimize(final Group group) {
+        return new NewQueryOptimizeEngine(group, Collections.emptyList(), null).optimize();
+    }
+}
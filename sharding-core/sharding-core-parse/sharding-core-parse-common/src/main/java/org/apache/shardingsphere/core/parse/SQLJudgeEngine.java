@@ -17,8 +17,13 @@
 
 package org.apache.shardingsphere.core.parse;
 
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.SQLType;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dal.SetStatement;
@@ -34,6 +39,7 @@ import org.apache.shardingsphere.core.parse.antlr.sql.statement.tcl.TCLStatement
 import org.apache.shardingsphere.core.parse.antlr.sql.token.SchemaToken;
 import org.apache.shardingsphere.core.parse.old.lexer.LexerEngine;
 import org.apache.shardingsphere.core.parse.old.lexer.LexerEngineFactory;
+import org.apache.shardingsphere.core.parse.old.lexer.analyzer.CharType;
 import org.apache.shardingsphere.core.parse.old.lexer.dialect.mysql.MySQLKeyword;
 import org.apache.shardingsphere.core.parse.old.lexer.token.Assist;
 import org.apache.shardingsphere.core.parse.old.lexer.token.DefaultKeyword;
@@ -51,6 +57,8 @@ import org.apache.shardingsphere.core.parse.old.parser.dialect.mysql.statement.S
 import org.apache.shardingsphere.core.parse.old.parser.dialect.mysql.statement.UseStatement;
 import org.apache.shardingsphere.core.parse.old.parser.exception.SQLParsingException;
 
+import java.util.Map;
+
 /**
  * SQL judge engine.
  *
@@ -60,8 +68,77 @@ import org.apache.shardingsphere.core.parse.old.parser.exception.SQLParsingExcep
 @RequiredArgsConstructor
 public final class SQLJudgeEngine {
     
+    private static final Map<String, SQLType> FIRST_KEYWORD_TYPES = ImmutableMap.of("SELECT", SQLType.DQL, "INSERT", SQLType.DML, "UPDATE", SQLType.DML, "DELETE", SQLType.DML);
+    
+    private static final Cache<String, SQLType> SQL_TYPE_CACHE = CacheBuilder.newBuilder().maximumSize(4096).build();
+    
     private final String sql;
     
+    /**
+     * Judge SQL type.
+     * 
+     * <p>
+     * Statements starting with {@code SELECT}, {@code INSERT}, {@code UPDATE} or {@code DELETE} are judged by first keyword without lexer,
+     * types of other statements are judged by lexer and cached.
+     * </p>
+     *
+     * @return SQL type
+     */
+    public SQLType judgeType() {
+        Optional<SQLType> typeByFirstKeyword = judgeTypeByFirstKeyword();
+        if (typeByFirstKeyword.isPresent()) {
+            return typeByFirstKeyword.get();
+        }
+        SQLType result = SQL_TYPE_CACHE.getIfPresent(sql);
+        if (null == result) {
+            result = judge().getType();
+            SQL_TYPE_CACHE.put(sql, result);
+        }
+        return result;
+    }
+    
+    private Optional<SQLType> judgeTypeByFirstKeyword() {
+        int position = skipWhitespaceAndComment();
+        if (-1 == position) {
+            return Optional.absent();
+        }
+        int end = position;
+        while (end < sql.length() && CharType.isAlphabet(sql.charAt(end))) {
+            end++;
+        }
+        if (end == position || end < sql.length() && isIdentifierChar(sql.charAt(end))) {
+            return Optional.absent();
+        }
+        return Optional.fromNullable(FIRST_KEYWORD_TYPES.get(sql.substring(position, end).toUpperCase()));
+    }
+    
+    private int skipWhitespaceAndComment() {
+        int result = 0;
+        while (result < sql.length()) {
+            char ch = sql.charAt(result);
+            char next = result + 1 < sql.length() ? sql.charAt(result + 1) : (char) CharType.EOI;
+            if (CharType.isWhitespace(ch)) {
+                result++;
+            } else if ('#' == ch || '-' == ch && '-' == next || '/' == ch && '/' == next) {
+                int lineEnd = sql.indexOf('\n', result);
+                result = -1 == lineEnd ? sql.length() : lineEnd + 1;
+            } else if ('/' == ch && '*' == next) {
+                int commentEnd = sql.indexOf("*/", result + 2);
+                if (-1 == commentEnd || result + 2 < sql.length() && '!' == sql.charAt(result + 2)) {
+                    return -1;
+                }
+                result = commentEnd + 2;
+            } else {
+                return result;
+            }
+        }
+        return result;
+    }
+    
+    private boolean isIdentifierChar(final char ch) {
+        return CharType.isAlphabet(ch) || CharType.isDigital(ch) || '_' == ch || '$' == ch || ch > 0xA0 && Character.isLetter(ch);
+    }
+    
     /**
      * Judge SQL type only.
      *
@@ -71,7 +148,7 @@ public final class SQLJudgeEngine {
         LexerEngine lexerEngine = LexerEngineFactory.newInstance(DatabaseType.MySQL, sql);
         lexerEngine.nextToken();
         while (true) {
-            TokenType tokenType = lexerEngine.getCurrentToken().getType();
+            TokenType tokenType = lexerEngine.getCurrentTokenType();
             if (tokenType instanceof Keyword) {
                 if (DQLStatement.isDQL(tokenType)) {
                     return getDQLStatement();
@@ -86,7 +163,7 @@ public final class SQLJudgeEngine {
                     return getDALStatement(tokenType, lexerEngine);
                 }
                 lexerEngine.nextToken();
-                TokenType secondaryTokenType = lexerEngine.getCurrentToken().getType();
+                TokenType secondaryTokenType = lexerEngine.getCurrentTokenType();
                 if (DDLStatement.isDDL(tokenType, secondaryTokenType)) {
                     return getDDLStatement();
                 }
@@ -25,6 +25,8 @@ import org.apache.shardingsphere.core.parse.antlr.filler.api.ShardingRuleAwareFi
 import org.apache.shardingsphere.core.parse.antlr.filler.api.ShardingTableMetaDataAwareFiller;
 import org.apache.shardingsphere.core.parse.antlr.filler.common.dml.PredicateUtils;
 import org.apache.shardingsphere.core.parse.antlr.filler.encrypt.dml.EncryptOrPredicateFiller;
+import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.expr.simple.SimpleExpressionSegment;
 import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.predicate.AndPredicateSegment;
 import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.predicate.OrPredicateSegment;
 import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.predicate.PredicateSegment;
@@ -32,12 +34,17 @@ import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.predicate.valu
 import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.predicate.value.PredicateCompareRightValue;
 import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.predicate.value.PredicateInRightValue;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.antlr.sql.token.InPredicateValuesToken;
+import org.apache.shardingsphere.core.parse.antlr.sql.token.SQLToken;
 import org.apache.shardingsphere.core.parse.old.parser.context.condition.AndCondition;
 import org.apache.shardingsphere.core.parse.old.parser.context.condition.Column;
 import org.apache.shardingsphere.core.parse.old.parser.context.condition.Condition;
 import org.apache.shardingsphere.core.parse.old.parser.context.condition.OrCondition;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Or predicate filler for sharding.
  *
@@ -66,6 +73,7 @@ public final class ShardingOrPredicateFiller implements SQLSegmentFiller<OrPredi
     public OrCondition buildCondition(final OrPredicateSegment sqlSegment, final SQLStatement sqlStatement) {
         OrCondition result = createOrCondition(sqlSegment, sqlStatement);
         createEncryptOrPredicateFiller().fill(sqlSegment, sqlStatement);
+        fillInPredicateValuesTokens(sqlSegment, sqlStatement);
         return result;
     }
     
@@ -116,4 +124,42 @@ public final class ShardingOrPredicateFiller implements SQLSegmentFiller<OrPredi
     private boolean isOperatorSupportedWithSharding(final String operator) {
         return "=".equals(operator);
     }
+    
+    private void fillInPredicateValuesTokens(final OrPredicateSegment sqlSegment, final SQLStatement sqlStatement) {
+        for (AndPredicateSegment each : sqlSegment.getAndPredicates()) {
+            for (PredicateSegment predicate : each.getPredicates()) {
+                if (predicate.getRightValue() instanceof PredicateInRightValue) {
+                    fillInPredicateValuesToken(predicate, sqlStatement);
+                }
+            }
+        }
+    }
+    
+    private void fillInPredicateValuesToken(final PredicateSegment predicateSegment, final SQLStatement sqlStatement) {
+        Optional<String> tableName = PredicateUtils.findTableName(predicateSegment, sqlStatement, shardingTableMetaData);
+        if (!tableName.isPresent() || !shardingRule.isShardingColumn(predicateSegment.getColumn().getName(), tableName.get())
+                || shardingRule.getShardingEncryptorEngine().getShardingEncryptor(tableName.get(), predicateSegment.getColumn().getName()).isPresent()) {
+            return;
+        }
+        List<SimpleExpressionSegment> values = new ArrayList<>();
+        for (ExpressionSegment each : ((PredicateInRightValue) predicateSegment.getRightValue()).getSqlExpressions()) {
+            if (!(each instanceof SimpleExpressionSegment)) {
+                return;
+            }
+            values.add((SimpleExpressionSegment) each);
+        }
+        int startIndex = values.get(0).getStartIndex();
+        if (values.size() > 1 && !isContainsInPredicateValuesToken(sqlStatement, startIndex)) {
+            sqlStatement.addSQLToken(new InPredicateValuesToken(startIndex, values.get(values.size() - 1).getStopIndex(), new Column(predicateSegment.getColumn().getName(), tableName.get()), values));
+        }
+    }
+    
+    private boolean isContainsInPredicateValuesToken(final SQLStatement sqlStatement, final int startIndex) {
+        for (SQLToken each : sqlStatement.getSQLTokens()) {
+            if (each instanceof InPredicateValuesToken && startIndex == each.getStartIndex()) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
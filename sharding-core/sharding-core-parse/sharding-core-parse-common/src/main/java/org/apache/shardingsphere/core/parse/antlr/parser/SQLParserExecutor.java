@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.antlr.parser;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BufferedTokenStream;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.WritableToken;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SQL parser executor.
+ * 
+ * <p>
+ * Parse with two stages: SQL is parsed with SLL prediction mode first and parsing is cancelled at the first syntax error,
+ * then SQL is parsed again with full LL prediction mode and default error recovery only if the first stage failed.
+ * Error strategies of dialect parsers may recover from an error before it is reported, so syntax errors are also checked after the first stage.
+ * The second stage rewinds the token stream of the first stage instead of lexing again,
+ * token types changed by error strategies of dialect parsers are restored before rewinding.
+ * DFA and prediction context caches of parsers are static, so both stages share and warm up the same caches.
+ * </p>
+ */
+@RequiredArgsConstructor
+final class SQLParserExecutor {
+    
+    private final SQLParser sqlParser;
+    
+    /**
+     * Execute to parse SQL.
+     * 
+     * @return root context of parse tree
+     */
+    ParserRuleContext execute() {
+        if (!(sqlParser instanceof Parser)) {
+            return sqlParser.execute();
+        }
+        Parser parser = (Parser) sqlParser;
+        BufferedTokenStream tokenStream = (BufferedTokenStream) parser.getInputStream();
+        tokenStream.fill();
+        int[] tokenTypes = getTokenTypes(tokenStream.getTokens());
+        Collection<ANTLRErrorListener> errorListeners = new ArrayList<>(parser.getErrorListeners());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.removeErrorListeners();
+        parser.addErrorListener(new BailErrorListener());
+        try {
+            ParserRuleContext result = sqlParser.execute();
+            if (0 == parser.getNumberOfSyntaxErrors()) {
+                return result;
+            }
+        } catch (final ParseCancellationException ignored) {
+            // parse again with LL prediction mode below, the first syntax error of SLL prediction mode may not be a real syntax error
+        }
+        restoreTokenTypes(tokenStream.getTokens(), tokenTypes);
+        parser.reset();
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        parser.removeErrorListeners();
+        for (ANTLRErrorListener each : errorListeners) {
+            parser.addErrorListener(each);
+        }
+        return sqlParser.execute();
+    }
+    
+    private int[] getTokenTypes(final List<Token> tokens) {
+        int[] result = new int[tokens.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = tokens.get(i).getType();
+        }
+        return result;
+    }
+    
+    private void restoreTokenTypes(final List<Token> tokens, final int[] tokenTypes) {
+        for (int i = 0; i < tokenTypes.length; i++) {
+            ((WritableToken) tokens.get(i)).setType(tokenTypes[i]);
+        }
+    }
+}
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.core.parse.antlr.sql.statement.dml;
 
 import com.google.common.base.Optional;
-import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -41,7 +40,6 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 /**
@@ -206,40 +204,6 @@ public final class SelectStatement extends DQLStatement {
         return !getGroupByItems().isEmpty() && getGroupByItems().equals(getOrderByItems());
     }
     
-    /**
-     * Set index for select items.
-     * 
-     * @param columnLabelIndexMap map for column label and index
-     */
-    public void setIndexForItems(final Map<String, Integer> columnLabelIndexMap) {
-        setIndexForAggregationItem(columnLabelIndexMap);
-        setIndexForOrderItem(columnLabelIndexMap, orderByItems);
-        setIndexForOrderItem(columnLabelIndexMap, groupByItems);
-    }
-    
-    private void setIndexForAggregationItem(final Map<String, Integer> columnLabelIndexMap) {
-        for (AggregationSelectItem each : getAggregationSelectItems()) {
-            Preconditions.checkState(columnLabelIndexMap.containsKey(each.getColumnLabel()), "Can't find index: %s, please add alias for aggregate selections", each);
-            each.setIndex(columnLabelIndexMap.get(each.getColumnLabel()));
-            for (AggregationSelectItem derived : each.getDerivedAggregationSelectItems()) {
-                Preconditions.checkState(columnLabelIndexMap.containsKey(derived.getColumnLabel()), "Can't find index: %s", derived);
-                derived.setIndex(columnLabelIndexMap.get(derived.getColumnLabel()));
-            }
-        }
-    }
-    
-    private void setIndexForOrderItem(final Map<String, Integer> columnLabelIndexMap, final List<OrderItem> orderItems) {
-        for (OrderItem each : orderItems) {
-            if (-1 != each.getIndex()) {
-                continue;
-            }
-            Preconditions.checkState(columnLabelIndexMap.containsKey(each.getColumnLabel()), "Can't find index: %s", each);
-            if (columnLabelIndexMap.containsKey(each.getColumnLabel())) {
-                each.setIndex(columnLabelIndexMap.get(each.getColumnLabel()));
-            }
-        }
-    }
-    
     /**
      * Set subquery statement.
      * 
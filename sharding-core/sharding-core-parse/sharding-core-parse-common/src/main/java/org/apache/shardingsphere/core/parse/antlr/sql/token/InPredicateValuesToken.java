@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.antlr.sql.token;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.shardingsphere.core.parse.antlr.sql.Substitutable;
+import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.expr.simple.SimpleExpressionSegment;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.Column;
+
+import java.util.List;
+
+/**
+ * In predicate values token.
+ *
+ * <p>
+ * Covers values of {@code IN} predicate on sharding column, from first value to last value.
+ * </p>
+ */
+@Getter
+@ToString
+public final class InPredicateValuesToken extends SQLToken implements Substitutable {
+    
+    private final int stopIndex;
+    
+    private final Column column;
+    
+    private final List<SimpleExpressionSegment> values;
+    
+    public InPredicateValuesToken(final int startIndex, final int stopIndex, final Column column, final List<SimpleExpressionSegment> values) {
+        super(startIndex);
+        this.stopIndex = stopIndex;
+        this.column = column;
+        this.values = values;
+    }
+}
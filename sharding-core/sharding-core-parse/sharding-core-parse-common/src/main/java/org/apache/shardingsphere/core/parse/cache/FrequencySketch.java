@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+/**
+ * Frequency sketch.
+ *
+ * <p>
+ * Count-min sketch with four 4-bit counters per key, used as TinyLFU admission filter.
+ * All counters are halved after sample size increments, so that old popularity fades out.
+ * Not thread safe, callers must guard it with their own lock.
+ * </p>
+ */
+final class FrequencySketch {
+    
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    
+    private static final long RESET_MASK = 0x7777777777777777L;
+    
+    private static final int MAX_COUNT = 15;
+    
+    private final long[] table;
+    
+    private final int tableMask;
+    
+    private final int sampleSize;
+    
+    private int size;
+    
+    FrequencySketch(final int maximumSize) {
+        int tableSize = ceilingPowerOfTwo(Math.max(maximumSize, 16));
+        table = new long[tableSize];
+        tableMask = tableSize - 1;
+        sampleSize = 10 * Math.max(maximumSize, 16);
+    }
+    
+    private static int ceilingPowerOfTwo(final int value) {
+        return value >= 1 << 30 ? 1 << 30 : Integer.highestOneBit(value - 1) << 1;
+    }
+    
+    /**
+     * Get estimated frequency of key.
+     *
+     * @param key key
+     * @return estimated frequency, between 0 and 15
+     */
+    int frequency(final Object key) {
+        int hash = spread(key.hashCode());
+        int result = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            result = Math.min(result, getCount(hash, i));
+        }
+        return result;
+    }
+    
+    /**
+     * Increment frequency of key.
+     *
+     * @param key key
+     */
+    void increment(final Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(hash, i);
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+    
+    private int getCount(final int hash, final int depth) {
+        int index = indexOf(hash, depth);
+        int offset = counterOffset(hash, depth);
+        return (int) ((table[index] >>> offset) & 0xfL);
+    }
+    
+    private boolean incrementAt(final int hash, final int depth) {
+        int index = indexOf(hash, depth);
+        int offset = counterOffset(hash, depth);
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+    
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size >>>= 1;
+    }
+    
+    private int indexOf(final int hash, final int depth) {
+        long result = (hash + SEEDS[depth]) * SEEDS[depth];
+        result += result >>> 32;
+        return (int) result & tableMask;
+    }
+    
+    private int counterOffset(final int hash, final int depth) {
+        return (((hash >>> (depth << 3)) & 3) << 2) + (depth << 4);
+    }
+    
+    private int spread(final int hashCode) {
+        int result = ((hashCode >>> 16) ^ hashCode) * 0x45d9f3b;
+        return (result >>> 16) ^ result;
+    }
+}
@@ -17,30 +17,67 @@
 
 package org.apache.shardingsphere.core.parse.cache;
 
-import org.apache.commons.collections4.map.AbstractReferenceMap;
-import org.apache.commons.collections4.map.ReferenceMap;
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Parsing result cache.
  *
+ * <p>
+ * Size bounded and lock striped cache with W-TinyLFU eviction policy.
+ * New entries enter a small LRU window, entries leaving the window are admitted to main space only if they are used more frequently than the main space's LRU victim.
+ * </p>
+ *
  * @author zhangliang
  * @author zhaojun
  */
 public final class ParsingResultCache {
     
-    private final Map<String, SQLStatement> cache = new ReferenceMap<>(AbstractReferenceMap.ReferenceStrength.SOFT, AbstractReferenceMap.ReferenceStrength.SOFT, 65535, 1);
+    private static final int MAX_SEGMENT_COUNT = 16;
+    
+    private static final int WINDOW_PERCENTAGE = 1;
+    
+    private final Segment[] segments;
+    
+    private final int segmentMask;
+    
+    public ParsingResultCache() {
+        this(Integer.parseInt(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAXIMUM_SIZE.getDefaultValue()));
+    }
+    
+    public ParsingResultCache(final int maximumSize) {
+        Preconditions.checkArgument(maximumSize > 0, "Maximum size of parsing result cache must be positive.");
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENT_COUNT && segmentCount * 2 * MAX_SEGMENT_COUNT <= maximumSize) {
+            segmentCount <<= 1;
+        }
+        segments = new Segment[segmentCount];
+        int segmentSize = (maximumSize + segmentCount - 1) / segmentCount;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+        segmentMask = segmentCount - 1;
+    }
     
     /**
      * Put SQL and parsing result into cache.
-     * 
+     *
      * @param sql SQL
      * @param sqlStatement SQL statement
      */
     public void put(final String sql, final SQLStatement sqlStatement) {
-        cache.put(sql, sqlStatement);
+        getSegment(sql).put(sql, sqlStatement);
     }
     
     /**
@@ -50,13 +87,186 @@ public final class ParsingResultCache {
      * @return SQL statement
      */
     public SQLStatement getSQLStatement(final String sql) {
-        return cache.get(sql);
+        return getSegment(sql).get(sql);
+    }
+    
+    /**
+     * Get hottest cached SQLs.
+     *
+     * @param count max count of SQLs
+     * @return cached SQLs in descending order of estimated use frequency
+     */
+    public List<String> getHottestSQLs(final int count) {
+        List<Entry<String, Integer>> frequencies = new ArrayList<>(size());
+        for (Segment each : segments) {
+            each.collectFrequencies(frequencies);
+        }
+        Collections.sort(frequencies, new Comparator<Entry<String, Integer>>() {
+            
+            @Override
+            public int compare(final Entry<String, Integer> o1, final Entry<String, Integer> o2) {
+                return o2.getValue().compareTo(o1.getValue());
+            }
+        });
+        List<String> result = new ArrayList<>(Math.min(count, frequencies.size()));
+        for (Entry<String, Integer> each : frequencies) {
+            if (result.size() >= count) {
+                break;
+            }
+            result.add(each.getKey());
+        }
+        return result;
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        for (Segment each : segments) {
+            each.clear();
+        }
+    }
+    
+    /**
+     * Get count of cached entries.
+     *
+     * @return count of cached entries
+     */
+    public int size() {
+        int result = 0;
+        for (Segment each : segments) {
+            result += each.size();
+        }
+        return result;
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        long result = 0L;
+        for (Segment each : segments) {
+            result += each.hitCount;
+        }
+        return result;
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        long result = 0L;
+        for (Segment each : segments) {
+            result += each.missCount;
+        }
+        return result;
+    }
+    
+    /**
+     * Get eviction count.
+     *
+     * @return count of entries evicted or rejected by admission policy
+     */
+    public long getEvictionCount() {
+        long result = 0L;
+        for (Segment each : segments) {
+            result += each.evictionCount;
+        }
+        return result;
+    }
+    
+    private Segment getSegment(final String sql) {
+        int hash = sql.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+    
+    private static final class Segment {
+        
+        private final int windowCapacity;
+        
+        private final int mainCapacity;
+        
+        private final Map<String, SQLStatement> window = new LinkedHashMap<>(16, 0.75f, true);
+        
+        private final Map<String, SQLStatement> main = new LinkedHashMap<>(16, 0.75f, true);
+        
+        private final FrequencySketch sketch;
+        
+        private volatile long hitCount;
+        
+        private volatile long missCount;
+        
+        private volatile long evictionCount;
+        
+        Segment(final int capacity) {
+            windowCapacity = Math.max(1, capacity * WINDOW_PERCENTAGE / 100);
+            mainCapacity = Math.max(1, capacity - windowCapacity);
+            sketch = new FrequencySketch(capacity);
+        }
+        
+        synchronized SQLStatement get(final String sql) {
+            sketch.increment(sql);
+            SQLStatement result = window.get(sql);
+            if (null == result) {
+                result = main.get(sql);
+            }
+            if (null == result) {
+                missCount++;
+            } else {
+                hitCount++;
+            }
+            return result;
+        }
+        
+        synchronized void put(final String sql, final SQLStatement sqlStatement) {
+            if (main.containsKey(sql)) {
+                main.put(sql, sqlStatement);
+                return;
+            }
+            window.put(sql, sqlStatement);
+            if (window.size() <= windowCapacity) {
+                return;
+            }
+            Iterator<Entry<String, SQLStatement>> iterator = window.entrySet().iterator();
+            Entry<String, SQLStatement> candidate = iterator.next();
+            iterator.remove();
+            admit(candidate.getKey(), candidate.getValue());
+        }
+        
+        private void admit(final String sql, final SQLStatement sqlStatement) {
+            if (main.size() < mainCapacity) {
+                main.put(sql, sqlStatement);
+                return;
+            }
+            evictionCount++;
+            Iterator<String> iterator = main.keySet().iterator();
+            String victim = iterator.next();
+            if (sketch.frequency(sql) > sketch.frequency(victim)) {
+                iterator.remove();
+                main.put(sql, sqlStatement);
+            }
+        }
+        
+        synchronized void collectFrequencies(final List<Entry<String, Integer>> frequencies) {
+            for (String each : main.keySet()) {
+                frequencies.add(new SimpleImmutableEntry<>(each, sketch.frequency(each)));
+            }
+            for (String each : window.keySet()) {
+                frequencies.add(new SimpleImmutableEntry<>(each, sketch.frequency(each)));
+            }
+        }
+        
+        synchronized void clear() {
+            window.clear();
+            main.clear();
+        }
+        
+        synchronized int size() {
+            return window.size() + main.size();
+        }
     }
 }
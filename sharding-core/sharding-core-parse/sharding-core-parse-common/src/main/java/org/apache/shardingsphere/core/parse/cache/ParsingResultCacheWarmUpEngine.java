@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.parse.SQLParsingEngine;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Parsing result cache warm up engine.
+ *
+ * <p>
+ * Parse SQL corpus by a temporary thread pool and put parsing results into cache, so that both parsing result cache and shared DFA of parser are warm before serving.
+ * Literal SQL is put into cache by its fingerprint, which is the same key used by simple query.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class ParsingResultCacheWarmUpEngine {
+    
+    private final DatabaseType databaseType;
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingTableMetaData shardingTableMetaData;
+    
+    private final ParsingResultCache parsingResultCache;
+    
+    /**
+     * Warm up with SQL corpus files.
+     *
+     * @param corpusPaths comma separated paths of corpus files or directories
+     * @return count of SQLs parsed successfully
+     * @throws IOException IO exception
+     */
+    public int warmUp(final String corpusPaths) throws IOException {
+        return warmUp(SQLCorpus.load(corpusPaths, databaseType));
+    }
+    
+    /**
+     * Warm up with SQLs.
+     *
+     * <p>Blocks until all SQLs are parsed.</p>
+     *
+     * @param sqls SQLs
+     * @return count of SQLs parsed successfully
+     */
+    public int warmUp(final Collection<String> sqls) {
+        if (sqls.isEmpty()) {
+            return 0;
+        }
+        int threadCount = Math.min(sqls.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount, new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-parsing-warm-up-%d").build());
+        try {
+            return getSuccessCount(executorService.invokeAll(createTasks(sqls)));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private Collection<Callable<Boolean>> createTasks(final Collection<String> sqls) {
+        Collection<Callable<Boolean>> result = new ArrayList<>(sqls.size());
+        for (final String each : sqls) {
+            result.add(new Callable<Boolean>() {
+                
+                @Override
+                public Boolean call() {
+                    return parse(each);
+                }
+            });
+        }
+        return result;
+    }
+    
+    private boolean parse(final String sql) {
+        Optional<SQLFingerprint> fingerprint = new SQLFingerprintEngine(sql).fingerprint();
+        String cachedSQL = fingerprint.isPresent() ? fingerprint.get().getSql() : sql;
+        try {
+            new SQLParsingEngine(databaseType, cachedSQL, shardingRule, shardingTableMetaData, parsingResultCache).parse(true);
+            return true;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.debug("Skip warming up parsing result cache with SQL: {}", sql, ex);
+            return false;
+        }
+    }
+    
+    private int getSuccessCount(final List<Future<Boolean>> futures) throws InterruptedException {
+        int result = 0;
+        for (Future<Boolean> each : futures) {
+            try {
+                if (each.get()) {
+                    result++;
+                }
+            } catch (final ExecutionException ex) {
+                log.debug("Skip warming up parsing result cache with failed task.", ex.getCause());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Save cached SQLs into snapshot file, hottest SQL first.
+     *
+     * @param snapshotFile path of snapshot file
+     * @return count of saved SQLs
+     * @throws IOException IO exception
+     */
+    public int saveSnapshot(final String snapshotFile) throws IOException {
+        List<String> sqls = parsingResultCache.getHottestSQLs(parsingResultCache.size());
+        SQLCorpus.save(snapshotFile, sqls);
+        return sqls.size();
+    }
+}
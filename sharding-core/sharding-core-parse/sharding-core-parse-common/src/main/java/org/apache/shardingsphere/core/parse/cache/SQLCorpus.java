@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import com.google.common.base.Splitter;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+/**
+ * SQL corpus.
+ *
+ * <p>
+ * Reads and writes SQL used to warm up parsing result cache. Two formats are supported:
+ * </p>
+ *
+ * <ul>
+ *     <li>Text file: one SQL per line, line breaks and backslashes in SQL are escaped as {@code \n}, {@code \r} and {@code \\}.
+ *     Blank lines and lines start with {@code #} are ignored.</li>
+ *     <li>XML file: {@code value} attributes of {@code sql-case} elements, in the same format of SQL cases in {@code sharding-sql-test}.
+ *     SQL cases whose {@code db-types} do not contain the database type are ignored.</li>
+ * </ul>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLCorpus {
+    
+    private static final String SQL_CASE_ELEMENT = "sql-case";
+    
+    /**
+     * Load SQLs from corpus files.
+     *
+     * @param paths comma separated paths of corpus files or directories, directories are read recursively
+     * @param databaseType database type
+     * @return SQLs without duplication
+     * @throws IOException IO exception
+     */
+    public static Collection<String> load(final String paths, final DatabaseType databaseType) throws IOException {
+        Collection<String> result = new LinkedHashSet<>();
+        for (String each : Splitter.on(',').trimResults().omitEmptyStrings().split(paths)) {
+            load(new File(each), databaseType, result);
+        }
+        return result;
+    }
+    
+    private static void load(final File file, final DatabaseType databaseType, final Collection<String> sqls) throws IOException {
+        if (file.isDirectory()) {
+            File[] files = file.listFiles();
+            if (null == files) {
+                return;
+            }
+            Arrays.sort(files);
+            for (File each : files) {
+                load(each, databaseType, sqls);
+            }
+            return;
+        }
+        if (!file.isFile()) {
+            return;
+        }
+        if (file.getName().endsWith(".xml")) {
+            loadXML(file, databaseType, sqls);
+        } else {
+            loadText(file, sqls);
+        }
+    }
+    
+    private static void loadXML(final File file, final DatabaseType databaseType, final Collection<String> sqls) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(inputStream);
+            try {
+                while (reader.hasNext()) {
+                    if (XMLStreamConstants.START_ELEMENT == reader.next() && SQL_CASE_ELEMENT.equals(reader.getLocalName())) {
+                        addSQLCase(reader.getAttributeValue(null, "value"), reader.getAttributeValue(null, "db-types"), databaseType, sqls);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException ex) {
+            throw new IOException(String.format("Can not read SQL corpus file: %s", file), ex);
+        }
+    }
+    
+    private static void addSQLCase(final String sql, final String databaseTypes, final DatabaseType databaseType, final Collection<String> sqls) {
+        if (null == sql || sql.trim().isEmpty()) {
+            return;
+        }
+        if (null == databaseTypes || Splitter.on(',').trimResults().splitToList(databaseTypes).contains(databaseType.name())) {
+            sqls.add(sql);
+        }
+    }
+    
+    private static void loadText(final File file, final Collection<String> sqls) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                if (!line.trim().isEmpty() && !line.startsWith("#")) {
+                    sqls.add(unescape(line));
+                }
+            }
+        }
+    }
+    
+    /**
+     * Save SQLs as text corpus file.
+     *
+     * <p>SQLs are written to a temporary file first, and then moved to target file, so readers never see partial file.</p>
+     *
+     * @param path path of corpus file
+     * @param sqls SQLs
+     * @throws IOException IO exception
+     */
+    public static void save(final String path, final Collection<String> sqls) throws IOException {
+        File file = new File(path).getAbsoluteFile();
+        File directory = file.getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException(String.format("Can not create directory: %s", directory));
+        }
+        File tempFile = new File(directory, file.getName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tempFile.toPath(), StandardCharsets.UTF_8)) {
+            for (String each : sqls) {
+                writer.write(escape(each));
+                writer.newLine();
+            }
+        }
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    
+    private static String escape(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        if (sql.startsWith("#")) {
+            result.append('\\');
+        }
+        for (int i = 0; i < sql.length(); i++) {
+            char ch = sql.charAt(i);
+            if ('\\' == ch) {
+                result.append("\\\\");
+            } else if ('\n' == ch) {
+                result.append("\\n");
+            } else if ('\r' == ch) {
+                result.append("\\r");
+            } else {
+                result.append(ch);
+            }
+        }
+        return result.toString();
+    }
+    
+    private static String unescape(final String line) {
+        if (-1 == line.indexOf('\\')) {
+            return line;
+        }
+        StringBuilder result = new StringBuilder(line.length());
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if ('\\' != ch || i + 1 == line.length()) {
+                result.append(ch);
+                continue;
+            }
+            char escaped = line.charAt(++i);
+            if ('n' == escaped) {
+                result.append('\n');
+            } else if ('r' == escaped) {
+                result.append('\r');
+            } else {
+                result.append(escaped);
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.parse.old.lexer.analyzer.CharType;
+import org.apache.shardingsphere.core.util.NumberUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * SQL fingerprint engine.
+ *
+ * <p>
+ * Single pass scanner which replaces number and string literals of DML with placeholders.
+ * Only literals in value positions are replaced: right side of comparison, {@code BETWEEN} bounds, {@code IN} and {@code VALUES} lists, {@code LIMIT} and {@code OFFSET}.
+ * Negative numbers and strings with doubled single quotes are replaced as literals too, strings with backslash escapes are not fingerprinted.
+ * Literals in other positions (such as select items, order by index or arithmetic) are kept, so the fingerprint always parses the same way as the original SQL.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SQLFingerprintEngine {
+    
+    private static final String LITERAL = "?";
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("=", "<", ">", "<=", ">=", "<>", "!="));
+    
+    private static final Collection<String> LIST_KEYWORDS = new HashSet<>(Arrays.asList("IN", "VALUES", "VALUE"));
+    
+    private final String sql;
+    
+    private final Deque<Boolean> listParentheses = new LinkedList<>();
+    
+    private String previousToken;
+    
+    private boolean inValues;
+    
+    private boolean inLimit;
+    
+    private boolean inBetween;
+    
+    private boolean rangeAnd;
+    
+    /**
+     * Fingerprint SQL.
+     *
+     * @return SQL fingerprint, absent if SQL is not DML or has no literal to be replaced
+     */
+    public Optional<SQLFingerprint> fingerprint() {
+        StringBuilder normalizedSQL = new StringBuilder(sql.length());
+        List<Object> parameters = new ArrayList<>();
+        int copiedPosition = 0;
+        int position = skipWhitespaceAndComment(sql, 0);
+        if (!isDML(position)) {
+            return Optional.absent();
+        }
+        while (-1 != position && position < sql.length()) {
+            char ch = sql.charAt(position);
+            int end;
+            if ('\'' == ch) {
+                end = skipString(sql, position);
+                if (-1 == end) {
+                    return Optional.absent();
+                }
+                if (isLiteralPosition(end)) {
+                    normalizedSQL.append(sql, copiedPosition, position).append(LITERAL);
+                    parameters.add(sql.substring(position + 1, end - 1).replace("''", "'"));
+                    copiedPosition = end;
+                }
+                acceptLiteral();
+            } else if ('-' == ch && isNegativeNumberLiteral(position)) {
+                end = skipNumber(position + 1);
+                normalizedSQL.append(sql, copiedPosition, position).append(LITERAL);
+                parameters.add(NumberUtil.getExactlyNumber(sql.substring(position, end), 10));
+                copiedPosition = end;
+                acceptLiteral();
+            } else if (CharType.isDigital(ch)) {
+                end = skipNumber(position);
+                if (end < sql.length() && isIdentifierChar(sql.charAt(end))) {
+                    end = skipIdentifier(end);
+                    acceptWord(sql.substring(position, end));
+                } else {
+                    if (isLiteralPosition(end)) {
+                        normalizedSQL.append(sql, copiedPosition, position).append(LITERAL);
+                        parameters.add(NumberUtil.getExactlyNumber(sql.substring(position, end), 10));
+                        copiedPosition = end;
+                    }
+                    acceptLiteral();
+                }
+            } else if (isIdentifierChar(ch)) {
+                end = skipIdentifier(position);
+                acceptWord(sql.substring(position, end));
+            } else if ('`' == ch || '"' == ch || '[' == ch) {
+                end = sql.indexOf('[' == ch ? ']' : ch, position + 1) + 1;
+                if (0 == end) {
+                    return Optional.absent();
+                }
+                acceptWord(sql.substring(position, end));
+            } else if ('?' == ch || '#' == ch || '$' == ch || '\\' == ch) {
+                return Optional.absent();
+            } else if (isOperatorChar(ch)) {
+                end = position + 1;
+                while (end < sql.length() && isOperatorChar(sql.charAt(end))) {
+                    end++;
+                }
+                acceptSymbol(sql.substring(position, end));
+            } else {
+                end = position + 1;
+                acceptSymbol(String.valueOf(ch));
+            }
+            if (null == previousToken) {
+                return Optional.absent();
+            }
+            position = skipWhitespaceAndComment(sql, end);
+        }
+        if (-1 == position || parameters.isEmpty()) {
+            return Optional.absent();
+        }
+        normalizedSQL.append(sql, copiedPosition, sql.length());
+        return Optional.of(new SQLFingerprint(normalizedSQL.toString(), parameters));
+    }
+    
+    private boolean isDML(final int position) {
+        return -1 != position && position < sql.length() && isIdentifierChar(sql.charAt(position))
+                && DML_KEYWORDS.contains(sql.substring(position, skipIdentifier(position)).toUpperCase());
+    }
+    
+    private boolean isNegativeNumberLiteral(final int position) {
+        if (position + 1 >= sql.length() || !CharType.isDigital(sql.charAt(position + 1))) {
+            return false;
+        }
+        int end = skipNumber(position + 1);
+        return (end == sql.length() || !isIdentifierChar(sql.charAt(end))) && isLiteralPosition(end);
+    }
+    
+    private boolean isLiteralPosition(final int literalEnd) {
+        return isLiteralSlot() && isLiteralEnd(literalEnd);
+    }
+    
+    private boolean isLiteralSlot() {
+        if (null == previousToken) {
+            return false;
+        }
+        if (COMPARISON_OPERATORS.contains(previousToken) || "LIMIT".equals(previousToken) || "OFFSET".equals(previousToken) || "BETWEEN".equals(previousToken)) {
+            return true;
+        }
+        if ("AND".equals(previousToken)) {
+            return rangeAnd;
+        }
+        if ("(".equals(previousToken)) {
+            return isInList();
+        }
+        if (",".equals(previousToken)) {
+            return isInList() || inLimit && listParentheses.isEmpty();
+        }
+        return false;
+    }
+    
+    private boolean isInList() {
+        return !listParentheses.isEmpty() && listParentheses.peek();
+    }
+    
+    private boolean isLiteralEnd(final int literalEnd) {
+        int position = skipWhitespaceAndComment(sql, literalEnd);
+        if (-1 == position) {
+            return false;
+        }
+        if (position == sql.length()) {
+            return true;
+        }
+        char ch = sql.charAt(position);
+        return ',' == ch || ')' == ch || ';' == ch || CharType.isAlphabet(ch) || '_' == ch;
+    }
+    
+    private void acceptLiteral() {
+        resetValues(LITERAL);
+        rangeAnd = false;
+        previousToken = LITERAL;
+    }
+    
+    private void acceptWord(final String word) {
+        String token = word.toUpperCase();
+        resetValues(token);
+        if ("SELECT".equals(token) && isInList()) {
+            listParentheses.pop();
+            listParentheses.push(false);
+        }
+        if ("VALUES".equals(token) || "VALUE".equals(token)) {
+            inValues = true;
+        }
+        inLimit = "LIMIT".equals(token) || "OFFSET".equals(token) && inLimit;
+        rangeAnd = "AND".equals(token) && inBetween;
+        if (rangeAnd) {
+            inBetween = false;
+        }
+        if ("BETWEEN".equals(token)) {
+            inBetween = true;
+        }
+        previousToken = token;
+    }
+    
+    private void acceptSymbol(final String symbol) {
+        resetValues(symbol);
+        if ("(".equals(symbol)) {
+            listParentheses.push(LIST_KEYWORDS.contains(previousToken) || inValues && listParentheses.isEmpty() && ",".equals(previousToken));
+        } else if (")".equals(symbol)) {
+            if (listParentheses.isEmpty()) {
+                previousToken = null;
+                return;
+            }
+            listParentheses.pop();
+        }
+        if (!",".equals(symbol)) {
+            inLimit = false;
+        }
+        rangeAnd = false;
+        previousToken = symbol;
+    }
+    
+    private void resetValues(final String token) {
+        if (inValues && listParentheses.isEmpty() && !"(".equals(token) && !",".equals(token) && !"VALUES".equals(token) && !"VALUE".equals(token)) {
+            inValues = false;
+        }
+    }
+    
+    private int skipNumber(final int position) {
+        int result = skipDigits(position);
+        if (result + 1 < sql.length() && '.' == sql.charAt(result) && CharType.isDigital(sql.charAt(result + 1))) {
+            result = skipDigits(result + 1);
+        }
+        return result;
+    }
+    
+    private int skipDigits(final int position) {
+        int result = position;
+        while (result < sql.length() && CharType.isDigital(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int skipIdentifier(final int position) {
+        int result = position;
+        while (result < sql.length() && (isIdentifierChar(sql.charAt(result)) || CharType.isDigital(sql.charAt(result)))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private boolean isIdentifierChar(final char ch) {
+        return CharType.isAlphabet(ch) || '_' == ch || '$' == ch || ch > 0xA0 && Character.isLetter(ch);
+    }
+    
+    private boolean isOperatorChar(final char ch) {
+        return '=' == ch || '<' == ch || '>' == ch || '!' == ch;
+    }
+    
+    /**
+     * Skip whitespace and comments.
+     *
+     * @param sql SQL
+     * @param position start position
+     * @return position of next significant char, {@code -1} if comment is unterminated
+     */
+    static int skipWhitespaceAndComment(final String sql, final int position) {
+        int result = position;
+        while (result < sql.length()) {
+            char ch = sql.charAt(result);
+            if (CharType.isWhitespace(ch)) {
+                result++;
+            } else if ('-' == ch && result + 1 < sql.length() && '-' == sql.charAt(result + 1)) {
+                int lineEnd = sql.indexOf('\n', result);
+                result = -1 == lineEnd ? sql.length() : lineEnd + 1;
+            } else if ('/' == ch && result + 1 < sql.length() && '*' == sql.charAt(result + 1)) {
+                int commentEnd = sql.indexOf("*/", result + 2);
+                if (-1 == commentEnd) {
+                    return -1;
+                }
+                result = commentEnd + 2;
+            } else {
+                return result;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Skip single quoted string.
+     *
+     * @param sql SQL
+     * @param position position of opening quote
+     * @return position after closing quote, {@code -1} if string is unterminated or contains backslash escape
+     */
+    static int skipString(final String sql, final int position) {
+        int result = position + 1;
+        while (result < sql.length()) {
+            char ch = sql.charAt(result);
+            if ('\\' == ch) {
+                return -1;
+            }
+            if ('\'' == ch) {
+                if (result + 1 < sql.length() && '\'' == sql.charAt(result + 1)) {
+                    result += 2;
+                    continue;
+                }
+                return result + 1;
+            }
+            result++;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * SQL literal binder.
+ *
+ * <p>
+ * Binds parameters back into placeholders of SQL which is generated from {@code SQLFingerprint}, the result can be executed as literal SQL.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLLiteralBinder {
+    
+    /**
+     * Bind parameters into placeholders as literals.
+     *
+     * @param sql SQL with placeholders
+     * @param parameters parameters
+     * @return literal SQL
+     */
+    public static String bind(final String sql, final List<Object> parameters) {
+        StringBuilder result = new StringBuilder(sql.length() + parameters.size() * 8);
+        int parameterIndex = 0;
+        int position = 0;
+        while (position < sql.length()) {
+            char ch = sql.charAt(position);
+            int end = position + 1;
+            if ('\'' == ch) {
+                end = skipString(sql, position);
+            } else if ('`' == ch || '"' == ch || '[' == ch) {
+                end = sql.indexOf('[' == ch ? ']' : ch, position + 1) + 1;
+            } else if ('-' == ch || '/' == ch) {
+                end = Math.max(SQLFingerprintEngine.skipWhitespaceAndComment(sql, position), position + 1);
+            }
+            Preconditions.checkState(end > position, "Can not bind parameters into SQL: %s", sql);
+            if ('?' == ch) {
+                Preconditions.checkState(parameterIndex < parameters.size(), "Parameters are not enough for SQL: %s", sql);
+                appendLiteral(result, parameters.get(parameterIndex++));
+            } else {
+                result.append(sql, position, end);
+            }
+            position = end;
+        }
+        Preconditions.checkState(parameterIndex == parameters.size(), "Parameters are more than placeholders of SQL: %s", sql);
+        return result.toString();
+    }
+    
+    private static int skipString(final String sql, final int position) {
+        int result = position + 1;
+        while (result < sql.length()) {
+            char ch = sql.charAt(result);
+            if ('\\' == ch) {
+                result += 2;
+                continue;
+            }
+            if ('\'' == ch) {
+                if (result + 1 < sql.length() && '\'' == sql.charAt(result + 1)) {
+                    result += 2;
+                    continue;
+                }
+                return result + 1;
+            }
+            result++;
+        }
+        return -1;
+    }
+    
+    private static void appendLiteral(final StringBuilder sql, final Object parameter) {
+        if (null == parameter) {
+            sql.append("NULL");
+        } else if (parameter instanceof BigDecimal) {
+            sql.append(((BigDecimal) parameter).toPlainString());
+        } else if (parameter instanceof Number) {
+            sql.append(parameter);
+        } else {
+            sql.append('\'').append(parameter.toString().replace("'", "''")).append('\'');
+        }
+    }
+}
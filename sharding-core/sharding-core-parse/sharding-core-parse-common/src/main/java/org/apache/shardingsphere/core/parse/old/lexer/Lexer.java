@@ -18,69 +18,125 @@
 package org.apache.shardingsphere.core.parse.old.lexer;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.parse.old.lexer.analyzer.CharType;
 import org.apache.shardingsphere.core.parse.old.lexer.analyzer.Dictionary;
 import org.apache.shardingsphere.core.parse.old.lexer.analyzer.Tokenizer;
 import org.apache.shardingsphere.core.parse.old.lexer.token.Assist;
 import org.apache.shardingsphere.core.parse.old.lexer.token.Token;
+import org.apache.shardingsphere.core.parse.old.lexer.token.TokenType;
 import org.apache.shardingsphere.core.parse.old.parser.exception.SQLParsingException;
 
 /**
  * Lexical analysis.
  * 
+ * <p>
+ * Lexer works as a cursor of input, current token is kept as type and positions.
+ * Token and its literals are created only when they are required.
+ * </p>
+ * 
  * @author zhangliang 
  */
-@RequiredArgsConstructor
 public class Lexer {
     
     @Getter
     private final String input;
     
-    private final Dictionary dictionary;
+    private final Tokenizer tokenizer;
     
     private int offset;
     
     @Getter
+    private TokenType currentTokenType;
+    
+    @Getter
+    private int currentTokenBeginPosition;
+    
+    private int currentLiteralsBeginPosition;
+    
+    private int currentLiteralsEndPosition;
+    
     private Token currentToken;
     
+    public Lexer(final String input, final Dictionary dictionary) {
+        this.input = input;
+        tokenizer = new Tokenizer(input, dictionary, 0);
+    }
+    
     /**
      * Analyse next token.
      */
     public final void nextToken() {
         skipIgnoredToken();
+        currentTokenBeginPosition = offset;
         if (isVariableBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanVariable();
+            tokenizer.tokenizeVariable();
         } else if (isNCharBegin()) {
-            currentToken = new Tokenizer(input, dictionary, ++offset).scanChars();
+            tokenizer.moveTo(offset + 1);
+            tokenizer.tokenizeChars();
         } else if (isIdentifierBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanIdentifier();
+            tokenizer.tokenizeIdentifier();
         } else if (isHexDecimalBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanHexDecimal();
+            tokenizer.tokenizeHexDecimal();
         } else if (isNumberBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanNumber();
+            tokenizer.tokenizeNumber();
         } else if (isSymbolBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanSymbol();
+            tokenizer.tokenizeSymbol();
         } else if (isCharsBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanChars();
+            tokenizer.tokenizeChars();
         } else if (isEnd()) {
-            currentToken = new Token(Assist.END, "", offset);
+            setCurrentToken(Assist.END, input.length(), input.length(), offset);
+            return;
         } else {
             throw new SQLParsingException(this, Assist.ERROR);
         }
-        offset = currentToken.getEndPosition();
+        setCurrentToken(tokenizer.getTokenType(), tokenizer.getLiteralsBeginPosition(), tokenizer.getLiteralsEndPosition(), tokenizer.getEndPosition());
+    }
+    
+    private void setCurrentToken(final TokenType tokenType, final int literalsBeginPosition, final int literalsEndPosition, final int endPosition) {
+        currentTokenType = tokenType;
+        currentLiteralsBeginPosition = literalsBeginPosition;
+        currentLiteralsEndPosition = literalsEndPosition;
+        currentToken = null;
+        offset = endPosition;
     }
     
     private void skipIgnoredToken() {
-        offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+        tokenizer.moveTo(offset);
+        offset = tokenizer.skipWhitespace();
         while (isHintBegin()) {
-            offset = new Tokenizer(input, dictionary, offset).skipHint();
-            offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+            tokenizer.moveTo(offset);
+            offset = tokenizer.skipHint();
+            tokenizer.moveTo(offset);
+            offset = tokenizer.skipWhitespace();
         }
         while (isCommentBegin()) {
-            offset = new Tokenizer(input, dictionary, offset).skipComment();
-            offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+            tokenizer.moveTo(offset);
+            offset = tokenizer.skipComment();
+            tokenizer.moveTo(offset);
+            offset = tokenizer.skipWhitespace();
         }
+        tokenizer.moveTo(offset);
+    }
+    
+    /**
+     * Get current token.
+     * 
+     * @return current token
+     */
+    public final Token getCurrentToken() {
+        if (null == currentToken && null != currentTokenType) {
+            currentToken = new Token(currentTokenType, input, currentLiteralsBeginPosition, currentLiteralsEndPosition, offset);
+        }
+        return currentToken;
+    }
+    
+    /**
+     * Get end position of current token.
+     * 
+     * @return end position of current token
+     */
+    public final int getCurrentTokenEndPosition() {
+        return offset;
     }
     
     protected boolean isHintBegin() {
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.core.parse.old.lexer;
 
-import com.google.common.collect.Sets;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
@@ -33,8 +32,6 @@ import org.apache.shardingsphere.core.parse.old.lexer.token.TokenType;
 import org.apache.shardingsphere.core.parse.old.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.core.parse.old.parser.exception.SQLParsingUnsupportedException;
 
-import java.util.Set;
-
 /**
  * Lexical analysis engine.
  *
@@ -67,7 +64,7 @@ public final class LexerEngine {
      * @return current token is end token or not.
      */
     public boolean isEnd() {
-        return Assist.END == lexer.getCurrentToken().getType();
+        return Assist.END == lexer.getCurrentTokenType();
     }
     
     /**
@@ -79,6 +76,15 @@ public final class LexerEngine {
         return lexer.getCurrentToken();
     }
     
+    /**
+     * Get type of current token.
+     * 
+     * @return type of current token
+     */
+    public TokenType getCurrentTokenType() {
+        return lexer.getCurrentTokenType();
+    }
+    
     /**
      * skip all tokens that inside parentheses.
      *
@@ -86,30 +92,29 @@ public final class LexerEngine {
      * @return skipped string
      */
     public String skipParentheses(final SQLStatement sqlStatement) {
-        StringBuilder result = new StringBuilder();
+        if (Symbol.LEFT_PAREN != lexer.getCurrentTokenType()) {
+            return "";
+        }
+        int beginPosition = lexer.getCurrentTokenBeginPosition();
         int count = 0;
-        if (Symbol.LEFT_PAREN == lexer.getCurrentToken().getType()) {
-            final int beginPosition = lexer.getCurrentToken().getEndPosition();
-            result.append(Symbol.LEFT_PAREN.getLiterals());
-            lexer.nextToken();
-            while (true) {
-                if (equalOne(Symbol.QUESTION)) {
-                    sqlStatement.setParametersIndex(sqlStatement.getParametersIndex() + 1);
-                }
-                if (Assist.END == lexer.getCurrentToken().getType() || (Symbol.RIGHT_PAREN == lexer.getCurrentToken().getType() && 0 == count)) {
-                    break;
-                }
-                if (Symbol.LEFT_PAREN == lexer.getCurrentToken().getType()) {
-                    count++;
-                } else if (Symbol.RIGHT_PAREN == lexer.getCurrentToken().getType()) {
-                    count--;
-                }
-                lexer.nextToken();
+        lexer.nextToken();
+        while (true) {
+            if (equalOne(Symbol.QUESTION)) {
+                sqlStatement.setParametersIndex(sqlStatement.getParametersIndex() + 1);
+            }
+            if (Assist.END == lexer.getCurrentTokenType() || (Symbol.RIGHT_PAREN == lexer.getCurrentTokenType() && 0 == count)) {
+                break;
+            }
+            if (Symbol.LEFT_PAREN == lexer.getCurrentTokenType()) {
+                count++;
+            } else if (Symbol.RIGHT_PAREN == lexer.getCurrentTokenType()) {
+                count--;
             }
-            result.append(lexer.getInput().substring(beginPosition, lexer.getCurrentToken().getEndPosition()));
             lexer.nextToken();
         }
-        return result.toString();
+        String result = lexer.getInput().substring(beginPosition, lexer.getCurrentTokenEndPosition());
+        lexer.nextToken();
+        return result;
     }
     
     /**
@@ -118,7 +123,7 @@ public final class LexerEngine {
      * @param tokenType token type
      */
     public void accept(final TokenType tokenType) {
-        if (lexer.getCurrentToken().getType() != tokenType) {
+        if (lexer.getCurrentTokenType() != tokenType) {
             throw new SQLParsingException(lexer, tokenType);
         }
         lexer.nextToken();
@@ -132,13 +137,13 @@ public final class LexerEngine {
      */
     public boolean equalAny(final TokenType... tokenTypes) {
         for (TokenType each : tokenTypes) {
-            if (each == lexer.getCurrentToken().getType()) {
+            if (each == lexer.getCurrentTokenType()) {
                 return true;
             }
         }
         return false;
     }
-
+    
     /**
      * Judge current token equals one of input tokens or not.
      *
@@ -146,9 +151,9 @@ public final class LexerEngine {
      * @return current token equals one of input tokens or not
      */
     public boolean equalOne(final TokenType tokenType) {
-        return tokenType == lexer.getCurrentToken().getType();
+        return tokenType == lexer.getCurrentTokenType();
     }
-
+    
     /**
      * Skip current token if equals one of input tokens.
      *
@@ -162,7 +167,7 @@ public final class LexerEngine {
         }
         return false;
     }
-
+    
     /**
      * Skip current token if equals one of input tokens.
      *
@@ -170,21 +175,20 @@ public final class LexerEngine {
      * @return skipped current token or not
      */
     public boolean skipIfEqualType(final TokenType tokenType) {
-        if (lexer.getCurrentToken().getType() == tokenType) {
+        if (lexer.getCurrentTokenType() == tokenType) {
             lexer.nextToken();
             return true;
         }
         return false;
     }
-
+    
     /**
      * Skip all input tokens.
      *
      * @param tokenTypes to be skipped token types
      */
     public void skipAll(final TokenType... tokenTypes) {
-        Set<TokenType> tokenTypeSet = Sets.newHashSet(tokenTypes);
-        while (tokenTypeSet.contains(lexer.getCurrentToken().getType())) {
+        while (equalAny(tokenTypes)) {
             lexer.nextToken();
         }
     }
@@ -195,9 +199,7 @@ public final class LexerEngine {
      * @param tokenTypes to be skipped untiled token types
      */
     public void skipUntil(final TokenType... tokenTypes) {
-        Set<TokenType> tokenTypeSet = Sets.newHashSet(tokenTypes);
-        tokenTypeSet.add(Assist.END);
-        while (!tokenTypeSet.contains(lexer.getCurrentToken().getType())) {
+        while (Assist.END != lexer.getCurrentTokenType() && !equalAny(tokenTypes)) {
             lexer.nextToken();
         }
     }
@@ -209,7 +211,7 @@ public final class LexerEngine {
      */
     public void unsupportedIfEqual(final TokenType... tokenTypes) {
         if (equalAny(tokenTypes)) {
-            throw new SQLParsingUnsupportedException(lexer.getCurrentToken().getType());
+            throw new SQLParsingUnsupportedException(lexer.getCurrentTokenType());
         }
     }
     
@@ -220,7 +222,7 @@ public final class LexerEngine {
      */
     public void unsupportedIfNotSkip(final TokenType... tokenTypes) {
         if (!skipIfEqual(tokenTypes)) {
-            throw new SQLParsingUnsupportedException(lexer.getCurrentToken().getType());
+            throw new SQLParsingUnsupportedException(lexer.getCurrentTokenType());
         }
     }
     
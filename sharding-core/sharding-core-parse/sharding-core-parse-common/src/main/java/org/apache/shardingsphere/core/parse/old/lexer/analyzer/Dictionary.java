@@ -23,6 +23,7 @@ import org.apache.shardingsphere.core.parse.old.lexer.token.TokenType;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Token dictionary.
@@ -33,8 +34,26 @@ public final class Dictionary {
     
     private final Map<String, Keyword> tokens = new HashMap<>(1024);
     
+    private final String[] slotLiterals;
+    
+    private final Keyword[] slotKeywords;
+    
+    private final int slotMask;
+    
     public Dictionary(final Keyword... dialectKeywords) {
         fill(dialectKeywords);
+        int slotCount = Integer.highestOneBit(tokens.size() * 4 - 1) << 1;
+        slotLiterals = new String[slotCount];
+        slotKeywords = new Keyword[slotCount];
+        slotMask = slotCount - 1;
+        for (Entry<String, Keyword> entry : tokens.entrySet()) {
+            int slot = spread(entry.getKey().hashCode()) & slotMask;
+            while (null != slotLiterals[slot]) {
+                slot = (slot + 1) & slotMask;
+            }
+            slotLiterals[slot] = entry.getKey();
+            slotKeywords[slot] = entry.getValue();
+        }
     }
     
     private void fill(final Keyword... dialectKeywords) {
@@ -46,16 +65,24 @@ public final class Dictionary {
         }
     }
     
-    TokenType findTokenType(final String literals, final TokenType defaultTokenType) {
-        String key = null == literals ? null : literals.toUpperCase();
-        return tokens.containsKey(key) ? tokens.get(key) : defaultTokenType;
+    TokenType findTokenType(final String input, final int beginPosition, final int endPosition, final TokenType defaultTokenType) {
+        int length = endPosition - beginPosition;
+        int hash = 0;
+        for (int i = beginPosition; i < endPosition; i++) {
+            hash = 31 * hash + Character.toUpperCase(input.charAt(i));
+        }
+        int slot = spread(hash) & slotMask;
+        while (null != slotLiterals[slot]) {
+            String each = slotLiterals[slot];
+            if (each.length() == length && each.regionMatches(true, 0, input, beginPosition, length)) {
+                return slotKeywords[slot];
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return defaultTokenType;
     }
     
-    TokenType findTokenType(final String literals) {
-        String key = null == literals ? null : literals.toUpperCase();
-        if (tokens.containsKey(key)) {
-            return tokens.get(key);
-        }
-        throw new IllegalArgumentException();
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
     }
 }
@@ -17,7 +17,7 @@
 
 package org.apache.shardingsphere.core.parse.old.lexer.analyzer;
 
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import org.apache.shardingsphere.core.parse.old.lexer.token.DefaultKeyword;
 import org.apache.shardingsphere.core.parse.old.lexer.token.Literals;
 import org.apache.shardingsphere.core.parse.old.lexer.token.Symbol;
@@ -26,10 +26,13 @@ import org.apache.shardingsphere.core.parse.old.lexer.token.TokenType;
 
 /**
  * Tokenizer.
+ * 
+ * <p>
+ * Tokenizer can be reused by moving offset, tokenize methods keep type and positions of token without creating token and literals.
+ * </p>
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class Tokenizer {
     
     private static final int MYSQL_SPECIAL_COMMENT_BEGIN_SYMBOL_LENGTH = 1;
@@ -46,7 +49,34 @@ public final class Tokenizer {
     
     private final Dictionary dictionary;
     
-    private final int offset;
+    private int offset;
+    
+    @Getter
+    private TokenType tokenType;
+    
+    @Getter
+    private int literalsBeginPosition;
+    
+    @Getter
+    private int literalsEndPosition;
+    
+    @Getter
+    private int endPosition;
+    
+    public Tokenizer(final String input, final Dictionary dictionary, final int offset) {
+        this.input = input;
+        this.dictionary = dictionary;
+        this.offset = offset;
+    }
+    
+    /**
+     * Move to offset.
+     * 
+     * @param offset offset to be tokenized from
+     */
+    public void moveTo(final int offset) {
+        this.offset = offset;
+    }
     
     /**
      * skip whitespace.
@@ -129,6 +159,14 @@ public final class Tokenizer {
      * @return variable token
      */
     public Token scanVariable() {
+        tokenizeVariable();
+        return createToken();
+    }
+    
+    /**
+     * tokenize variable.
+     */
+    public void tokenizeVariable() {
         int length = 1;
         if ('@' == charAt(offset + 1)) {
             length++;
@@ -136,7 +174,7 @@ public final class Tokenizer {
         while (isVariableChar(charAt(offset + length))) {
             length++;
         }
-        return new Token(Literals.VARIABLE, input.substring(offset, offset + length), offset + length);
+        setToken(Literals.VARIABLE, offset, offset + length, offset + length);
     }
     
     private boolean isVariableChar(final char ch) {
@@ -149,27 +187,38 @@ public final class Tokenizer {
      * @return identifier token
      */
     public Token scanIdentifier() {
+        tokenizeIdentifier();
+        return createToken();
+    }
+    
+    /**
+     * tokenize identifier.
+     */
+    public void tokenizeIdentifier() {
         if ('`' == charAt(offset)) {
             int length = getLengthUntilTerminatedChar('`');
-            return new Token(Literals.IDENTIFIER, input.substring(offset, offset + length), offset + length);
+            setToken(Literals.IDENTIFIER, offset, offset + length, offset + length);
+            return;
         }
         if ('"' == charAt(offset)) {
             int length = getLengthUntilTerminatedChar('"');
-            return new Token(Literals.IDENTIFIER, input.substring(offset, offset + length), offset + length);
+            setToken(Literals.IDENTIFIER, offset, offset + length, offset + length);
+            return;
         }
         if ('[' == charAt(offset)) {
             int length = getLengthUntilTerminatedChar(']');
-            return new Token(Literals.IDENTIFIER, input.substring(offset, offset + length), offset + length);
+            setToken(Literals.IDENTIFIER, offset, offset + length, offset + length);
+            return;
         }
         int length = 0;
         while (isIdentifierChar(charAt(offset + length))) {
             length++;
         }
-        String literals = input.substring(offset, offset + length);
-        if (isAmbiguousIdentifier(literals)) {
-            return new Token(processAmbiguousIdentifier(offset + length, literals), literals, offset + length);
+        if (isAmbiguousIdentifier(length)) {
+            setToken(processAmbiguousIdentifier(offset + length), offset, offset + length, offset + length);
+            return;
         }
-        return new Token(dictionary.findTokenType(literals, Literals.IDENTIFIER), literals, offset + length);
+        setToken(dictionary.findTokenType(input, offset, offset + length, Literals.IDENTIFIER), offset, offset + length, offset + length);
     }
     
     private int getLengthUntilTerminatedChar(final char terminatedChar) {
@@ -194,27 +243,39 @@ public final class Tokenizer {
         return CharType.isAlphabet(ch) || CharType.isDigital(ch) || '_' == ch || '$' == ch || '#' == ch;
     }
     
-    private boolean isAmbiguousIdentifier(final String literals) {
-        return DefaultKeyword.ORDER.name().equalsIgnoreCase(literals) || DefaultKeyword.GROUP.name().equalsIgnoreCase(literals);
+    private boolean isAmbiguousIdentifier(final int length) {
+        return isKeyword(DefaultKeyword.ORDER, offset, length) || isKeyword(DefaultKeyword.GROUP, offset, length);
     }
     
-    private TokenType processAmbiguousIdentifier(final int offset, final String literals) {
+    private TokenType processAmbiguousIdentifier(final int offset) {
         int i = 0;
         while (CharType.isWhitespace(charAt(offset + i))) {
             i++;
         }
-        if (DefaultKeyword.BY.name().equalsIgnoreCase(String.valueOf(new char[] {charAt(offset + i), charAt(offset + i + 1)}))) {
-            return dictionary.findTokenType(literals);
+        if (isKeyword(DefaultKeyword.BY, offset + i, 2)) {
+            return dictionary.findTokenType(input, this.offset, offset, Literals.IDENTIFIER);
         }
         return Literals.IDENTIFIER;
     }
     
+    private boolean isKeyword(final DefaultKeyword keyword, final int offset, final int length) {
+        return keyword.name().length() == length && input.regionMatches(true, offset, keyword.name(), 0, length);
+    }
+    
     /**
      * scan hex decimal.
      *
      * @return hex decimal token
      */
     public Token scanHexDecimal() {
+        tokenizeHexDecimal();
+        return createToken();
+    }
+    
+    /**
+     * tokenize hex decimal.
+     */
+    public void tokenizeHexDecimal() {
         int length = HEX_BEGIN_SYMBOL_LENGTH;
         if ('-' == charAt(offset + length)) {
             length++;
@@ -222,7 +283,7 @@ public final class Tokenizer {
         while (isHex(charAt(offset + length))) {
             length++;
         }
-        return new Token(Literals.HEX, input.substring(offset, offset + length), offset + length);
+        setToken(Literals.HEX, offset, offset + length, offset + length);
     }
     
     private boolean isHex(final char ch) {
@@ -235,6 +296,14 @@ public final class Tokenizer {
      * @return number token
      */
     public Token scanNumber() {
+        tokenizeNumber();
+        return createToken();
+    }
+    
+    /**
+     * tokenize number.
+     */
+    public void tokenizeNumber() {
         int length = 0;
         if ('-' == charAt(offset + length)) {
             length++;
@@ -258,7 +327,7 @@ public final class Tokenizer {
             isFloat = true;
             length++;
         }
-        return new Token(isFloat ? Literals.FLOAT : Literals.INT, input.substring(offset, offset + length), offset + length);
+        setToken(isFloat ? Literals.FLOAT : Literals.INT, offset, offset + length, offset + length);
     }
     
     private int getDigitalLength(final int offset) {
@@ -285,12 +354,16 @@ public final class Tokenizer {
      * @return chars token
      */
     public Token scanChars() {
-        return scanChars(charAt(offset));
+        tokenizeChars();
+        return createToken();
     }
     
-    private Token scanChars(final char terminatedChar) {
-        int length = getLengthUntilTerminatedChar(terminatedChar);
-        return new Token(Literals.CHARS, input.substring(offset + 1, offset + length - 1), offset + length);
+    /**
+     * tokenize chars.
+     */
+    public void tokenizeChars() {
+        int length = getLengthUntilTerminatedChar(charAt(offset));
+        setToken(Literals.CHARS, offset + 1, offset + length - 1, offset + length);
     }
     
     /**
@@ -299,16 +372,32 @@ public final class Tokenizer {
      * @return symbol token
      */
     public Token scanSymbol() {
+        tokenizeSymbol();
+        return createToken();
+    }
+    
+    /**
+     * tokenize symbol.
+     */
+    public void tokenizeSymbol() {
         int length = 0;
         while (CharType.isSymbol(charAt(offset + length))) {
             length++;
         }
-        String literals = input.substring(offset, offset + length);
-        Symbol symbol;
-        while (null == (symbol = Symbol.literalsOf(literals))) {
-            literals = input.substring(offset, offset + --length);
-        }
-        return new Token(symbol, literals, offset + length);
+        Symbol symbol = Symbol.literalsOf(input, offset, offset + length);
+        length = symbol.getLiterals().length();
+        setToken(symbol, offset, offset + length, offset + length);
+    }
+    
+    private void setToken(final TokenType tokenType, final int literalsBeginPosition, final int literalsEndPosition, final int endPosition) {
+        this.tokenType = tokenType;
+        this.literalsBeginPosition = literalsBeginPosition;
+        this.literalsEndPosition = literalsEndPosition;
+        this.endPosition = endPosition;
+    }
+    
+    private Token createToken() {
+        return new Token(tokenType, input, literalsBeginPosition, literalsEndPosition, endPosition);
     }
     
     private char charAt(final int index) {
@@ -20,7 +20,11 @@ package org.apache.shardingsphere.core.parse.old.lexer.token;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -75,6 +79,8 @@ public enum Symbol implements TokenType, Keyword {
     
     private static Map<String, Symbol> symbols = new HashMap<>(128);
     
+    private static Symbol[][] symbolsByFirstChar = new Symbol[128][];
+    
     @Getter
     private static Symbol[] operators;
     
@@ -84,6 +90,7 @@ public enum Symbol implements TokenType, Keyword {
         }
         operators = new Symbol[]
             {PLUS, SUB, STAR, SLASH, EQ, GT, LT, CARET, PERCENT, LT_EQ, GT_EQ, LT_EQ_GT, LT_GT, BANG_EQ, BANG_GT, BANG_LT, AMP, BAR, DOUBLE_AMP, DOUBLE_BAR, DOUBLE_LT, DOUBLE_GT};
+        fillSymbolsByFirstChar();
     }
     
     private final String literals;
@@ -97,4 +104,46 @@ public enum Symbol implements TokenType, Keyword {
     public static Symbol literalsOf(final String literals) {
         return symbols.get(literals);
     }
+    
+    /**
+     * Find the longest symbol at the beginning of input range.
+     *
+     * @param input input string
+     * @param beginPosition begin position of range
+     * @param endPosition end position of range
+     * @return longest symbol which starts at begin position and ends not after end position, null if absent
+     */
+    public static Symbol literalsOf(final String input, final int beginPosition, final int endPosition) {
+        char firstChar = input.charAt(beginPosition);
+        if (firstChar >= symbolsByFirstChar.length) {
+            return null;
+        }
+        for (Symbol each : symbolsByFirstChar[firstChar]) {
+            int length = each.getLiterals().length();
+            if (length <= endPosition - beginPosition && input.regionMatches(beginPosition, each.getLiterals(), 0, length)) {
+                return each;
+            }
+        }
+        return null;
+    }
+    
+    private static void fillSymbolsByFirstChar() {
+        List<Symbol> sortedSymbols = new ArrayList<>(symbols.values());
+        Collections.sort(sortedSymbols, new Comparator<Symbol>() {
+            
+            @Override
+            public int compare(final Symbol o1, final Symbol o2) {
+                return o2.getLiterals().length() - o1.getLiterals().length();
+            }
+        });
+        for (char i = 0; i < symbolsByFirstChar.length; i++) {
+            List<Symbol> candidates = new ArrayList<>();
+            for (Symbol each : sortedSymbols) {
+                if (i == each.getLiterals().charAt(0)) {
+                    candidates.add(each);
+                }
+            }
+            symbolsByFirstChar[i] = candidates.toArray(new Symbol[candidates.size()]);
+        }
+    }
 }
@@ -64,7 +64,7 @@ public abstract class InsertDuplicateKeyUpdateClauseParser implements SQLClauseP
             Column column = new Column(SQLUtil.getExactlyValue(lexerEngine.getCurrentToken().getLiterals()), insertStatement.getTables().getSingleTableName());
             if (shardingRule.isShardingColumn(column.getName(), column.getTableName())) {
                 throw new SQLParsingException("INSERT INTO .... ON DUPLICATE KEY UPDATE can not support on sharding column, token is '%s', literals is '%s'.",
-                        lexerEngine.getCurrentToken().getType(), lexerEngine.getCurrentToken().getLiterals());
+                        lexerEngine.getCurrentTokenType(), lexerEngine.getCurrentToken().getLiterals());
             }
             basicExpressionParser.parse(insertStatement);
             lexerEngine.accept(Symbol.EQ);
@@ -142,7 +142,7 @@ public abstract class SelectListClauseParser implements SQLClauseParser {
     private SelectItem parseDistinctSelectItem(final SelectStatement selectStatement) {
         lexerEngine.nextToken();
         String distinctColumnName = lexerEngine.getCurrentToken().getLiterals();
-        if (Symbol.STAR == lexerEngine.getCurrentToken().getType()) {
+        if (Symbol.STAR == lexerEngine.getCurrentTokenType()) {
             return new DistinctSelectItem(Collections.<String>emptySet(), aliasExpressionParser.parseSelectItemAlias());
         }
         lexerEngine.nextToken();
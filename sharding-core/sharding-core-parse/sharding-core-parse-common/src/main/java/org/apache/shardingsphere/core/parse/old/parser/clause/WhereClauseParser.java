@@ -109,7 +109,7 @@ public abstract class WhereClauseParser implements SQLClauseParser {
             if (lexerEngine.isEnd()) {
                 break;
             }
-            TokenType tokenType = lexerEngine.getCurrentToken().getType();
+            TokenType tokenType = lexerEngine.getCurrentTokenType();
             if (tokenType == DefaultKeyword.GROUP || tokenType == DefaultKeyword.ORDER
                     || tokenType == DefaultKeyword.UNION || tokenType == DefaultKeyword.MINUS
                     || tokenType == DefaultKeyword.WHEN   //merge into table using table2 on condition when match
@@ -86,7 +86,7 @@ public final class BasicExpressionParser {
         if (expression instanceof SQLIdentifierExpression
                 && (lexerEngine.equalAny(Symbol.PLUS, Symbol.SUB)
                 || ((literal2.startsWith("+") || literal2.startsWith("-") ))
-                    && lexerEngine.getCurrentToken().getType() == Literals.INT)) {
+                    && lexerEngine.getCurrentTokenType() == Literals.INT)) {
             List<SQLExpression> parameters = new ArrayList<SQLExpression>();
             parameters.add(expression);
             return parsePureExpression(parameters, sqlStatement);
@@ -104,7 +104,7 @@ public final class BasicExpressionParser {
     public SQLFunctionExpression parseFunction(final String functionName, final SQLStatement sqlStatement) {
         List<SQLExpression> parameters = new ArrayList<SQLExpression>();
         int count = 0;
-        if (Symbol.LEFT_PAREN == lexerEngine.getCurrentToken().getType()) {
+        if (Symbol.LEFT_PAREN == lexerEngine.getCurrentTokenType()) {
             while (true) {
                 lexerEngine.nextToken();
                 SQLExpression parameter = parse(sqlStatement, true);
@@ -115,12 +115,12 @@ public final class BasicExpressionParser {
                 if (lexerEngine.equalOne(Symbol.QUESTION)) {
                     sqlStatement.setParametersIndex(sqlStatement.getParametersIndex() + 1);
                 }
-                if (Assist.END == lexerEngine.getCurrentToken().getType() || (Symbol.RIGHT_PAREN == lexerEngine.getCurrentToken().getType() && 0 == count)) {
+                if (Assist.END == lexerEngine.getCurrentTokenType() || (Symbol.RIGHT_PAREN == lexerEngine.getCurrentTokenType() && 0 == count)) {
                     break;
                 }
-                if (Symbol.LEFT_PAREN == lexerEngine.getCurrentToken().getType()) {
+                if (Symbol.LEFT_PAREN == lexerEngine.getCurrentTokenType()) {
                     count++;
-                } else if (Symbol.RIGHT_PAREN == lexerEngine.getCurrentToken().getType()) {
+                } else if (Symbol.RIGHT_PAREN == lexerEngine.getCurrentTokenType()) {
                     count--;
                 }
 
@@ -137,9 +137,9 @@ public final class BasicExpressionParser {
             final SQLExpression expression = getExpression(currentToken.getLiterals(), sqlStatement);
             parameters.add(expression);
             lexerEngine.nextToken();
-            if (lexerEngine.getCurrentToken().getType() == Symbol.COMMA ||
-                    Assist.END == lexerEngine.getCurrentToken().getType()
-                    || (Symbol.RIGHT_PAREN == lexerEngine.getCurrentToken().getType() && 0 == count)) {
+            if (lexerEngine.getCurrentTokenType() == Symbol.COMMA ||
+                    Assist.END == lexerEngine.getCurrentTokenType()
+                    || (Symbol.RIGHT_PAREN == lexerEngine.getCurrentTokenType() && 0 == count)) {
                 break;
             }
         }
@@ -168,9 +168,9 @@ public final class BasicExpressionParser {
         if (lexerEngine.equalOne(DefaultKeyword.CASE)) {
             return new SQLIgnoreExpression(parseCaseWhenExpression());
         }
-        boolean isKeyword = lexerEngine.getCurrentToken().getType() instanceof DefaultKeyword;
-        isKeyword = isKeyword || lexerEngine.getCurrentToken().getType() instanceof Symbol;
-        isKeyword = isKeyword || lexerEngine.getCurrentToken().getType() instanceof OracleKeyword;
+        boolean isKeyword = lexerEngine.getCurrentTokenType() instanceof DefaultKeyword;
+        isKeyword = isKeyword || lexerEngine.getCurrentTokenType() instanceof Symbol;
+        isKeyword = isKeyword || lexerEngine.getCurrentTokenType() instanceof OracleKeyword;
         if (lexerEngine.equalOne(Literals.IDENTIFIER )|| isKeyword) {
             return new SQLIdentifierExpression(SQLUtil.getExactlyValue(literals));
         }
@@ -208,7 +208,7 @@ public final class BasicExpressionParser {
             skipRestCompositeExpression(sqlStatement);
             return true;
         }
-        if ((Literals.INT == lexerEngine.getCurrentToken().getType() || Literals.FLOAT == lexerEngine.getCurrentToken().getType()) && lexerEngine.getCurrentToken().getLiterals().startsWith("-")) {
+        if ((Literals.INT == lexerEngine.getCurrentTokenType() || Literals.FLOAT == lexerEngine.getCurrentTokenType()) && lexerEngine.getCurrentToken().getLiterals().startsWith("-")) {
             lexerEngine.nextToken();
             return true;
         }
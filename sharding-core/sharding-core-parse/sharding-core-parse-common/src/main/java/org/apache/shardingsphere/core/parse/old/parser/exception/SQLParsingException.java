@@ -44,6 +44,6 @@ public final class SQLParsingException extends ShardingException {
     }
     
     public SQLParsingException(final LexerEngine lexerEngine) {
-        super(String.format(TOKEN_ERROR_MESSAGE, lexerEngine.getCurrentToken().getType(), lexerEngine.getCurrentToken().getLiterals()));
+        super(String.format(TOKEN_ERROR_MESSAGE, lexerEngine.getCurrentTokenType(), lexerEngine.getCurrentToken().getLiterals()));
     }
 }
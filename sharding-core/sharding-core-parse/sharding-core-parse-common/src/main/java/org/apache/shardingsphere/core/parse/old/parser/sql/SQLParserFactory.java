@@ -63,7 +63,7 @@ public final class SQLParserFactory {
             return new AntlrParsingEngine(dbType, sql, shardingRule, shardingTableMetaData);
         }
         lexerEngine.nextToken();
-        TokenType tokenType = lexerEngine.getCurrentToken().getType();
+        TokenType tokenType = lexerEngine.getCurrentTokenType();
         if (DQLStatement.isDQL(tokenType)) {
             return getDQLParser(dbType, shardingRule, lexerEngine, shardingTableMetaData);
         }
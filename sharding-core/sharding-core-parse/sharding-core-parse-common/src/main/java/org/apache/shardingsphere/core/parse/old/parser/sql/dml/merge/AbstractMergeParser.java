@@ -117,7 +117,7 @@ public abstract class AbstractMergeParser implements SQLParser {
         if (lexerEngine.skipIfEqualType(DefaultKeyword.USING)) {
             int usingPos = lexerEngine.getCurrentToken().getEndPosition() - 1;
             if (lexerEngine.skipIfEqualType(Symbol.LEFT_PAREN)) {
-                if (lexerEngine.getCurrentToken().getType() == DefaultKeyword.SELECT) {
+                if (lexerEngine.getCurrentTokenType() == DefaultKeyword.SELECT) {
                     mergeStatement.setUsingStartIndex(usingPos);
                     mergeStatement.setUsingParameterStartIndex(mergeStatement.getParametersIndex());
 
@@ -133,7 +133,7 @@ public abstract class AbstractMergeParser implements SQLParser {
                         mergeStatement.addSQLToken(sqlTokens.get(index));
                     }
                     lexerEngine.skipIfEqualType(Symbol.RIGHT_PAREN);
-                    if (lexerEngine.getCurrentToken().getType().equals(Literals.IDENTIFIER)) {
+                    if (lexerEngine.getCurrentTokenType().equals(Literals.IDENTIFIER)) {
                         String alias = lexerEngine.getCurrentToken().getLiterals();
                         mergeStatement.setSelectAlias(alias);
                         lexerEngine.nextToken();
@@ -179,9 +179,9 @@ public abstract class AbstractMergeParser implements SQLParser {
             if (lexerEngine.skipIfEqualType(OracleKeyword.MATCHED)) {
                 //when matched then
                 if (lexerEngine.skipIfEqualType(DefaultKeyword.THEN)) {
-                    if (lexerEngine.getCurrentToken().getType() == DefaultKeyword.UPDATE) {
+                    if (lexerEngine.getCurrentTokenType() == DefaultKeyword.UPDATE) {
                         parseUpdateStatement(mergeStatement);
-                    } else if (lexerEngine.getCurrentToken().getType() == DefaultKeyword.DELETE) {
+                    } else if (lexerEngine.getCurrentTokenType() == DefaultKeyword.DELETE) {
                         parseDeleteStatement(mergeStatement);
                     }
                 }
@@ -189,7 +189,7 @@ public abstract class AbstractMergeParser implements SQLParser {
                 if (lexerEngine.skipIfEqualType(OracleKeyword.MATCHED)) {
                     // When not matched then
                     if (lexerEngine.skipIfEqualType(DefaultKeyword.THEN)) {
-                        if (lexerEngine.getCurrentToken().getType() == DefaultKeyword.INSERT) {
+                        if (lexerEngine.getCurrentTokenType() == DefaultKeyword.INSERT) {
                             parseInsertStatement(mergeStatement);
                         }
                     }
@@ -100,14 +100,14 @@ public abstract class AbstractSelectParser implements SQLParser {
         lexerEngine.unsupportedIfEqual(DefaultKeyword.INTO);
         if (lexerEngine.skipIfEqualType(DefaultKeyword.FROM)) {
             if (lexerEngine.skipIfEqualType(Symbol.LEFT_PAREN)) {
-                if (lexerEngine.getCurrentToken().getType() == DefaultKeyword.SELECT) {
+                if (lexerEngine.getCurrentTokenType() == DefaultKeyword.SELECT) {
                     SelectStatement subSelectStatement = parse(true);
                     if (subSelectStatement.getParametersIndex() > 0) {
                         selectStatement.setParametersIndex(selectStatement.getParametersIndex() + subSelectStatement.getParametersIndex());
                     }
                     selectStatement.setSubqueryStatement(subSelectStatement);
                     lexerEngine.skipIfEqualType(Symbol.RIGHT_PAREN);
-                    if (lexerEngine.getCurrentToken().getType().equals(Literals.IDENTIFIER)) {
+                    if (lexerEngine.getCurrentTokenType().equals(Literals.IDENTIFIER)) {
                         String alias = lexerEngine.getCurrentToken().getLiterals();
                         lexerEngine.nextToken();
                     }
@@ -18,6 +18,10 @@
 package org.apache.shardingsphere.core.parse;
 
 import org.apache.shardingsphere.core.parse.antlr.AllAntlrTests;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCacheTest;
+import org.apache.shardingsphere.core.parse.cache.SQLCorpusTest;
+import org.apache.shardingsphere.core.parse.cache.SQLFingerprintEngineTest;
+import org.apache.shardingsphere.core.parse.cache.SQLLiteralBinderTest;
 import org.apache.shardingsphere.core.parse.hook.SPIParsingHookTest;
 import org.apache.shardingsphere.core.parse.lexer.AllLexerTests;
 import org.apache.shardingsphere.core.parse.parser.constant.AllConstantTests;
@@ -37,7 +41,11 @@ import org.junit.runners.Suite.SuiteClasses;
         SQLJudgeEngineTest.class, 
         AllContextTests.class, 
         AllConstantTests.class, 
-        SPIParsingHookTest.class
+        SPIParsingHookTest.class, 
+        ParsingResultCacheTest.class, 
+        SQLFingerprintEngineTest.class, 
+        SQLLiteralBinderTest.class, 
+        SQLCorpusTest.class
 })
 public final class AllParsingTests {
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.parse;
 
+import org.apache.shardingsphere.core.constant.SQLType;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dal.SetStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.DMLStatement;
@@ -159,4 +160,29 @@ public final class SQLJudgeEngineTest {
     public void assertJudgeForInvalidSQL() {
         new SQLJudgeEngine("int i = 0").judge();
     }
+    
+    @Test
+    public void assertJudgeTypeForSelect() {
+        assertThat(new SQLJudgeEngine(" /*COMMENT*/  \t \n -- COMMENT\n # COMMENT\n sElecT\t\n  * from table  ").judgeType(), is(SQLType.DQL));
+    }
+    
+    @Test
+    public void assertJudgeTypeForDML() {
+        assertThat(new SQLJudgeEngine("insert into table values (1)").judgeType(), is(SQLType.DML));
+        assertThat(new SQLJudgeEngine("UPDATE table SET id = 1").judgeType(), is(SQLType.DML));
+        assertThat(new SQLJudgeEngine("/*+ HINT SELECT * FROM TT*/ delete from table").judgeType(), is(SQLType.DML));
+    }
+    
+    @Test
+    public void assertJudgeTypeForOtherStatements() {
+        assertThat(new SQLJudgeEngine("show tables").judgeType(), is(SQLType.DAL));
+        assertThat(new SQLJudgeEngine("commit").judgeType(), is(SQLType.TCL));
+        assertThat(new SQLJudgeEngine("call test_procedure()").judgeType(), is(SQLType.DQL));
+        assertThat(new SQLJudgeEngine("(select * from table)").judgeType(), is(SQLType.DQL));
+    }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertJudgeTypeForInvalidSQL() {
+        new SQLJudgeEngine("selection").judgeType();
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ParsingResultCacheTest {
+    
+    @Test
+    public void assertGetSQLStatement() {
+        ParsingResultCache cache = new ParsingResultCache();
+        SQLStatement sqlStatement = new SelectStatement();
+        cache.put("SELECT 1", sqlStatement);
+        assertThat(cache.getSQLStatement("SELECT 1"), is(sqlStatement));
+        assertNull(cache.getSQLStatement("SELECT 2"));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetHottestSQLs() {
+        ParsingResultCache cache = new ParsingResultCache();
+        cache.put("SELECT 1", new SelectStatement());
+        cache.put("SELECT 2", new SelectStatement());
+        cache.put("SELECT 3", new SelectStatement());
+        for (int i = 0; i < 3; i++) {
+            cache.getSQLStatement("SELECT 2");
+        }
+        cache.getSQLStatement("SELECT 3");
+        assertThat(cache.getHottestSQLs(2), is(Arrays.asList("SELECT 2", "SELECT 3")));
+        assertThat(cache.getHottestSQLs(10).size(), is(3));
+    }
+    
+    @Test
+    public void assertClear() {
+        ParsingResultCache cache = new ParsingResultCache();
+        cache.put("SELECT 1", new SelectStatement());
+        cache.clear();
+        assertNull(cache.getSQLStatement("SELECT 1"));
+        assertThat(cache.size(), is(0));
+    }
+    
+    @Test
+    public void assertSizeIsBounded() {
+        ParsingResultCache cache = new ParsingResultCache(100);
+        for (int i = 0; i < 1000; i++) {
+            cache.put("SELECT " + i, new SelectStatement());
+        }
+        assertTrue(cache.size() <= 100);
+        assertTrue(cache.getEvictionCount() >= 900L);
+    }
+    
+    @Test
+    public void assertFrequentlyUsedStatementSurvivesScan() {
+        ParsingResultCache cache = new ParsingResultCache(100);
+        SQLStatement hotStatement = new SelectStatement();
+        cache.put("SELECT hot", hotStatement);
+        for (int i = 0; i < 10; i++) {
+            cache.getSQLStatement("SELECT hot");
+        }
+        for (int i = 0; i < 1000; i++) {
+            cache.put("SELECT " + i, new SelectStatement());
+        }
+        assertThat(cache.getSQLStatement("SELECT hot"), is(hotStatement));
+    }
+}
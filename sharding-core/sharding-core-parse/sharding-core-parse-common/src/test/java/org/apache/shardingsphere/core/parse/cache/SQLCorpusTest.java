@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLCorpusTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertSaveAndLoad() throws IOException {
+        List<String> sqls = Arrays.asList("SELECT * FROM t_order WHERE order_id = ?", "SELECT *\nFROM t_order\r\nWHERE status = 'a\\b'", "# comment like SQL");
+        File file = new File(temporaryFolder.getRoot(), "snapshot/parsing.sql");
+        SQLCorpus.save(file.getPath(), sqls);
+        assertThat(new ArrayList<>(SQLCorpus.load(file.getPath(), DatabaseType.MySQL)), is(sqls));
+    }
+    
+    @Test
+    public void assertLoadXML() throws IOException {
+        File file = temporaryFolder.newFile("select.xml");
+        Files.write(file.toPath(), ("<sql-cases>\n"
+                + "    <sql-case id=\"select_all\" value=\"SELECT * FROM t_order\" />\n"
+                + "    <sql-case id=\"select_mysql\" value=\"SELECT * FROM `t_order`\" db-types=\"MySQL,H2\" />\n"
+                + "    <sql-case id=\"select_oracle\" value=\"SELECT * FROM t_order WHERE rownum &lt;= ?\" db-types=\"Oracle\" />\n"
+                + "</sql-cases>\n").getBytes(StandardCharsets.UTF_8));
+        assertThat(new ArrayList<>(SQLCorpus.load(file.getPath(), DatabaseType.MySQL)), is(Arrays.asList("SELECT * FROM t_order", "SELECT * FROM `t_order`")));
+        assertThat(new ArrayList<>(SQLCorpus.load(file.getPath(), DatabaseType.Oracle)), is(Arrays.asList("SELECT * FROM t_order", "SELECT * FROM t_order WHERE rownum <= ?")));
+    }
+    
+    @Test
+    public void assertLoadDirectoryAndMultiplePaths() throws IOException {
+        File directory = temporaryFolder.newFolder("corpus");
+        Files.write(new File(directory, "a.sql").toPath(), "SELECT 1\n\n# ignored\nSELECT 2\n".getBytes(StandardCharsets.UTF_8));
+        File file = temporaryFolder.newFile("b.sql");
+        Files.write(file.toPath(), "SELECT 2\nSELECT 3\n".getBytes(StandardCharsets.UTF_8));
+        Collection<String> actual = SQLCorpus.load(directory.getPath() + ", " + file.getPath() + ",", DatabaseType.MySQL);
+        assertThat(actual.size(), is(3));
+        assertTrue(actual.containsAll(Arrays.asList("SELECT 1", "SELECT 2", "SELECT 3")));
+    }
+    
+    @Test
+    public void assertLoadNotExistedFile() throws IOException {
+        assertTrue(SQLCorpus.load(new File(temporaryFolder.getRoot(), "not_existed.sql").getPath(), DatabaseType.MySQL).isEmpty());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import com.google.common.base.Optional;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class SQLFingerprintEngineTest {
+    
+    @Test
+    public void assertFingerprintComparison() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintEngine("SELECT * FROM t_order WHERE user_id = 12345 AND status='init' AND price > 1.5").fingerprint();
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE user_id = ? AND status=? AND price > ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(12345, "init", new BigDecimal("1.5"))));
+    }
+    
+    @Test
+    public void assertFingerprintInAndBetween() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintEngine("select * from t_order where order_id in (1, 2, 3) and user_id between 10 and 20").fingerprint();
+        assertThat(actual.get().getSql(), is("select * from t_order where order_id in (?, ?, ?) and user_id between ? and ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, 3, 10, 20)));
+    }
+    
+    @Test
+    public void assertFingerprintInsertValues() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintEngine("INSERT INTO t_order (order_id, status) VALUES (1, 'a'), (2, now())").fingerprint();
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, now())"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, "a", 2)));
+    }
+    
+    @Test
+    public void assertFingerprintLimit() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintEngine("SELECT * FROM t_order ORDER BY 1 LIMIT 10, 20").fingerprint();
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order ORDER BY 1 LIMIT ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, 20)));
+    }
+    
+    @Test
+    public void assertFingerprintKeepsNonValueLiterals() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintEngine("SELECT 1, 'x' FROM t_order_1 WHERE id = 1 + 2 AND price = -1 - 2 AND /* id = 3 */ user_id = 3-1 AND code = 'a'").fingerprint();
+        assertThat(actual.get().getSql(), is("SELECT 1, 'x' FROM t_order_1 WHERE id = 1 + 2 AND price = -1 - 2 AND /* id = 3 */ user_id = 3-1 AND code = ?"));
+        assertThat(actual.get().getParameters(), is(Collections.<Object>singletonList("a")));
+    }
+    
+    @Test
+    public void assertFingerprintNegativeNumberAndEscapedString() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintEngine("SELECT * FROM t_order WHERE name = 'it''s' AND user_id = -1 AND price IN (-1.5, 2) AND id BETWEEN -10 AND -5").fingerprint();
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE name = ? AND user_id = ? AND price IN (?, ?) AND id BETWEEN ? AND ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList("it's", -1, new BigDecimal("-1.5"), 2, -10, -5)));
+    }
+    
+    @Test
+    public void assertFingerprintSubqueryInList() {
+        Optional<SQLFingerprint> actual = new SQLFingerprintEngine("SELECT * FROM t_order WHERE id IN (SELECT id, 1 FROM t_order_item WHERE status = 'a')").fingerprint();
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE id IN (SELECT id, 1 FROM t_order_item WHERE status = ?)"));
+    }
+    
+    @Test
+    public void assertNotFingerprint() {
+        assertFalse(new SQLFingerprintEngine("SET autocommit = 1").fingerprint().isPresent());
+        assertFalse(new SQLFingerprintEngine("SELECT * FROM t_order WHERE id = ?").fingerprint().isPresent());
+        assertFalse(new SQLFingerprintEngine("SELECT * FROM t_order").fingerprint().isPresent());
+        assertFalse(new SQLFingerprintEngine("SELECT * FROM t_order WHERE name = 'a\\'b'").fingerprint().isPresent());
+        assertFalse(new SQLFingerprintEngine("SELECT * FROM t_order WHERE name = 'a").fingerprint().isPresent());
+    }
+}
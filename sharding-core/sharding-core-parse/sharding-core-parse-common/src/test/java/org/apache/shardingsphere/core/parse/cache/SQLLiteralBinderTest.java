@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLLiteralBinderTest {
+    
+    @Test
+    public void assertBind() {
+        assertThat(SQLLiteralBinder.bind("SELECT '?' FROM t_order_0 WHERE id = ? AND name = ? /* ? */ AND price > ?", Arrays.<Object>asList(1, "it's", new BigDecimal("1.50"))),
+                is("SELECT '?' FROM t_order_0 WHERE id = 1 AND name = 'it''s' /* ? */ AND price > 1.50"));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertBindWithLessParameters() {
+        SQLLiteralBinder.bind("SELECT * FROM t_order_0 WHERE id = ? AND user_id = ?", Collections.<Object>singletonList(1));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertBindWithMoreParameters() {
+        SQLLiteralBinder.bind("SELECT * FROM t_order_0 WHERE id = ?", Arrays.<Object>asList(1, 2));
+    }
+}
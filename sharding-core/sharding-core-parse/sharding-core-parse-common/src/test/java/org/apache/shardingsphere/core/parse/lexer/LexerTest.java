@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.core.parse.lexer;
 
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.parse.old.lexer.Lexer;
+import org.apache.shardingsphere.core.parse.old.lexer.LexerEngine;
 import org.apache.shardingsphere.core.parse.old.lexer.analyzer.Dictionary;
 import org.apache.shardingsphere.core.parse.old.lexer.token.Assist;
 import org.apache.shardingsphere.core.parse.old.lexer.token.DefaultKeyword;
@@ -27,6 +29,9 @@ import org.apache.shardingsphere.core.parse.old.lexer.token.TokenType;
 import org.apache.shardingsphere.core.parse.old.parser.exception.SQLParsingException;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
 public final class LexerTest {
     
     private final Dictionary dictionary = new Dictionary();
@@ -188,4 +193,31 @@ public final class LexerTest {
         LexerAssert.assertNextToken(lexer, Literals.CHARS, ",s.description=");
         lexer.nextToken();
     }
+    
+    @Test
+    public void assertCurrentTokenPositions() {
+        Lexer lexer = new Lexer("SELECT  `x`, 'y''z' FROM t", dictionary);
+        lexer.nextToken();
+        lexer.nextToken();
+        assertThat(lexer.getCurrentTokenType(), is((TokenType) Literals.IDENTIFIER));
+        assertThat(lexer.getCurrentTokenBeginPosition(), is(8));
+        assertThat(lexer.getCurrentTokenEndPosition(), is(11));
+        lexer.nextToken();
+        lexer.nextToken();
+        assertThat(lexer.getCurrentTokenType(), is((TokenType) Literals.CHARS));
+        assertThat(lexer.getCurrentTokenBeginPosition(), is(13));
+        assertThat(lexer.getCurrentTokenEndPosition(), is(19));
+        assertThat(lexer.getCurrentToken().getLiterals(), is("y''z"));
+        assertThat(lexer.getCurrentToken().getEndPosition(), is(19));
+    }
+    
+    @Test
+    public void assertSkipParentheses() {
+        LexerEngine lexerEngine = new LexerEngine(new Lexer("SELECT * FROM t WHERE id IN (SELECT id FROM (t2) WHERE x = ?) AND y = ?", dictionary));
+        lexerEngine.skipUntil(Symbol.LEFT_PAREN);
+        SelectStatement selectStatement = new SelectStatement();
+        assertThat(lexerEngine.skipParentheses(selectStatement), is("(SELECT id FROM (t2) WHERE x = ?)"));
+        assertThat(selectStatement.getParametersIndex(), is(1));
+        assertThat(lexerEngine.getCurrentTokenType(), is((TokenType) DefaultKeyword.AND));
+    }
 }
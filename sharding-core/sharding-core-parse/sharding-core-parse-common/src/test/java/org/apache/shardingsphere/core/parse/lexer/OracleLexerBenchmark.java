@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.core.parse.lexer;
+
+import org.apache.shardingsphere.core.parse.old.lexer.Lexer;
+import org.apache.shardingsphere.core.parse.old.lexer.dialect.oracle.OracleLexer;
+import org.apache.shardingsphere.core.parse.old.lexer.token.Assist;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Micro benchmark for lexing a large Oracle statement.
+ *
+ * <p>
+ * Run {@code main} manually.
+ * Token path creates token and its literals for every token, as lexer did before it became a cursor of input.
+ * Token type path creates token only, cursor path reads token type from lexer without creating token.
+ * </p>
+ */
+public final class OracleLexerBenchmark {
+    
+    private static final int WARM_UP_ITERATIONS = 500;
+    
+    private static final int MEASURE_ITERATIONS = 2000;
+    
+    private static final int STATEMENT_SIZE = 30 * 1024;
+    
+    /**
+     * Run benchmark.
+     *
+     * @param args arguments
+     */
+    public static void main(final String[] args) {
+        String sql = createSQL();
+        System.out.println(String.format("statement length: %d, tokens: %d", sql.length(), lexByCursor(sql)));
+        for (LexPath each : LexPath.values()) {
+            run(each, sql, WARM_UP_ITERATIONS);
+        }
+        for (LexPath each : LexPath.values()) {
+            long startAllocatedBytes = getAllocatedBytes();
+            long startTime = System.nanoTime();
+            int checksum = run(each, sql, MEASURE_ITERATIONS);
+            long elapsedTime = System.nanoTime() - startTime;
+            long allocatedBytes = getAllocatedBytes() - startAllocatedBytes;
+            System.out.println(String.format("path: %-10s checksum: %d, average: %d us/lex, allocated: %d KB/lex", 
+                    each.name().toLowerCase(), checksum, elapsedTime / MEASURE_ITERATIONS / 1000, allocatedBytes / MEASURE_ITERATIONS / 1024));
+        }
+    }
+    
+    private static String createSQL() {
+        StringBuilder result = new StringBuilder("SELECT /*+ INDEX(o idx_order_user) */ o.order_id, o.user_id, i.item_id");
+        int i = 0;
+        while (result.length() < STATEMENT_SIZE) {
+            result.append(", NVL(i.price_").append(i).append(", 0) * 1.5 AS price_").append(i)
+                    .append(", CASE WHEN o.status = 'it''s_").append(i).append("' THEN \"Item\".amount_").append(i).append(" ELSE -").append(i).append(" END amount_").append(i)
+                    .append(" -- column ").append(i).append("\n");
+            i++;
+        }
+        return result.append(" FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.status IN ('a', 'b') ORDER BY o.order_id DESC").toString();
+    }
+    
+    private static int run(final LexPath lexPath, final String sql, final int iterations) {
+        int result = 0;
+        for (int i = 0; i < iterations; i++) {
+            switch (lexPath) {
+                case TOKEN:
+                    result += lexByToken(sql);
+                    break;
+                case TOKEN_TYPE:
+                    result += lexByTokenType(sql);
+                    break;
+                default:
+                    result += lexByCursor(sql);
+                    break;
+            }
+        }
+        return result;
+    }
+    
+    private static int lexByToken(final String sql) {
+        Lexer lexer = new OracleLexer(sql);
+        int result = 0;
+        do {
+            lexer.nextToken();
+            result += lexer.getCurrentToken().getLiterals().length();
+        } while (Assist.END != lexer.getCurrentToken().getType());
+        return result;
+    }
+    
+    private static int lexByTokenType(final String sql) {
+        Lexer lexer = new OracleLexer(sql);
+        int result = 0;
+        do {
+            lexer.nextToken();
+            result++;
+        } while (Assist.END != lexer.getCurrentToken().getType());
+        return result;
+    }
+    
+    private static int lexByCursor(final String sql) {
+        Lexer lexer = new OracleLexer(sql);
+        int result = 0;
+        do {
+            lexer.nextToken();
+            result++;
+        } while (Assist.END != lexer.getCurrentTokenType());
+        return result;
+    }
+    
+    private static long getAllocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0L;
+    }
+    
+    private enum LexPath {
+        
+        TOKEN, TOKEN_TYPE, CURSOR
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.core.parse;
 
+import org.apache.shardingsphere.core.parse.antlr.parser.SQLParserExecutorTest;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCacheWarmUpEngineTest;
 import org.apache.shardingsphere.core.parse.ddl.IntegrateDDLParsingCompatibleTest;
 import org.apache.shardingsphere.core.parse.integrate.AllParsingIntegrateTests;
 import org.apache.shardingsphere.core.parse.rule.AllRuleTests;
@@ -29,7 +31,9 @@ import org.junit.runners.Suite.SuiteClasses;
         AllRuleTests.class,
         AntlrIntegrateParsingTest.class,
         IntegrateDDLParsingCompatibleTest.class,
-        AllParsingIntegrateTests.class
+        AllParsingIntegrateTests.class,
+        ParsingResultCacheWarmUpEngineTest.class,
+        SQLParserExecutorTest.class
 })
 public final class AllParseTests {
 }
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.antlr.parser;
+
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParserExecutorTest {
+    
+    @Test
+    public void assertExecuteWithSLL() {
+        String sql = "SELECT * FROM t_order WHERE order_id = ?";
+        Parser parser = createParser(sql);
+        String actual = new SQLParserExecutor((SQLParser) parser).execute().toStringTree(parser);
+        assertThat(parser.getInterpreter().getPredictionMode(), is(PredictionMode.SLL));
+        assertThat(parser.getNumberOfSyntaxErrors(), is(0));
+        assertThat(actual, is(parseWithLL(createParser(sql))));
+    }
+    
+    @Test
+    public void assertExecuteWithLLAfterSLLFailed() {
+        String sql = "SELECT * FROM t_order_item WHERE item_id IS NOT NULL AND item_id NOT IN (?, ?) ORDER BY item_id";
+        Parser parser = createParser(sql);
+        String actual = new SQLParserExecutor((SQLParser) parser).execute().toStringTree(parser);
+        assertThat(parser.getInterpreter().getPredictionMode(), is(PredictionMode.LL));
+        assertThat(parser.getNumberOfSyntaxErrors(), is(0));
+        assertThat(actual, is(parseWithLL(createParser(sql))));
+    }
+    
+    @Test
+    public void assertExecuteWithLLAfterErrorRecoveredSilently() {
+        String sql = "SELECT * FROM t_order WHERE (order_id = ?";
+        Parser parser = createParser(sql);
+        parser.setErrorHandler(new SilentRecoveryErrorStrategy());
+        String actual = new SQLParserExecutor((SQLParser) parser).execute().toStringTree(parser);
+        assertThat(parser.getInterpreter().getPredictionMode(), is(PredictionMode.LL));
+        assertTrue(parser.getNumberOfSyntaxErrors() > 0);
+        Parser expectedParser = createParser(sql);
+        expectedParser.setErrorHandler(new SilentRecoveryErrorStrategy());
+        assertThat(actual, is(parseWithLL(expectedParser)));
+    }
+    
+    private Parser createParser(final String sql) {
+        Parser result = (Parser) SQLParserFactory.newInstance(DatabaseType.MySQL, sql);
+        result.removeErrorListeners();
+        return result;
+    }
+    
+    private String parseWithLL(final Parser parser) {
+        return ((SQLParser) parser).execute().toStringTree(parser);
+    }
+    
+    private static final class SilentRecoveryErrorStrategy extends DefaultErrorStrategy {
+        
+        @Override
+        public void reportError(final Parser recognizer, final RecognitionException ex) {
+            try {
+                super.reportError(recognizer, ex);
+            } catch (final ParseCancellationException ignored) {
+                // recover from the error without reporting it, as dialect error strategies may do
+            }
+        }
+        
+        @Override
+        protected void reportUnwantedToken(final Parser recognizer) {
+            try {
+                super.reportUnwantedToken(recognizer);
+            } catch (final ParseCancellationException ignored) {
+                // recover from the error without reporting it, as dialect error strategies may do
+            }
+        }
+        
+        @Override
+        protected void reportMissingToken(final Parser recognizer) {
+            try {
+                super.reportMissingToken(recognizer);
+            } catch (final ParseCancellationException ignored) {
+                // recover from the error without reporting it, as dialect error strategies may do
+            }
+        }
+    }
+}
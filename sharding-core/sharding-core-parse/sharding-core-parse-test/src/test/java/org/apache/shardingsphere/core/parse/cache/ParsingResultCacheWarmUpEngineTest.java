@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.yaml.config.sharding.YamlRootShardingConfiguration;
+import org.apache.shardingsphere.core.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.core.yaml.swapper.impl.ShardingRuleConfigurationYamlSwapper;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ParsingResultCacheWarmUpEngineTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private ParsingResultCache parsingResultCache;
+    
+    private ParsingResultCacheWarmUpEngine warmUpEngine;
+    
+    @Before
+    public void setUp() throws IOException {
+        YamlRootShardingConfiguration yamlShardingConfig = YamlEngine.unmarshal(
+                new File(ParsingResultCacheWarmUpEngineTest.class.getClassLoader().getResource("yaml/parse-rule.yaml").getFile()), YamlRootShardingConfiguration.class);
+        ShardingRule shardingRule = new ShardingRule(new ShardingRuleConfigurationYamlSwapper().swap(yamlShardingConfig.getShardingRule()), yamlShardingConfig.getDataSources().keySet());
+        parsingResultCache = new ParsingResultCache();
+        warmUpEngine = new ParsingResultCacheWarmUpEngine(
+                DatabaseType.MySQL, shardingRule, new ShardingTableMetaData(Collections.<String, TableMetaData>emptyMap()), parsingResultCache);
+    }
+    
+    @Test
+    public void assertWarmUp() {
+        assertThat(warmUpEngine.warmUp(Arrays.asList("SELECT * FROM t_order WHERE order_id = ?", "SELECT * FROM t_order WHERE order_id = 1", "NOT SQL")), is(2));
+        assertNotNull(parsingResultCache.getSQLStatement("SELECT * FROM t_order WHERE order_id = ?"));
+        assertThat(parsingResultCache.size(), is(1));
+    }
+    
+    @Test
+    public void assertWarmUpWithSQLCases() throws IOException {
+        File file = temporaryFolder.newFile("update.xml");
+        try (InputStream inputStream = ParsingResultCacheWarmUpEngineTest.class.getClassLoader().getResourceAsStream("sql/dml/update.xml")) {
+            Files.copy(inputStream, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        assertTrue(warmUpEngine.warmUp(file.getPath()) > 0);
+        assertNotNull(parsingResultCache.getSQLStatement("UPDATE t_order SET status = ? WHERE order_id = ? AND user_id = ?"));
+    }
+    
+    @Test
+    public void assertSaveSnapshotAndWarmUp() throws IOException {
+        warmUpEngine.warmUp(Arrays.asList("SELECT * FROM t_order WHERE order_id = ?", "SELECT * FROM t_order_item WHERE order_id = ?"));
+        String snapshotFile = new File(temporaryFolder.getRoot(), "parsing.snapshot").getPath();
+        assertThat(warmUpEngine.saveSnapshot(snapshotFile), is(2));
+        parsingResultCache.clear();
+        assertThat(warmUpEngine.warmUp(snapshotFile), is(2));
+        assertThat(parsingResultCache.size(), is(2));
+    }
+}
@@ -20,24 +20,33 @@ package org.apache.shardingsphere.core.rewrite;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.optimize.result.insert.InsertOptimizeResultUnit;
 import org.apache.shardingsphere.core.rewrite.placeholder.Alterable;
+import org.apache.shardingsphere.core.rewrite.placeholder.InPredicateValuesPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.InsertSetPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.InsertValuesPlaceholder;
+import org.apache.shardingsphere.core.rewrite.placeholder.LimitRoutingUnitOffsetPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.SchemaPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.ShardingPlaceholder;
 import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
-import org.apache.shardingsphere.core.rule.DataNode;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
 /**
  * SQL builder.
+ * 
+ * <p>
+ * Segments are compiled to template once before first SQL is generated, literals and placeholders which are not alterable are joined to literal chunks,
+ * alterable placeholders are kept as slots between literal chunks.
+ * SQL of all routing units is assembled from same template, SQL which only depends on actual tables is memoized by logic and actual tables.
+ * </p>
  *
  * @author gaohongtao
  * @author zhangliang
@@ -52,12 +61,14 @@ public final class SQLBuilder {
     
     private StringBuilder currentSegment;
     
+    private SQLTemplate template;
+    
     public SQLBuilder() {
         this(Collections.emptyList());
     }
     
     public SQLBuilder(final List<Object> parameters) {
-        segments = new LinkedList<>();
+        segments = new ArrayList<>();
         this.parameters = parameters;
         currentSegment = new StringBuilder();
         segments.add(currentSegment);
@@ -70,6 +81,7 @@ public final class SQLBuilder {
      */
     public void appendLiterals(final String literals) {
         currentSegment.append(literals);
+        template = null;
     }
     
     /**
@@ -81,6 +93,7 @@ public final class SQLBuilder {
         segments.add(shardingPlaceholder);
         currentSegment = new StringBuilder();
         segments.add(currentSegment);
+        template = null;
     }
     
     /**
@@ -91,15 +104,17 @@ public final class SQLBuilder {
      * @return SQL
      */
     public String toSQL(final MasterSlaveRule masterSlaveRule, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
-        StringBuilder result = new StringBuilder();
-        for (Object each : segments) {
-            if (each instanceof SchemaPlaceholder) {
+        SQLTemplate sqlTemplate = getTemplate();
+        StringBuilder result = sqlTemplate.createBuffer();
+        for (int i = 0; i < sqlTemplate.slots.length; i++) {
+            result.append(sqlTemplate.literals[i]);
+            if (sqlTemplate.slots[i] instanceof SchemaPlaceholder) {
                 result.append(shardingDataSourceMetaData.getActualDataSourceMetaData(masterSlaveRule.getMasterDataSourceName()).getSchemaName());
             } else {
-                result.append(each);
+                result.append(sqlTemplate.slots[i]);
             }
         }
-        return result.toString();
+        return sqlTemplate.complete(result);
     }
     
     /**
@@ -108,17 +123,7 @@ public final class SQLBuilder {
      * @return SQL unit
      */
     public SQLUnit toSQL() {
-        StringBuilder result = new StringBuilder();
-        List<Object> insertParameters = new LinkedList<>();
-        for (Object each : segments) {
-            if (each instanceof Alterable) {
-                result.append(((Alterable) each).toString(null, Collections.<String, String>emptyMap()));
-            } else {
-                result.append(each);
-            }
-            insertParameters.addAll(getInsertParameters(each, null));
-        }
-        return insertParameters.isEmpty() ? new SQLUnit(result.toString(), new ArrayList<>(parameters)) : new SQLUnit(result.toString(), insertParameters);
+        return toSQL(null, Collections.<String, String>emptyMap());
     }
     
     /**
@@ -129,49 +134,149 @@ public final class SQLBuilder {
      * @return SQL unit
      */
     public SQLUnit toSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        StringBuilder result = new StringBuilder();
-        List<Object> insertParameters = new LinkedList<>();
-        for (Object each : segments) {
-            if (each instanceof Alterable) {
-                result.append(((Alterable) each).toString(routingUnit, logicAndActualTables));
-            } else {
-                result.append(each);
+        SQLTemplate sqlTemplate = getTemplate();
+        String sql = sqlTemplate.routingUnitAware ? sqlTemplate.assemble(routingUnit, logicAndActualTables) : sqlTemplate.getSQL(logicAndActualTables);
+        if (sqlTemplate.containsInsertPlaceholder) {
+            return new SQLUnit(sql, getInsertParameters(sqlTemplate, routingUnit));
+        }
+        if (sqlTemplate.containsInPredicateValuesPlaceholder && null != routingUnit) {
+            return new SQLUnit(sql, getParameters(getPrunedParameterIndexes(sqlTemplate, routingUnit, logicAndActualTables)));
+        }
+        return new SQLUnit(sql, new ArrayList<>(parameters));
+    }
+    
+    private SQLTemplate getTemplate() {
+        if (null == template) {
+            template = new SQLTemplate(segments);
+        }
+        return template;
+    }
+    
+    private Collection<Integer> getPrunedParameterIndexes(final SQLTemplate sqlTemplate, final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
+        Collection<Integer> result = new HashSet<>();
+        for (ShardingPlaceholder each : sqlTemplate.slots) {
+            if (each instanceof InPredicateValuesPlaceholder) {
+                result.addAll(((InPredicateValuesPlaceholder) each).getPrunedParameterIndexes(routingUnit, logicAndActualTables));
             }
-            insertParameters.addAll(getInsertParameters(each, routingUnit));
         }
-        return insertParameters.isEmpty() ? new SQLUnit(result.toString(), new ArrayList<>(parameters)) : new SQLUnit(result.toString(), insertParameters);
+        return result;
     }
     
-    private List<Object> getInsertParameters(final Object target, final RoutingUnit routingUnit) {
-        List<Object> result = new LinkedList<>();
-        if (target instanceof InsertSetPlaceholder) {
-            InsertSetPlaceholder setPlaceholder = (InsertSetPlaceholder) target;
-            addInsertParameters(routingUnit, setPlaceholder.getUnits(), result);
+    private List<Object> getParameters(final Collection<Integer> prunedParameterIndexes) {
+        if (prunedParameterIndexes.isEmpty()) {
+            return new ArrayList<>(parameters);
         }
-        if (target instanceof InsertValuesPlaceholder) {
-            InsertValuesPlaceholder valuesPlaceholder = (InsertValuesPlaceholder) target;
-            addInsertParameters(routingUnit, valuesPlaceholder.getUnits(), result);
+        List<Object> result = new ArrayList<>(parameters.size() - prunedParameterIndexes.size());
+        for (int i = 0; i < parameters.size(); i++) {
+            if (!prunedParameterIndexes.contains(i)) {
+                result.add(parameters.get(i));
+            }
         }
         return result;
     }
     
-    private void addInsertParameters(final RoutingUnit routingUnit, final List<InsertOptimizeResultUnit> units, final List<Object> insertParameters) {
-        for (InsertOptimizeResultUnit each : units) {
-            if (isToAppendInsertOptimizeResult(routingUnit, each)) {
-                insertParameters.addAll(Arrays.asList(each.getParameters()));
+    private List<Object> getInsertParameters(final SQLTemplate sqlTemplate, final RoutingUnit routingUnit) {
+        List<InsertOptimizeResultUnit> routedUnits = new ArrayList<>();
+        int parametersCount = 0;
+        for (ShardingPlaceholder each : sqlTemplate.slots) {
+            List<InsertOptimizeResultUnit> units = Collections.emptyList();
+            if (each instanceof InsertSetPlaceholder) {
+                units = ((InsertSetPlaceholder) each).getRoutedUnits(routingUnit);
+            }
+            if (each instanceof InsertValuesPlaceholder) {
+                units = ((InsertValuesPlaceholder) each).getRoutedUnits(routingUnit);
+            }
+            for (InsertOptimizeResultUnit unit : units) {
+                parametersCount += unit.getParameters().length;
             }
+            routedUnits.addAll(units);
         }
+        if (0 == parametersCount) {
+            return new ArrayList<>(parameters);
+        }
+        Object[] result = new Object[parametersCount];
+        int index = 0;
+        for (InsertOptimizeResultUnit each : routedUnits) {
+            System.arraycopy(each.getParameters(), 0, result, index, each.getParameters().length);
+            index += each.getParameters().length;
+        }
+        return new ArrayList<>(Arrays.asList(result));
     }
     
-    private boolean isToAppendInsertOptimizeResult(final RoutingUnit routingUnit, final InsertOptimizeResultUnit unit) {
-        if (unit.getDataNodes().isEmpty() || null == routingUnit) {
-            return true;
+    private static final class SQLTemplate {
+        
+        private final String[] literals;
+        
+        private final ShardingPlaceholder[] slots;
+        
+        private final boolean routingUnitAware;
+        
+        private final boolean containsInsertPlaceholder;
+        
+        private final boolean containsInPredicateValuesPlaceholder;
+        
+        private final Map<Map<String, String>, String> cachedSQLs = new HashMap<>();
+        
+        private int capacity;
+        
+        SQLTemplate(final List<Object> segments) {
+            List<String> literals = new ArrayList<>(segments.size());
+            List<ShardingPlaceholder> slots = new ArrayList<>(segments.size());
+            StringBuilder literal = new StringBuilder();
+            boolean containsInsertPlaceholder = false;
+            boolean containsInPredicateValuesPlaceholder = false;
+            boolean containsLimitRoutingUnitOffsetPlaceholder = false;
+            for (Object each : segments) {
+                if (each instanceof Alterable) {
+                    literals.add(literal.toString());
+                    slots.add((ShardingPlaceholder) each);
+                    literal.setLength(0);
+                    containsInsertPlaceholder = containsInsertPlaceholder || each instanceof InsertValuesPlaceholder || each instanceof InsertSetPlaceholder;
+                    containsInPredicateValuesPlaceholder = containsInPredicateValuesPlaceholder || each instanceof InPredicateValuesPlaceholder;
+                    containsLimitRoutingUnitOffsetPlaceholder = containsLimitRoutingUnitOffsetPlaceholder || each instanceof LimitRoutingUnitOffsetPlaceholder;
+                } else {
+                    literal.append(each);
+                }
+            }
+            literals.add(literal.toString());
+            this.literals = literals.toArray(new String[literals.size()]);
+            this.slots = slots.toArray(new ShardingPlaceholder[slots.size()]);
+            this.containsInsertPlaceholder = containsInsertPlaceholder;
+            this.containsInPredicateValuesPlaceholder = containsInPredicateValuesPlaceholder;
+            routingUnitAware = containsInsertPlaceholder || containsInPredicateValuesPlaceholder || containsLimitRoutingUnitOffsetPlaceholder;
+            for (String each : this.literals) {
+                capacity += each.length();
+            }
+        }
+        
+        String getSQL(final Map<String, String> logicAndActualTables) {
+            if (0 == slots.length) {
+                return literals[0];
+            }
+            String result = cachedSQLs.get(logicAndActualTables);
+            if (null == result) {
+                result = assemble(null, logicAndActualTables);
+                cachedSQLs.put(logicAndActualTables, result);
+            }
+            return result;
         }
-        for (DataNode each : unit.getDataNodes()) {
-            if (routingUnit.getTableUnit(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
+        
+        String assemble(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
+            StringBuilder result = createBuffer();
+            for (int i = 0; i < slots.length; i++) {
+                result.append(literals[i]).append(((Alterable) slots[i]).toString(routingUnit, logicAndActualTables));
             }
+            return complete(result);
+        }
+        
+        StringBuilder createBuffer() {
+            return new StringBuilder(capacity);
+        }
+        
+        String complete(final StringBuilder sql) {
+            sql.append(literals[slots.length]);
+            capacity = Math.max(capacity, sql.length());
+            return sql.toString();
         }
-        return false;
     }
 }
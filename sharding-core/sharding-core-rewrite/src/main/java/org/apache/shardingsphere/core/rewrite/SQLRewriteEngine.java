@@ -30,6 +30,9 @@ import org.apache.shardingsphere.core.optimize.result.OptimizeResult;
 import org.apache.shardingsphere.core.optimize.result.insert.InsertOptimizeResult;
 import org.apache.shardingsphere.core.optimize.result.insert.InsertOptimizeResultUnit;
 import org.apache.shardingsphere.core.parse.antlr.sql.Substitutable;
+import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.expr.simple.SimpleExpressionSegment;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.AbstractSQLStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.InsertStatement;
@@ -37,6 +40,7 @@ import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatem
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.token.AggregationDistinctToken;
 import org.apache.shardingsphere.core.parse.antlr.sql.token.EncryptColumnToken;
+import org.apache.shardingsphere.core.parse.antlr.sql.token.InPredicateValuesToken;
 import org.apache.shardingsphere.core.parse.antlr.sql.token.IndexToken;
 import org.apache.shardingsphere.core.parse.antlr.sql.token.InsertSetToken;
 import org.apache.shardingsphere.core.parse.antlr.sql.token.InsertValuesToken;
@@ -48,6 +52,7 @@ import org.apache.shardingsphere.core.parse.antlr.sql.token.SQLToken;
 import org.apache.shardingsphere.core.parse.antlr.sql.token.SchemaToken;
 import org.apache.shardingsphere.core.parse.antlr.sql.token.SelectItemsToken;
 import org.apache.shardingsphere.core.parse.antlr.sql.token.TableToken;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.Column;
 import org.apache.shardingsphere.core.parse.old.parser.context.condition.Condition;
 import org.apache.shardingsphere.core.parse.old.parser.context.limit.Limit;
 import org.apache.shardingsphere.core.parse.old.parser.context.orderby.OrderItem;
@@ -57,10 +62,12 @@ import org.apache.shardingsphere.core.parse.util.SQLUtil;
 import org.apache.shardingsphere.core.rewrite.placeholder.AggregationDistinctPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.EncryptUpdateItemColumnPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.EncryptWhereColumnPlaceholder;
+import org.apache.shardingsphere.core.rewrite.placeholder.InPredicateValuesPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.IndexPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.InsertSetPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.InsertValuesPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.LimitOffsetPlaceholder;
+import org.apache.shardingsphere.core.rewrite.placeholder.LimitRoutingUnitOffsetPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.LimitRowCountPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.OrderByPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.SchemaPlaceholder;
@@ -73,14 +80,23 @@ import org.apache.shardingsphere.core.route.type.TableUnit;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.apache.shardingsphere.core.rule.BindingTableRule;
 import org.apache.shardingsphere.core.rule.ColumnNode;
+import org.apache.shardingsphere.core.rule.DataNode;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
 import org.apache.shardingsphere.core.strategy.encrypt.ShardingEncryptorEngine;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.inline.InlineShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.standard.StandardShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -115,6 +131,8 @@ public final class SQLRewriteEngine {
     
     private final ShardingDataSourceMetaData dataSourceMetaData;
     
+    private final boolean inPredicateValuesPruningEnabled;
+    
     /**
      * Constructs SQL rewrite engine.
      * 
@@ -126,6 +144,22 @@ public final class SQLRewriteEngine {
      */
     public SQLRewriteEngine(final ShardingRule shardingRule, final String originalSQL, 
                             final DatabaseType databaseType, final SQLRouteResult sqlRouteResult, final List<Object> parameters, final ShardingDataSourceMetaData dataSourceMetaData) {
+        this(shardingRule, originalSQL, databaseType, sqlRouteResult, parameters, dataSourceMetaData, false);
+    }
+    
+    /**
+     * Constructs SQL rewrite engine.
+     *
+     * @param shardingRule databases and tables sharding rule
+     * @param originalSQL original SQL
+     * @param databaseType database type
+     * @param sqlRouteResult SQL route result
+     * @param parameters parameters
+     * @param dataSourceMetaData data source meta data
+     * @param inPredicateValuesPruningEnabled prune values of in predicate which can not be stored in routing unit or not
+     */
+    public SQLRewriteEngine(final ShardingRule shardingRule, final String originalSQL, final DatabaseType databaseType, final SQLRouteResult sqlRouteResult,
+                            final List<Object> parameters, final ShardingDataSourceMetaData dataSourceMetaData, final boolean inPredicateValuesPruningEnabled) {
         this.shardingRule = shardingRule;
         this.originalSQL = originalSQL;
         this.databaseType = databaseType;
@@ -135,6 +169,7 @@ public final class SQLRewriteEngine {
         appendedIndexAndParameters = new LinkedHashMap<>();
         this.optimizeResult = sqlRouteResult.getOptimizeResult();
         this.dataSourceMetaData = dataSourceMetaData;
+        this.inPredicateValuesPruningEnabled = inPredicateValuesPruningEnabled;
     }
     
     /**
@@ -209,6 +244,8 @@ public final class SQLRewriteEngine {
                 appendAggregationDistinctPlaceholder(sqlBuilder, (AggregationDistinctToken) each, count, isRewrite);
             } else if (each instanceof EncryptColumnToken) {
                 appendEncryptColumnPlaceholder(sqlBuilder, (EncryptColumnToken) each, count);
+            } else if (each instanceof InPredicateValuesToken) {
+                appendInPredicateValuesPlaceholder(sqlBuilder, (InPredicateValuesToken) each, count, isRewrite);
             } else if (each instanceof RemoveToken) {
                 appendRest(sqlBuilder, count, getStopIndex(each));
             }
@@ -299,7 +336,7 @@ public final class SQLRewriteEngine {
         if (isMaxRowCount(selectStatement)) {
             return Integer.MAX_VALUE;
         }
-        return limit.isNeedRewriteRowCount(databaseType) ? rowCountToken.getRowCount() + limit.getOffsetValue() : rowCountToken.getRowCount();
+        return limit.isNeedRewriteRowCount(databaseType) && sqlRouteResult.getRoutingUnitOffsets().isEmpty() ? rowCountToken.getRowCount() + limit.getOffsetValue() : rowCountToken.getRowCount();
     }
     
     private boolean isMaxRowCount(final SelectStatement selectStatement) {
@@ -307,7 +344,11 @@ public final class SQLRewriteEngine {
     }
     
     private void appendLimitOffsetPlaceholder(final SQLBuilder sqlBuilder, final OffsetToken offsetToken, final int count, final boolean isRewrite) {
-        sqlBuilder.appendPlaceholder(new LimitOffsetPlaceholder(isRewrite ? 0 : offsetToken.getOffset()));
+        if (isRewrite && !sqlRouteResult.getRoutingUnitOffsets().isEmpty()) {
+            sqlBuilder.appendPlaceholder(new LimitRoutingUnitOffsetPlaceholder(sqlRouteResult.getRoutingUnitOffsets()));
+        } else {
+            sqlBuilder.appendPlaceholder(new LimitOffsetPlaceholder(isRewrite ? 0 : offsetToken.getOffset()));
+        }
         appendRest(sqlBuilder, count, getStopIndex(offsetToken));
     }
     
@@ -427,6 +468,71 @@ public final class SQLRewriteEngine {
         return ((UpdateStatement) sqlStatement).isSQLParameterMarkerExpression(encryptColumnToken.getColumn());
     }
     
+    private void appendInPredicateValuesPlaceholder(final SQLBuilder sqlBuilder, final InPredicateValuesToken inPredicateValuesToken, final int count, final boolean isRewrite) {
+        Optional<InPredicateValuesPlaceholder> inPredicateValuesPlaceholder = isRewrite && inPredicateValuesPruningEnabled && appendedIndexAndParameters.isEmpty()
+                ? createInPredicateValuesPlaceholder(inPredicateValuesToken) : Optional.<InPredicateValuesPlaceholder>absent();
+        if (inPredicateValuesPlaceholder.isPresent()) {
+            sqlBuilder.appendPlaceholder(inPredicateValuesPlaceholder.get());
+            appendRest(sqlBuilder, count, getStopIndex(inPredicateValuesToken));
+        } else {
+            appendRest(sqlBuilder, count, inPredicateValuesToken.getStartIndex());
+        }
+    }
+    
+    private Optional<InPredicateValuesPlaceholder> createInPredicateValuesPlaceholder(final InPredicateValuesToken inPredicateValuesToken) {
+        Column column = inPredicateValuesToken.getColumn();
+        Optional<TableRule> tableRule = shardingRule.findTableRule(column.getTableName());
+        if (!tableRule.isPresent()) {
+            return Optional.absent();
+        }
+        List<String> values = new ArrayList<>(inPredicateValuesToken.getValues().size());
+        List<Integer> parameterMarkerIndexes = new ArrayList<>(inPredicateValuesToken.getValues().size());
+        List<Collection<DataNode>> valueDataNodes = new ArrayList<>(inPredicateValuesToken.getValues().size());
+        for (SimpleExpressionSegment each : inPredicateValuesToken.getValues()) {
+            Object value = each instanceof ParameterMarkerExpressionSegment ? parameters.get(((ParameterMarkerExpressionSegment) each).getParameterMarkerIndex()) : ((LiteralExpressionSegment) each).getLiterals();
+            if (!(value instanceof Comparable<?>)) {
+                return Optional.absent();
+            }
+            Optional<Collection<DataNode>> dataNodes = findDataNodes(tableRule.get(), column, (Comparable<?>) value);
+            if (!dataNodes.isPresent()) {
+                return Optional.absent();
+            }
+            values.add(originalSQL.substring(each.getStartIndex(), each.getStopIndex() + 1));
+            parameterMarkerIndexes.add(each instanceof ParameterMarkerExpressionSegment ? ((ParameterMarkerExpressionSegment) each).getParameterMarkerIndex() : -1);
+            valueDataNodes.add(dataNodes.get());
+        }
+        return Optional.of(new InPredicateValuesPlaceholder(column.getTableName().toLowerCase(), values, parameterMarkerIndexes, valueDataNodes));
+    }
+    
+    private Optional<Collection<DataNode>> findDataNodes(final TableRule tableRule, final Column column, final Comparable<?> value) {
+        Optional<Collection<String>> dataSourceNames = findShardingTargets(shardingRule.getDatabaseShardingStrategy(tableRule), tableRule.getActualDatasourceNames(), column, value);
+        if (!dataSourceNames.isPresent()) {
+            return Optional.absent();
+        }
+        Collection<DataNode> result = new HashSet<>();
+        for (String each : dataSourceNames.get()) {
+            Optional<Collection<String>> tableNames = findShardingTargets(shardingRule.getTableShardingStrategy(tableRule), tableRule.getActualTableNames(each), column, value);
+            if (!tableNames.isPresent()) {
+                return Optional.absent();
+            }
+            for (String tableName : tableNames.get()) {
+                result.add(new DataNode(each, tableName));
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<Collection<String>> findShardingTargets(final ShardingStrategy shardingStrategy, final Collection<String> availableTargetNames, final Column column, final Comparable<?> value) {
+        if (!shardingStrategy.getShardingColumns().contains(column.getName())) {
+            return Optional.of(availableTargetNames);
+        }
+        if (1 != shardingStrategy.getShardingColumns().size() || !(shardingStrategy instanceof StandardShardingStrategy || shardingStrategy instanceof InlineShardingStrategy)) {
+            return Optional.absent();
+        }
+        RouteValue routeValue = new ListRouteValue<>(column.getName(), column.getTableName(), Collections.<Comparable<?>>singletonList(value));
+        return Optional.of(shardingStrategy.doSharding(availableTargetNames, Collections.singletonList(routeValue)));
+    }
+    
     private int getStopIndex(final SQLToken sqlToken) {
         return sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
     }
@@ -444,9 +550,14 @@ public final class SQLRewriteEngine {
      * @return SQL unit
      */
     public SQLUnit generateSQL(final RoutingUnit routingUnit, final SQLBuilder sqlBuilder) {
-        return sqlBuilder.toSQL(routingUnit, getTableTokens(routingUnit));
+        SQLUnit result = sqlBuilder.toSQL(routingUnit, getTableTokens(routingUnit));
+        Limit limit = sqlRouteResult.getLimit();
+        if (!sqlRouteResult.getRoutingUnitOffsets().isEmpty() && null != limit.getOffset() && -1 != limit.getOffset().getIndex()) {
+            result.getParameters().set(limit.getOffset().getIndex(), sqlRouteResult.getRoutingUnitOffsets().get(routingUnit));
+        }
+        return result;
     }
-   
+    
     private Map<String, String> getTableTokens(final RoutingUnit routingUnit) {
         Map<String, String> result = new HashMap<>();
         for (TableUnit each : routingUnit.getTableUnits()) {
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.placeholder;
+
+import com.google.common.base.Joiner;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In predicate values placeholder for rewrite.
+ *
+ * <p>
+ * Only values which can be stored in actual table of routing unit are kept, bound parameters of the others are pruned too.
+ * All values are kept if actual table of routing unit is unknown or none of values belongs to it.
+ * Parameter marker index of literal value is {@code -1}.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class InPredicateValuesPlaceholder implements ShardingPlaceholder, Alterable {
+    
+    private final String logicTableName;
+    
+    private final List<String> values;
+    
+    private final List<Integer> parameterMarkerIndexes;
+    
+    private final List<Collection<DataNode>> valueDataNodes;
+    
+    @Override
+    public String toString(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
+        List<String> result = new ArrayList<>(values.size());
+        for (int each : getRoutedValueIndexes(routingUnit, logicAndActualTables)) {
+            result.add(values.get(each));
+        }
+        return Joiner.on(", ").join(result);
+    }
+    
+    /**
+     * Get indexes of parameters pruned from routing unit.
+     *
+     * @param routingUnit routing unit
+     * @param logicAndActualTables logic and actual tables
+     * @return indexes of pruned parameters
+     */
+    public Collection<Integer> getPrunedParameterIndexes(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
+        boolean[] routed = new boolean[values.size()];
+        for (int each : getRoutedValueIndexes(routingUnit, logicAndActualTables)) {
+            routed[each] = true;
+        }
+        Collection<Integer> result = new ArrayList<>();
+        for (int i = 0; i < values.size(); i++) {
+            if (!routed[i] && -1 != parameterMarkerIndexes.get(i)) {
+                result.add(parameterMarkerIndexes.get(i));
+            }
+        }
+        return result;
+    }
+    
+    private List<Integer> getRoutedValueIndexes(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
+        String actualTableName = logicAndActualTables.get(logicTableName);
+        List<Integer> result = new ArrayList<>(values.size());
+        if (null != routingUnit && null != actualTableName) {
+            DataNode dataNode = new DataNode(routingUnit.getMasterSlaveLogicDataSourceName(), actualTableName);
+            for (int i = 0; i < values.size(); i++) {
+                if (valueDataNodes.get(i).contains(dataNode)) {
+                    result.add(i);
+                }
+            }
+        }
+        if (result.isEmpty()) {
+            for (int i = 0; i < values.size(); i++) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+}
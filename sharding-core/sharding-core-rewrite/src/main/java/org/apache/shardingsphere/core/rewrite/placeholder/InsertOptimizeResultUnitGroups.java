@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.placeholder;
+
+import org.apache.shardingsphere.core.optimize.result.insert.InsertOptimizeResultUnit;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Insert optimize result units grouped by data nodes.
+ *
+ * <p>
+ * Units are grouped by data nodes once, units of routing unit are looked up via data nodes of its table units instead of scanning all units.
+ * All units are routed to every routing unit if any unit has no data nodes.
+ * </p>
+ */
+final class InsertOptimizeResultUnitGroups {
+    
+    private final List<InsertOptimizeResultUnit> units;
+    
+    private final Map<DataNode, List<Integer>> unitIndexes = new HashMap<>();
+    
+    private boolean containsUnroutedUnit;
+    
+    InsertOptimizeResultUnitGroups(final List<InsertOptimizeResultUnit> units) {
+        this.units = new ArrayList<>(units);
+        for (int i = 0; i < this.units.size(); i++) {
+            List<DataNode> dataNodes = this.units.get(i).getDataNodes();
+            if (dataNodes.isEmpty()) {
+                containsUnroutedUnit = true;
+            }
+            for (DataNode each : dataNodes) {
+                getUnitIndexes(each).add(i);
+            }
+        }
+    }
+    
+    private List<Integer> getUnitIndexes(final DataNode dataNode) {
+        List<Integer> result = unitIndexes.get(dataNode);
+        if (null == result) {
+            result = new LinkedList<>();
+            unitIndexes.put(dataNode, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Get units routed to routing unit.
+     *
+     * @param routingUnit routing unit
+     * @return units routed to routing unit in original order
+     */
+    List<InsertOptimizeResultUnit> getUnits(final RoutingUnit routingUnit) {
+        if (null == routingUnit || containsUnroutedUnit) {
+            return units;
+        }
+        List<List<Integer>> routedUnitIndexes = new ArrayList<>(routingUnit.getTableUnits().size());
+        for (TableUnit each : routingUnit.getTableUnits()) {
+            List<Integer> indexes = unitIndexes.get(new DataNode(routingUnit.getMasterSlaveLogicDataSourceName(), each.getActualTableName()));
+            if (null != indexes) {
+                routedUnitIndexes.add(indexes);
+            }
+        }
+        return 1 == routedUnitIndexes.size() ? getUnits(routedUnitIndexes.get(0)) : getUnits(mergeUnitIndexes(routedUnitIndexes));
+    }
+    
+    private Collection<Integer> mergeUnitIndexes(final List<List<Integer>> routedUnitIndexes) {
+        Collection<Integer> result = new TreeSet<>();
+        for (List<Integer> each : routedUnitIndexes) {
+            result.addAll(each);
+        }
+        return result;
+    }
+    
+    private List<InsertOptimizeResultUnit> getUnits(final Collection<Integer> indexes) {
+        List<InsertOptimizeResultUnit> result = new ArrayList<>(indexes.size());
+        for (int each : indexes) {
+            result.add(units.get(each));
+        }
+        return result;
+    }
+}
@@ -18,11 +18,11 @@
 package org.apache.shardingsphere.core.rewrite.placeholder;
 
 import com.google.common.base.Joiner;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.optimize.result.insert.InsertOptimizeResultUnit;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
-import org.apache.shardingsphere.core.rule.DataNode;
 
 import java.util.Collection;
 import java.util.List;
@@ -44,32 +44,31 @@ public final class InsertValuesPlaceholder implements ShardingPlaceholder, Alter
     
     private final List<InsertOptimizeResultUnit> units;
     
+    @Getter(AccessLevel.NONE)
+    private InsertOptimizeResultUnitGroups unitGroups;
+    
     @Override
     public String toString(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        StringBuilder result = new StringBuilder();
+        List<InsertOptimizeResultUnit> routedUnits = getRoutedUnits(routingUnit);
+        StringBuilder result = new StringBuilder(routedUnits.size() * columnNames.size() * 4 + 32);
         result.append(" (").append(Joiner.on(", ").join(columnNames)).append(") VALUES ");
-        appendUnits(routingUnit, result);
+        for (InsertOptimizeResultUnit each : routedUnits) {
+            result.append(each).append(", ");
+        }
         result.delete(result.length() - 2, result.length());
         return result.toString();
     }
     
-    private void appendUnits(final RoutingUnit routingUnit, final StringBuilder result) {
-        for (InsertOptimizeResultUnit each : units) {
-            if (isToAppendInsertOptimizeResult(routingUnit, each)) {
-                result.append(each).append(", ");
-            }
-        }
-    }
-    
-    private boolean isToAppendInsertOptimizeResult(final RoutingUnit routingUnit, final InsertOptimizeResultUnit unit) {
-        if (unit.getDataNodes().isEmpty() || null == routingUnit) {
-            return true;
-        }
-        for (DataNode each : unit.getDataNodes()) {
-            if (routingUnit.getTableUnit(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
-            }
+    /**
+     * Get units routed to routing unit.
+     *
+     * @param routingUnit routing unit
+     * @return units routed to routing unit, all units if routing unit is null
+     */
+    public List<InsertOptimizeResultUnit> getRoutedUnits(final RoutingUnit routingUnit) {
+        if (null == unitGroups) {
+            unitGroups = new InsertOptimizeResultUnitGroups(units);
         }
-        return false;
+        return unitGroups.getUnits(routingUnit);
     }
 }
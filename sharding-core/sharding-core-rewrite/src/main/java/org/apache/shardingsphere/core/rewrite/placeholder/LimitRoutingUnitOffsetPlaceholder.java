@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.placeholder;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+
+import java.util.Map;
+
+/**
+ * Limit offset placeholder of routing unit for rewrite.
+ *
+ * <p>
+ * Used by second phase of deep pagination, every routing unit skips its own count of rows before pagination offset.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class LimitRoutingUnitOffsetPlaceholder implements ShardingPlaceholder, Alterable {
+    
+    private final Map<RoutingUnit, Integer> routingUnitOffsets;
+    
+    @Override
+    public String toString(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
+        Integer result = null == routingUnit ? null : routingUnitOffsets.get(routingUnit);
+        return String.valueOf(null == result ? 0 : result);
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.parse.antlr.constant.QuoteCharacter;
 import org.apache.shardingsphere.core.rewrite.placeholder.IndexPlaceholder;
+import org.apache.shardingsphere.core.rewrite.placeholder.LimitRowCountPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.SchemaPlaceholder;
 import org.apache.shardingsphere.core.rewrite.placeholder.TablePlaceholder;
 import org.apache.shardingsphere.core.rule.ShardingRule;
@@ -38,6 +39,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public final class SQLBuilderTest {
@@ -259,6 +261,32 @@ public final class SQLBuilderTest {
         assertThat(sqlBuilder.toSQL(null, tableTokens).getSql(), is("SHOW CREATE TABLE \"table_1\" ON actual_db"));
     }
     
+    @Test
+    public void assertAppendPlaceholdersWithSameTableTokens() {
+        SQLBuilder sqlBuilder = new SQLBuilder();
+        sqlBuilder.appendLiterals("SELECT id FROM ");
+        sqlBuilder.appendPlaceholder(new TablePlaceholder("table_x", QuoteCharacter.NONE));
+        sqlBuilder.appendLiterals(" LIMIT ");
+        sqlBuilder.appendPlaceholder(new LimitRowCountPlaceholder(10));
+        Map<String, String> tableTokens = new HashMap<>(1, 1);
+        tableTokens.put("table_x", "table_x_1");
+        String actual = sqlBuilder.toSQL(null, tableTokens).getSql();
+        assertThat(actual, is("SELECT id FROM table_x_1 LIMIT 10"));
+        assertThat(sqlBuilder.toSQL(null, new HashMap<>(tableTokens)).getSql(), sameInstance(actual));
+        tableTokens.put("table_x", "table_x_2");
+        assertThat(sqlBuilder.toSQL(null, tableTokens).getSql(), is("SELECT id FROM table_x_2 LIMIT 10"));
+    }
+    
+    @Test
+    public void assertAppendLiteralsAfterToSQL() {
+        SQLBuilder sqlBuilder = new SQLBuilder();
+        sqlBuilder.appendLiterals("SELECT id FROM ");
+        sqlBuilder.appendPlaceholder(new TablePlaceholder("table_x", QuoteCharacter.NONE));
+        assertThat(sqlBuilder.toSQL(null, Collections.<String, String>emptyMap()).getSql(), is("SELECT id FROM table_x"));
+        sqlBuilder.appendLiterals(" WHERE id = 1");
+        assertThat(sqlBuilder.toSQL(null, Collections.<String, String>emptyMap()).getSql(), is("SELECT id FROM table_x WHERE id = 1"));
+    }
+    
     @Test
     public void assertShardingPlaceholderToString() {
         assertThat(new IndexPlaceholder("index_name", "table_x").toString(null, Collections.<String, String>emptyMap()), is("index_name"));
@@ -25,12 +25,16 @@ import org.apache.shardingsphere.core.optimize.result.OptimizeResult;
 import org.apache.shardingsphere.core.optimize.result.insert.InsertOptimizeResult;
 import org.apache.shardingsphere.core.optimize.result.insert.InsertType;
 import org.apache.shardingsphere.core.parse.antlr.constant.QuoteCharacter;
+import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.parse.antlr.sql.segment.dml.expr.simple.SimpleExpressionSegment;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.DeleteStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.token.EncryptColumnToken;
+import org.apache.shardingsphere.core.parse.antlr.sql.token.InPredicateValuesToken;
 import org.apache.shardingsphere.core.parse.antlr.sql.token.IndexToken;
 import org.apache.shardingsphere.core.parse.antlr.sql.token.InsertSetToken;
 import org.apache.shardingsphere.core.parse.antlr.sql.token.InsertValuesToken;
@@ -51,6 +55,7 @@ import org.apache.shardingsphere.core.parse.old.parser.expression.SQLExpression;
 import org.apache.shardingsphere.core.parse.old.parser.expression.SQLNumberExpression;
 import org.apache.shardingsphere.core.parse.old.parser.expression.SQLParameterMarkerExpression;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.apache.shardingsphere.core.route.type.TableUnit;
@@ -354,6 +359,44 @@ public final class SQLRewriteEngineTest {
         assertThat(rewriteEngine.rewrite().toSQL(null, tableTokens).getSql(), is("SELECT x.id FROM table_1 x LIMIT 0, 4"));
     }
     
+    @Test
+    public void assertRewriteForLimitWithRoutingUnitOffsets() {
+        selectStatement.setLimit(new Limit());
+        selectStatement.getLimit().setOffset(new LimitValue(100000, -1, true));
+        selectStatement.getLimit().setRowCount(new LimitValue(20, -1, false));
+        selectStatement.addSQLToken(new TableToken(17, 23, "table_x", QuoteCharacter.NONE));
+        selectStatement.addSQLToken(new OffsetToken(33, 38, 100000));
+        selectStatement.addSQLToken(new RowCountToken(41, 42, 20));
+        routeResult = new SQLRouteResult(selectStatement);
+        routeResult.setLimit(selectStatement.getLimit());
+        routeResult.setRoutingResult(new RoutingResult());
+        RoutingUnit routingUnit = new RoutingUnit("db0");
+        routingUnit.getTableUnits().add(new TableUnit("table_x", "table_1"));
+        routeResult.getRoutingUnitOffsets().put(routingUnit, 49990);
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "SELECT x.id FROM table_x x LIMIT 100000, 20", 
+                DatabaseType.MySQL, routeResult, Collections.emptyList(), shardingDataSourceMetaData);
+        assertThat(rewriteEngine.generateSQL(routingUnit, rewriteEngine.rewrite()).getSql(), is("SELECT x.id FROM table_1 x LIMIT 49990, 20"));
+    }
+    
+    @Test
+    public void assertRewriteForLimitWithRoutingUnitOffsetsAndParameters() {
+        selectStatement.setLimit(new Limit());
+        selectStatement.getLimit().setOffset(new LimitValue(100000, 0, true));
+        selectStatement.getLimit().setRowCount(new LimitValue(20, 1, false));
+        selectStatement.addSQLToken(new TableToken(17, 23, "table_x", QuoteCharacter.NONE));
+        routeResult = new SQLRouteResult(selectStatement);
+        routeResult.setLimit(selectStatement.getLimit());
+        routeResult.setRoutingResult(new RoutingResult());
+        RoutingUnit routingUnit = new RoutingUnit("db0");
+        routingUnit.getTableUnits().add(new TableUnit("table_x", "table_1"));
+        routeResult.getRoutingUnitOffsets().put(routingUnit, 49990);
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "SELECT x.id FROM table_x x LIMIT ?, ?", 
+                DatabaseType.MySQL, routeResult, Arrays.<Object>asList(100000, 20), shardingDataSourceMetaData);
+        SQLUnit actual = rewriteEngine.generateSQL(routingUnit, rewriteEngine.rewrite());
+        assertThat(actual.getSql(), is("SELECT x.id FROM table_1 x LIMIT ?, ?"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(49990, 20)));
+    }
+    
     @Test
     public void assertRewriteForRowNum() {
         selectStatement.setLimit(new Limit());
@@ -904,4 +947,57 @@ public final class SQLRewriteEngineTest {
         assertThat(parameters.get(1), is((Object) "assistedEncryptValue"));
         assertThat(parameters.get(1), is((Object) "assistedEncryptValue"));
     }
+    
+    @Test
+    public void assertRewriteWithInPredicateValuesPruning() {
+        List<Object> parameters = new ArrayList<>(Arrays.<Object>asList(1, 2, 4));
+        SQLRewriteEngine rewriteEngine = createInPredicateValuesRewriteEngine(parameters, true);
+        SQLBuilder sqlBuilder = rewriteEngine.rewrite();
+        SQLUnit actualDb0 = rewriteEngine.generateSQL(createInPredicateValuesRoutingUnit("db0"), sqlBuilder);
+        assertThat(actualDb0.getSql(), is("SELECT * FROM table_w WHERE id IN (?, ?)"));
+        assertThat(actualDb0.getParameters(), is(Arrays.<Object>asList(2, 4)));
+        SQLUnit actualDb1 = rewriteEngine.generateSQL(createInPredicateValuesRoutingUnit("db1"), sqlBuilder);
+        assertThat(actualDb1.getSql(), is("SELECT * FROM table_w WHERE id IN (?, 3)"));
+        assertThat(actualDb1.getParameters(), is(Arrays.<Object>asList(1)));
+    }
+    
+    @Test
+    public void assertRewriteWithoutInPredicateValuesPruning() {
+        List<Object> parameters = new ArrayList<>(Arrays.<Object>asList(1, 2, 4));
+        SQLRewriteEngine rewriteEngine = createInPredicateValuesRewriteEngine(parameters, false);
+        SQLUnit actual = rewriteEngine.generateSQL(createInPredicateValuesRoutingUnit("db0"), rewriteEngine.rewrite());
+        assertThat(actual.getSql(), is("SELECT * FROM table_w WHERE id IN (?, ?, 3, ?)"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(1, 2, 4)));
+    }
+    
+    @Test
+    public void assertRewriteWithInPredicateValuesPruningForUnknownActualTable() {
+        List<Object> parameters = new ArrayList<>(Arrays.<Object>asList(1, 2, 4));
+        SQLRewriteEngine rewriteEngine = createInPredicateValuesRewriteEngine(parameters, true);
+        RoutingUnit routingUnit = new RoutingUnit("db0");
+        routingUnit.getTableUnits().add(new TableUnit("table_x", "table_x"));
+        SQLUnit actual = rewriteEngine.generateSQL(routingUnit, rewriteEngine.rewrite());
+        assertThat(actual.getSql(), is("SELECT * FROM table_w WHERE id IN (?, ?, 3, ?)"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(1, 2, 4)));
+    }
+    
+    private SQLRewriteEngine createInPredicateValuesRewriteEngine(final List<Object> parameters, final boolean inPredicateValuesPruningEnabled) {
+        List<SimpleExpressionSegment> values = Arrays.asList(new ParameterMarkerExpressionSegment(35, 35, 0),
+                new ParameterMarkerExpressionSegment(38, 38, 1), new LiteralExpressionSegment(41, 41, 3), new ParameterMarkerExpressionSegment(44, 44, 2));
+        selectStatement.addSQLToken(new TableToken(14, 20, "table_w", QuoteCharacter.NONE));
+        selectStatement.addSQLToken(new InPredicateValuesToken(35, 44, new Column("id", "table_w"), values));
+        routeResult = new SQLRouteResult(selectStatement);
+        routeResult.setLimit(selectStatement.getLimit());
+        routeResult.setRoutingResult(new RoutingResult());
+        routeResult.getRoutingResult().getRoutingUnits().add(createInPredicateValuesRoutingUnit("db0"));
+        routeResult.getRoutingResult().getRoutingUnits().add(createInPredicateValuesRoutingUnit("db1"));
+        return new SQLRewriteEngine(shardingRule, 
+                "SELECT * FROM table_w WHERE id IN (?, ?, 3, ?)", DatabaseType.MySQL, routeResult, parameters, shardingDataSourceMetaData, inPredicateValuesPruningEnabled);
+    }
+    
+    private RoutingUnit createInPredicateValuesRoutingUnit(final String dataSourceName) {
+        RoutingUnit result = new RoutingUnit(dataSourceName);
+        result.getTableUnits().add(new TableUnit("table_w", "table_w"));
+        return result;
+    }
 }
@@ -24,7 +24,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         EncryptUpdateItemColumnPlaceholderTest.class,
-        EncryptWhereColumnPlaceholderTest.class
+        EncryptWhereColumnPlaceholderTest.class,
+        InsertValuesPlaceholderTest.class
     })
 public final class AllPlaceholderTests {
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.placeholder;
+
+import org.apache.shardingsphere.core.optimize.result.insert.ColumnValueOptimizeResult;
+import org.apache.shardingsphere.core.optimize.result.insert.InsertOptimizeResultUnit;
+import org.apache.shardingsphere.core.parse.old.parser.expression.SQLExpression;
+import org.apache.shardingsphere.core.parse.old.parser.expression.SQLParameterMarkerExpression;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class InsertValuesPlaceholderTest {
+    
+    private InsertValuesPlaceholder insertValuesPlaceholder;
+    
+    @Before
+    public void setUp() {
+        Collection<String> columnNames = Arrays.asList("order_id", "user_id");
+        List<InsertOptimizeResultUnit> units = Arrays.asList(
+                createUnit(columnNames, 1, "ds_0.t_order_0"), createUnit(columnNames, 2, "ds_1.t_order_1"), createUnit(columnNames, 3, "ds_0.t_order_1", "ds_1.t_order_1"));
+        insertValuesPlaceholder = new InsertValuesPlaceholder("t_order", columnNames, units);
+    }
+    
+    private InsertOptimizeResultUnit createUnit(final Collection<String> columnNames, final int orderId, final String... dataNodes) {
+        InsertOptimizeResultUnit result = new ColumnValueOptimizeResult(
+                columnNames, new SQLExpression[] {new SQLParameterMarkerExpression(0), new SQLParameterMarkerExpression(1)}, new Object[] {orderId, orderId * 10}, 0);
+        for (String each : dataNodes) {
+            result.getDataNodes().add(new DataNode(each));
+        }
+        return result;
+    }
+    
+    @Test
+    public void assertToStringWithoutRoutingUnit() {
+        assertThat(insertValuesPlaceholder.toString(null, Collections.<String, String>emptyMap()), is(" (order_id, user_id) VALUES (?, ?), (?, ?), (?, ?)"));
+        assertThat(insertValuesPlaceholder.getRoutedUnits(null).size(), is(3));
+    }
+    
+    @Test
+    public void assertToStringWithRoutingUnit() {
+        RoutingUnit routingUnit = new RoutingUnit("ds_1");
+        routingUnit.getTableUnits().add(new TableUnit("t_order", "t_order_1"));
+        assertThat(insertValuesPlaceholder.toString(routingUnit, Collections.<String, String>emptyMap()), is(" (order_id, user_id) VALUES (?, ?), (?, ?)"));
+        List<InsertOptimizeResultUnit> actual = insertValuesPlaceholder.getRoutedUnits(routingUnit);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getParameters()[0], is((Object) 2));
+        assertThat(actual.get(1).getParameters()[0], is((Object) 3));
+    }
+    
+    @Test
+    public void assertGetRoutedUnitsWithMultipleTableUnits() {
+        RoutingUnit routingUnit = new RoutingUnit("ds_0");
+        routingUnit.getTableUnits().add(new TableUnit("t_order", "t_order_0"));
+        routingUnit.getTableUnits().add(new TableUnit("t_order", "t_order_1"));
+        List<InsertOptimizeResultUnit> actual = insertValuesPlaceholder.getRoutedUnits(routingUnit);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getParameters()[0], is((Object) 1));
+        assertThat(actual.get(1).getParameters()[0], is((Object) 3));
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.route;
 
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
@@ -27,6 +28,7 @@ import org.apache.shardingsphere.core.route.router.sharding.ShardingRouterFactor
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.util.List;
+import java.util.Properties;
 
 /**
  * PreparedStatement routing engine.
@@ -46,8 +48,13 @@ public final class PreparedStatementRoutingEngine {
     
     public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, 
                                           final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final ParsingResultCache parsingResultCache) {
+        this(logicSQL, shardingRule, shardingMetaData, databaseType, parsingResultCache, new ShardingProperties(new Properties()));
+    }
+    
+    public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, 
+                                          final DatabaseType databaseType, final ParsingResultCache parsingResultCache, final ShardingProperties shardingProperties) {
         this.logicSQL = logicSQL;
-        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache);
+        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache, shardingProperties);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
     }
     
@@ -60,9 +67,30 @@ public final class PreparedStatementRoutingEngine {
      * @return route result
      */
     public SQLRouteResult route(final List<Object> parameters) {
+        return masterSlaveRouter.route(shardingRouter.route(logicSQL, parameters, parse()));
+    }
+    
+    /**
+     * Parse SQL.
+     * 
+     * <p>First parsing time will parse SQL, after second time will reuse first parsed result.</p>
+     * 
+     * @return SQL statement
+     */
+    public SQLStatement parse() {
         if (null == sqlStatement) {
             sqlStatement = shardingRouter.parse(logicSQL, true);
         }
-        return masterSlaveRouter.route(shardingRouter.route(logicSQL, parameters, sqlStatement));
+        return sqlStatement;
+    }
+    
+    /**
+     * Route master slave only for route result which is already routed by sharding.
+     * 
+     * @param sqlRouteResult SQL route result
+     * @return route result
+     */
+    public SQLRouteResult routeMasterSlave(final SQLRouteResult sqlRouteResult) {
+        return masterSlaveRouter.route(sqlRouteResult);
     }
 }
@@ -25,9 +25,12 @@ import org.apache.shardingsphere.core.optimize.result.OptimizeResult;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.old.parser.context.limit.Limit;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 
 /**
  * SQL route result.
@@ -55,6 +58,9 @@ public final class SQLRouteResult {
     
     private final Collection<RouteUnit> routeUnits = new LinkedHashSet<>();
     
+    // Offsets of routing units for second phase of deep pagination, empty means offset is not split by routing units
+    private final Map<RoutingUnit, Integer> routingUnitOffsets = new HashMap<>();
+    
     public SQLRouteResult(final SQLStatement sqlStatement) {
         this(sqlStatement, null);
     }
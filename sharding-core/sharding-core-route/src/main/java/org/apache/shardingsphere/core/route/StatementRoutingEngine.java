@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.route;
 
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
@@ -27,6 +28,8 @@ import org.apache.shardingsphere.core.route.router.sharding.ShardingRouterFactor
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
 
 /**
  * Statement routing engine.
@@ -42,7 +45,12 @@ public final class StatementRoutingEngine {
     
     public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, 
                                   final DatabaseType databaseType, final ParsingResultCache parsingResultCache) {
-        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache);
+        this(shardingRule, shardingMetaData, databaseType, parsingResultCache, new ShardingProperties(new Properties()));
+    }
+    
+    public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, 
+                                  final DatabaseType databaseType, final ParsingResultCache parsingResultCache, final ShardingProperties shardingProperties) {
+        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache, shardingProperties);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
     }
     
@@ -56,4 +64,18 @@ public final class StatementRoutingEngine {
         SQLStatement sqlStatement = shardingRouter.parse(logicSQL, false);
         return masterSlaveRouter.route(shardingRouter.route(logicSQL, Collections.emptyList(), sqlStatement));
     }
+    
+    /**
+     * SQL route with literals extracted as parameters.
+     *
+     * <p>Parsing result is cached, because SQL with placeholders is shared by all literal SQL with same fingerprint.</p>
+     *
+     * @param logicSQL logic SQL with placeholders
+     * @param parameters literals of SQL placeholder
+     * @return route result
+     */
+    public SQLRouteResult route(final String logicSQL, final List<Object> parameters) {
+        SQLStatement sqlStatement = shardingRouter.parse(logicSQL, true);
+        return masterSlaveRouter.route(shardingRouter.route(logicSQL, parameters, sqlStatement));
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.cache;
+
+import lombok.Getter;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Cached route result.
+ */
+public final class CachedRouteResult {
+    
+    private final String dataSourceName;
+    
+    private final List<TableUnit> tableUnits;
+    
+    @Getter
+    private final String sql;
+    
+    CachedRouteResult(final String dataSourceName, final Collection<TableUnit> tableUnits, final String sql) {
+        this.dataSourceName = dataSourceName;
+        this.tableUnits = new ArrayList<>(tableUnits);
+        this.sql = sql;
+    }
+    
+    /**
+     * Create SQL route result with cached routing unit.
+     * 
+     * <p>
+     * Route units are not filled, master slave routing should be done before route units are created.
+     * </p>
+     *
+     * @param sqlStatement SQL statement
+     * @return SQL route result
+     */
+    public SQLRouteResult createSQLRouteResult(final SQLStatement sqlStatement) {
+        SQLRouteResult result = new SQLRouteResult(sqlStatement);
+        RoutingUnit routingUnit = new RoutingUnit(dataSourceName);
+        routingUnit.getTableUnits().addAll(tableUnits);
+        RoutingResult routingResult = new RoutingResult();
+        routingResult.getRoutingUnits().add(routingUnit);
+        result.setRoutingResult(routingResult);
+        return result;
+    }
+}
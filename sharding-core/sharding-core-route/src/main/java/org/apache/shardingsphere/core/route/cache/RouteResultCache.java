@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.core.parse.antlr.sql.token.EncryptColumnToken;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.AndCondition;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.Condition;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.Group;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.SQLCondition;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Route result cache.
+ *
+ * <p>
+ * Keeps routing unit and rewritten SQL of single routing statements, keyed by SQL and parameters bound to route conditions.
+ * Only statements which are routed and rewritten by these parameters alone are cached:
+ * {@code SELECT} without subquery, {@code UPDATE} and {@code DELETE} on sharding tables which are not routed by hint and have no encrypt column.
+ * Routing unit is kept before master slave routing, so load balance of read requests is not affected.
+ * Cache is disabled if maximum size is {@code 0}.
+ * </p>
+ */
+public final class RouteResultCache {
+    
+    @Getter
+    private final boolean enabled;
+    
+    private final Cache<RouteResultCacheKey, CachedRouteResult> cache;
+    
+    public RouteResultCache(final int maximumSize) {
+        Preconditions.checkArgument(maximumSize >= 0, "Maximum size of route result cache can not be negative.");
+        enabled = maximumSize > 0;
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+    
+    /**
+     * Create cache key.
+     *
+     * @param shardingRule sharding rule
+     * @param sql SQL
+     * @param sqlStatement SQL statement
+     * @param parameters parameters of SQL
+     * @return cache key, absent if cache is disabled or route result of SQL statement can not be cached
+     */
+    public Optional<RouteResultCacheKey> createKey(final ShardingRule shardingRule, final String sql, final SQLStatement sqlStatement, final List<Object> parameters) {
+        if (!enabled || !isCacheableStatement(sqlStatement) || !isCacheableTables(shardingRule, sqlStatement)) {
+            return Optional.absent();
+        }
+        List<Object> routeParameters = new ArrayList<>();
+        for (AndCondition each : sqlStatement.getRouteConditions().getOrCondition().getAndConditions()) {
+            if (!addRouteParameters(each.getConditions(), parameters, routeParameters)) {
+                return Optional.absent();
+            }
+        }
+        if (!addRouteParameters(sqlStatement.getRouteCondition().getExpressions(), parameters, routeParameters)) {
+            return Optional.absent();
+        }
+        return Optional.of(new RouteResultCacheKey(sql, routeParameters));
+    }
+    
+    private boolean isCacheableStatement(final SQLStatement sqlStatement) {
+        if (sqlStatement.findSQLToken(EncryptColumnToken.class).isPresent()) {
+            return false;
+        }
+        if (sqlStatement instanceof SelectStatement) {
+            return !((SelectStatement) sqlStatement).containsSubquery() && ((SelectStatement) sqlStatement).getSubqueryConditions().isEmpty();
+        }
+        return sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
+    }
+    
+    private boolean isCacheableTables(final ShardingRule shardingRule, final SQLStatement sqlStatement) {
+        Collection<String> tableNames = sqlStatement.getTables().getTableNames();
+        if (tableNames.isEmpty()) {
+            return false;
+        }
+        for (String each : tableNames) {
+            Optional<TableRule> tableRule = shardingRule.findTableRule(each);
+            if (!tableRule.isPresent() || shardingRule.getDatabaseShardingStrategy(tableRule.get()) instanceof HintShardingStrategy
+                    || shardingRule.getTableShardingStrategy(tableRule.get()) instanceof HintShardingStrategy) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean addRouteParameters(final Collection<? extends SQLCondition> sqlConditions, final List<Object> parameters, final List<Object> routeParameters) {
+        for (SQLCondition each : sqlConditions) {
+            if (each instanceof Group && !addRouteParameters(((Group) each).getExpressions(), parameters, routeParameters)) {
+                return false;
+            }
+            if (each instanceof Condition && !addRouteParameters((Condition) each, parameters, routeParameters)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean addRouteParameters(final Condition condition, final List<Object> parameters, final List<Object> routeParameters) {
+        if (!condition.getPositionExpressionMap().isEmpty()) {
+            return false;
+        }
+        for (int each : condition.getPositionIndexMap().values()) {
+            if (each >= parameters.size() || !(parameters.get(each) instanceof Comparable)) {
+                return false;
+            }
+            routeParameters.add(parameters.get(each));
+        }
+        return true;
+    }
+    
+    /**
+     * Get cached route result.
+     *
+     * @param key cache key
+     * @return cached route result
+     */
+    public Optional<CachedRouteResult> get(final RouteResultCacheKey key) {
+        return Optional.fromNullable(cache.getIfPresent(key));
+    }
+    
+    /**
+     * Put route result into cache.
+     * 
+     * <p>
+     * Route result is ignored if it is not single routing or its rewritten parameters are different from original parameters.
+     * </p>
+     *
+     * @param key cache key
+     * @param sqlRouteResult SQL route result
+     * @param parameters parameters of SQL
+     */
+    public void put(final RouteResultCacheKey key, final SQLRouteResult sqlRouteResult, final List<Object> parameters) {
+        if (!sqlRouteResult.getRoutingResult().isSingleRouting() || 1 != sqlRouteResult.getRouteUnits().size() || null != sqlRouteResult.getLimit()) {
+            return;
+        }
+        RouteUnit routeUnit = sqlRouteResult.getRouteUnits().iterator().next();
+        if (!routeUnit.getSqlUnit().getParameters().equals(parameters)) {
+            return;
+        }
+        RoutingUnit routingUnit = sqlRouteResult.getRoutingResult().getRoutingUnits().iterator().next();
+        cache.put(key, new CachedRouteResult(routingUnit.getMasterSlaveLogicDataSourceName(), routingUnit.getTableUnits(), routeUnit.getSqlUnit().getSql()));
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+    
+    /**
+     * Get count of cached route results.
+     *
+     * @return count of cached route results
+     */
+    public long size() {
+        return cache.size();
+    }
+}
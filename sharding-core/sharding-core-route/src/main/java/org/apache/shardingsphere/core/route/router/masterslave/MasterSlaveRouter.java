@@ -49,7 +49,7 @@ public final class MasterSlaveRouter {
      */
     // TODO for multiple masters may return more than one data source
     public Collection<String> route(final String sql) {
-        Collection<String> result = route(new SQLJudgeEngine(sql).judge().getType());
+        Collection<String> result = route(new SQLJudgeEngine(sql).judgeType());
         if (showSQL) {
             SQLLogger.logSQL(sql, result);
         }
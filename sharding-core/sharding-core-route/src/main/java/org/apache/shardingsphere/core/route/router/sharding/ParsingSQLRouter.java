@@ -19,9 +19,9 @@ package org.apache.shardingsphere.core.route.router.sharding;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.optimize.GeneratedKey;
 import org.apache.shardingsphere.core.optimize.OptimizeEngineFactory;
@@ -50,6 +50,7 @@ import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Properties;
 
 /**
  * Sharding router with parse.
@@ -59,7 +60,6 @@ import java.util.List;
  * @author panjuan
  * @author zhangyonglun
  */
-@RequiredArgsConstructor
 public final class ParsingSQLRouter implements ShardingRouter {
     
     private final ShardingRule shardingRule;
@@ -70,10 +70,25 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     private final ParsingResultCache parsingResultCache;
     
+    private final ShardingProperties shardingProperties;
+    
     private final List<Comparable<?>> generatedKeys = new LinkedList<>();
     
     private final ParsingHook parsingHook = new SPIParsingHook();
     
+    public ParsingSQLRouter(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final ParsingResultCache parsingResultCache) {
+        this(shardingRule, shardingMetaData, databaseType, parsingResultCache, new ShardingProperties(new Properties()));
+    }
+    
+    public ParsingSQLRouter(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, 
+                            final DatabaseType databaseType, final ParsingResultCache parsingResultCache, final ShardingProperties shardingProperties) {
+        this.shardingRule = shardingRule;
+        this.shardingMetaData = shardingMetaData;
+        this.databaseType = databaseType;
+        this.parsingResultCache = parsingResultCache;
+        this.shardingProperties = shardingProperties;
+    }
+    
     @Override
     public SQLStatement parse(final String logicSQL, final boolean useCache) {
         parsingHook.start(logicSQL);
@@ -124,10 +139,10 @@ public final class ParsingSQLRouter implements ShardingRouter {
         }
         RoutingResult routingResult = null;
         if (groupCondition == null) {
-            routingResult = RoutingEngineFactory.newInstance(shardingRule, shardingMetaData.getDataSource(), sqlStatement, optimizeResult)
+            routingResult = RoutingEngineFactory.newInstance(shardingRule, shardingMetaData.getDataSource(), sqlStatement, optimizeResult, shardingProperties)
                     .route();
         } else {
-            routingResult = RoutingEngineFactory.newInstance2(shardingRule, shardingMetaData.getDataSource(), sqlStatement, groupCondition)
+            routingResult = RoutingEngineFactory.newInstance2(shardingRule, shardingMetaData.getDataSource(), sqlStatement, groupCondition, shardingProperties)
                     .route();
         }
         if (sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit() && !routingResult.isSingleRouting()) {
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.core.route.router.sharding;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.core.constant.SQLType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.optimize.result.OptimizeResult;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
@@ -59,10 +61,11 @@ public final class RoutingEngineFactory {
      * @param shardingDataSourceMetaData sharding data source meta data
      * @param sqlStatement sql statement
      * @param optimizeResult optimize result
+     * @param shardingProperties sharding properties
      * @return new instance of routing engine
      */
-    public static RoutingEngine newInstance(final ShardingRule shardingRule,
-                                            final ShardingDataSourceMetaData shardingDataSourceMetaData, final SQLStatement sqlStatement, final OptimizeResult optimizeResult) {
+    public static RoutingEngine newInstance(final ShardingRule shardingRule, final ShardingDataSourceMetaData shardingDataSourceMetaData, 
+                                            final SQLStatement sqlStatement, final OptimizeResult optimizeResult, final ShardingProperties shardingProperties) {
         Collection<String> tableNames = sqlStatement.getTables().getTableNames();
         if (SQLType.TCL == sqlStatement.getType()) {
             return new DatabaseBroadcastRoutingEngine(shardingRule);
@@ -89,10 +92,11 @@ public final class RoutingEngineFactory {
         if (1 == shardingTableNames.size() || shardingRule.isAllBindingTables(shardingTableNames)) {
             return new StandardRoutingEngine(sqlStatement, shardingRule, shardingTableNames.iterator().next(), optimizeResult);
         }
-        // TODO config for cartesian set
-        return new ComplexRoutingEngine(sqlStatement, shardingRule, tableNames, optimizeResult);
+        return new ComplexRoutingEngine(sqlStatement, shardingRule, tableNames, optimizeResult, 
+                shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CARTESIAN_ROUTING_UNITS), 
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CARTESIAN_IMPLICIT_BINDING_ENABLED));
     }
-
+    
     /**
      * Create new instance of routing engine.
      *
@@ -100,10 +104,11 @@ public final class RoutingEngineFactory {
      * @param shardingDataSourceMetaData sharding data source meta data
      * @param sqlStatement sql statement
      * @param groupCondition optimize result
+     * @param shardingProperties sharding properties
      * @return new instance of routing engine
      */
-    public static RoutingEngine newInstance2(final ShardingRule shardingRule,
-                                            final ShardingDataSourceMetaData shardingDataSourceMetaData, final SQLStatement sqlStatement, final GroupRouteValue groupCondition) {
+    public static RoutingEngine newInstance2(final ShardingRule shardingRule, final ShardingDataSourceMetaData shardingDataSourceMetaData, 
+                                             final SQLStatement sqlStatement, final GroupRouteValue groupCondition, final ShardingProperties shardingProperties) {
         Collection<String> tableNames = sqlStatement.getTables().getTableNames();
         if (SQLType.TCL == sqlStatement.getType()) {
             return new DatabaseBroadcastRoutingEngine(shardingRule);
@@ -130,10 +135,11 @@ public final class RoutingEngineFactory {
         if (1 == shardingTableNames.size() || shardingRule.isAllBindingTables(shardingTableNames)) {
             return new StandardExpressionRoutingEngine(sqlStatement, shardingRule, shardingTableNames.iterator().next(), groupCondition);
         }
-        // TODO config for cartesian set
-        return new ComplexExpressionRoutingEngine(sqlStatement, shardingRule, tableNames, groupCondition);
+        return new ComplexExpressionRoutingEngine(sqlStatement, shardingRule, tableNames, groupCondition, 
+                shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CARTESIAN_ROUTING_UNITS), 
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CARTESIAN_IMPLICIT_BINDING_ENABLED));
     }
-
+    
     private static RoutingEngine getDALRoutingEngine(final ShardingRule shardingRule, final SQLStatement sqlStatement, final Collection<String> tableNames) {
         if (sqlStatement instanceof ShowDatabasesStatement || sqlStatement instanceof UseStatement) {
             return new IgnoreRoutingEngine();
@@ -143,7 +149,7 @@ public final class RoutingEngineFactory {
         }
         return new UnicastRoutingEngine(shardingRule, tableNames);
     }
-
+    
     private static RoutingEngine getDCLRoutingEngine(final ShardingRule shardingRule, final SQLStatement sqlStatement, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
         return ((DCLStatement) sqlStatement).isGrantForSingleTable()
                 ? new TableBroadcastRoutingEngine(shardingRule, sqlStatement) : new InstanceBroadcastRoutingEngine(shardingRule, shardingDataSourceMetaData);
@@ -21,10 +21,13 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
+import java.util.Properties;
+
 /**
  * Sharding router factory.
  * 
@@ -44,7 +47,22 @@ public final class ShardingRouterFactory {
      * @return sharding router instance
      */
     public static ShardingRouter newInstance(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final ParsingResultCache parsingResultCache) {
+        return newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache, new ShardingProperties(new Properties()));
+    }
+    
+    /**
+     * Create new instance of sharding router.
+     * 
+     * @param shardingRule sharding rule
+     * @param shardingMetaData sharding meta data
+     * @param databaseType database type
+     * @param parsingResultCache parsing result cache
+     * @param shardingProperties sharding properties
+     * @return sharding router instance
+     */
+    public static ShardingRouter newInstance(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, 
+                                             final DatabaseType databaseType, final ParsingResultCache parsingResultCache, final ShardingProperties shardingProperties) {
         return HintManager.isDatabaseShardingOnly()
-                ? new DatabaseHintSQLRouter(shardingRule) : new ParsingSQLRouter(shardingRule, shardingMetaData, databaseType, parsingResultCache);
+                ? new DatabaseHintSQLRouter(shardingRule) : new ParsingSQLRouter(shardingRule, shardingMetaData, databaseType, parsingResultCache, shardingProperties);
     }
 }
@@ -22,6 +22,7 @@ import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.route.type.RoutingEngine;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.TableUnit;
@@ -31,6 +32,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +42,10 @@ import java.util.Set;
 /**
  * cartesian routing engine.
  * 
+ * <p>
+ * Count of routing units is estimated before cartesian product is built, routing is rejected if it is beyond max count of routing units.
+ * </p>
+ * 
  * @author zhangliang
  * @author maxiaoguang
  */
@@ -48,17 +54,53 @@ public final class CartesianRoutingEngine implements RoutingEngine {
     
     private final Collection<RoutingResult> routingResults;
     
+    private final int maxRoutingUnits;
+    
+    public CartesianRoutingEngine(final Collection<RoutingResult> routingResults) {
+        this(routingResults, 0);
+    }
+    
     @Override
     public RoutingResult route() {
+        Map<String, List<Set<String>>> dataSourceActualTableGroups = getDataSourceActualTableGroups();
+        long routingUnitCount = estimateRoutingUnitCount(dataSourceActualTableGroups);
+        if (maxRoutingUnits > 0 && routingUnitCount > maxRoutingUnits) {
+            throw new ShardingException("Cartesian routing units count %d is beyond max routing units %d, please configure binding tables or add sharding conditions.", 
+                    routingUnitCount, maxRoutingUnits);
+        }
         RoutingResult result = new RoutingResult();
-        for (Entry<String, Set<String>> entry : getDataSourceLogicTablesMap().entrySet()) {
-            List<Set<String>> actualTableGroups = getActualTableGroups(entry.getKey(), entry.getValue());
-            List<Set<TableUnit>> routingTableGroups = toRoutingTableGroups(entry.getKey(), actualTableGroups);
+        for (Entry<String, List<Set<String>>> entry : dataSourceActualTableGroups.entrySet()) {
+            List<Set<TableUnit>> routingTableGroups = toRoutingTableGroups(entry.getKey(), entry.getValue());
             result.getRoutingUnits().addAll(getRoutingUnits(entry.getKey(), Sets.cartesianProduct(routingTableGroups)));
         }
         return result;
     }
     
+    private long estimateRoutingUnitCount(final Map<String, List<Set<String>>> dataSourceActualTableGroups) {
+        long result = 0L;
+        for (List<Set<String>> each : dataSourceActualTableGroups.values()) {
+            long count = 1L;
+            for (Set<String> actualTableGroup : each) {
+                count = multiply(count, actualTableGroup.size());
+            }
+            result = count > Long.MAX_VALUE - result ? Long.MAX_VALUE : result + count;
+        }
+        return result;
+    }
+    
+    private long multiply(final long count, final int size) {
+        return 0 != size && count > Long.MAX_VALUE / size ? Long.MAX_VALUE : count * size;
+    }
+    
+    private Map<String, List<Set<String>>> getDataSourceActualTableGroups() {
+        Map<String, Set<String>> dataSourceLogicTablesMap = getDataSourceLogicTablesMap();
+        Map<String, List<Set<String>>> result = new LinkedHashMap<>(dataSourceLogicTablesMap.size(), 1);
+        for (Entry<String, Set<String>> entry : dataSourceLogicTablesMap.entrySet()) {
+            result.put(entry.getKey(), getActualTableGroups(entry.getKey(), entry.getValue()));
+        }
+        return result;
+    }
+    
     private Map<String, Set<String>> getDataSourceLogicTablesMap() {
         Collection<String> intersectionDataSources = getIntersectionDataSources();
         Map<String, Set<String>> result = new HashMap<>(routingResults.size());
@@ -97,7 +139,7 @@ public final class CartesianRoutingEngine implements RoutingEngine {
         List<Set<TableUnit>> result = new ArrayList<>(actualTableGroups.size());
         for (Set<String> each : actualTableGroups) {
             result.add(new HashSet<>(Lists.transform(new ArrayList<>(each), new Function<String, TableUnit>() {
-    
+                
                 @Override
                 public TableUnit apply(final String input) {
                     return findRoutingTable(dataSource, input);
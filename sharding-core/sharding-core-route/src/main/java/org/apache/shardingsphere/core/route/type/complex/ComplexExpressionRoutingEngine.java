@@ -50,17 +50,26 @@ public final class ComplexExpressionRoutingEngine implements RoutingEngine {
     private final ShardingRule shardingRule;
     
     private final Collection<String> logicTables;
-
+    
     private final GroupRouteValue groupRouteValue;
     
+    private final int maxCartesianRoutingUnits;
+    
+    private final boolean implicitBindingEnabled;
+    
+    public ComplexExpressionRoutingEngine(final SQLStatement sqlStatement, final ShardingRule shardingRule, final Collection<String> logicTables, final GroupRouteValue groupRouteValue) {
+        this(sqlStatement, shardingRule, logicTables, groupRouteValue, 0, false);
+    }
+    
     @Override
     public RoutingResult route() {
         Collection<RoutingResult> result = new ArrayList<>(logicTables.size());
         Collection<String> bindingTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        ImplicitBindingTables implicitBindingTables = new ImplicitBindingTables(shardingRule, implicitBindingEnabled);
         for (String each : logicTables) {
             Optional<TableRule> tableRule = shardingRule.findTableRule(each);
             if (tableRule.isPresent()) {
-                if (!bindingTableNames.contains(each)) {
+                if (!bindingTableNames.contains(each) && !implicitBindingTables.bind(tableRule.get())) {
                     result.add(new StandardExpressionRoutingEngine(sqlStatement, shardingRule, tableRule.get().getLogicTable(), groupRouteValue).route());
                 }
                 Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(each);
@@ -79,8 +88,8 @@ public final class ComplexExpressionRoutingEngine implements RoutingEngine {
             throw new ShardingException("Cannot find table rule and default data source with logic tables: '%s'", logicTables);
         }
         if (1 == result.size()) {
-            return result.iterator().next();
+            return implicitBindingTables.fillTableUnits(result.iterator().next());
         }
-        return new CartesianRoutingEngine(result).route();
+        return implicitBindingTables.fillTableUnits(new CartesianRoutingEngine(result, maxCartesianRoutingUnits).route());
     }
 }
@@ -52,14 +52,23 @@ public final class ComplexRoutingEngine implements RoutingEngine {
     
     private final OptimizeResult optimizeResult;
     
+    private final int maxCartesianRoutingUnits;
+    
+    private final boolean implicitBindingEnabled;
+    
+    public ComplexRoutingEngine(final SQLStatement sqlStatement, final ShardingRule shardingRule, final Collection<String> logicTables, final OptimizeResult optimizeResult) {
+        this(sqlStatement, shardingRule, logicTables, optimizeResult, 0, false);
+    }
+    
     @Override
     public RoutingResult route() {
         Collection<RoutingResult> result = new ArrayList<>(logicTables.size());
         Collection<String> bindingTableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        ImplicitBindingTables implicitBindingTables = new ImplicitBindingTables(shardingRule, implicitBindingEnabled);
         for (String each : logicTables) {
             Optional<TableRule> tableRule = shardingRule.findTableRule(each);
             if (tableRule.isPresent()) {
-                if (!bindingTableNames.contains(each)) {
+                if (!bindingTableNames.contains(each) && !implicitBindingTables.bind(tableRule.get())) {
                     result.add(new StandardRoutingEngine(sqlStatement, shardingRule, tableRule.get().getLogicTable(), optimizeResult).route());
                 }
                 Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(each);
@@ -78,8 +87,8 @@ public final class ComplexRoutingEngine implements RoutingEngine {
             throw new ShardingException("Cannot find table rule and default data source with logic tables: '%s'", logicTables);
         }
         if (1 == result.size()) {
-            return result.iterator().next();
+            return implicitBindingTables.fillTableUnits(result.iterator().next());
         }
-        return new CartesianRoutingEngine(result).route();
+        return implicitBindingTables.fillTableUnits(new CartesianRoutingEngine(result, maxCartesianRoutingUnits).route());
     }
 }
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.type.complex;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.BindingTableRule;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.complex.ComplexShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.inline.InlineShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.standard.StandardShardingStrategy;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Implicit binding tables.
+ * 
+ * <p>
+ * Sharding table is bound to a routed table implicitly only if they provably route to data nodes of same index:
+ * same layout of data sources, same database sharding strategy and algorithm,
+ * same table sharding algorithm, for inline expression the same single placeholder whose value matches actual tables of same index.
+ * Actual table of implicit binding table is deduced from actual table of routed table with same index of data nodes.
+ * </p>
+ */
+@RequiredArgsConstructor
+final class ImplicitBindingTables {
+    
+    private final ShardingRule shardingRule;
+    
+    private final boolean enabled;
+    
+    private final Collection<TableRule> routedTableRules = new LinkedList<>();
+    
+    private final Map<TableRule, TableRule> boundTableRules = new LinkedHashMap<>();
+    
+    /**
+     * Bind table rule to routed table rule.
+     * 
+     * @param tableRule table rule
+     * @return table rule is bound implicitly or not, table rule which is not bound need to be routed
+     */
+    boolean bind(final TableRule tableRule) {
+        if (!enabled) {
+            return false;
+        }
+        Optional<TableRule> routedTableRule = findRoutedTableRule(tableRule);
+        if (routedTableRule.isPresent()) {
+            boundTableRules.put(tableRule, routedTableRule.get());
+            return true;
+        }
+        routedTableRules.add(tableRule);
+        return false;
+    }
+    
+    private Optional<TableRule> findRoutedTableRule(final TableRule tableRule) {
+        for (TableRule each : routedTableRules) {
+            if (isSameDataNodesLayout(each.getActualDataNodes(), tableRule.getActualDataNodes())
+                    && isSameShardingStrategy(shardingRule.getDatabaseShardingStrategy(each), shardingRule.getDatabaseShardingStrategy(tableRule))
+                    && isSameTableShardingStrategy(each, tableRule)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.absent();
+    }
+    
+    private boolean isSameDataNodesLayout(final List<DataNode> dataNodes1, final List<DataNode> dataNodes2) {
+        if (dataNodes1.size() != dataNodes2.size()) {
+            return false;
+        }
+        for (int i = 0; i < dataNodes1.size(); i++) {
+            if (!dataNodes1.get(i).getDataSourceName().equals(dataNodes2.get(i).getDataSourceName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSameShardingStrategy(final ShardingStrategy shardingStrategy1, final ShardingStrategy shardingStrategy2) {
+        if (shardingStrategy1 == shardingStrategy2) {
+            return true;
+        }
+        if (!isSameShardingColumns(shardingStrategy1, shardingStrategy2)) {
+            return false;
+        }
+        if (shardingStrategy1 instanceof InlineShardingStrategy) {
+            return ((InlineShardingStrategy) shardingStrategy1).getAlgorithmExpression().equals(((InlineShardingStrategy) shardingStrategy2).getAlgorithmExpression());
+        }
+        return isSameShardingAlgorithm(shardingStrategy1, shardingStrategy2);
+    }
+    
+    private boolean isSameTableShardingStrategy(final TableRule tableRule1, final TableRule tableRule2) {
+        ShardingStrategy shardingStrategy1 = shardingRule.getTableShardingStrategy(tableRule1);
+        ShardingStrategy shardingStrategy2 = shardingRule.getTableShardingStrategy(tableRule2);
+        if (!isSameShardingColumns(shardingStrategy1, shardingStrategy2)) {
+            return false;
+        }
+        if (shardingStrategy1 instanceof InlineShardingStrategy) {
+            return isSameInlineTableSharding(((InlineShardingStrategy) shardingStrategy1).getAlgorithmExpression(), tableRule1.getActualDataNodes(),
+                    ((InlineShardingStrategy) shardingStrategy2).getAlgorithmExpression(), tableRule2.getActualDataNodes());
+        }
+        return isSameShardingAlgorithm(shardingStrategy1, shardingStrategy2);
+    }
+    
+    private boolean isSameShardingColumns(final ShardingStrategy shardingStrategy1, final ShardingStrategy shardingStrategy2) {
+        return null != shardingStrategy1 && null != shardingStrategy2 && shardingStrategy1.getClass() == shardingStrategy2.getClass()
+                && !shardingStrategy1.getShardingColumns().isEmpty() && shardingStrategy1.getShardingColumns().equals(shardingStrategy2.getShardingColumns());
+    }
+    
+    private boolean isSameShardingAlgorithm(final ShardingStrategy shardingStrategy1, final ShardingStrategy shardingStrategy2) {
+        if (shardingStrategy1 instanceof StandardShardingStrategy) {
+            StandardShardingStrategy standardShardingStrategy1 = (StandardShardingStrategy) shardingStrategy1;
+            StandardShardingStrategy standardShardingStrategy2 = (StandardShardingStrategy) shardingStrategy2;
+            return standardShardingStrategy1.getPreciseShardingAlgorithm() == standardShardingStrategy2.getPreciseShardingAlgorithm()
+                    && standardShardingStrategy1.getRangeShardingAlgorithm() == standardShardingStrategy2.getRangeShardingAlgorithm();
+        }
+        if (shardingStrategy1 instanceof ComplexShardingStrategy) {
+            return ((ComplexShardingStrategy) shardingStrategy1).getShardingAlgorithm() == ((ComplexShardingStrategy) shardingStrategy2).getShardingAlgorithm();
+        }
+        return false;
+    }
+    
+    private boolean isSameInlineTableSharding(final String algorithmExpression1, final List<DataNode> dataNodes1, final String algorithmExpression2, final List<DataNode> dataNodes2) {
+        Optional<InlineTableExpression> tableExpression1 = InlineTableExpression.parse(algorithmExpression1);
+        Optional<InlineTableExpression> tableExpression2 = InlineTableExpression.parse(algorithmExpression2);
+        if (!tableExpression1.isPresent() || !tableExpression2.isPresent() || !tableExpression1.get().getPlaceholder().equals(tableExpression2.get().getPlaceholder())) {
+            return false;
+        }
+        for (int i = 0; i < dataNodes1.size(); i++) {
+            Optional<String> value1 = tableExpression1.get().getPlaceholderValue(dataNodes1.get(i).getTableName());
+            if (!value1.isPresent() || !value1.equals(tableExpression2.get().getPlaceholderValue(dataNodes2.get(i).getTableName()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Add table units of implicit binding tables into routing result.
+     * 
+     * @param routingResult routing result of routed tables
+     * @return routing result with table units of implicit binding tables
+     */
+    RoutingResult fillTableUnits(final RoutingResult routingResult) {
+        if (boundTableRules.isEmpty()) {
+            return routingResult;
+        }
+        RoutingResult result = new RoutingResult();
+        for (RoutingUnit each : routingResult.getRoutingUnits()) {
+            result.getRoutingUnits().add(createRoutingUnit(each));
+        }
+        return result;
+    }
+    
+    private RoutingUnit createRoutingUnit(final RoutingUnit routingUnit) {
+        RoutingUnit result = new RoutingUnit(routingUnit.getDataSourceName(), routingUnit.getMasterSlaveLogicDataSourceName());
+        result.getTableUnits().addAll(routingUnit.getTableUnits());
+        for (Entry<TableRule, TableRule> entry : boundTableRules.entrySet()) {
+            String boundLogicTable = entry.getKey().getLogicTable();
+            BindingTableRule bindingTableRule = new BindingTableRule(Arrays.asList(entry.getValue(), entry.getKey()));
+            for (TableUnit each : routingUnit.getTableUnits()) {
+                if (entry.getValue().getLogicTable().equalsIgnoreCase(each.getLogicTableName())) {
+                    result.getTableUnits().add(new TableUnit(boundLogicTable, bindingTableRule.getBindingActualTable(routingUnit.getDataSourceName(), boundLogicTable, each.getActualTableName())));
+                }
+            }
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    @Getter
+    private static final class InlineTableExpression {
+        
+        private final String prefix;
+        
+        private final String placeholder;
+        
+        private final String suffix;
+        
+        static Optional<InlineTableExpression> parse(final String algorithmExpression) {
+            int placeholderBegin = algorithmExpression.indexOf("${");
+            int placeholderEnd = algorithmExpression.lastIndexOf('}');
+            if (-1 == placeholderBegin || placeholderEnd < placeholderBegin || -1 != algorithmExpression.indexOf("${", placeholderBegin + 2)) {
+                return Optional.absent();
+            }
+            return Optional.of(new InlineTableExpression(algorithmExpression.substring(0, placeholderBegin), 
+                    algorithmExpression.substring(placeholderBegin + 2, placeholderEnd).trim(), algorithmExpression.substring(placeholderEnd + 1)));
+        }
+        
+        Optional<String> getPlaceholderValue(final String actualTableName) {
+            if (actualTableName.length() < prefix.length() + suffix.length() || !actualTableName.startsWith(prefix) || !actualTableName.endsWith(suffix)) {
+                return Optional.absent();
+            }
+            return Optional.of(actualTableName.substring(prefix.length(), actualTableName.length() - suffix.length()));
+        }
+    }
+}
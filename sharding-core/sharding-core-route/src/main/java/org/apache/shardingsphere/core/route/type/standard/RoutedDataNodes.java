@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.type.standard;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.rule.TableRule;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Routed data nodes.
+ *
+ * <p>
+ * Data nodes are deduplicated by bit set indexed by position of data node in table rule and are kept in routed order.
+ * Data nodes which do not belong to table rule are ignored.
+ * </p>
+ */
+@RequiredArgsConstructor
+final class RoutedDataNodes {
+    
+    private final TableRule tableRule;
+    
+    private final BitSet routedIndexes = new BitSet();
+    
+    @Getter
+    private final List<DataNode> dataNodes = new ArrayList<>();
+    
+    /**
+     * Add routed data node.
+     *
+     * @param dataNode routed data node
+     */
+    void add(final DataNode dataNode) {
+        int index = tableRule.findDataNodeIndex(dataNode);
+        if (-1 != index && !routedIndexes.get(index)) {
+            routedIndexes.set(index);
+            dataNodes.add(dataNode);
+        }
+    }
+    
+    /**
+     * Add routed data nodes.
+     *
+     * @param dataNodes routed data nodes
+     */
+    void addAll(final Collection<DataNode> dataNodes) {
+        for (DataNode each : dataNodes) {
+            add(each);
+        }
+    }
+}
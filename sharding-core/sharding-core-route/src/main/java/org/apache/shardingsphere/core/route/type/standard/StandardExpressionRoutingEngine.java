@@ -333,9 +333,8 @@ public final class StandardExpressionRoutingEngine implements RoutingEngine {
     
     private Collection<DataNode> removeNonExistNodes(final Collection<DataNode> routedDataNodes, final TableRule tableRule) {
         Collection<DataNode> result = new LinkedList<>();
-        Set<DataNode> actualDataNodeSet = new HashSet<>(tableRule.getActualDataNodes());
         for (DataNode each : routedDataNodes) {
-            if (actualDataNodeSet.contains(each)) {
+            if (tableRule.containsDataNode(each)) {
                 result.add(each);
             }
         }
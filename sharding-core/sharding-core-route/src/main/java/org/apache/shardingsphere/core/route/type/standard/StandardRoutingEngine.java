@@ -36,17 +36,16 @@ import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.inline.InlineShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Standard routing engine.
@@ -65,7 +64,7 @@ public final class StandardRoutingEngine implements RoutingEngine {
     private final String logicTableName;
     
     private final OptimizeResult optimizeResult;
-   
+    
     @Override
     public RoutingResult route() {
         return generateRoutingResult(getDataNodes(shardingRule.getTableRule(logicTableName)));
@@ -105,14 +104,75 @@ public final class StandardRoutingEngine implements RoutingEngine {
     }
     
     private Collection<DataNode> routeByShardingConditionsWithCondition(final TableRule tableRule) {
-        Collection<DataNode> result = new LinkedList<>();
-        for (ShardingCondition each : optimizeResult.getShardingConditions().getShardingConditions()) {
-            Collection<DataNode> dataNodes = route(tableRule, getShardingValuesFromShardingConditions(shardingRule.getDatabaseShardingStrategy(tableRule).getShardingColumns(), each),
-                    getShardingValuesFromShardingConditions(shardingRule.getTableShardingStrategy(tableRule).getShardingColumns(), each));
-            reviseInsertOptimizeResult(each, dataNodes);
+        List<ShardingCondition> shardingConditions = optimizeResult.getShardingConditions().getShardingConditions();
+        Collection<String> databaseShardingColumns = shardingRule.getDatabaseShardingStrategy(tableRule).getShardingColumns();
+        Collection<String> tableShardingColumns = shardingRule.getTableShardingStrategy(tableRule).getShardingColumns();
+        List<List<RouteValue>> databaseShardingValuesList = new ArrayList<>(shardingConditions.size());
+        List<List<RouteValue>> tableShardingValuesList = new ArrayList<>(shardingConditions.size());
+        for (ShardingCondition each : shardingConditions) {
+            databaseShardingValuesList.add(getShardingValuesFromShardingConditions(databaseShardingColumns, each));
+            tableShardingValuesList.add(getShardingValuesFromShardingConditions(tableShardingColumns, each));
+        }
+        if (!(sqlStatement instanceof InsertStatement) && shardingConditions.size() > 1) {
+            Optional<Collection<DataNode>> result = routeInBatch(tableRule, databaseShardingValuesList, tableShardingValuesList);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        RoutedDataNodes result = new RoutedDataNodes(tableRule);
+        for (int i = 0; i < shardingConditions.size(); i++) {
+            Collection<DataNode> dataNodes = route(tableRule, databaseShardingValuesList.get(i), tableShardingValuesList.get(i));
+            reviseInsertOptimizeResult(shardingConditions.get(i), dataNodes);
             result.addAll(dataNodes);
         }
-        return result;
+        return result.getDataNodes();
+    }
+    
+    private Optional<Collection<DataNode>> routeInBatch(final TableRule tableRule, final List<List<RouteValue>> databaseShardingValuesList, final List<List<RouteValue>> tableShardingValuesList) {
+        if (isAllEmpty(databaseShardingValuesList)) {
+            Optional<List<RouteValue>> tableShardingValues = mergeShardingValues(shardingRule.getTableShardingStrategy(tableRule), tableShardingValuesList);
+            return tableShardingValues.isPresent()
+                    ? Optional.of(route(tableRule, Collections.<RouteValue>emptyList(), tableShardingValues.get())) : Optional.<Collection<DataNode>>absent();
+        }
+        if (isAllEmpty(tableShardingValuesList)) {
+            Optional<List<RouteValue>> databaseShardingValues = mergeShardingValues(shardingRule.getDatabaseShardingStrategy(tableRule), databaseShardingValuesList);
+            return databaseShardingValues.isPresent()
+                    ? Optional.of(route(tableRule, databaseShardingValues.get(), Collections.<RouteValue>emptyList())) : Optional.<Collection<DataNode>>absent();
+        }
+        return Optional.absent();
+    }
+    
+    private boolean isAllEmpty(final List<List<RouteValue>> shardingValuesList) {
+        for (List<RouteValue> each : shardingValuesList) {
+            if (!each.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Optional<List<RouteValue>> mergeShardingValues(final ShardingStrategy shardingStrategy, final List<List<RouteValue>> shardingValuesList) {
+        if (isAllEmpty(shardingValuesList)) {
+            return Optional.of(Collections.<RouteValue>emptyList());
+        }
+        if (!(shardingStrategy instanceof StandardShardingStrategy || shardingStrategy instanceof InlineShardingStrategy)) {
+            return Optional.absent();
+        }
+        ListRouteValue<?> firstShardingValue = null;
+        Collection<Comparable<?>> values = new LinkedHashSet<>();
+        for (List<RouteValue> each : shardingValuesList) {
+            if (1 != each.size() || !(each.get(0) instanceof ListRouteValue)) {
+                return Optional.absent();
+            }
+            ListRouteValue<?> shardingValue = (ListRouteValue<?>) each.get(0);
+            if (null == firstShardingValue) {
+                firstShardingValue = shardingValue;
+            } else if (!firstShardingValue.getColumnName().equals(shardingValue.getColumnName()) || !firstShardingValue.getTableName().equals(shardingValue.getTableName())) {
+                return Optional.absent();
+            }
+            values.addAll(shardingValue.getValues());
+        }
+        return Optional.<List<RouteValue>>of(Collections.<RouteValue>singletonList(new ListRouteValue<>(firstShardingValue.getColumnName(), firstShardingValue.getTableName(), values)));
     }
     
     private Collection<DataNode> routeByMixedConditions(final TableRule tableRule) {
@@ -120,13 +180,13 @@ public final class StandardRoutingEngine implements RoutingEngine {
     }
     
     private Collection<DataNode> routeByMixedConditionsWithCondition(final TableRule tableRule) {
-        Collection<DataNode> result = new LinkedList<>();
+        RoutedDataNodes result = new RoutedDataNodes(tableRule);
         for (ShardingCondition each : optimizeResult.getShardingConditions().getShardingConditions()) {
             Collection<DataNode> dataNodes = route(tableRule, getDatabaseShardingValues(tableRule, each), getTableShardingValues(tableRule, each));
             reviseInsertOptimizeResult(each, dataNodes);
             result.addAll(dataNodes);
         }
-        return result;
+        return result.getDataNodes();
     }
     
     private Collection<DataNode> routeByMixedConditionsWithHint(final TableRule tableRule) {
@@ -166,8 +226,8 @@ public final class StandardRoutingEngine implements RoutingEngine {
     
     private List<RouteValue> getShardingValuesFromShardingConditions(final Collection<String> shardingColumns, final ShardingCondition shardingCondition) {
         List<RouteValue> result = new ArrayList<>(shardingColumns.size());
+        Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(logicTableName);
         for (RouteValue each : shardingCondition.getShardingValues()) {
-            Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(logicTableName);
             if ((logicTableName.equals(each.getTableName()) || bindingTableRule.isPresent() && bindingTableRule.get().hasLogicTable(logicTableName)) 
                     && shardingColumns.contains(each.getColumnName())) {
                 result.add(each);
@@ -177,12 +237,11 @@ public final class StandardRoutingEngine implements RoutingEngine {
     }
     
     private Collection<DataNode> route(final TableRule tableRule, final List<RouteValue> databaseShardingValues, final List<RouteValue> tableShardingValues) {
-        Collection<String> routedDataSources = routeDataSources(tableRule, databaseShardingValues);
-        Collection<DataNode> result = new LinkedList<>();
-        for (String each : routedDataSources) {
-            result.addAll(routeTables(tableRule, each, tableShardingValues));
+        RoutedDataNodes result = new RoutedDataNodes(tableRule);
+        for (String each : routeDataSources(tableRule, databaseShardingValues)) {
+            routeTables(tableRule, each, tableShardingValues, result);
         }
-        return removeNonExistNodes(result, tableRule);
+        return result.getDataNodes();
     }
     
     private Collection<String> routeDataSources(final TableRule tableRule, final List<RouteValue> databaseShardingValues) {
@@ -195,27 +254,14 @@ public final class StandardRoutingEngine implements RoutingEngine {
         return result;
     }
     
-    private Collection<DataNode> routeTables(final TableRule tableRule, final String routedDataSource, final List<RouteValue> tableShardingValues) {
+    private void routeTables(final TableRule tableRule, final String routedDataSource, final List<RouteValue> tableShardingValues, final RoutedDataNodes routedDataNodes) {
         Collection<String> availableTargetTables = tableRule.getActualTableNames(routedDataSource);
-        Collection<String> routedTables = new LinkedHashSet<>(tableShardingValues.isEmpty() ? availableTargetTables
-                : shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues));
+        Collection<String> routedTables = tableShardingValues.isEmpty() ? availableTargetTables
+                : shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues);
         Preconditions.checkState(!routedTables.isEmpty(), "no table route info");
-        Collection<DataNode> result = new LinkedList<>();
         for (String each : routedTables) {
-            result.add(new DataNode(routedDataSource, each));
+            routedDataNodes.add(new DataNode(routedDataSource, each));
         }
-        return result;
-    }
-    
-    private Collection<DataNode> removeNonExistNodes(final Collection<DataNode> routedDataNodes, final TableRule tableRule) {
-        Collection<DataNode> result = new LinkedList<>();
-        Set<DataNode> actualDataNodeSet = new HashSet<>(tableRule.getActualDataNodes());
-        for (DataNode each : routedDataNodes) {
-            if (actualDataNodeSet.contains(each)) {
-                result.add(each);
-            }
-        }
-        return result;
     }
     
     private void reviseInsertOptimizeResult(final ShardingCondition shardingCondition, final Collection<DataNode> dataNodes) {
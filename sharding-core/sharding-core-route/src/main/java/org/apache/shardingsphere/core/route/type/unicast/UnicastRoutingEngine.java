@@ -74,10 +74,7 @@ public final class UnicastRoutingEngine implements RoutingEngine {
                 TableRule tableRule = shardingRule.getTableRule(each);
                 DataNode dataNode = tableRule.getActualDataNodes().get(0);
                 tableUnits.add(new TableUnit(each, dataNode.getTableName()));
-                Set<String> currentDataSourceNames = new HashSet<>(tableRule.getActualDatasourceNames().size());
-                for (DataNode eachDataNode : tableRule.getActualDataNodes()) {
-                    currentDataSourceNames.add(eachDataNode.getDataSourceName());
-                }
+                Set<String> currentDataSourceNames = new HashSet<>(tableRule.getActualDatasourceNames());
                 if (first) {
                     availableDatasourceNames = currentDataSourceNames;
                     first = false;
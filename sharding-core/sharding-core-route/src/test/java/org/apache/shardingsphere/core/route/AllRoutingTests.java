@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.route;
 
+import org.apache.shardingsphere.core.route.cache.RouteResultCacheTest;
 import org.apache.shardingsphere.core.route.router.DatabaseHintSQLRouterTest;
 import org.apache.shardingsphere.core.route.type.broadcast.DatabaseBroadcastRoutingEngineTest;
 import org.apache.shardingsphere.core.route.type.broadcast.TableBroadcastRoutingEngineTest;
@@ -34,6 +35,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
         DatabaseTest.class,
         DatabaseHintSQLRouterTest.class,
+        RouteResultCacheTest.class,
         DatabaseBroadcastRoutingEngineTest.class,
         TableBroadcastRoutingEngineTest.class,
         DefaultDatabaseRoutingEngineTest.class,
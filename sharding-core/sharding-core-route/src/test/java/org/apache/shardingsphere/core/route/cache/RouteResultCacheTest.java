@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.cache;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.Column;
+import org.apache.shardingsphere.core.parse.old.parser.context.condition.Condition;
+import org.apache.shardingsphere.core.parse.old.parser.context.table.Table;
+import org.apache.shardingsphere.core.parse.old.parser.expression.SQLParameterMarkerExpression;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RouteResultCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE user_id = ? AND status = ?";
+    
+    private ShardingRule shardingRule;
+    
+    private RouteResultCache cache;
+    
+    @Before
+    public void setUp() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(new TableRuleConfiguration("t_order", "ds_${0..1}.t_order"));
+        shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        cache = new RouteResultCache(16);
+    }
+    
+    @Test
+    public void assertCreateKeyWithRouteParametersOnly() {
+        SQLStatement sqlStatement = createSelectStatement("t_order");
+        Optional<RouteResultCacheKey> actual = cache.createKey(shardingRule, SQL, sqlStatement, Arrays.<Object>asList(1, "init"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(cache.createKey(shardingRule, SQL, sqlStatement, Arrays.<Object>asList(1, "finish")).get()));
+        assertThat(actual.get(), not(cache.createKey(shardingRule, SQL, sqlStatement, Arrays.<Object>asList(2, "init")).get()));
+    }
+    
+    @Test
+    public void assertCreateKeyWhenDisabled() {
+        assertFalse(new RouteResultCache(0).createKey(shardingRule, SQL, createSelectStatement("t_order"), Arrays.<Object>asList(1, "init")).isPresent());
+    }
+    
+    @Test
+    public void assertCreateKeyForInsertStatement() {
+        SQLStatement sqlStatement = new InsertStatement();
+        sqlStatement.getTables().add(new Table("t_order", null));
+        assertFalse(cache.createKey(shardingRule, "INSERT INTO t_order (user_id) VALUES (?)", sqlStatement, Arrays.<Object>asList(1)).isPresent());
+    }
+    
+    @Test
+    public void assertCreateKeyForTableWithoutTableRule() {
+        assertFalse(cache.createKey(shardingRule, SQL, createSelectStatement("t_other"), Arrays.<Object>asList(1, "init")).isPresent());
+    }
+    
+    @Test
+    public void assertPutAndGet() {
+        SQLStatement sqlStatement = createSelectStatement("t_order");
+        List<Object> parameters = Arrays.<Object>asList(1, "init");
+        RouteResultCacheKey key = cache.createKey(shardingRule, SQL, sqlStatement, parameters).get();
+        cache.put(key, createSQLRouteResult(sqlStatement, parameters, "ds_1"), parameters);
+        Optional<CachedRouteResult> actual = cache.get(key);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE user_id = ? AND status = ?"));
+        SQLRouteResult actualRouteResult = actual.get().createSQLRouteResult(sqlStatement);
+        assertThat(actualRouteResult.getSqlStatement(), is(sqlStatement));
+        RoutingUnit actualRoutingUnit = actualRouteResult.getRoutingResult().getRoutingUnits().iterator().next();
+        assertThat(actualRoutingUnit.getDataSourceName(), is("ds_1"));
+        assertThat(actualRoutingUnit.getTableUnits().get(0).getActualTableName(), is("t_order"));
+        assertTrue(actualRouteResult.getRouteUnits().isEmpty());
+    }
+    
+    @Test
+    public void assertPutMultipleRoutingResult() {
+        SQLStatement sqlStatement = createSelectStatement("t_order");
+        List<Object> parameters = Arrays.<Object>asList(1, "init");
+        RouteResultCacheKey key = cache.createKey(shardingRule, SQL, sqlStatement, parameters).get();
+        SQLRouteResult sqlRouteResult = createSQLRouteResult(sqlStatement, parameters, "ds_0");
+        sqlRouteResult.getRoutingResult().getRoutingUnits().add(createRoutingUnit("ds_1"));
+        cache.put(key, sqlRouteResult, parameters);
+        assertFalse(cache.get(key).isPresent());
+    }
+    
+    @Test
+    public void assertClear() {
+        SQLStatement sqlStatement = createSelectStatement("t_order");
+        List<Object> parameters = Arrays.<Object>asList(1, "init");
+        RouteResultCacheKey key = cache.createKey(shardingRule, SQL, sqlStatement, parameters).get();
+        cache.put(key, createSQLRouteResult(sqlStatement, parameters, "ds_1"), parameters);
+        assertThat(cache.size(), is(1L));
+        cache.clear();
+        assertFalse(cache.get(key).isPresent());
+    }
+    
+    private SQLStatement createSelectStatement(final String tableName) {
+        SQLStatement result = new SelectStatement();
+        result.getTables().add(new Table(tableName, null));
+        result.getRouteCondition().add(new Condition(new Column("user_id", tableName), new SQLParameterMarkerExpression(0)));
+        return result;
+    }
+    
+    private SQLRouteResult createSQLRouteResult(final SQLStatement sqlStatement, final List<Object> parameters, final String dataSourceName) {
+        SQLRouteResult result = new SQLRouteResult(sqlStatement);
+        result.setRoutingResult(new RoutingResult());
+        result.getRoutingResult().getRoutingUnits().add(createRoutingUnit(dataSourceName));
+        result.getRouteUnits().add(new RouteUnit(dataSourceName, new SQLUnit(SQL, parameters)));
+        return result;
+    }
+    
+    private RoutingUnit createRoutingUnit(final String dataSourceName) {
+        RoutingUnit result = new RoutingUnit(dataSourceName);
+        result.getTableUnits().add(new TableUnit("t_order", "t_order"));
+        return result;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.type.complex;
+
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.strategy.route.value.GroupRouteValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class ComplexExpressionRoutingEngineTest {
+    
+    private ShardingRule shardingRule;
+    
+    @Before
+    public void setUp() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration orderTableRuleConfig = new TableRuleConfiguration("t_order", "ds${0..1}.t_order_${0..2}");
+        orderTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 3}"));
+        shardingRuleConfig.getTableRuleConfigs().add(orderTableRuleConfig);
+        TableRuleConfiguration userTableRuleConfig = new TableRuleConfiguration("t_user", "ds${0..1}.t_user_${0..2}");
+        userTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_user_${order_id % 3}"));
+        shardingRuleConfig.getTableRuleConfigs().add(userTableRuleConfig);
+        TableRuleConfiguration productTableRuleConfig = new TableRuleConfiguration("t_product", "ds${0..1}.t_product_${0..2}");
+        productTableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_product_${(order_id + 1) % 3}"));
+        shardingRuleConfig.getTableRuleConfigs().add(productTableRuleConfig);
+        shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds${user_id % 2}"));
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds0", "ds1"));
+    }
+    
+    @Test
+    public void assertRoutingForCartesianTables() {
+        RoutingResult routingResult = new ComplexExpressionRoutingEngine(mock(SQLStatement.class), shardingRule, Arrays.asList("t_order", "t_user"), new GroupRouteValue()).route();
+        assertThat(routingResult.getRoutingUnits().size(), is(18));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertRoutingForCartesianTablesBeyondMaxRoutingUnits() {
+        new ComplexExpressionRoutingEngine(mock(SQLStatement.class), shardingRule, Arrays.asList("t_order", "t_user"), new GroupRouteValue(), 10, false).route();
+    }
+    
+    @Test
+    public void assertRoutingForImplicitBindingTables() {
+        RoutingResult routingResult = new ComplexExpressionRoutingEngine(mock(SQLStatement.class), shardingRule, Arrays.asList("t_order", "t_user"), new GroupRouteValue(), 10, true).route();
+        assertThat(routingResult.getRoutingUnits().size(), is(6));
+        for (RoutingUnit each : routingResult.getRoutingUnits()) {
+            assertThat(each.getTableUnits().size(), is(2));
+            TableUnit orderTableUnit = each.getTableUnits().get(0);
+            TableUnit userTableUnit = each.getTableUnits().get(1);
+            assertThat(userTableUnit.getLogicTableName(), is("t_user"));
+            assertThat(userTableUnit.getActualTableName(), is(orderTableUnit.getActualTableName().replace("t_order", "t_user")));
+        }
+    }
+    
+    @Test
+    public void assertRoutingForImplicitBindingTablesWithDifferentAlgorithm() {
+        RoutingResult routingResult = new ComplexExpressionRoutingEngine(mock(SQLStatement.class), shardingRule, Arrays.asList("t_order", "t_product"), new GroupRouteValue(), 0, true).route();
+        assertThat(routingResult.getRoutingUnits().size(), is(18));
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.route.type.complex;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.optimize.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.condition.ShardingConditions;
 import org.apache.shardingsphere.core.optimize.result.OptimizeResult;
@@ -55,6 +56,15 @@ public final class ComplexRoutingEngineTest {
         TableRuleConfiguration tableRuleConfig2 = new TableRuleConfiguration("t_order_item", "ds${0..1}.t_order_item_${0..2}");
         tableRuleConfig2.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_item_${order_id % 2}"));
         shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig2);
+        TableRuleConfiguration tableRuleConfig3 = new TableRuleConfiguration("t_user", "ds${0..1}.t_user_${0..2}");
+        tableRuleConfig3.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_user_${order_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig3);
+        TableRuleConfiguration tableRuleConfig4 = new TableRuleConfiguration("t_product", "ds${0..1}.t_product_${0..2}");
+        tableRuleConfig4.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_product_${order_id % 3}"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig4);
+        TableRuleConfiguration tableRuleConfig5 = new TableRuleConfiguration("t_reversed", "ds${0..1}.t_reversed_${[2, 1, 0]}");
+        tableRuleConfig5.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_reversed_${order_id % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig5);
         shardingRuleConfig.getBindingTableGroups().add("t_order, t_order_item");
         shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds${user_id % 2}"));
         shardingRuleConfig.getBroadcastTables().add("t_config");
@@ -102,4 +112,54 @@ public final class ComplexRoutingEngineTest {
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getLogicTableName(), is("t_order"));
     }
+    
+    @Test
+    public void assertRoutingForCartesianTables() {
+        RoutingResult routingResult = new ComplexRoutingEngine(
+                mock(SQLStatement.class), shardingRule, Arrays.asList("t_order", "t_user"), new OptimizeResult(new ShardingConditions(createShardingConditions()))).route();
+        assertThat(routingResult.getRoutingUnits().size(), is(3));
+        for (RoutingUnit each : routingResult.getRoutingUnits()) {
+            assertThat(each.getDataSourceName(), is("ds1"));
+            assertThat(each.getTableUnits().size(), is(2));
+        }
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertRoutingForCartesianTablesBeyondMaxRoutingUnits() {
+        new ComplexRoutingEngine(mock(SQLStatement.class), shardingRule, Arrays.asList("t_order", "t_user"), new OptimizeResult(new ShardingConditions(createShardingConditions())), 2, false).route();
+    }
+    
+    @Test
+    public void assertRoutingForImplicitBindingTables() {
+        RoutingResult routingResult = new ComplexRoutingEngine(
+                mock(SQLStatement.class), shardingRule, Arrays.asList("t_order", "t_user"), new OptimizeResult(new ShardingConditions(createShardingConditions())), 2, true).route();
+        List<RoutingUnit> tableUnitList = new ArrayList<>(routingResult.getRoutingUnits());
+        assertThat(routingResult.getRoutingUnits().size(), is(1));
+        assertThat(tableUnitList.get(0).getDataSourceName(), is("ds1"));
+        assertThat(tableUnitList.get(0).getTableUnits().size(), is(2));
+        assertThat(tableUnitList.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
+        assertThat(tableUnitList.get(0).getTableUnits().get(1).getLogicTableName(), is("t_user"));
+        assertThat(tableUnitList.get(0).getTableUnits().get(1).getActualTableName(), is("t_user_1"));
+    }
+    
+    @Test
+    public void assertRoutingForImplicitBindingTablesWithDifferentAlgorithm() {
+        RoutingResult routingResult = new ComplexRoutingEngine(
+                mock(SQLStatement.class), shardingRule, Arrays.asList("t_order", "t_product"), new OptimizeResult(new ShardingConditions(createShardingConditions())), 0, true).route();
+        assertThat(routingResult.getRoutingUnits().size(), is(3));
+    }
+    
+    @Test
+    public void assertRoutingForImplicitBindingTablesWithDifferentDataNodesOrder() {
+        RoutingResult routingResult = new ComplexRoutingEngine(
+                mock(SQLStatement.class), shardingRule, Arrays.asList("t_order", "t_reversed"), new OptimizeResult(new ShardingConditions(createShardingConditions())), 0, true).route();
+        assertThat(routingResult.getRoutingUnits().size(), is(3));
+    }
+    
+    private List<ShardingCondition> createShardingConditions() {
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getShardingValues().add(new ListRouteValue<>("user_id", "t_order", Collections.singleton(1L)));
+        shardingCondition.getShardingValues().add(new ListRouteValue<>("order_id", "t_order", Collections.singleton(1L)));
+        return Collections.singletonList(shardingCondition);
+    }
 }
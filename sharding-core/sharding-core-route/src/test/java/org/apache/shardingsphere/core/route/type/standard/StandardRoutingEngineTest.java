@@ -74,4 +74,60 @@ public final class StandardRoutingEngineTest {
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getLogicTableName(), is("t_order"));
     }
+    
+    @Test
+    public void assertRouteWithDuplicatedShardingConditions() {
+        List<ShardingCondition> shardingConditions = Arrays.asList(
+                createShardingCondition(new ListRouteValue<>("user_id", "t_order", Collections.singleton(1L)), new ListRouteValue<>("order_id", "t_order", Collections.singleton(1L))),
+                createShardingCondition(new ListRouteValue<>("user_id", "t_order", Collections.singleton(3L)), new ListRouteValue<>("order_id", "t_order", Collections.singleton(3L))));
+        RoutingResult routingResult = createStandardRoutingEngine(shardingConditions).route();
+        List<RoutingUnit> routingUnits = new ArrayList<>(routingResult.getRoutingUnits());
+        assertThat(routingUnits.size(), is(1));
+        assertThat(routingUnits.get(0).getDataSourceName(), is("ds_1"));
+        assertThat(routingUnits.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertRouteWithTableShardingConditionsInBatch() {
+        List<ShardingCondition> shardingConditions = Arrays.asList(
+                createShardingCondition(new ListRouteValue<>("order_id", "t_order", Collections.singleton(1L))),
+                createShardingCondition(new ListRouteValue<>("order_id", "t_order", Collections.singleton(3L))),
+                createShardingCondition(new ListRouteValue<>("order_id", "t_order", Arrays.asList(5L, 7L))));
+        RoutingResult routingResult = createStandardRoutingEngine(shardingConditions).route();
+        List<RoutingUnit> routingUnits = new ArrayList<>(routingResult.getRoutingUnits());
+        assertThat(routingUnits.size(), is(2));
+        assertThat(routingUnits.get(0).getDataSourceName(), is("ds_0"));
+        assertThat(routingUnits.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
+        assertThat(routingUnits.get(1).getDataSourceName(), is("ds_1"));
+        assertThat(routingUnits.get(1).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertRouteWithDatabaseShardingConditionsInBatch() {
+        List<ShardingCondition> shardingConditions = Arrays.asList(
+                createShardingCondition(new ListRouteValue<>("user_id", "t_order", Collections.singleton(2L))),
+                createShardingCondition(new ListRouteValue<>("user_id", "t_order", Collections.singleton(4L))));
+        RoutingResult routingResult = createStandardRoutingEngine(shardingConditions).route();
+        List<RoutingUnit> routingUnits = new ArrayList<>(routingResult.getRoutingUnits());
+        assertThat(routingUnits.size(), is(2));
+        assertThat(routingUnits.get(0).getDataSourceName(), is("ds_0"));
+        assertThat(routingUnits.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_0"));
+        assertThat(routingUnits.get(1).getDataSourceName(), is("ds_0"));
+        assertThat(routingUnits.get(1).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
+    }
+    
+    private StandardRoutingEngine createStandardRoutingEngine(final List<ShardingCondition> shardingConditions) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}"));
+        shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        shardingRuleConfig.setDefaultTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        return new StandardRoutingEngine(mock(SQLStatement.class), shardingRule, "t_order", new OptimizeResult(new ShardingConditions(shardingConditions)));
+    }
+    
+    private ShardingCondition createShardingCondition(final RouteValue... shardingValues) {
+        ShardingCondition result = new ShardingCondition();
+        result.getShardingValues().addAll(Arrays.asList(shardingValues));
+        return result;
+    }
 }
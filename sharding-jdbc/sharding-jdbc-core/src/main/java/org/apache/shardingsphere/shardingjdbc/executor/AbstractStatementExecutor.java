@@ -36,6 +36,7 @@ import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.ddl.AlterTableStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.ddl.CreateTableStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.ddl.DropTableStatement;
+import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
@@ -87,6 +88,9 @@ public class AbstractStatementExecutor {
     @Getter
     private final List<Statement> statements = new LinkedList<>();
     
+    @Getter
+    private final List<RouteUnit> routeUnits = new LinkedList<>();
+    
     @Getter
     private final List<ResultSet> resultSets = new CopyOnWriteArrayList<>();
     
@@ -120,6 +124,13 @@ public class AbstractStatementExecutor {
                     return input.getRouteUnit().getSqlUnit().getParameters();
                 }
             }));
+            routeUnits.addAll(Lists.transform(each.getInputs(), new Function<StatementExecuteUnit, RouteUnit>() {
+                
+                @Override
+                public RouteUnit apply(final StatementExecuteUnit input) {
+                    return input.getRouteUnit();
+                }
+            }));
         }
     }
     
@@ -143,6 +154,7 @@ public class AbstractStatementExecutor {
         clearStatements();
         statements.clear();
         parameterSets.clear();
+        routeUnits.clear();
         connections.clear();
         resultSets.clear();
         executeGroups.clear();
@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core;
 
+import com.google.common.base.Strings;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
@@ -27,11 +29,14 @@ import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCacheWarmUpEngine;
+import org.apache.shardingsphere.core.route.cache.RouteResultCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
 
 import javax.sql.DataSource;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
@@ -47,6 +52,7 @@ import java.util.Properties;
  * @author panjuan
  */
 @Getter
+@Slf4j
 public final class ShardingContext implements AutoCloseable {
     
     private final DatabaseMetaData cachedDatabaseMetaData;
@@ -63,6 +69,8 @@ public final class ShardingContext implements AutoCloseable {
     
     private final ParsingResultCache parsingResultCache;
     
+    private final RouteResultCache routeResultCache;
+    
     public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, final Properties props) throws SQLException {
         this.shardingRule = shardingRule;
         this.cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap);
@@ -73,7 +81,9 @@ public final class ShardingContext implements AutoCloseable {
         ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType);
         ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(getTableMetaDataInitializer(dataSourceMap, shardingDataSourceMetaData).load(shardingRule));
         metaData = new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
-        parsingResultCache = new ParsingResultCache();
+        parsingResultCache = new ParsingResultCache(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAXIMUM_SIZE));
+        warmUpParsingResultCache();
+        routeResultCache = new RouteResultCache(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.ROUTE_RESULT_CACHE_MAXIMUM_SIZE));
     }
     
     private DatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap) throws SQLException {
@@ -102,8 +112,37 @@ public final class ShardingContext implements AutoCloseable {
                 shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED));
     }
     
+    private void warmUpParsingResultCache() {
+        String corpusPaths = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SNAPSHOT_FILE) + "," + shardingProperties.getValue(ShardingPropertiesConstant.PARSING_WARM_UP_CORPUS);
+        try {
+            int count = createParsingResultCacheWarmUpEngine().warmUp(corpusPaths);
+            if (0 != count) {
+                log.info("Parsing result cache is warmed up with {} SQLs.", count);
+            }
+        } catch (final IOException ex) {
+            log.warn("Can not warm up parsing result cache.", ex);
+        }
+    }
+    
+    private ParsingResultCacheWarmUpEngine createParsingResultCacheWarmUpEngine() {
+        return new ParsingResultCacheWarmUpEngine(databaseType, shardingRule, metaData.getTable(), parsingResultCache);
+    }
+    
     @Override
     public void close() {
+        saveParsingResultCacheSnapshot();
         executeEngine.close();
     }
+    
+    private void saveParsingResultCacheSnapshot() {
+        String snapshotFile = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SNAPSHOT_FILE);
+        if (Strings.isNullOrEmpty(snapshotFile)) {
+            return;
+        }
+        try {
+            createParsingResultCacheWarmUpEngine().saveSnapshot(snapshotFile);
+        } catch (final IOException ex) {
+            log.warn("Can not save parsing result cache snapshot.", ex);
+        }
+    }
 }
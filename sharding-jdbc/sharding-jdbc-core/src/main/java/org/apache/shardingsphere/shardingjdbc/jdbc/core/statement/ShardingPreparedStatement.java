@@ -21,6 +21,7 @@ import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.collect.Collections2;
 import lombok.Getter;
+import org.apache.shardingsphere.core.DeepPaginationEngine;
 import org.apache.shardingsphere.core.PreparedQueryShardingEngine;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.core.parse.antlr.sql.statement.dal.DALStatement
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.DQLStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingjdbc.executor.BatchPreparedStatementExecutor;
@@ -47,7 +49,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * PreparedStatement that support sharding.
@@ -66,6 +70,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private final PreparedQueryShardingEngine shardingEngine;
     
+    private final DeepPaginationEngine deepPaginationEngine;
+    
     private final PreparedStatementExecutor preparedStatementExecutor;
     
     private final BatchPreparedStatementExecutor batchPreparedStatementExecutor;
@@ -95,8 +101,10 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         this.connection = connection;
         this.sql = sql;
         ShardingContext shardingContext = connection.getShardingContext();
-        shardingEngine = new PreparedQueryShardingEngine(sql, 
-                shardingContext.getShardingRule(), shardingContext.getShardingProperties(), shardingContext.getMetaData(), shardingContext.getDatabaseType(), shardingContext.getParsingResultCache());
+        shardingEngine = new PreparedQueryShardingEngine(sql, shardingContext.getShardingRule(), shardingContext.getShardingProperties(), shardingContext.getMetaData(), 
+                shardingContext.getDatabaseType(), shardingContext.getParsingResultCache(), shardingContext.getRouteResultCache());
+        deepPaginationEngine = new DeepPaginationEngine(shardingEngine, shardingContext.getShardingRule(), shardingContext.getShardingProperties(), shardingContext.getMetaData(), 
+                shardingContext.getDatabaseType(), shardingContext.getParsingResultCache());
         preparedStatementExecutor = new PreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
     }
@@ -107,6 +115,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         try {
             clearPrevious();
             shard();
+            shardDeepPagination();
             initPreparedStatementExecutor();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), connection.getShardingContext().getShardingRule(), 
                     routeResult, connection.getShardingContext().getMetaData().getTable(), preparedStatementExecutor.executeQuery());
@@ -224,6 +233,29 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         routeResult = shardingEngine.shard(sql, getParameters());
     }
     
+    private void shardDeepPagination() throws SQLException {
+        Optional<SQLRouteResult> sortKeysRouteResult = deepPaginationEngine.shardSortKeys(sql, getParameters(), routeResult);
+        if (!sortKeysRouteResult.isPresent()) {
+            return;
+        }
+        PreparedStatementExecutor sortKeysExecutor = new PreparedStatementExecutor(
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, preparedStatementExecutor.getResultSetHoldability(), false, connection);
+        try {
+            sortKeysExecutor.init(sortKeysRouteResult.get());
+            for (int i = 0; i < sortKeysExecutor.getStatements().size(); i++) {
+                replaySetParameter((PreparedStatement) sortKeysExecutor.getStatements().get(i), sortKeysExecutor.getParameterSets().get(i));
+            }
+            List<QueryResult> queryResults = sortKeysExecutor.executeQuery();
+            Map<RouteUnit, QueryResult> sortKeysQueryResults = new HashMap<>();
+            for (int i = 0; i < queryResults.size(); i++) {
+                sortKeysQueryResults.put(sortKeysExecutor.getRouteUnits().get(i), queryResults.get(i));
+            }
+            deepPaginationEngine.shardPage(sql, getParameters(), routeResult, sortKeysRouteResult.get(), sortKeysQueryResults);
+        } finally {
+            sortKeysExecutor.clear();
+        }
+    }
+    
     @Override
     public int[] executeBatch() throws SQLException {
         try {
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.statement;
 
 import com.google.common.base.Optional;
 import lombok.Getter;
+import org.apache.shardingsphere.core.DeepPaginationEngine;
 import org.apache.shardingsphere.core.SimpleQueryShardingEngine;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
@@ -29,6 +30,7 @@ import org.apache.shardingsphere.core.parse.antlr.sql.statement.dal.DALStatement
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.DQLStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingjdbc.executor.StatementExecutor;
@@ -44,7 +46,9 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Statement that support sharding.
@@ -88,6 +92,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         try {
             clearPrevious();
             shard(sql);
+            shardDeepPagination(sql);
             initStatementExecutor();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), connection.getShardingContext().getShardingRule(), 
                     routeResult, connection.getShardingContext().getMetaData().getTable(), statementExecutor.executeQuery());
@@ -250,10 +255,38 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     }
     
     private void shard(final String sql) {
+        routeResult = createShardingEngine().shard(sql, Collections.emptyList());
+    }
+    
+    private SimpleQueryShardingEngine createShardingEngine() {
         ShardingContext shardingContext = connection.getShardingContext();
-        SimpleQueryShardingEngine shardingEngine = new SimpleQueryShardingEngine(
+        return new SimpleQueryShardingEngine(
                 shardingContext.getShardingRule(), shardingContext.getShardingProperties(), shardingContext.getMetaData(), shardingContext.getDatabaseType(), shardingContext.getParsingResultCache());
-        routeResult = shardingEngine.shard(sql, Collections.emptyList());
+    }
+    
+    private void shardDeepPagination(final String sql) throws SQLException {
+        ShardingContext shardingContext = connection.getShardingContext();
+        DeepPaginationEngine deepPaginationEngine = new DeepPaginationEngine(createShardingEngine(), shardingContext.getShardingRule(), shardingContext.getShardingProperties(), 
+                shardingContext.getMetaData(), shardingContext.getDatabaseType(), shardingContext.getParsingResultCache());
+        Optional<SQLRouteResult> sortKeysRouteResult = deepPaginationEngine.shardSortKeys(sql, Collections.emptyList(), routeResult);
+        if (!sortKeysRouteResult.isPresent()) {
+            return;
+        }
+        StatementExecutor sortKeysExecutor = new StatementExecutor(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, statementExecutor.getResultSetHoldability(), connection);
+        try {
+            sortKeysExecutor.init(sortKeysRouteResult.get());
+            for (Statement each : sortKeysExecutor.getStatements()) {
+                replayMethodsInvocation(each);
+            }
+            List<QueryResult> queryResults = sortKeysExecutor.executeQuery();
+            Map<RouteUnit, QueryResult> sortKeysQueryResults = new HashMap<>();
+            for (int i = 0; i < queryResults.size(); i++) {
+                sortKeysQueryResults.put(sortKeysExecutor.getRouteUnits().get(i), queryResults.get(i));
+            }
+            deepPaginationEngine.shardPage(sql, Collections.emptyList(), routeResult, sortKeysRouteResult.get(), sortKeysQueryResults);
+        } finally {
+            sortKeysExecutor.clear();
+        }
     }
     
     private void clearPrevious() throws SQLException {
@@ -71,8 +71,9 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     }
     
     private SQLRouteResult doShardingRoute(final String sql, final DatabaseType databaseType) {
-        PreparedQueryShardingEngine shardingEngine = new PreparedQueryShardingEngine(sql, ((ShardingSchema) logicSchema).getShardingRule(), 
-                ShardingProxyContext.getInstance().getShardingProperties(), logicSchema.getMetaData(), databaseType, logicSchema.getParsingResultCache());
+        ShardingSchema shardingSchema = (ShardingSchema) logicSchema;
+        PreparedQueryShardingEngine shardingEngine = new PreparedQueryShardingEngine(sql, shardingSchema.getShardingRule(), 
+                ShardingProxyContext.getInstance().getShardingProperties(), logicSchema.getMetaData(), databaseType, logicSchema.getParsingResultCache(), shardingSchema.getRouteResultCache());
         return shardingEngine.shard(sql, parameters);
     }
     
@@ -57,7 +57,7 @@ public abstract class LogicSchema {
     public LogicSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources) {
         this.name = name;
         this.dataSources = dataSources;
-        parsingResultCache = new ParsingResultCache();
+        parsingResultCache = new ParsingResultCache(ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAXIMUM_SIZE));
         backendDataSource = new JDBCBackendDataSource(dataSources);
         ShardingOrchestrationEventBus.getInstance().register(this);
     }
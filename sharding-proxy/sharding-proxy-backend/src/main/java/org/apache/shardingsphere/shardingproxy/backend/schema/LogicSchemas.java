@@ -152,6 +152,28 @@ public final class LogicSchemas {
         return new LinkedList<>(logicSchemas.keySet());
     }
     
+    /**
+     * Warm up parsing result caches of sharding schemas.
+     */
+    public void warmUpParsingResultCaches() {
+        for (LogicSchema each : logicSchemas.values()) {
+            if (each instanceof ShardingSchema) {
+                ((ShardingSchema) each).warmUpParsingResultCache();
+            }
+        }
+    }
+    
+    /**
+     * Save parsing result cache snapshots of sharding schemas.
+     */
+    public void saveParsingResultCacheSnapshots() {
+        for (LogicSchema each : logicSchemas.values()) {
+            if (each instanceof ShardingSchema) {
+                ((ShardingSchema) each).saveParsingResultCacheSnapshot();
+            }
+        }
+    }
+    
     /**
      * Renew to add new schema.
      *
@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.schema;
 
+import com.google.common.base.Strings;
 import com.google.common.eventbus.Subscribe;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
@@ -27,6 +31,8 @@ import org.apache.shardingsphere.core.parse.antlr.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.ddl.AlterTableStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.ddl.CreateTableStatement;
 import org.apache.shardingsphere.core.parse.antlr.sql.statement.ddl.DropTableStatement;
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCacheWarmUpEngine;
+import org.apache.shardingsphere.core.route.cache.RouteResultCache;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.ShardingRuleChangedEvent;
@@ -35,7 +41,9 @@ import org.apache.shardingsphere.orchestration.internal.registry.state.schema.Or
 import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationMasterSlaveRule;
 import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationShardingRule;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
 
@@ -49,16 +57,20 @@ import java.util.Map;
  * @author wangkai
  */
 @Getter
+@Slf4j
 public final class ShardingSchema extends LogicSchema {
     
     private ShardingRule shardingRule;
     
     private final ShardingMetaData metaData;
     
+    private final RouteResultCache routeResultCache;
+    
     public ShardingSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources, final ShardingRuleConfiguration shardingRuleConfig, final boolean isUsingRegistry) {
         super(name, dataSources);
         shardingRule = createShardingRule(shardingRuleConfig, dataSources.keySet(), isUsingRegistry);
         metaData = createShardingMetaData();
+        routeResultCache = new RouteResultCache(ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.ROUTE_RESULT_CACHE_MAXIMUM_SIZE));
     }
     
     private ShardingRule createShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames, final boolean isUsingRegistry) {
@@ -71,6 +83,46 @@ public final class ShardingSchema extends LogicSchema {
         return new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
     }
     
+    /**
+     * Warm up parsing result cache with snapshot and SQL corpus.
+     */
+    public void warmUpParsingResultCache() {
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        String corpusPaths = getParsingResultCacheSnapshotFile() + "," + shardingProperties.getValue(ShardingPropertiesConstant.PARSING_WARM_UP_CORPUS);
+        try {
+            int count = createParsingResultCacheWarmUpEngine().warmUp(corpusPaths);
+            if (0 != count) {
+                log.info("Parsing result cache of schema {} is warmed up with {} SQLs.", getName(), count);
+            }
+        } catch (final IOException ex) {
+            log.warn("Can not warm up parsing result cache of schema {}.", getName(), ex);
+        }
+    }
+    
+    /**
+     * Save parsing result cache snapshot.
+     */
+    public void saveParsingResultCacheSnapshot() {
+        String snapshotFile = getParsingResultCacheSnapshotFile();
+        if (Strings.isNullOrEmpty(snapshotFile)) {
+            return;
+        }
+        try {
+            createParsingResultCacheWarmUpEngine().saveSnapshot(snapshotFile);
+        } catch (final IOException ex) {
+            log.warn("Can not save parsing result cache snapshot of schema {}.", getName(), ex);
+        }
+    }
+    
+    private String getParsingResultCacheSnapshotFile() {
+        String result = ShardingProxyContext.getInstance().getShardingProperties().getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SNAPSHOT_FILE);
+        return Strings.isNullOrEmpty(result) ? result : result + "." + getName();
+    }
+    
+    private ParsingResultCacheWarmUpEngine createParsingResultCacheWarmUpEngine() {
+        return new ParsingResultCacheWarmUpEngine(LogicSchemas.getInstance().getDatabaseType(), shardingRule, metaData.getTable(), getParsingResultCache());
+    }
+    
     /**
      * Renew sharding rule.
      *
@@ -80,6 +132,7 @@ public final class ShardingSchema extends LogicSchema {
     public synchronized void renew(final ShardingRuleChangedEvent shardingRuleChangedEvent) {
         if (getName().equals(shardingRuleChangedEvent.getShardingSchemaName())) {
             shardingRule = new OrchestrationShardingRule(shardingRuleChangedEvent.getShardingRuleConfiguration(), getDataSources().keySet());
+            routeResultCache.clear();
         }
     }
     
@@ -100,6 +153,9 @@ public final class ShardingSchema extends LogicSchema {
     
     @Override
     public void refreshTableMetaData(final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof CreateTableStatement || sqlStatement instanceof AlterTableStatement || sqlStatement instanceof DropTableStatement) {
+            routeResultCache.clear();
+        }
         if (sqlStatement instanceof CreateTableStatement) {
             refreshTableMetaData((CreateTableStatement) sqlStatement);
         } else if (sqlStatement instanceof AlterTableStatement) {
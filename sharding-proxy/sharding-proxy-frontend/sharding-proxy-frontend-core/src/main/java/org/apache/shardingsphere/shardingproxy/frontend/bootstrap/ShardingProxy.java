@@ -35,6 +35,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.frontend.netty.ServerHandlerInitializer;
 
 /**
@@ -66,12 +67,15 @@ public final class ShardingProxy {
     
     /**
      * Start Sharding-Proxy.
+     * 
+     * <p>Parsing result caches are warmed up before port is bound, and their snapshots are saved on JVM shutdown.</p>
      *
      * @param port port
      */
     @SneakyThrows
     public void start(final int port) {
         try {
+            warmUpParsingResultCaches();
             ServerBootstrap bootstrap = new ServerBootstrap();
             bossGroup = createEventLoopGroup();
             if (bossGroup instanceof EpollEventLoopGroup) {
@@ -88,6 +92,17 @@ public final class ShardingProxy {
         }
     }
     
+    private void warmUpParsingResultCaches() {
+        LogicSchemas.getInstance().warmUpParsingResultCaches();
+        Runtime.getRuntime().addShutdownHook(new Thread("ShardingSphere-parsing-result-cache-snapshot") {
+            
+            @Override
+            public void run() {
+                LogicSchemas.getInstance().saveParsingResultCacheSnapshots();
+            }
+        });
+    }
+    
     private EventLoopGroup createEventLoopGroup() {
         return Epoll.isAvailable() ? new EpollEventLoopGroup(1) : new NioEventLoopGroup(1);
     }